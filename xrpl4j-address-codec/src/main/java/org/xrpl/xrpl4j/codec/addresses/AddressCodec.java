@@ -54,7 +54,7 @@ public class AddressCodec {
     Objects.requireNonNull(entropy);
     Objects.requireNonNull(type);
 
-    if (entropy.getUnsignedBytes().size() != 16) {
+    if (entropy.length() != 16) {
       throw new EncodeException("entropy must have length 16.");
     }
 
@@ -233,7 +233,7 @@ public class AddressCodec {
     Objects.requireNonNull(accountId);
     Objects.requireNonNull(tag);
 
-    if (accountId.getUnsignedBytes().size() != 20) {
+    if (accountId.length() != 20) {
       throw new EncodeException("AccountID must be 20 bytes.");
     }
 
@@ -1,14 +1,11 @@
 package org.xrpl.xrpl4j.codec.addresses;
 
-import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import com.google.common.primitives.UnsignedLong;
 
 import java.math.BigInteger;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class ByteUtils {
 
@@ -64,12 +61,7 @@ public class ByteUtils {
    * @return A {@link List} of {@link UnsignedByte}s containing the parsed hex.
    */
   public static List<UnsignedByte> parse(String hex) {
-    String padded = padded(hex);
-    List<UnsignedByte> result = new ArrayList<>();
-    for (int i = 0; i < padded.length(); i += 2) {
-      result.add(UnsignedByte.of(padded.substring(i, i + 2)));
-    }
-    return result;
+    return UnsignedByteArray.fromHex(hex).getUnsignedBytes();
   }
 
   /**
@@ -97,7 +89,11 @@ public class ByteUtils {
    * @return A hexadecimal {@link String}.
    */
   public static String toHex(List<UnsignedByte> segments) {
-    return Joiner.on("").join(segments.stream().map(UnsignedByte::hexValue).collect(Collectors.toList()));
+    StringBuilder hex = new StringBuilder(segments.size() * 2);
+    for (UnsignedByte segment : segments) {
+      hex.append(Hex.encodeByte(segment.asInt()));
+    }
+    return hex.toString();
   }
 
   /**
@@ -108,7 +104,17 @@ public class ByteUtils {
    * @return The {@link UnsignedLong} value of {@code segments}.
    */
   public static UnsignedLong toUnsignedLong(UnsignedByteArray segments) {
-    return UnsignedLong.valueOf(segments.hexValue(), 16);
+    if (segments.length() == 0) {
+      throw new NumberFormatException("empty value");
+    }
+    long value = 0;
+    for (int i = 0; i < segments.length(); i++) {
+      if ((value >>> (Long.SIZE - Byte.SIZE)) != 0) {
+        throw new NumberFormatException("value has more than " + Long.SIZE + " bits");
+      }
+      value = (value << Byte.SIZE) | segments.get(i).asInt();
+    }
+    return UnsignedLong.fromLongBits(value);
   }
 
   /**
@@ -0,0 +1,208 @@
+package org.xrpl.xrpl4j.codec.addresses;
+
+import java.nio.CharBuffer;
+import java.util.Objects;
+
+/**
+ * Table-driven conversion between bytes and upper-case hexadecimal, the form in which the XRP Ledger writes binary
+ * values in JSON.
+ *
+ * <p>Encoding writes two characters per byte from a lookup table, and decoding accepts upper- and lower-case digits,
+ * reading each through a lookup table as well. Both work on ranges of arrays and can write into buffers supplied by
+ * the caller, so that hex can be produced or consumed without intermediate strings. This class is stateless and may
+ * be used from any thread.</p>
+ */
+public final class Hex {
+
+  private static final char[] DIGITS = "0123456789ABCDEF".toCharArray();
+
+  // The value of each hex digit, indexed by character, or -1 for characters that are not hex digits.
+  private static final byte[] VALUES = new byte[128];
+
+  // The two-character string for each byte value, so that single bytes can be encoded without allocating.
+  private static final String[] BYTE_STRINGS = new String[256];
+
+  static {
+    for (int i = 0; i < VALUES.length; i++) {
+      VALUES[i] = -1;
+    }
+    for (int i = 0; i < DIGITS.length; i++) {
+      VALUES[DIGITS[i]] = (byte) i;
+      VALUES[Character.toLowerCase(DIGITS[i])] = (byte) i;
+    }
+    for (int i = 0; i < BYTE_STRINGS.length; i++) {
+      BYTE_STRINGS[i] = new String(new char[] {DIGITS[i >>> 4], DIGITS[i & 0xF]});
+    }
+  }
+
+  private Hex() {
+  }
+
+  /**
+   * Encode {@code bytes} as upper-case hex.
+   *
+   * @param bytes The bytes to encode.
+   *
+   * @return A {@link String} of twice as many characters as {@code bytes} has bytes.
+   */
+  public static String encode(final byte[] bytes) {
+    Objects.requireNonNull(bytes);
+    return encode(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Encode a range of {@code bytes} as upper-case hex.
+   *
+   * @param bytes  The array holding the bytes to encode.
+   * @param offset The index of the first byte to encode.
+   * @param length The number of bytes to encode.
+   *
+   * @return A {@link String} of {@code 2 * length} characters.
+   */
+  public static String encode(final byte[] bytes, final int offset, final int length) {
+    char[] chars = new char[length * 2];
+    encode(bytes, offset, length, chars, 0);
+    return new String(chars);
+  }
+
+  /**
+   * Encode a range of {@code bytes} as upper-case hex into {@code destination}.
+   *
+   * @param bytes             The array holding the bytes to encode.
+   * @param offset            The index of the first byte to encode.
+   * @param length            The number of bytes to encode.
+   * @param destination       The array to write {@code 2 * length} characters to.
+   * @param destinationOffset The index in {@code destination} of the first character to write.
+   */
+  public static void encode(
+    final byte[] bytes,
+    final int offset,
+    final int length,
+    final char[] destination,
+    final int destinationOffset
+  ) {
+    Objects.requireNonNull(bytes);
+    Objects.requireNonNull(destination);
+    checkRange(bytes.length, offset, length);
+    checkRange(destination.length, destinationOffset, length * 2);
+    for (int i = 0; i < length; i++) {
+      int value = bytes[offset + i] & 0xFF;
+      destination[destinationOffset + 2 * i] = DIGITS[value >>> 4];
+      destination[destinationOffset + 2 * i + 1] = DIGITS[value & 0xF];
+    }
+  }
+
+  /**
+   * Encode a single byte as two upper-case hex characters.
+   *
+   * @param value The byte to encode, as an int from 0 to 255 or as a signed byte value.
+   *
+   * @return A shared two-character {@link String}.
+   */
+  public static String encodeByte(final int value) {
+    return BYTE_STRINGS[value & 0xFF];
+  }
+
+  /**
+   * Decode a hex string of either case.
+   *
+   * @param hex A {@link CharSequence} of an even number of hex digits.
+   *
+   * @return The decoded bytes.
+   *
+   * @throws IllegalArgumentException if {@code hex} has an odd length or a character that is not a hex digit.
+   */
+  public static byte[] decode(final CharSequence hex) {
+    Objects.requireNonNull(hex);
+    if (hex.length() % 2 != 0) {
+      throw new IllegalArgumentException("Hex must have an even number of characters, but had " + hex.length());
+    }
+    byte[] bytes = new byte[hex.length() / 2];
+    decode(hex, 0, hex.length(), bytes, 0);
+    return bytes;
+  }
+
+  /**
+   * Decode a range of hex digits of either case into {@code destination}.
+   *
+   * @param hex               A {@link CharSequence} holding the hex digits.
+   * @param start             The index of the first character to decode.
+   * @param end               The index after the last character to decode. {@code end - start} must be even.
+   * @param destination       The array to write {@code (end - start) / 2} bytes to.
+   * @param destinationOffset The index in {@code destination} of the first byte to write.
+   *
+   * @throws IllegalArgumentException if the range has an odd length or a character that is not a hex digit.
+   */
+  public static void decode(
+    final CharSequence hex,
+    final int start,
+    final int end,
+    final byte[] destination,
+    final int destinationOffset
+  ) {
+    Objects.requireNonNull(hex);
+    Objects.requireNonNull(destination);
+    checkRange(hex.length(), start, end - start);
+    if ((end - start) % 2 != 0) {
+      throw new IllegalArgumentException("Hex must have an even number of characters, but had " + (end - start));
+    }
+    int length = (end - start) / 2;
+    checkRange(destination.length, destinationOffset, length);
+    for (int i = 0; i < length; i++) {
+      int index = start + 2 * i;
+      destination[destinationOffset + i] = (byte) ((digit(hex, index) << 4) | digit(hex, index + 1));
+    }
+  }
+
+  /**
+   * Decode a range of hex digits of either case into {@code destination}.
+   *
+   * @param hex               A char array holding the hex digits.
+   * @param start             The index of the first character to decode.
+   * @param end               The index after the last character to decode. {@code end - start} must be even.
+   * @param destination       The array to write {@code (end - start) / 2} bytes to.
+   * @param destinationOffset The index in {@code destination} of the first byte to write.
+   *
+   * @throws IllegalArgumentException if the range has an odd length or a character that is not a hex digit.
+   */
+  public static void decode(
+    final char[] hex,
+    final int start,
+    final int end,
+    final byte[] destination,
+    final int destinationOffset
+  ) {
+    Objects.requireNonNull(hex);
+    decode(CharBuffer.wrap(hex), start, end, destination, destinationOffset);
+  }
+
+  /**
+   * Get the value of a single hex digit of either case.
+   *
+   * @param character A hex digit.
+   *
+   * @return The value of the digit, from 0 to 15.
+   *
+   * @throws IllegalArgumentException if {@code character} is not a hex digit.
+   */
+  public static int digit(final char character) {
+    int value = character < VALUES.length ? VALUES[character] : -1;
+    if (value < 0) {
+      throw new IllegalArgumentException("Not a hex digit: '" + character + "'");
+    }
+    return value;
+  }
+
+  private static int digit(final CharSequence hex, final int index) {
+    return digit(hex.charAt(index));
+  }
+
+  private static void checkRange(final int arrayLength, final int offset, final int length) {
+    if (offset < 0 || length < 0 || offset > arrayLength - length) {
+      throw new IndexOutOfBoundsException(
+        "offset: " + offset + ", length: " + length + ", array length: " + arrayLength
+      );
+    }
+  }
+
+}
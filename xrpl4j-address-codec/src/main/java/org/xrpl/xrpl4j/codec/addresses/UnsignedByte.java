@@ -1,9 +1,7 @@
 package org.xrpl.xrpl4j.codec.addresses;
 
 import com.google.common.base.Preconditions;
-import com.google.common.io.BaseEncoding;
 
-import java.math.BigInteger;
 import java.util.Objects;
 
 /**
@@ -11,6 +9,15 @@ import java.util.Objects;
  */
 public class UnsignedByte {
 
+  // UnsignedByte is immutable, so every possible value is created once and shared.
+  private static final UnsignedByte[] CACHE = new UnsignedByte[256];
+
+  static {
+    for (int i = 0; i < CACHE.length; i++) {
+      CACHE[i] = new UnsignedByte(i);
+    }
+  }
+
   // since Java byte is signed need to use int to handle max value 255
   private final int value;
 
@@ -28,7 +35,9 @@ public class UnsignedByte {
    * @return An {@link UnsignedByte}.
    */
   public static UnsignedByte of(int value) {
-    return new UnsignedByte(value);
+    Preconditions.checkArgument(value >= 0);
+    Preconditions.checkArgument(value <= 255);
+    return CACHE[value];
   }
 
   /**
@@ -39,7 +48,7 @@ public class UnsignedByte {
    * @return An {@link UnsignedByte}.
    */
   public static UnsignedByte of(byte value) {
-    return new UnsignedByte(value & 0xff);
+    return CACHE[value & 0xff];
   }
 
   /**
@@ -51,7 +60,7 @@ public class UnsignedByte {
    * @return An {@link UnsignedByte}.
    */
   public static UnsignedByte of(byte highBits, byte lowBits) {
-    return new UnsignedByte((highBits << 4) + lowBits);
+    return UnsignedByte.of((highBits << 4) + lowBits);
   }
 
   /**
@@ -62,9 +71,7 @@ public class UnsignedByte {
    * @return An {@link UnsignedByte}.
    */
   public static UnsignedByte of(String hex) {
-    byte highBits = new BigInteger(hex.substring(0, 1), 16).byteValue();
-    byte lowBits = new BigInteger(hex.substring(1, 2), 16).byteValue();
-    return UnsignedByte.of(highBits, lowBits);
+    return UnsignedByte.of((Hex.digit(hex.charAt(0)) << 4) | Hex.digit(hex.charAt(1)));
   }
 
   /**
@@ -136,7 +143,7 @@ public class UnsignedByte {
    * @return The hex {@link String} value of this {@link UnsignedByte}.
    */
   public String hexValue() {
-    return BaseEncoding.base16().encode(new byte[] {(byte) asInt()});
+    return Hex.encodeByte(value);
   }
 
   @Override
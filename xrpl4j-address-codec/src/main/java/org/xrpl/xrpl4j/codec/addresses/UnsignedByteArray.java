@@ -1,24 +1,61 @@
 package org.xrpl.xrpl4j.codec.addresses;
 
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Locale;
 import java.util.Objects;
 
 /**
  * Wrapper for holding unsigned bytes since unsigned bytes are hard in Java and XRPL ledger does many operations
  * on arrays on unsigned bytes.
  *
+ * <p>Values are stored in a growable {@code byte[]}, so appends are amortized O(1) and bulk appends are a single
+ * array copy. Slices returned by {@link #slice(int, int)} are views that share storage with the array they were taken
+ * from until either one needs to grow.</p>
+ *
  * <p>Note: several of the methods in this class mutate the underlying value.
  */
 public class UnsignedByteArray {
 
-  private final List<UnsignedByte> unsignedBytes;
+  private static final byte[] EMPTY = new byte[0];
+
+  private static final int MIN_GROWTH_CAPACITY = 16;
+
+  private byte[] bytes;
 
+  private int offset;
+
+  private int length;
+
+  // true if this instance is a view over storage owned by another instance, in which case that storage must be
+  // copied before this instance can grow.
+  private boolean view;
+
+  /**
+   * Creates an {@link UnsignedByteArray} containing a copy of the given {@link UnsignedByte}s.
+   *
+   * @param unsignedBytes A {@link List} of {@link UnsignedByte}s.
+   */
   public UnsignedByteArray(final List<UnsignedByte> unsignedBytes) {
     Objects.requireNonNull(unsignedBytes);
-    this.unsignedBytes = unsignedBytes;
+    this.bytes = new byte[unsignedBytes.size()];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = unsignedBytes.get(i).asByte();
+    }
+    this.offset = 0;
+    this.length = bytes.length;
+    this.view = false;
+  }
+
+  private UnsignedByteArray(final byte[] bytes, final int offset, final int length, final boolean view) {
+    this.bytes = bytes;
+    this.offset = offset;
+    this.length = length;
+    this.view = view;
   }
 
   /**
@@ -30,12 +67,7 @@ public class UnsignedByteArray {
    */
   public static UnsignedByteArray of(final byte[] bytes) {
     Objects.requireNonNull(bytes);
-
-    List<UnsignedByte> unsignedBytes = new ArrayList<>(bytes.length);
-    for (int i = 0; i < bytes.length; i++) {
-      unsignedBytes.add(i, UnsignedByte.of(bytes[i]));
-    }
-    return new UnsignedByteArray(unsignedBytes);
+    return new UnsignedByteArray(Arrays.copyOf(bytes, bytes.length), 0, bytes.length, false);
   }
 
   /**
@@ -47,10 +79,33 @@ public class UnsignedByteArray {
    * @return An {@link UnsignedByteArray} with the given {@link UnsignedByte}s.
    */
   public static UnsignedByteArray of(UnsignedByte first, UnsignedByte... rest) {
-    List<UnsignedByte> unsignedBytes = new ArrayList<>();
-    unsignedBytes.add(first);
-    Collections.addAll(unsignedBytes, rest);
-    return new UnsignedByteArray(unsignedBytes);
+    byte[] bytes = new byte[rest.length + 1];
+    bytes[0] = first.asByte();
+    for (int i = 0; i < rest.length; i++) {
+      bytes[i + 1] = rest[i].asByte();
+    }
+    return new UnsignedByteArray(bytes, 0, bytes.length, false);
+  }
+
+  /**
+   * Creates an {@link UnsignedByteArray} that is a view over a range of {@code bytes}, without copying them. Changes
+   * to {@code bytes} are visible through the returned {@link UnsignedByteArray}, and setting a value in the returned
+   * {@link UnsignedByteArray} writes through to {@code bytes}. Appending to it copies the range first.
+   *
+   * @param bytes  The byte array to view.
+   * @param offset The index of the first byte in the view.
+   * @param length The number of bytes in the view.
+   *
+   * @return An {@link UnsignedByteArray} backed by {@code bytes}.
+   */
+  public static UnsignedByteArray wrap(final byte[] bytes, final int offset, final int length) {
+    Objects.requireNonNull(bytes);
+    if (offset < 0 || length < 0 || offset + length > bytes.length) {
+      throw new IndexOutOfBoundsException(
+        "offset: " + offset + ", length: " + length + ", array length: " + bytes.length
+      );
+    }
+    return new UnsignedByteArray(bytes, offset, length, true);
   }
 
   /**
@@ -59,7 +114,7 @@ public class UnsignedByteArray {
    * @return An empty {@link UnsignedByteArray}.
    */
   public static UnsignedByteArray empty() {
-    return new UnsignedByteArray(new ArrayList<>());
+    return new UnsignedByteArray(EMPTY, 0, 0, false);
   }
 
   /**
@@ -70,7 +125,7 @@ public class UnsignedByteArray {
    * @return An {@link UnsignedByteArray} of the requested size with all 0 {@link UnsignedByte}s
    */
   public static UnsignedByteArray ofSize(int size) {
-    return new UnsignedByteArray(fill(size));
+    return new UnsignedByteArray(new byte[size], 0, size, false);
   }
 
   /**
@@ -82,24 +137,27 @@ public class UnsignedByteArray {
    */
   public static UnsignedByteArray fromHex(String hex) {
     Objects.requireNonNull(hex);
-    List<UnsignedByte> unsignedBytes = ByteUtils.parse(hex.toUpperCase(Locale.ENGLISH));
-    return new UnsignedByteArray(unsignedBytes);
-  }
-
-  private static List<UnsignedByte> fill(int amount) {
-    List<UnsignedByte> unsignedBytes = new ArrayList<>();
-    for (int i = 0; i < amount; i++) {
-      unsignedBytes.add(i, UnsignedByte.of(0));
+    // An odd number of digits is read as if it had a leading zero.
+    int leadingDigit = hex.length() % 2;
+    byte[] bytes = new byte[(hex.length() + 1) / 2];
+    if (leadingDigit == 1) {
+      bytes[0] = (byte) Hex.digit(hex.charAt(0));
     }
-    return unsignedBytes;
+    Hex.decode(hex, leadingDigit, hex.length(), bytes, leadingDigit);
+    return new UnsignedByteArray(bytes, 0, bytes.length, false);
   }
 
   /**
-   * Get the underlying {@link List} of {@link UnsignedByte}s for this {@link UnsignedByteArray}.
+   * Get the {@link UnsignedByte}s in this {@link UnsignedByteArray} as a {@link List}. The returned {@link List} is a
+   * copy, so changes made to it are not reflected in this {@link UnsignedByteArray}.
    *
-   * @return The underlying {@link List} of {@link UnsignedByte}s.
+   * @return A {@link List} of {@link UnsignedByte}s.
    */
   public List<UnsignedByte> getUnsignedBytes() {
+    List<UnsignedByte> unsignedBytes = new ArrayList<>(length);
+    for (int i = 0; i < length; i++) {
+      unsignedBytes.add(UnsignedByte.of(bytes[offset + i]));
+    }
     return unsignedBytes;
   }
 
@@ -109,13 +167,29 @@ public class UnsignedByteArray {
    * @return This {@link UnsignedByteArray} as a byte array.
    */
   public byte[] toByteArray() {
-    byte[] bytes = new byte[unsignedBytes.size()];
+    return Arrays.copyOfRange(bytes, offset, offset + length);
+  }
 
-    for (int i = 0; i < unsignedBytes.size(); i++) {
-      bytes[i] = unsignedBytes.get(i).asByte();
-    }
+  /**
+   * Writes the bytes in this {@link UnsignedByteArray} to {@code outputStream} without copying them first.
+   *
+   * @param outputStream The {@link OutputStream} to write to.
+   *
+   * @throws IOException if {@code outputStream} cannot be written to.
+   */
+  public void writeTo(final OutputStream outputStream) throws IOException {
+    Objects.requireNonNull(outputStream);
+    outputStream.write(bytes, offset, length);
+  }
 
-    return bytes;
+  /**
+   * Get a read-only {@link ByteBuffer} view of the bytes in this {@link UnsignedByteArray}. The buffer shares storage
+   * with this {@link UnsignedByteArray}, so values set after this call are visible through it.
+   *
+   * @return A read-only {@link ByteBuffer} positioned at the first byte of this {@link UnsignedByteArray}.
+   */
+  public ByteBuffer asByteBuffer() {
+    return ByteBuffer.wrap(bytes, offset, length).slice().asReadOnlyBuffer();
   }
 
   /**
@@ -124,7 +198,7 @@ public class UnsignedByteArray {
    * @return This {@link UnsignedByteArray} as a hex encoded {@link String}.
    */
   public String hexValue() {
-    return ByteUtils.toHex(unsignedBytes).toUpperCase(Locale.ENGLISH);
+    return Hex.encode(bytes, offset, length);
   }
 
   /**
@@ -133,7 +207,7 @@ public class UnsignedByteArray {
    * @return The length of this {@link UnsignedByteArray}, as an int.
    */
   public int length() {
-    return unsignedBytes.size();
+    return length;
   }
 
   /**
@@ -144,7 +218,8 @@ public class UnsignedByteArray {
    * @return The {@link UnsignedByte} at the given index.
    */
   public UnsignedByte get(int index) {
-    return unsignedBytes.get(index);
+    checkIndex(index);
+    return UnsignedByte.of(bytes[offset + index]);
   }
 
   /**
@@ -155,7 +230,9 @@ public class UnsignedByteArray {
    * @return This {@link UnsignedByteArray}, with the given {@link UnsignedByte} appended.
    */
   public UnsignedByteArray append(UnsignedByte unsignedByte) {
-    unsignedBytes.add(unsignedByte);
+    ensureCapacity(1);
+    bytes[offset + length] = unsignedByte.asByte();
+    length++;
     return this;
   }
 
@@ -168,7 +245,26 @@ public class UnsignedByteArray {
    * @return the same instance.
    */
   public UnsignedByteArray append(UnsignedByteArray array) {
-    unsignedBytes.addAll(array.getUnsignedBytes());
+    int count = array.length;
+    ensureCapacity(count);
+    System.arraycopy(array.bytes, array.offset, bytes, offset + length, count);
+    length += count;
+    return this;
+  }
+
+  /**
+   * Appends a copy of the given byte array to the end of this array.
+   * Note: this method mutates the instance and returns the same instance (mainly for call chaining convenience).
+   *
+   * @param array A byte array to append to this {@link UnsignedByteArray}.
+   *
+   * @return the same instance.
+   */
+  public UnsignedByteArray append(byte[] array) {
+    Objects.requireNonNull(array);
+    ensureCapacity(array.length);
+    System.arraycopy(array, 0, bytes, offset + length, array.length);
+    length += array.length;
     return this;
   }
 
@@ -179,11 +275,14 @@ public class UnsignedByteArray {
    * @param value The {@link UnsignedByte} to set at the given index.
    */
   public void set(int index, UnsignedByte value) {
-    unsignedBytes.set(index, value);
+    checkIndex(index);
+    bytes[offset + index] = value.asByte();
   }
 
   /**
-   * Returns a slice of the underlying byte array from the given start to the end index (exclusive).
+   * Returns a slice of the underlying byte array from the given start to the end index (exclusive). The slice is a
+   * view, so setting a value in the slice also sets it in this {@link UnsignedByteArray} (and vice versa). Appending to
+   * the slice copies its bytes first, leaving this {@link UnsignedByteArray} untouched.
    *
    * @param startIndex start index (inclusive)
    * @param endIndex   end index (exclusive)
@@ -191,7 +290,35 @@ public class UnsignedByteArray {
    * @return An {@link UnsignedByteArray} containing the sliced elements.
    */
   public UnsignedByteArray slice(int startIndex, int endIndex) {
-    return new UnsignedByteArray(unsignedBytes.subList(startIndex, endIndex));
+    if (startIndex < 0 || endIndex > length || startIndex > endIndex) {
+      throw new IndexOutOfBoundsException(
+        "startIndex: " + startIndex + ", endIndex: " + endIndex + ", length: " + length
+      );
+    }
+    return new UnsignedByteArray(bytes, offset + startIndex, endIndex - startIndex, true);
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= length) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + length);
+    }
+  }
+
+  /**
+   * Makes sure there is room to append {@code additional} bytes, copying into a new backing array if this instance is
+   * a view or the current backing array is full.
+   */
+  private void ensureCapacity(int additional) {
+    int required = length + additional;
+    if (!view && offset + required <= bytes.length) {
+      return;
+    }
+    int newCapacity = Math.max(required, Math.max(MIN_GROWTH_CAPACITY, length * 2));
+    byte[] grown = new byte[newCapacity];
+    System.arraycopy(bytes, offset, grown, 0, length);
+    this.bytes = grown;
+    this.offset = 0;
+    this.view = false;
   }
 
   @Override
@@ -203,18 +330,30 @@ public class UnsignedByteArray {
       return false;
     }
     UnsignedByteArray that = (UnsignedByteArray) object;
-    return getUnsignedBytes().equals(that.getUnsignedBytes());
+    if (this.length != that.length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (this.bytes[this.offset + i] != that.bytes[that.offset + i]) {
+        return false;
+      }
+    }
+    return true;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(getUnsignedBytes());
+    int result = 1;
+    for (int i = offset; i < offset + length; i++) {
+      result = 31 * result + bytes[i];
+    }
+    return result;
   }
 
   @Override
   public String toString() {
     return "UnsignedByteArray{" +
-      "unsignedBytes=List(size=" + unsignedBytes.size() + ")" +
+      "unsignedBytes=List(size=" + length + ")" +
       '}';
   }
 }
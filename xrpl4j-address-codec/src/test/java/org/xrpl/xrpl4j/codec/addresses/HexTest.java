@@ -0,0 +1,63 @@
+package org.xrpl.xrpl4j.codec.addresses;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.io.BaseEncoding;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+/**
+ * Unit tests for {@link Hex}.
+ */
+class HexTest {
+
+  @Test
+  void matchesGuavaForRandomBytes() {
+    Random random = new Random(19);
+    for (int length = 0; length < 100; length++) {
+      byte[] bytes = new byte[length];
+      random.nextBytes(bytes);
+      String expected = BaseEncoding.base16().encode(bytes);
+
+      assertThat(Hex.encode(bytes)).isEqualTo(expected);
+      assertThat(Hex.decode(expected)).isEqualTo(bytes);
+      assertThat(Hex.decode(expected.toLowerCase())).isEqualTo(bytes);
+    }
+  }
+
+  @Test
+  void encodesEveryByte() {
+    for (int value = 0; value < 256; value++) {
+      String expected = BaseEncoding.base16().encode(new byte[] {(byte) value});
+      assertThat(Hex.encodeByte(value)).isEqualTo(expected);
+      assertThat(Hex.encodeByte((byte) value)).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void encodesAndDecodesRanges() {
+    byte[] bytes = {0x00, 0x12, (byte) 0xAB, (byte) 0xFF};
+    char[] chars = "xx......xx".toCharArray();
+    Hex.encode(bytes, 1, 2, chars, 2);
+    assertThat(new String(chars)).isEqualTo("xx12AB..xx");
+    assertThat(Hex.encode(bytes, 2, 2)).isEqualTo("ABFF");
+
+    byte[] decoded = new byte[4];
+    Hex.decode("--12ab--", 2, 6, decoded, 1);
+    assertThat(decoded).containsExactly(0x00, 0x12, 0xAB, 0x00);
+    Hex.decode("ff".toCharArray(), 0, 2, decoded, 3);
+    assertThat(decoded).containsExactly(0x00, 0x12, 0xAB, 0xFF);
+  }
+
+  @Test
+  void rejectsInvalidHex() {
+    assertThatThrownBy(() -> Hex.decode("ABC")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> Hex.decode("0G")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> Hex.decode("0٠")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> Hex.decode("ABCD", 0, 4, new byte[1], 0)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> Hex.encode(new byte[2], 1, 2)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+}
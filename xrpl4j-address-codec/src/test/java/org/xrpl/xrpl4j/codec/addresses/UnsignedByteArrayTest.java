@@ -41,4 +41,44 @@ public class UnsignedByteArrayTest {
     assertThat(UnsignedByteArray.fromHex("abcdef0123").hexValue()).isEqualTo("ABCDEF0123");
   }
 
+  @Test
+  public void appendGrowsArray() {
+    UnsignedByteArray array = UnsignedByteArray.empty();
+    for (int i = 0; i < 100; i++) {
+      array.append(UnsignedByte.of(i));
+    }
+    array.append(UnsignedByteArray.fromHex("ABCD"));
+    array.append(new byte[] {(byte) 0xEF, 0x01});
+    assertThat(array.length()).isEqualTo(104);
+    assertThat(array.get(99).asInt()).isEqualTo(99);
+    assertThat(array.slice(100, 104).hexValue()).isEqualTo("ABCDEF01");
+  }
+
+  @Test
+  public void sliceIsView() {
+    UnsignedByteArray array = UnsignedByteArray.fromHex("00112233");
+    UnsignedByteArray slice = array.slice(1, 3);
+    assertThat(slice.hexValue()).isEqualTo("1122");
+    assertThat(slice.toByteArray()).isEqualTo(new byte[] {0x11, 0x22});
+
+    slice.set(0, UnsignedByte.of(0xFF));
+    assertThat(array.hexValue()).isEqualTo("00FF2233");
+
+    slice.append(UnsignedByte.of(0xEE));
+    assertThat(slice.hexValue()).isEqualTo("FF22EE");
+    assertThat(array.hexValue()).isEqualTo("00FF2233");
+  }
+
+  @Test
+  public void equalsAndHashCodeUseContents() {
+    UnsignedByteArray array = UnsignedByteArray.fromHex("00112233");
+    UnsignedByteArray other = UnsignedByteArray.empty()
+      .append(UnsignedByte.of(0x11))
+      .append(UnsignedByte.of(0x22));
+
+    assertThat(array.slice(1, 3)).isEqualTo(other);
+    assertThat(array.slice(1, 3).hashCode()).isEqualTo(other.hashCode());
+    assertThat(array.slice(0, 2)).isNotEqualTo(other);
+  }
+
 }
@@ -0,0 +1,59 @@
+package org.xrpl.xrpl4j.archive;
+
+import com.google.common.base.Preconditions;
+import org.immutables.value.Value;
+
+/**
+ * Options for opening a {@link TransactionArchive}.
+ */
+@Value.Immutable
+public interface ArchiveOptions {
+
+  /**
+   * The default {@link #segmentSize()}, 64 MiB.
+   */
+  int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+  /**
+   * Construct a builder for this class.
+   *
+   * @return An {@link ImmutableArchiveOptions.Builder}.
+   */
+  static ImmutableArchiveOptions.Builder builder() {
+    return ImmutableArchiveOptions.builder();
+  }
+
+  /**
+   * The size in bytes that a segment file may grow to before a new segment is started. A transaction that is larger
+   * than this on its own is written to a segment of its own.
+   *
+   * @return The segment size in bytes. Defaults to {@link #DEFAULT_SEGMENT_SIZE}.
+   */
+  @Value.Default
+  default int segmentSize() {
+    return DEFAULT_SEGMENT_SIZE;
+  }
+
+  /**
+   * The {@link SegmentCompression} of segments created by the archive. Existing segments keep the compression they
+   * were created with.
+   *
+   * @return A {@link SegmentCompression}. Defaults to {@link SegmentCompression#NONE}.
+   */
+  @Value.Default
+  default SegmentCompression compression() {
+    return SegmentCompression.NONE;
+  }
+
+  /**
+   * Ensure that {@link #segmentSize()} leaves room for records after the segment header.
+   */
+  @Value.Check
+  default void validateSegmentSize() {
+    Preconditions.checkArgument(
+      segmentSize() >= 4096,
+      "segmentSize must be at least 4096 bytes, but was %s.", segmentSize()
+    );
+  }
+
+}
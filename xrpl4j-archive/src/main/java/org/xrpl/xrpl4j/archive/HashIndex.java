@@ -0,0 +1,239 @@
+package org.xrpl.xrpl4j.archive;
+
+import com.google.common.base.Preconditions;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A memory-mapped hash table from transaction hash to the position of the transaction in a {@link TransactionArchive}.
+ *
+ * <p>The file starts with a 16 byte header made up of a magic number, the number of slots and the number of entries.
+ * The slots follow, each of which holds a transaction hash, a segment number and an offset. A segment number of zero
+ * marks an empty slot. Entries are placed by linear probing from the slot given by the first bytes of the hash, which
+ * are uniformly distributed already, and the table is rebuilt at twice the size when it becomes half full.</p>
+ */
+final class HashIndex implements Closeable {
+
+  private static final int MAGIC = 0x58524148;
+
+  private static final int HEADER_LENGTH = 16;
+
+  private static final int SLOT_LENGTH = Segment.HASH_LENGTH + 8;
+
+  private static final int INITIAL_CAPACITY = 1 << 12;
+
+  // The largest power of two number of slots that can be mapped in one buffer.
+  private static final int MAX_CAPACITY = 1 << 25;
+
+  private final Path path;
+
+  private FileChannel channel;
+
+  private MappedByteBuffer buffer;
+
+  private int capacity;
+
+  private int count;
+
+  private HashIndex(final Path path) {
+    this.path = path;
+  }
+
+  /**
+   * Open the index at {@code path}, creating an empty one if there is no file at {@code path}.
+   *
+   * @param path The {@link Path} of the index file.
+   *
+   * @return A {@link HashIndex}.
+   * @throws IOException if the file cannot be opened, or is not a hash index.
+   */
+  static HashIndex open(final Path path) throws IOException {
+    HashIndex index = new HashIndex(path);
+    if (Files.exists(path)) {
+      index.map();
+    } else {
+      index.create(path, INITIAL_CAPACITY);
+    }
+    return index;
+  }
+
+  /**
+   * Delete the index at {@code path}, if there is one, and create an empty one in its place.
+   *
+   * @param path The {@link Path} of the index file.
+   *
+   * @return An empty {@link HashIndex}.
+   * @throws IOException if the file cannot be replaced.
+   */
+  static HashIndex recreate(final Path path) throws IOException {
+    Files.deleteIfExists(path);
+    return open(path);
+  }
+
+  int count() {
+    return count;
+  }
+
+  /**
+   * Find the position of the transaction with the given hash.
+   *
+   * @param hash A transaction hash.
+   *
+   * @return The position of the transaction, as made by {@link TransactionArchive#position(int, int)}, or -1 if
+   *   there is no transaction with the given hash.
+   */
+  long find(final byte[] hash) {
+    int slot = firstSlot(hash);
+    while (true) {
+      int slotOffset = slotOffset(slot);
+      int segment = buffer.getInt(slotOffset + Segment.HASH_LENGTH);
+      if (segment == 0) {
+        return -1;
+      }
+      if (hashEquals(slotOffset, hash)) {
+        return TransactionArchive.position(segment, buffer.getInt(slotOffset + Segment.HASH_LENGTH + 4));
+      }
+      slot = (slot + 1) & (capacity - 1);
+    }
+  }
+
+  /**
+   * Add the position of the transaction with the given hash, unless the index already has the hash.
+   *
+   * @param hash    A transaction hash.
+   * @param segment The number of the segment of the transaction.
+   * @param offset  The offset of the transaction in its segment.
+   *
+   * @return {@code true} if the hash was added, or {@code false} if it was already in the index.
+   * @throws IOException if the index has to grow, and cannot.
+   */
+  boolean put(final byte[] hash, final int segment, final int offset) throws IOException {
+    Preconditions.checkArgument(segment > 0, "segment must be positive");
+    if (count + 1 > capacity / 2) {
+      grow();
+    }
+    int slot = firstSlot(hash);
+    while (true) {
+      int slotOffset = slotOffset(slot);
+      if (buffer.getInt(slotOffset + Segment.HASH_LENGTH) == 0) {
+        for (int i = 0; i < Segment.HASH_LENGTH; i++) {
+          buffer.put(slotOffset + i, hash[i]);
+        }
+        buffer.putInt(slotOffset + Segment.HASH_LENGTH + 4, offset);
+        buffer.putInt(slotOffset + Segment.HASH_LENGTH, segment);
+        count++;
+        buffer.putInt(8, count);
+        return true;
+      }
+      if (hashEquals(slotOffset, hash)) {
+        return false;
+      }
+      slot = (slot + 1) & (capacity - 1);
+    }
+  }
+
+  /**
+   * Force the index to storage.
+   */
+  void flush() {
+    buffer.force();
+  }
+
+  @Override
+  public void close() throws IOException {
+    buffer = null;
+    channel.close();
+  }
+
+  private void grow() throws IOException {
+    if (capacity >= MAX_CAPACITY) {
+      throw new IOException("The hash index is full.");
+    }
+    Path grownPath = path.resolveSibling(path.getFileName() + ".tmp");
+    Files.deleteIfExists(grownPath);
+    HashIndex grown = new HashIndex(grownPath);
+    grown.create(grownPath, capacity * 2);
+    try {
+      for (int slot = 0; slot < capacity; slot++) {
+        int slotOffset = slotOffset(slot);
+        int segment = buffer.getInt(slotOffset + Segment.HASH_LENGTH);
+        if (segment != 0) {
+          byte[] hash = new byte[Segment.HASH_LENGTH];
+          for (int i = 0; i < hash.length; i++) {
+            hash[i] = buffer.get(slotOffset + i);
+          }
+          grown.put(hash, segment, buffer.getInt(slotOffset + Segment.HASH_LENGTH + 4));
+        }
+      }
+      grown.flush();
+    } finally {
+      grown.close();
+    }
+    close();
+    Files.move(grownPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    map();
+  }
+
+  private void create(final Path path, final int capacity) throws IOException {
+    channel = FileChannel.open(
+      path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE
+    );
+    buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_LENGTH + (long) capacity * SLOT_LENGTH);
+    buffer.putInt(0, MAGIC);
+    buffer.putInt(4, capacity);
+    buffer.putInt(8, 0);
+    this.capacity = capacity;
+    this.count = 0;
+  }
+
+  private void map() throws IOException {
+    channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    try {
+      long size = channel.size();
+      ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+      if (size < HEADER_LENGTH || channel.read(header, 0) != HEADER_LENGTH || header.getInt(0) != MAGIC) {
+        throw new IOException(path + " is not a hash index.");
+      }
+      int mappedCapacity = header.getInt(4);
+      int mappedCount = header.getInt(8);
+      if (Integer.bitCount(mappedCapacity) != 1 || mappedCapacity > MAX_CAPACITY ||
+        size != HEADER_LENGTH + (long) mappedCapacity * SLOT_LENGTH ||
+        mappedCount < 0 || mappedCount > mappedCapacity / 2) {
+        throw new IOException(path + " is not a hash index.");
+      }
+      buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+      capacity = mappedCapacity;
+      count = mappedCount;
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  private int firstSlot(final byte[] hash) {
+    Preconditions.checkArgument(hash.length == Segment.HASH_LENGTH, "hash must be %s bytes", Segment.HASH_LENGTH);
+    return ByteBuffer.wrap(hash).getInt(0) & (capacity - 1);
+  }
+
+  private int slotOffset(final int slot) {
+    return HEADER_LENGTH + slot * SLOT_LENGTH;
+  }
+
+  private boolean hashEquals(final int slotOffset, final byte[] hash) {
+    for (int i = 0; i < Segment.HASH_LENGTH; i++) {
+      if (buffer.get(slotOffset + i) != hash[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+}
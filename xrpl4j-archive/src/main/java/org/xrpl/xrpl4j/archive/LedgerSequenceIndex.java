@@ -0,0 +1,197 @@
+package org.xrpl.xrpl4j.archive;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A memory-mapped list of the transactions in a {@link TransactionArchive}, in the order they were appended, which is
+ * ledger order.
+ *
+ * <p>The file starts with a 16 byte header made up of a magic number and the number of entries, followed by the
+ * entries, each of which holds a ledger index, a segment number and an offset. Because the ledger indexes never
+ * decrease, the first transaction of a ledger is found with a binary search. The file grows by doubling, so it is
+ * usually longer than its entries.</p>
+ */
+final class LedgerSequenceIndex implements Closeable {
+
+  private static final int MAGIC = 0x5852414C;
+
+  private static final int HEADER_LENGTH = 16;
+
+  private static final int ENTRY_LENGTH = 12;
+
+  private static final int INITIAL_CAPACITY = 1 << 12;
+
+  private static final int MAX_CAPACITY = (Integer.MAX_VALUE - HEADER_LENGTH) / ENTRY_LENGTH;
+
+  private final Path path;
+
+  private final FileChannel channel;
+
+  private MappedByteBuffer buffer;
+
+  private int capacity;
+
+  private int count;
+
+  private LedgerSequenceIndex(final Path path, final FileChannel channel) {
+    this.path = path;
+    this.channel = channel;
+  }
+
+  /**
+   * Open the index at {@code path}, creating an empty one if there is no file at {@code path}.
+   *
+   * @param path The {@link Path} of the index file.
+   *
+   * @return A {@link LedgerSequenceIndex}.
+   * @throws IOException if the file cannot be opened, or is not a ledger sequence index.
+   */
+  static LedgerSequenceIndex open(final Path path) throws IOException {
+    FileChannel channel = FileChannel.open(
+      path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE
+    );
+    LedgerSequenceIndex index = new LedgerSequenceIndex(path, channel);
+    try {
+      long size = channel.size();
+      if (size == 0) {
+        index.map(INITIAL_CAPACITY);
+        index.buffer.putInt(0, MAGIC);
+        index.buffer.putInt(4, 0);
+        return index;
+      }
+      ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+      if (size < HEADER_LENGTH || channel.read(header, 0) != HEADER_LENGTH || header.getInt(0) != MAGIC) {
+        throw new IOException(path + " is not a ledger sequence index.");
+      }
+      int mappedCapacity = (int) Math.min((size - HEADER_LENGTH) / ENTRY_LENGTH, MAX_CAPACITY);
+      int mappedCount = header.getInt(4);
+      if (mappedCount < 0 || mappedCount > mappedCapacity) {
+        throw new IOException(path + " is not a ledger sequence index.");
+      }
+      index.map(mappedCapacity);
+      index.count = mappedCount;
+      return index;
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  int count() {
+    return count;
+  }
+
+  /**
+   * Get the ledger index of the entry at {@code entry}.
+   *
+   * @param entry The number of an entry, from zero.
+   *
+   * @return The ledger index.
+   */
+  long ledgerIndex(final int entry) {
+    return Integer.toUnsignedLong(buffer.getInt(entryOffset(entry)));
+  }
+
+  /**
+   * Get the position of the transaction of the entry at {@code entry}.
+   *
+   * @param entry The number of an entry, from zero.
+   *
+   * @return The position, as made by {@link TransactionArchive#position(int, int)}.
+   */
+  long position(final int entry) {
+    int entryOffset = entryOffset(entry);
+    return TransactionArchive.position(buffer.getInt(entryOffset + 4), buffer.getInt(entryOffset + 8));
+  }
+
+  /**
+   * Find the first entry with a ledger index that is greater than or equal to {@code ledgerIndex}.
+   *
+   * @param ledgerIndex A ledger index.
+   *
+   * @return The number of the entry, or {@link #count()} if every entry has a lower ledger index.
+   */
+  int lowerBound(final long ledgerIndex) {
+    int low = 0;
+    int high = count;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (ledgerIndex(middle) < ledgerIndex) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Add an entry after the existing entries.
+   *
+   * @param ledgerIndex The ledger index of the transaction.
+   * @param segment     The number of the segment of the transaction.
+   * @param offset      The offset of the transaction in its segment.
+   *
+   * @throws IOException if the index has to grow, and cannot.
+   */
+  void add(final long ledgerIndex, final int segment, final int offset) throws IOException {
+    if (count == capacity) {
+      if (capacity == MAX_CAPACITY) {
+        throw new IOException("The ledger sequence index is full.");
+      }
+      map((int) Math.min(Math.max((long) capacity * 2, INITIAL_CAPACITY), MAX_CAPACITY));
+    }
+    int entryOffset = HEADER_LENGTH + count * ENTRY_LENGTH;
+    buffer.putInt(entryOffset, (int) ledgerIndex);
+    buffer.putInt(entryOffset + 4, segment);
+    buffer.putInt(entryOffset + 8, offset);
+    count++;
+    buffer.putInt(4, count);
+  }
+
+  /**
+   * Remove the entries after the first {@code newCount}.
+   *
+   * @param newCount The number of entries to keep.
+   */
+  void truncate(final int newCount) {
+    if (newCount < 0 || newCount > count) {
+      throw new IndexOutOfBoundsException("newCount: " + newCount + ", count: " + count);
+    }
+    count = newCount;
+    buffer.putInt(4, count);
+  }
+
+  /**
+   * Force the index to storage.
+   */
+  void flush() {
+    buffer.force();
+  }
+
+  @Override
+  public void close() throws IOException {
+    buffer = null;
+    channel.close();
+  }
+
+  private void map(final int newCapacity) throws IOException {
+    // Mapping beyond the end of the file extends it.
+    buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_LENGTH + (long) newCapacity * ENTRY_LENGTH);
+    capacity = newCapacity;
+  }
+
+  private int entryOffset(final int entry) {
+    if (entry < 0 || entry >= count) {
+      throw new IndexOutOfBoundsException("entry: " + entry + ", count: " + count + " in " + path);
+    }
+    return HEADER_LENGTH + entry * ENTRY_LENGTH;
+  }
+
+}
@@ -0,0 +1,478 @@
+package org.xrpl.xrpl4j.archive;
+
+import com.google.common.primitives.UnsignedLong;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * One append-only segment file of a {@link TransactionArchive}.
+ *
+ * <p>A segment starts with an 8 byte header made up of a magic number, the format version and the code of the
+ * segment's {@link SegmentCompression}. Records follow the header back to back, and each record is made up of:</p>
+ *
+ * <ol>
+ *   <li>The length of the stored body, as an int.</li>
+ *   <li>The CRC-32 of the rest of the record, as an int.</li>
+ *   <li>The transaction hash.</li>
+ *   <li>The ledger index, as a UInt32.</li>
+ *   <li>Flags saying whether the transaction is validated, and whether it has a close date and metadata.</li>
+ *   <li>The body, which is the close date as a long, the length of the binary transaction as an int, the binary
+ *   transaction and the binary metadata. With {@link SegmentCompression#DEFLATE}, the body is stored as its length,
+ *   as an int, followed by the deflated body.</li>
+ * </ol>
+ *
+ * <p>Records are appended through a {@link FileChannel}, and read through a read-only memory mapping of the segment,
+ * which is remapped when a record that was appended after it was made is read.</p>
+ */
+final class Segment implements Closeable {
+
+  static final int HEADER_LENGTH = 8;
+
+  static final int RECORD_HEADER_LENGTH = 45;
+
+  static final int HASH_LENGTH = 32;
+
+  private static final int MAGIC = 0x58524153;
+
+  private static final byte VERSION = 1;
+
+  private static final int CRC_OFFSET = 4;
+
+  private static final int HASH_OFFSET = 8;
+
+  private static final int LEDGER_INDEX_OFFSET = 40;
+
+  private static final int FLAGS_OFFSET = 44;
+
+  private static final int VALIDATED = 1;
+
+  private static final int HAS_CLOSE_DATE = 1 << 1;
+
+  private static final int HAS_METADATA = 1 << 2;
+
+  // The close date and the length of the binary transaction.
+  private static final int BODY_HEADER_LENGTH = 12;
+
+  private final int number;
+
+  private final FileChannel channel;
+
+  private final SegmentCompression compression;
+
+  private int end;
+
+  private MappedByteBuffer mapped;
+
+  private Deflater deflater;
+
+  private Inflater inflater;
+
+  private Segment(final int number, final FileChannel channel, final SegmentCompression compression, final int end) {
+    this.number = number;
+    this.channel = channel;
+    this.compression = compression;
+    this.end = end;
+  }
+
+  /**
+   * Create a new, empty segment file.
+   *
+   * @param path        The {@link Path} of the segment file, which must not exist.
+   * @param number      The number of the segment in its archive.
+   * @param compression The {@link SegmentCompression} of the segment.
+   *
+   * @return A {@link Segment}.
+   * @throws IOException if the file cannot be created.
+   */
+  static Segment create(final Path path, final int number, final SegmentCompression compression) throws IOException {
+    Objects.requireNonNull(compression);
+    FileChannel channel = FileChannel.open(
+      path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE
+    );
+    try {
+      ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+      header.putInt(0, MAGIC);
+      header.put(4, VERSION);
+      header.put(5, (byte) compression.code());
+      writeFully(channel, header, 0);
+      return new Segment(number, channel, compression, HEADER_LENGTH);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Open an existing segment file. If {@code recover} is true, the segment is checked record by record, and cut short
+   * at the first record that was not written completely, as happens when the process writing it stops mid-write.
+   *
+   * @param path    The {@link Path} of the segment file.
+   * @param number  The number of the segment in its archive.
+   * @param recover Whether to check the records of the segment.
+   *
+   * @return A {@link Segment}.
+   * @throws IOException if the file cannot be read, or is not a segment.
+   */
+  static Segment open(final Path path, final int number, final boolean recover) throws IOException {
+    FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    try {
+      long size = channel.size();
+      if (size < HEADER_LENGTH || size > Integer.MAX_VALUE) {
+        throw new IOException(path + " is not an archive segment.");
+      }
+      ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+      readFully(channel, header, 0);
+      if (header.getInt(0) != MAGIC || header.get(4) != VERSION) {
+        throw new IOException(path + " is not an archive segment.");
+      }
+      SegmentCompression compression;
+      try {
+        compression = SegmentCompression.of(header.get(5));
+      } catch (IllegalArgumentException e) {
+        throw new IOException(path + ": " + e.getMessage(), e);
+      }
+      int end = recover ? validEnd(channel, (int) size) : (int) size;
+      if (end < size) {
+        channel.truncate(end);
+      }
+      return new Segment(number, channel, compression, end);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  int number() {
+    return number;
+  }
+
+  SegmentCompression compression() {
+    return compression;
+  }
+
+  /**
+   * The offset just past the last record of this segment, which is where the next record is appended.
+   *
+   * @return The end offset.
+   */
+  int end() {
+    return end;
+  }
+
+  /**
+   * Whether a record of this segment starts at {@code offset}, assuming that {@code offset} came from an index.
+   *
+   * @param offset An offset in this segment.
+   *
+   * @return {@code true} if the offset is inside the records of this segment.
+   */
+  boolean contains(final int offset) {
+    return offset >= HEADER_LENGTH && offset < end;
+  }
+
+  /**
+   * The number of bytes that a record with the given contents takes up before compression.
+   *
+   * @param transaction The binary transaction.
+   * @param metadata    The binary metadata, if any.
+   *
+   * @return The length of the record.
+   */
+  static long recordLength(final byte[] transaction, final Optional<byte[]> metadata) {
+    return (long) RECORD_HEADER_LENGTH + BODY_HEADER_LENGTH + transaction.length +
+      metadata.map(bytes -> bytes.length).orElse(0);
+  }
+
+  /**
+   * Append a record to the end of this segment.
+   *
+   * @param hash        The transaction hash.
+   * @param ledgerIndex The ledger index of the transaction.
+   * @param validated   Whether the transaction is validated.
+   * @param closeDate   The close date of the ledger of the transaction, if known.
+   * @param transaction The binary transaction.
+   * @param metadata    The binary metadata, if any.
+   *
+   * @return The offset of the record.
+   * @throws IOException if the record cannot be written.
+   */
+  int append(
+    final byte[] hash,
+    final long ledgerIndex,
+    final boolean validated,
+    final Optional<UnsignedLong> closeDate,
+    final byte[] transaction,
+    final Optional<byte[]> metadata
+  ) throws IOException {
+    byte[] metadataBytes = metadata.orElse(new byte[0]);
+    ByteBuffer body = ByteBuffer.allocate(BODY_HEADER_LENGTH + transaction.length + metadataBytes.length);
+    body.putLong(closeDate.map(UnsignedLong::longValue).orElse(0L))
+      .putInt(transaction.length)
+      .put(transaction)
+      .put(metadataBytes);
+    byte[] stored = compression == SegmentCompression.DEFLATE ? deflate(body.array()) : body.array();
+    if ((long) end + RECORD_HEADER_LENGTH + stored.length > Integer.MAX_VALUE) {
+      throw new IOException("Segment " + number + " is full.");
+    }
+
+    int flags = (validated ? VALIDATED : 0) |
+      (closeDate.isPresent() ? HAS_CLOSE_DATE : 0) |
+      (metadata.isPresent() ? HAS_METADATA : 0);
+    ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_LENGTH + stored.length);
+    record.putInt(stored.length)
+      .putInt(0)
+      .put(hash, 0, HASH_LENGTH)
+      .putInt((int) ledgerIndex)
+      .put((byte) flags)
+      .put(stored);
+    record.putInt(CRC_OFFSET, crc(record.array(), HASH_OFFSET, record.capacity() - HASH_OFFSET));
+
+    int offset = end;
+    writeFully(channel, ByteBuffer.wrap(record.array()), offset);
+    end += record.capacity();
+    return offset;
+  }
+
+  /**
+   * Read the record at {@code offset}.
+   *
+   * @param offset The offset of a record in this segment.
+   *
+   * @return The {@link SegmentRecord} at {@code offset}.
+   * @throws IOException if there is no intact record at {@code offset}.
+   */
+  SegmentRecord read(final int offset) throws IOException {
+    int storedLength = map(offset, RECORD_HEADER_LENGTH).getInt(0);
+    if (storedLength < 0 || (long) offset + RECORD_HEADER_LENGTH + storedLength > end) {
+      throw corrupt(offset);
+    }
+    ByteBuffer record = map(offset, RECORD_HEADER_LENGTH + storedLength);
+    CRC32 crc = new CRC32();
+    crc.update(slice(record, HASH_OFFSET, record.capacity() - HASH_OFFSET));
+    if ((int) crc.getValue() != record.getInt(CRC_OFFSET)) {
+      throw corrupt(offset);
+    }
+
+    byte[] hash = new byte[HASH_LENGTH];
+    slice(record, HASH_OFFSET, HASH_LENGTH).get(hash);
+    ByteBuffer body = slice(record, RECORD_HEADER_LENGTH, storedLength);
+    if (compression == SegmentCompression.DEFLATE) {
+      body = ByteBuffer.wrap(inflate(body, offset));
+    }
+    int transactionLength = body.getInt(8);
+    if (transactionLength < 0 || transactionLength > body.capacity() - BODY_HEADER_LENGTH) {
+      throw corrupt(offset);
+    }
+    byte[] transaction = new byte[transactionLength];
+    slice(body, BODY_HEADER_LENGTH, transactionLength).get(transaction);
+    int flags = record.get(FLAGS_OFFSET);
+    Optional<byte[]> metadata = Optional.empty();
+    if ((flags & HAS_METADATA) != 0) {
+      int metadataOffset = BODY_HEADER_LENGTH + transactionLength;
+      byte[] metadataBytes = new byte[body.capacity() - metadataOffset];
+      slice(body, metadataOffset, metadataBytes.length).get(metadataBytes);
+      metadata = Optional.of(metadataBytes);
+    }
+
+    return new SegmentRecord(
+      hash,
+      Integer.toUnsignedLong(record.getInt(LEDGER_INDEX_OFFSET)),
+      (flags & VALIDATED) != 0,
+      (flags & HAS_CLOSE_DATE) != 0 ? Optional.of(UnsignedLong.fromLongBits(body.getLong(0))) : Optional.empty(),
+      transaction,
+      metadata
+    );
+  }
+
+  /**
+   * Read the transaction hash of the record at {@code offset}, without reading the rest of the record.
+   *
+   * @param offset The offset of a record in this segment.
+   *
+   * @return The transaction hash.
+   * @throws IOException if {@code offset} is outside this segment.
+   */
+  byte[] hash(final int offset) throws IOException {
+    byte[] hash = new byte[HASH_LENGTH];
+    slice(map(offset, RECORD_HEADER_LENGTH), HASH_OFFSET, HASH_LENGTH).get(hash);
+    return hash;
+  }
+
+  /**
+   * Read the ledger index of the record at {@code offset}, without reading the rest of the record.
+   *
+   * @param offset The offset of a record in this segment.
+   *
+   * @return The ledger index.
+   * @throws IOException if {@code offset} is outside this segment.
+   */
+  long ledgerIndex(final int offset) throws IOException {
+    return Integer.toUnsignedLong(map(offset, RECORD_HEADER_LENGTH).getInt(LEDGER_INDEX_OFFSET));
+  }
+
+  /**
+   * Get the offset of the record after the one at {@code offset}, which is {@link #end()} for the last record.
+   *
+   * @param offset The offset of a record in this segment.
+   *
+   * @return The offset of the next record.
+   * @throws IOException if {@code offset} is outside this segment.
+   */
+  int next(final int offset) throws IOException {
+    int storedLength = map(offset, RECORD_HEADER_LENGTH).getInt(0);
+    if (storedLength < 0 || (long) offset + RECORD_HEADER_LENGTH + storedLength > end) {
+      throw corrupt(offset);
+    }
+    return offset + RECORD_HEADER_LENGTH + storedLength;
+  }
+
+  /**
+   * Force the records of this segment to storage.
+   *
+   * @throws IOException if the segment cannot be forced.
+   */
+  void flush() throws IOException {
+    channel.force(false);
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (deflater != null) {
+      deflater.end();
+    }
+    if (inflater != null) {
+      inflater.end();
+    }
+    mapped = null;
+    channel.close();
+  }
+
+  private ByteBuffer map(final int offset, final int length) throws IOException {
+    if (offset < HEADER_LENGTH || length < 0 || (long) offset + length > end) {
+      throw new IOException("No record at offset " + offset + " of segment " + number + ".");
+    }
+    if (mapped == null || offset + length > mapped.capacity()) {
+      mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, end);
+    }
+    return slice(mapped, offset, length);
+  }
+
+  private byte[] deflate(final byte[] body) {
+    if (deflater == null) {
+      deflater = new Deflater();
+    }
+    deflater.reset();
+    deflater.setInput(body);
+    deflater.finish();
+    ByteArrayOutputStream stored = new ByteArrayOutputStream(body.length / 2 + 16);
+    byte[] lengthBytes = new byte[4];
+    ByteBuffer.wrap(lengthBytes).putInt(body.length);
+    stored.write(lengthBytes, 0, lengthBytes.length);
+    byte[] chunk = new byte[4096];
+    while (!deflater.finished()) {
+      int length = deflater.deflate(chunk);
+      stored.write(chunk, 0, length);
+    }
+    return stored.toByteArray();
+  }
+
+  private byte[] inflate(final ByteBuffer stored, final int offset) throws IOException {
+    if (stored.capacity() < 4 || stored.getInt(0) < BODY_HEADER_LENGTH) {
+      throw corrupt(offset);
+    }
+    if (inflater == null) {
+      inflater = new Inflater();
+    }
+    byte[] input = new byte[stored.capacity() - 4];
+    slice(stored, 4, input.length).get(input);
+    byte[] body = new byte[stored.getInt(0)];
+    inflater.reset();
+    inflater.setInput(input);
+    try {
+      int length = 0;
+      while (length < body.length) {
+        int inflated = inflater.inflate(body, length, body.length - length);
+        if (inflated == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+          throw corrupt(offset);
+        }
+        length += inflated;
+      }
+    } catch (DataFormatException e) {
+      throw new IOException("Record at offset " + offset + " of segment " + number + " is corrupt.", e);
+    }
+    return body;
+  }
+
+  private IOException corrupt(final int offset) {
+    return new IOException("Record at offset " + offset + " of segment " + number + " is corrupt.");
+  }
+
+  private static int validEnd(final FileChannel channel, final int size) throws IOException {
+    ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_LENGTH);
+    int offset = HEADER_LENGTH;
+    while (size - offset >= RECORD_HEADER_LENGTH) {
+      readFully(channel, ByteBuffer.wrap(header.array()), offset);
+      int storedLength = header.getInt(0);
+      if (storedLength < 0 || storedLength > size - offset - RECORD_HEADER_LENGTH) {
+        break;
+      }
+      ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_LENGTH + storedLength);
+      readFully(channel, record, offset);
+      if (crc(record.array(), HASH_OFFSET, record.capacity() - HASH_OFFSET) != header.getInt(CRC_OFFSET)) {
+        break;
+      }
+      offset += record.capacity();
+    }
+    return offset;
+  }
+
+  private static int crc(final byte[] bytes, final int offset, final int length) {
+    CRC32 crc = new CRC32();
+    crc.update(bytes, offset, length);
+    return (int) crc.getValue();
+  }
+
+  // Positions are set through Buffer, whose setters return Buffer rather than ByteBuffer on Java 8.
+  private static ByteBuffer slice(final ByteBuffer buffer, final int offset, final int length) {
+    ByteBuffer view = buffer.duplicate();
+    ((Buffer) view).limit(offset + length);
+    ((Buffer) view).position(offset);
+    return view.slice();
+  }
+
+  private static void writeFully(final FileChannel channel, final ByteBuffer buffer, final long position)
+    throws IOException {
+    long next = position;
+    while (buffer.hasRemaining()) {
+      next += channel.write(buffer, next);
+    }
+  }
+
+  private static void readFully(final FileChannel channel, final ByteBuffer buffer, final long position)
+    throws IOException {
+    long next = position;
+    while (buffer.hasRemaining()) {
+      int read = channel.read(buffer, next);
+      if (read < 0) {
+        throw new EOFException();
+      }
+      next += read;
+    }
+  }
+
+}
@@ -0,0 +1,47 @@
+package org.xrpl.xrpl4j.archive;
+
+/**
+ * How the records in a {@link TransactionArchive} segment are stored. The compression of a segment is chosen when it is
+ * created and recorded in its header, so segments with different compression can be mixed in one archive.
+ */
+public enum SegmentCompression {
+
+  /**
+   * Records are stored as they are.
+   */
+  NONE(0),
+
+  /**
+   * The body of each record is compressed on its own with {@link java.util.zip.Deflater}, so any record can still be
+   * read without reading the rest of its segment.
+   */
+  DEFLATE(1);
+
+  private final int code;
+
+  SegmentCompression(final int code) {
+    this.code = code;
+  }
+
+  /**
+   * Get the {@link SegmentCompression} stored in a segment header as {@code code}.
+   *
+   * @param code The code of a {@link SegmentCompression}.
+   *
+   * @return The {@link SegmentCompression} with the given code.
+   * @throws IllegalArgumentException if there is no {@link SegmentCompression} with the given code.
+   */
+  static SegmentCompression of(final int code) {
+    for (SegmentCompression compression : values()) {
+      if (compression.code == code) {
+        return compression;
+      }
+    }
+    throw new IllegalArgumentException("Unknown segment compression: " + code);
+  }
+
+  int code() {
+    return code;
+  }
+
+}
@@ -0,0 +1,84 @@
+package org.xrpl.xrpl4j.archive;
+
+import com.google.common.primitives.UnsignedInteger;
+import com.google.common.primitives.UnsignedLong;
+import org.xrpl.xrpl4j.codec.addresses.Hex;
+import org.xrpl.xrpl4j.model.client.common.LedgerIndex;
+import org.xrpl.xrpl4j.model.client.transactions.BinaryTransactionResult;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A transaction as it is stored in a {@link Segment}.
+ */
+final class SegmentRecord {
+
+  private final byte[] hash;
+  private final long ledgerIndex;
+  private final boolean validated;
+  private final Optional<UnsignedLong> closeDate;
+  private final byte[] transaction;
+  private final Optional<byte[]> metadata;
+
+  SegmentRecord(
+    final byte[] hash,
+    final long ledgerIndex,
+    final boolean validated,
+    final Optional<UnsignedLong> closeDate,
+    final byte[] transaction,
+    final Optional<byte[]> metadata
+  ) {
+    this.hash = Objects.requireNonNull(hash);
+    this.ledgerIndex = ledgerIndex;
+    this.validated = validated;
+    this.closeDate = Objects.requireNonNull(closeDate);
+    this.transaction = Objects.requireNonNull(transaction);
+    this.metadata = Objects.requireNonNull(metadata);
+  }
+
+  byte[] hash() {
+    return hash;
+  }
+
+  long ledgerIndex() {
+    return ledgerIndex;
+  }
+
+  boolean validated() {
+    return validated;
+  }
+
+  Optional<UnsignedLong> closeDate() {
+    return closeDate;
+  }
+
+  byte[] transaction() {
+    return transaction;
+  }
+
+  Optional<byte[]> metadata() {
+    return metadata;
+  }
+
+  Hash256 transactionHash() {
+    return Hash256.of(Hex.encode(hash));
+  }
+
+  LedgerIndex transactionLedgerIndex() {
+    return LedgerIndex.of(UnsignedInteger.valueOf(ledgerIndex));
+  }
+
+  BinaryTransactionResult toBinaryTransactionResult() {
+    return BinaryTransactionResult.builder()
+      .transactionBlob(Hex.encode(transaction))
+      .metadataBlob(metadata.map(Hex::encode))
+      .hash(transactionHash())
+      .ledgerIndex(transactionLedgerIndex())
+      .validated(validated)
+      .closeDate(closeDate)
+      .build();
+  }
+
+}
@@ -0,0 +1,620 @@
+package org.xrpl.xrpl4j.archive;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Streams;
+import com.google.common.primitives.UnsignedLong;
+import org.xrpl.xrpl4j.codec.addresses.Hex;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryTransactionDecoder;
+import org.xrpl.xrpl4j.codec.binary.hash.Sha512Half;
+import org.xrpl.xrpl4j.model.client.common.LedgerIndex;
+import org.xrpl.xrpl4j.model.client.transactions.BinaryTransactionResult;
+import org.xrpl.xrpl4j.model.client.transactions.TransactionResult;
+import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
+import org.xrpl.xrpl4j.model.jackson.modules.BinaryEncodingModule;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+import org.xrpl.xrpl4j.model.transactions.Transaction;
+import org.xrpl.xrpl4j.model.transactions.TransactionMetadata;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * An append-only archive of XRPL transactions on the local file system, which keeps each transaction and its metadata
+ * in XRPL binary form, as rippled returns them when asked for {@code binary} results.
+ *
+ * <p>Transactions are appended to segment files, and found through two memory-mapped indexes, one from transaction
+ * hash to the position of the transaction, and one that lists the transactions in ledger order. Neither a lookup by
+ * hash nor a scan over a range of ledgers reads more of the archive into the heap than the transactions it returns.
+ * Because the archive outlives the process, an application that restarts can carry on from
+ * {@link #lastLedgerIndex()} instead of downloading the history of its accounts from rippled again.</p>
+ *
+ * <p>Transactions must be appended in ledger order, which is the order that account_tx returns them in when
+ * {@code forward} is {@code true}. Appending a transaction that is already in the archive does nothing, so the
+ * transactions of the last ledger in the archive can safely be appended again.</p>
+ *
+ * <p>Appended transactions are handed to the operating system straight away, so they survive the process stopping,
+ * but are only forced to storage by {@link #flush()} and {@link #close()}. When an archive is opened, a transaction
+ * that was only partly written is discarded, and the indexes are brought up to date with the segments. A directory
+ * can only be open in one {@link TransactionArchive} at a time.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+public final class TransactionArchive implements Closeable {
+
+  private static final String LOCK_FILE = "archive.lock";
+
+  private static final String HASH_INDEX_FILE = "hash.idx";
+
+  private static final String LEDGER_INDEX_FILE = "ledger.idx";
+
+  private static final String SEGMENT_PREFIX = "segment-";
+
+  private static final String SEGMENT_SUFFIX = ".dat";
+
+  private static final long MAX_LEDGER_INDEX = 0xFFFFFFFFL;
+
+  private final Path directory;
+
+  private final ArchiveOptions options;
+
+  private final FileChannel lockChannel;
+
+  private final ObjectMapper objectMapper;
+
+  private final XrplBinaryCodec codec;
+
+  private final XrplBinaryTransactionDecoder decoder;
+
+  private final List<Segment> segments = new ArrayList<>();
+
+  private LedgerSequenceIndex ledgerSequenceIndex;
+
+  private HashIndex hashIndex;
+
+  private boolean closed;
+
+  private TransactionArchive(final Path directory, final ArchiveOptions options, final FileChannel lockChannel) {
+    this.directory = directory;
+    this.options = options;
+    this.lockChannel = lockChannel;
+    this.objectMapper = ObjectMapperFactory.create().registerModule(new BinaryEncodingModule());
+    this.codec = new XrplBinaryCodec();
+    this.decoder = new XrplBinaryTransactionDecoder(codec, objectMapper);
+  }
+
+  /**
+   * Open the archive in {@code directory} with the default {@link ArchiveOptions}, creating it if it does not exist.
+   *
+   * @param directory The {@link Path} of the directory of the archive.
+   *
+   * @return An open {@link TransactionArchive}.
+   * @throws IOException if the archive cannot be opened, or is already open.
+   */
+  public static TransactionArchive open(final Path directory) throws IOException {
+    return open(directory, ArchiveOptions.builder().build());
+  }
+
+  /**
+   * Open the archive in {@code directory}, creating it if it does not exist.
+   *
+   * @param directory The {@link Path} of the directory of the archive.
+   * @param options   The {@link ArchiveOptions} to open the archive with.
+   *
+   * @return An open {@link TransactionArchive}.
+   * @throws IOException if the archive cannot be opened, or is already open.
+   */
+  public static TransactionArchive open(final Path directory, final ArchiveOptions options) throws IOException {
+    Objects.requireNonNull(directory);
+    Objects.requireNonNull(options);
+    Files.createDirectories(directory);
+    FileChannel lockChannel = FileChannel.open(
+      directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE
+    );
+    TransactionArchive archive = new TransactionArchive(directory, options, lockChannel);
+    try {
+      FileLock lock = lockChannel.tryLock();
+      if (lock == null) {
+        throw new IOException(directory + " is open in another process.");
+      }
+      archive.load();
+      return archive;
+    } catch (OverlappingFileLockException e) {
+      throw archive.closeAfterFailure(new IOException(directory + " is already open.", e));
+    } catch (IOException e) {
+      throw archive.closeAfterFailure(e);
+    } catch (RuntimeException e) {
+      throw archive.closeAfterFailure(e);
+    }
+  }
+
+  /**
+   * Append a transaction that rippled returned in binary form, such as one of the transactions of an account_tx call
+   * made with {@code binary} set to {@code true}. If {@code result} has no hash, it is computed from the binary
+   * transaction.
+   *
+   * @param result A {@link BinaryTransactionResult} with a ledger index.
+   *
+   * @return {@code true} if the transaction was appended, or {@code false} if it was already in the archive.
+   * @throws IOException              if the transaction cannot be written.
+   * @throws IllegalArgumentException if {@code result} has no ledger index, or belongs to a ledger before
+   *                                  {@link #lastLedgerIndex()}.
+   */
+  public boolean append(final BinaryTransactionResult result) throws IOException {
+    Objects.requireNonNull(result);
+    LedgerIndex ledgerIndex = result.ledgerIndex()
+      .orElseThrow(() -> new IllegalArgumentException("Only transactions with a ledger_index can be archived."));
+    byte[] transaction = Hex.decode(result.transactionBlob());
+    byte[] hash = result.hash()
+      .map(value -> Hex.decode(value.value()))
+      .orElseGet(() -> Sha512Half.transactionId(UnsignedByteArray.of(transaction)).toByteArray());
+    return appendRecord(
+      hash,
+      ledgerIndex,
+      result.validated(),
+      result.closeDate(),
+      transaction,
+      result.metadataBlob().map(Hex::decode)
+    );
+  }
+
+  /**
+   * Append a transaction from the model, such as the result of a tx call, by encoding the transaction and its metadata
+   * with the binary codec. Fields that the model does not have are not archived, so appending the
+   * {@link BinaryTransactionResult} of the transaction instead is preferred where it is available.
+   *
+   * @param result A {@link TransactionResult} with a ledger index.
+   *
+   * @return {@code true} if the transaction was appended, or {@code false} if it was already in the archive.
+   * @throws IOException              if the transaction cannot be written.
+   * @throws IllegalArgumentException if {@code result} has no ledger index, or belongs to a ledger before
+   *                                  {@link #lastLedgerIndex()}.
+   */
+  public boolean append(final TransactionResult<?> result) throws IOException {
+    Objects.requireNonNull(result);
+    LedgerIndex ledgerIndex = result.ledgerIndex()
+      .orElseThrow(() -> new IllegalArgumentException("Only transactions with a ledger_index can be archived."));
+    JsonNode transactionJson = objectMapper.valueToTree(result.transaction());
+    return appendRecord(
+      Hex.decode(result.hash().value()),
+      ledgerIndex,
+      result.validated(),
+      result.closeDate(),
+      codec.encodeToBytes(transactionJson).toByteArray(),
+      result.metadata().map(this::encodeMetadata)
+    );
+  }
+
+  /**
+   * Whether the transaction with the given hash is in this archive.
+   *
+   * @param hash The {@link Hash256} of a transaction.
+   *
+   * @return {@code true} if the transaction is in this archive, otherwise {@code false}.
+   */
+  public synchronized boolean contains(final Hash256 hash) {
+    Objects.requireNonNull(hash);
+    ensureOpen();
+    return hashIndex.find(Hex.decode(hash.value())) >= 0;
+  }
+
+  /**
+   * Get the transaction with the given hash in binary form.
+   *
+   * @param hash The {@link Hash256} of a transaction.
+   *
+   * @return The {@link BinaryTransactionResult} of the transaction, or {@link Optional#empty()} if it is not in this
+   *   archive.
+   * @throws IOException if the transaction cannot be read.
+   */
+  public Optional<BinaryTransactionResult> get(final Hash256 hash) throws IOException {
+    return record(hash).map(SegmentRecord::toBinaryTransactionResult);
+  }
+
+  /**
+   * Get the transaction with the given hash, decoded to the model.
+   *
+   * @param hash            The {@link Hash256} of a transaction.
+   * @param transactionType The {@link Transaction} type that the transaction is expected to be.
+   * @param <T>             The type of {@link Transaction} in the returned {@link TransactionResult}.
+   *
+   * @return The {@link TransactionResult} of the transaction, or {@link Optional#empty()} if it is not in this archive.
+   * @throws IOException        if the transaction cannot be read, or cannot be bound to the model.
+   * @throws ClassCastException if the transaction is not a {@code transactionType}.
+   */
+  public <T extends Transaction> Optional<TransactionResult<T>> transaction(
+    final Hash256 hash,
+    final Class<T> transactionType
+  ) throws IOException {
+    Objects.requireNonNull(transactionType);
+    Optional<SegmentRecord> record = record(hash);
+    if (!record.isPresent()) {
+      return Optional.empty();
+    }
+    return Optional.of(toTransactionResult(record.get(), transactionType));
+  }
+
+  /**
+   * Stream the transactions of the ledgers from {@code from} to {@code to}, inclusive, in binary form and in ledger
+   * order. Transactions are read as the stream is consumed, and an {@link IOException} while reading one is thrown as
+   * an {@link UncheckedIOException}.
+   *
+   * @param from The {@link LedgerIndex} of the first ledger.
+   * @param to   The {@link LedgerIndex} of the last ledger.
+   *
+   * @return A {@link Stream} of {@link BinaryTransactionResult}.
+   */
+  public Stream<BinaryTransactionResult> binaryTransactions(final LedgerIndex from, final LedgerIndex to) {
+    return records(from, to).map(SegmentRecord::toBinaryTransactionResult);
+  }
+
+  /**
+   * Stream the transactions of the ledgers from {@code from} to {@code to}, inclusive, decoded to the model and in
+   * ledger order. Transactions are read as the stream is consumed, and an {@link IOException} while reading or
+   * decoding one is thrown as an {@link UncheckedIOException}.
+   *
+   * @param from The {@link LedgerIndex} of the first ledger.
+   * @param to   The {@link LedgerIndex} of the last ledger.
+   *
+   * @return A {@link Stream} of {@link TransactionResult}.
+   */
+  public Stream<TransactionResult<Transaction>> transactions(final LedgerIndex from, final LedgerIndex to) {
+    return records(from, to).map(record -> {
+      try {
+        return toTransactionResult(record, Transaction.class);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+  }
+
+  /**
+   * Get the number of transactions in this archive.
+   *
+   * @return The number of transactions.
+   */
+  public synchronized int size() {
+    ensureOpen();
+    return ledgerSequenceIndex.count();
+  }
+
+  /**
+   * Get the ledger index of the last transaction in this archive.
+   *
+   * @return The {@link LedgerIndex} of the last transaction, or {@link Optional#empty()} if this archive is empty.
+   */
+  public synchronized Optional<LedgerIndex> lastLedgerIndex() {
+    ensureOpen();
+    int count = ledgerSequenceIndex.count();
+    if (count == 0) {
+      return Optional.empty();
+    }
+    return Optional.of(LedgerIndex.of(UnsignedLong.valueOf(ledgerSequenceIndex.ledgerIndex(count - 1))));
+  }
+
+  /**
+   * Force the transactions appended to this archive, and its indexes, to storage.
+   *
+   * @throws IOException if the archive cannot be forced.
+   */
+  public synchronized void flush() throws IOException {
+    ensureOpen();
+    activeSegment().flush();
+    ledgerSequenceIndex.flush();
+    hashIndex.flush();
+  }
+
+  /**
+   * Flush and close this archive. Closing an archive that is already closed does nothing.
+   *
+   * @throws IOException if the archive cannot be flushed or closed.
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    try {
+      flush();
+    } finally {
+      closed = true;
+      closeFiles();
+    }
+  }
+
+  /**
+   * Combine a segment number and an offset in that segment into a position, as stored by the indexes.
+   *
+   * @param segment The number of a segment.
+   * @param offset  An offset in the segment.
+   *
+   * @return The position.
+   */
+  static long position(final int segment, final int offset) {
+    return ((long) segment << 32) | Integer.toUnsignedLong(offset);
+  }
+
+  private static int segmentNumber(final long position) {
+    return (int) (position >>> 32);
+  }
+
+  private static int offset(final long position) {
+    return (int) position;
+  }
+
+  private synchronized boolean appendRecord(
+    final byte[] hash,
+    final LedgerIndex ledgerIndex,
+    final boolean validated,
+    final Optional<UnsignedLong> closeDate,
+    final byte[] transaction,
+    final Optional<byte[]> metadata
+  ) throws IOException {
+    ensureOpen();
+    if (hashIndex.find(hash) >= 0) {
+      return false;
+    }
+    long ledger = ledgerIndex.unsignedLongValue().longValue();
+    Preconditions.checkArgument(ledger <= MAX_LEDGER_INDEX, "ledgerIndex must fit in a UInt32");
+    int count = ledgerSequenceIndex.count();
+    if (count > 0 && ledger < ledgerSequenceIndex.ledgerIndex(count - 1)) {
+      throw new IllegalArgumentException(String.format(
+        "Transactions must be archived in ledger order, but ledger %s is before ledger %s.",
+        ledger, ledgerSequenceIndex.ledgerIndex(count - 1)
+      ));
+    }
+
+    Segment segment = activeSegment();
+    if (segment.end() > Segment.HEADER_LENGTH &&
+      segment.end() + Segment.recordLength(transaction, metadata) > options.segmentSize()) {
+      segment.flush();
+      int number = segments.size() + 1;
+      segment = Segment.create(segmentPath(number), number, options.compression());
+      segments.add(segment);
+    }
+    int offset = segment.append(hash, ledger, validated, closeDate, transaction, metadata);
+    index(hash, ledger, segment.number(), offset);
+    return true;
+  }
+
+  private byte[] encodeMetadata(final TransactionMetadata metadata) {
+    // The model names the DeliveredAmount field as rippled does in JSON results, rather than as the binary codec does.
+    ObjectNode metadataJson = objectMapper.valueToTree(metadata);
+    JsonNode deliveredAmount = metadataJson.remove("delivered_amount");
+    if (deliveredAmount != null) {
+      metadataJson.set("DeliveredAmount", deliveredAmount);
+    }
+    return codec.encodeToBytes(metadataJson).toByteArray();
+  }
+
+  private synchronized Optional<SegmentRecord> record(final Hash256 hash) throws IOException {
+    Objects.requireNonNull(hash);
+    ensureOpen();
+    long position = hashIndex.find(Hex.decode(hash.value()));
+    if (position < 0) {
+      return Optional.empty();
+    }
+    return Optional.of(read(position));
+  }
+
+  private Stream<SegmentRecord> records(final LedgerIndex from, final LedgerIndex to) {
+    Objects.requireNonNull(from);
+    Objects.requireNonNull(to);
+    long first = from.unsignedLongValue().longValue();
+    long last = to.unsignedLongValue().longValue();
+    Preconditions.checkArgument(first <= last, "from must not be after to");
+    int start;
+    synchronized (this) {
+      ensureOpen();
+      start = ledgerSequenceIndex.lowerBound(first);
+    }
+    return Streams.stream(new AbstractIterator<SegmentRecord>() {
+      private int next = start;
+
+      @Override
+      protected SegmentRecord computeNext() {
+        synchronized (TransactionArchive.this) {
+          ensureOpen();
+          if (next >= ledgerSequenceIndex.count() || ledgerSequenceIndex.ledgerIndex(next) > last) {
+            return endOfData();
+          }
+          try {
+            return read(ledgerSequenceIndex.position(next++));
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        }
+      }
+    });
+  }
+
+  private <T extends Transaction> TransactionResult<T> toTransactionResult(
+    final SegmentRecord record,
+    final Class<T> transactionType
+  ) throws IOException {
+    Optional<TransactionMetadata> metadata = Optional.empty();
+    if (record.metadata().isPresent()) {
+      metadata = Optional.of(decoder.decodeMetadata(record.metadata().get()));
+    }
+    return TransactionResult.<T>builder()
+      .transaction(transactionType.cast(decoder.decodeTransaction(record.transaction())))
+      .hash(record.transactionHash())
+      .ledgerIndex(record.transactionLedgerIndex())
+      .validated(record.validated())
+      .metadata(metadata)
+      .closeDate(record.closeDate())
+      .build();
+  }
+
+  private void load() throws IOException {
+    List<Integer> numbers = segmentNumbers();
+    for (int i = 0; i < numbers.size(); i++) {
+      int number = numbers.get(i);
+      if (number != i + 1) {
+        throw new IOException("Segment " + (i + 1) + " of " + directory + " is missing.");
+      }
+      segments.add(Segment.open(segmentPath(number), number, i == numbers.size() - 1));
+    }
+    if (segments.isEmpty()) {
+      segments.add(Segment.create(segmentPath(1), 1, options.compression()));
+    }
+
+    // The indexes only hold what can be read back from the segments, so one that cannot be opened is rebuilt.
+    Path ledgerIndexPath = directory.resolve(LEDGER_INDEX_FILE);
+    try {
+      ledgerSequenceIndex = LedgerSequenceIndex.open(ledgerIndexPath);
+    } catch (IOException e) {
+      Files.deleteIfExists(ledgerIndexPath);
+      ledgerSequenceIndex = LedgerSequenceIndex.open(ledgerIndexPath);
+    }
+    try {
+      hashIndex = HashIndex.open(directory.resolve(HASH_INDEX_FILE));
+    } catch (IOException e) {
+      hashIndex = HashIndex.recreate(directory.resolve(HASH_INDEX_FILE));
+    }
+    recover();
+  }
+
+  private void recover() throws IOException {
+    // Drop entries for transactions that were lost from the end of the last segment.
+    int count = ledgerSequenceIndex.count();
+    while (count > 0 && !hasRecordAt(ledgerSequenceIndex.position(count - 1))) {
+      count--;
+    }
+    if (count < ledgerSequenceIndex.count()) {
+      ledgerSequenceIndex.truncate(count);
+    }
+
+    if (hashIndex.count() != count) {
+      hashIndex.close();
+      hashIndex = HashIndex.recreate(directory.resolve(HASH_INDEX_FILE));
+      for (int entry = 0; entry < count; entry++) {
+        long position = ledgerSequenceIndex.position(entry);
+        hashIndex.put(segment(position).hash(offset(position)), segmentNumber(position), offset(position));
+      }
+    }
+
+    // Index the transactions that were written to the segments after the last indexed one.
+    int number = 1;
+    int offset = Segment.HEADER_LENGTH;
+    if (count > 0) {
+      long position = ledgerSequenceIndex.position(count - 1);
+      number = segmentNumber(position);
+      offset = segment(position).next(offset(position));
+    }
+    for (; number <= segments.size(); number++, offset = Segment.HEADER_LENGTH) {
+      Segment segment = segments.get(number - 1);
+      while (offset < segment.end()) {
+        index(segment.hash(offset), segment.ledgerIndex(offset), number, offset);
+        offset = segment.next(offset);
+      }
+    }
+  }
+
+  private void index(final byte[] hash, final long ledgerIndex, final int segment, final int offset)
+    throws IOException {
+    ledgerSequenceIndex.add(ledgerIndex, segment, offset);
+    hashIndex.put(hash, segment, offset);
+  }
+
+  private boolean hasRecordAt(final long position) {
+    int number = segmentNumber(position);
+    return number >= 1 && number <= segments.size() && segments.get(number - 1).contains(offset(position));
+  }
+
+  private SegmentRecord read(final long position) throws IOException {
+    if (!hasRecordAt(position)) {
+      throw new IOException("No transaction at position " + position + " of " + directory + ".");
+    }
+    return segment(position).read(offset(position));
+  }
+
+  private Segment segment(final long position) {
+    return segments.get(segmentNumber(position) - 1);
+  }
+
+  private Segment activeSegment() {
+    return segments.get(segments.size() - 1);
+  }
+
+  private List<Integer> segmentNumbers() throws IOException {
+    List<Integer> numbers = new ArrayList<>();
+    try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+      for (Path path : paths) {
+        String name = path.getFileName().toString();
+        String number = name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length());
+        try {
+          numbers.add(Integer.parseInt(number));
+        } catch (NumberFormatException e) {
+          throw new IOException(path + " is not an archive segment.", e);
+        }
+      }
+    }
+    Collections.sort(numbers);
+    return numbers;
+  }
+
+  private Path segmentPath(final int number) {
+    return directory.resolve(String.format("%s%08d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+  }
+
+  private void ensureOpen() {
+    if (closed) {
+      throw new IllegalStateException("The archive is closed.");
+    }
+  }
+
+  private <E extends Exception> E closeAfterFailure(final E failure) {
+    try {
+      closeFiles();
+    } catch (IOException e) {
+      failure.addSuppressed(e);
+    }
+    return failure;
+  }
+
+  private void closeFiles() throws IOException {
+    List<Closeable> files = new ArrayList<>(segments);
+    files.add(ledgerSequenceIndex);
+    files.add(hashIndex);
+    files.add(lockChannel);
+    IOException failure = null;
+    for (Closeable file : files) {
+      try {
+        if (file != null) {
+          file.close();
+        }
+      } catch (IOException e) {
+        if (failure == null) {
+          failure = e;
+        } else {
+          failure.addSuppressed(e);
+        }
+      }
+    }
+    segments.clear();
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+}
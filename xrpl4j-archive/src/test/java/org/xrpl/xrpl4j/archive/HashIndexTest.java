@@ -0,0 +1,89 @@
+package org.xrpl.xrpl4j.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Unit tests for {@link HashIndex}.
+ */
+class HashIndexTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void putAndFind() throws IOException {
+    try (HashIndex index = HashIndex.open(directory.resolve("hash.idx"))) {
+      assertThat(index.put(hash(1), 1, 8)).isTrue();
+      assertThat(index.put(hash(2), 2, 1000)).isTrue();
+
+      assertThat(index.put(hash(1), 3, 16)).isFalse();
+      assertThat(index.count()).isEqualTo(2);
+      assertThat(index.find(hash(1))).isEqualTo(TransactionArchive.position(1, 8));
+      assertThat(index.find(hash(2))).isEqualTo(TransactionArchive.position(2, 1000));
+      assertThat(index.find(hash(3))).isEqualTo(-1);
+    }
+  }
+
+  @Test
+  void findCollidingHashes() throws IOException {
+    // Hashes that share their first bytes start probing from the same slot.
+    byte[] first = hash(1);
+    byte[] second = hash(1);
+    second[31] ^= 1;
+    try (HashIndex index = HashIndex.open(directory.resolve("hash.idx"))) {
+      index.put(first, 1, 8);
+      index.put(second, 1, 200);
+
+      assertThat(index.find(first)).isEqualTo(TransactionArchive.position(1, 8));
+      assertThat(index.find(second)).isEqualTo(TransactionArchive.position(1, 200));
+    }
+  }
+
+  @Test
+  void growAndReopen() throws IOException {
+    Path path = directory.resolve("hash.idx");
+    long initialSize;
+    try (HashIndex index = HashIndex.open(path)) {
+      initialSize = Files.size(path);
+      for (int i = 0; i < 10000; i++) {
+        assertThat(index.put(hash(i), 1 + i % 7, i * 100)).isTrue();
+      }
+    }
+    assertThat(Files.size(path)).isGreaterThan(initialSize);
+
+    try (HashIndex index = HashIndex.open(path)) {
+      assertThat(index.count()).isEqualTo(10000);
+      for (int i = 0; i < 10000; i++) {
+        assertThat(index.find(hash(i))).isEqualTo(TransactionArchive.position(1 + i % 7, i * 100));
+      }
+      assertThat(index.find(hash(10000))).isEqualTo(-1);
+    }
+  }
+
+  @Test
+  void openRejectsOtherFiles() throws IOException {
+    Path path = directory.resolve("hash.idx");
+    Files.write(path, new byte[64]);
+
+    assertThatThrownBy(() -> HashIndex.open(path)).isInstanceOf(IOException.class);
+    try (HashIndex index = HashIndex.recreate(path)) {
+      assertThat(index.count()).isZero();
+    }
+  }
+
+  private static byte[] hash(int seed) {
+    byte[] hash = new byte[Segment.HASH_LENGTH];
+    new Random(seed).nextBytes(hash);
+    return hash;
+  }
+
+}
@@ -0,0 +1,138 @@
+package org.xrpl.xrpl4j.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.primitives.UnsignedLong;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Unit tests for {@link Segment}.
+ */
+class SegmentTest {
+
+  private static final byte[] HASH = filled(Segment.HASH_LENGTH, 0x1A);
+
+  @TempDir
+  Path directory;
+
+  @ParameterizedTest
+  @EnumSource(SegmentCompression.class)
+  void appendAndRead(SegmentCompression compression) throws IOException {
+    Path path = directory.resolve("segment");
+    byte[] transaction = filled(300, 0x12);
+    byte[] metadata = filled(500, 0x34);
+    int first;
+    int second;
+    try (Segment segment = Segment.create(path, 1, compression)) {
+      first = segment.append(HASH, 0xFFFFFFFFL, true, Optional.of(UnsignedLong.MAX_VALUE), transaction,
+        Optional.of(metadata));
+      second = segment.append(HASH, 7, false, Optional.empty(), transaction, Optional.empty());
+
+      assertThat(first).isEqualTo(Segment.HEADER_LENGTH);
+      assertThat(segment.next(first)).isEqualTo(second);
+      assertThat(segment.next(second)).isEqualTo(segment.end());
+      assertRecord(segment.read(first), 0xFFFFFFFFL, true, Optional.of(UnsignedLong.MAX_VALUE), transaction, metadata);
+      assertRecord(segment.read(second), 7, false, Optional.empty(), transaction, null);
+    }
+
+    try (Segment segment = Segment.open(path, 1, true)) {
+      assertThat(segment.compression()).isEqualTo(compression);
+      assertThat(segment.hash(second)).isEqualTo(HASH);
+      assertThat(segment.ledgerIndex(second)).isEqualTo(7);
+      assertRecord(segment.read(first), 0xFFFFFFFFL, true, Optional.of(UnsignedLong.MAX_VALUE), transaction, metadata);
+    }
+  }
+
+  @Test
+  void readSeesRecordsAppendedAfterEarlierReads() throws IOException {
+    try (Segment segment = Segment.create(directory.resolve("segment"), 1, SegmentCompression.NONE)) {
+      int first = segment.append(HASH, 1, true, Optional.empty(), filled(10, 1), Optional.empty());
+      assertThat(segment.read(first).transaction()).isEqualTo(filled(10, 1));
+
+      int second = segment.append(HASH, 2, true, Optional.empty(), filled(20, 2), Optional.empty());
+      assertThat(segment.read(second).transaction()).isEqualTo(filled(20, 2));
+    }
+  }
+
+  @Test
+  void openTruncatesTornRecord() throws IOException {
+    Path path = directory.resolve("segment");
+    int end;
+    try (Segment segment = Segment.create(path, 1, SegmentCompression.NONE)) {
+      segment.append(HASH, 1, true, Optional.empty(), filled(100, 1), Optional.empty());
+      end = segment.end();
+      segment.append(HASH, 2, true, Optional.empty(), filled(100, 2), Optional.empty());
+    }
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+      channel.truncate(Files.size(path) - 10);
+    }
+
+    try (Segment segment = Segment.open(path, 1, true)) {
+      assertThat(segment.end()).isEqualTo(end);
+      assertThat(Files.size(path)).isEqualTo(end);
+    }
+  }
+
+  @Test
+  void readRejectsCorruptRecord() throws IOException {
+    Path path = directory.resolve("segment");
+    int offset;
+    try (Segment segment = Segment.create(path, 1, SegmentCompression.NONE)) {
+      offset = segment.append(HASH, 1, true, Optional.empty(), filled(100, 1), Optional.empty());
+    }
+    byte[] bytes = Files.readAllBytes(path);
+    bytes[bytes.length - 1] ^= 1;
+    Files.write(path, bytes);
+
+    try (Segment segment = Segment.open(path, 1, false)) {
+      assertThatThrownBy(() -> segment.read(offset)).isInstanceOf(IOException.class).hasMessageContaining("corrupt");
+      assertThatThrownBy(() -> segment.read(segment.end())).isInstanceOf(IOException.class);
+    }
+    try (Segment segment = Segment.open(path, 1, true)) {
+      assertThat(segment.end()).isEqualTo(Segment.HEADER_LENGTH);
+    }
+  }
+
+  @Test
+  void openRejectsOtherFiles() throws IOException {
+    Path path = directory.resolve("segment");
+    Files.write(path, filled(64, 0));
+
+    assertThatThrownBy(() -> Segment.open(path, 1, true)).isInstanceOf(IOException.class);
+  }
+
+  private static void assertRecord(
+    SegmentRecord record,
+    long ledgerIndex,
+    boolean validated,
+    Optional<UnsignedLong> closeDate,
+    byte[] transaction,
+    byte[] metadata
+  ) {
+    assertThat(record.hash()).isEqualTo(HASH);
+    assertThat(record.ledgerIndex()).isEqualTo(ledgerIndex);
+    assertThat(record.validated()).isEqualTo(validated);
+    assertThat(record.closeDate()).isEqualTo(closeDate);
+    assertThat(record.transaction()).isEqualTo(transaction);
+    assertThat(record.metadata().orElse(null)).isEqualTo(metadata);
+  }
+
+  private static byte[] filled(int length, int value) {
+    byte[] bytes = new byte[length];
+    Arrays.fill(bytes, (byte) value);
+    return bytes;
+  }
+
+}
@@ -0,0 +1,409 @@
+package org.xrpl.xrpl4j.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.primitives.UnsignedInteger;
+import com.google.common.primitives.UnsignedLong;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryTransactionDecoder;
+import org.xrpl.xrpl4j.codec.binary.hash.Sha512Half;
+import org.xrpl.xrpl4j.model.client.common.LedgerIndex;
+import org.xrpl.xrpl4j.model.client.transactions.BinaryTransactionResult;
+import org.xrpl.xrpl4j.model.client.transactions.TransactionResult;
+import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+import org.xrpl.xrpl4j.model.transactions.ModifiedNode;
+import org.xrpl.xrpl4j.model.transactions.OfferCreate;
+import org.xrpl.xrpl4j.model.transactions.Payment;
+import org.xrpl.xrpl4j.model.transactions.Transaction;
+import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Unit tests for {@link TransactionArchive}.
+ */
+class TransactionArchiveTest {
+
+  // An issued currency payment whose metadata modifies a RippleState, so has LowNode and HighNode fields.
+  private static final String TRUST_LINE_PAYMENT_BLOB =
+    "1200002280000000240000000561D4838D7EA4C68000000000000000000000000000555344000000000058C742CF55C456DE367686CB9C" +
+    "ED83750BD2497968400000000000000C732102356E89059A75438887F9FEE2056A2890DB82A68353BE9C0C0C8F89C0018B37FC8114A3E4" +
+    "374D5570FDC25AA9F856E2A6635C66E9CFA5831458C742CF55C456DE367686CB9CED83750BD24979";
+
+  private static final String TRUST_LINE_PAYMENT_META_BLOB =
+    "201C000000006012D4838D7EA4C68000000000000000000000000000555344000000000058C742CF55C456DE367686CB9CED83750BD249" +
+    "79F8E51100612500007E6755A4152496C7C090B531A5DAD9F1FF8D6D842ECEDFC753D63B77434F35EA43797C5698301566DDDB7E612507" +
+    "A1E4C2EA47CDC76F4272F5C27C6E6293485951C67FC9E6240000000562400000000BEBC200E1E7220000000024000000062D0000000162" +
+    "400000000BEBC1F48114A3E4374D5570FDC25AA9F856E2A6635C66E9CFA5E1E1E51100722500007E6755A4152496C7C090B531A5DAD9F1" +
+    "FF8D6D842ECEDFC753D63B77434F35EA43797C567D4325BE338A40BBCBCC1F351B3272EB3E76305A878E76603DE206A795871619E66294" +
+    "838D7EA4C6800000000000000000000000000055534400000000000000000000000000000000000000000000000001E1E7220002000037" +
+    "00000000000000033800000000000000006280000000000000000000000000000000000000005553440000000000000000000000000000" +
+    "0000000000000000000001668000000000000000000000000000000000000000555344000000000058C742CF55C456DE367686CB9CED83" +
+    "750BD249796780000000000000000000000000000000000000005553440000000000A3E4374D5570FDC25AA9F856E2A6635C66E9CFA5E1" +
+    "E1F1031000";
+
+  private final ObjectMapper objectMapper = ObjectMapperFactory.create();
+
+  private final XrplBinaryCodec codec = new XrplBinaryCodec();
+
+  private final XrplBinaryTransactionDecoder decoder = new XrplBinaryTransactionDecoder(codec, objectMapper);
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void appendAndGetByHash() throws IOException {
+    BinaryTransactionResult result = result(4, 57123);
+    try (TransactionArchive archive = TransactionArchive.open(directory)) {
+      assertThat(archive.append(result)).isTrue();
+
+      assertThat(archive.size()).isEqualTo(1);
+      assertThat(archive.lastLedgerIndex()).hasValue(ledgerIndex(57123));
+      assertThat(archive.contains(result.hash().get())).isTrue();
+      assertThat(archive.get(result.hash().get())).hasValue(result);
+
+      TransactionResult<Payment> transaction = archive.transaction(result.hash().get(), Payment.class).get();
+      assertThat(transaction.transaction()).isEqualTo(payment(4));
+      assertThat(transaction.hash()).isEqualTo(result.hash().get());
+      assertThat(transaction.ledgerIndex()).hasValue(ledgerIndex(57123));
+      assertThat(transaction.validated()).isTrue();
+      assertThat(transaction.closeDate()).isEqualTo(result.closeDate());
+      assertThat(transaction.metadata()).hasValue(decoder.decodeMetadata(result.metadataBlob().get()));
+
+      assertThatThrownBy(() -> archive.transaction(result.hash().get(), OfferCreate.class))
+        .isInstanceOf(ClassCastException.class);
+    }
+  }
+
+  @Test
+  void getMissingTransaction() throws IOException {
+    Hash256 hash = Hash256.of("E08D6E9754025BA2534A78707605E0601F03ACE063687A0CA1BDDACFCD1698C7");
+    try (TransactionArchive archive = TransactionArchive.open(directory)) {
+      archive.append(result(4, 57123));
+
+      assertThat(archive.contains(hash)).isFalse();
+      assertThat(archive.get(hash)).isEmpty();
+      assertThat(archive.transaction(hash, Transaction.class)).isEmpty();
+    }
+  }
+
+  @Test
+  void appendComputesMissingHash() throws IOException {
+    BinaryTransactionResult result = BinaryTransactionResult.builder()
+      .transactionBlob(transactionBlob(4))
+      .ledgerIndex(ledgerIndex(57123))
+      .build();
+    Hash256 hash = Hash256.of(Sha512Half.transactionId(UnsignedByteArray.fromHex(transactionBlob(4))).hexValue());
+    try (TransactionArchive archive = TransactionArchive.open(directory)) {
+      archive.append(result);
+
+      BinaryTransactionResult archived = archive.get(hash).get();
+      assertThat(archived.hash()).hasValue(hash);
+      assertThat(archived.metadataBlob()).isEmpty();
+      assertThat(archived.closeDate()).isEmpty();
+      assertThat(archived.validated()).isFalse();
+    }
+  }
+
+  @Test
+  void appendIgnoresDuplicates() throws IOException {
+    try (TransactionArchive archive = TransactionArchive.open(directory)) {
+      assertThat(archive.append(result(4, 57123))).isTrue();
+      assertThat(archive.append(result(5, 57124))).isTrue();
+
+      assertThat(archive.append(result(4, 57123))).isFalse();
+      assertThat(archive.size()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  void appendRejectsTransactionsOutOfLedgerOrder() throws IOException {
+    try (TransactionArchive archive = TransactionArchive.open(directory)) {
+      archive.append(result(4, 57123));
+
+      assertThatThrownBy(() -> archive.append(result(5, 57122)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("ledger order");
+      assertThatThrownBy(() -> archive.append(BinaryTransactionResult.builder()
+        .transactionBlob(transactionBlob(6))
+        .build()))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("ledger_index");
+      assertThat(archive.size()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void appendModelTransactionResult() throws IOException {
+    BinaryTransactionResult result = result(4, 57123);
+    TransactionResult<Transaction> transaction = decoder.decodeTransactionResult(result, Transaction.class);
+    try (TransactionArchive archive = TransactionArchive.open(directory)) {
+      assertThat(archive.append(transaction)).isTrue();
+
+      assertThat(archive.get(transaction.hash())).hasValue(result);
+      assertThat(archive.transaction(transaction.hash(), Transaction.class)).hasValue(transaction);
+    }
+  }
+
+  @Test
+  void appendPaymentWithTrustLineMetadata() throws IOException {
+    BinaryTransactionResult result = BinaryTransactionResult.builder()
+      .transactionBlob(TRUST_LINE_PAYMENT_BLOB)
+      .metadataBlob(TRUST_LINE_PAYMENT_META_BLOB)
+      .hash(Hash256.of(Sha512Half.transactionId(UnsignedByteArray.fromHex(TRUST_LINE_PAYMENT_BLOB)).hexValue()))
+      .ledgerIndex(ledgerIndex(32570))
+      .validated(true)
+      .build();
+    TransactionResult<Payment> transaction = decoder.decodeTransactionResult(result, Payment.class);
+    try (
+      TransactionArchive binary = TransactionArchive.open(directory.resolve("binary"));
+      TransactionArchive model = TransactionArchive.open(directory.resolve("model"))
+    ) {
+      assertThat(binary.append(result)).isTrue();
+      assertThat(model.append(transaction)).isTrue();
+
+      assertThat(binary.transaction(transaction.hash(), Payment.class)).hasValue(transaction);
+      assertThat(model.get(transaction.hash())).hasValue(result);
+      TransactionResult<Transaction> archived = model.transactions(ledgerIndex(32570), ledgerIndex(32570))
+        .findFirst()
+        .get();
+      assertThat(archived).isEqualTo(transaction);
+      ModifiedNode trustLine = (ModifiedNode) archived.metadata().get().affectedNodes().get(1);
+      assertThat(trustLine.ledgerEntryType()).isEqualTo("RippleState");
+      assertThat(trustLine.finalFields().get()).containsEntry("LowNode", "0000000000000003");
+    }
+  }
+
+  @Test
+  void scanLedgerRange() throws IOException {
+    try (TransactionArchive archive = TransactionArchive.open(directory)) {
+      archive.append(result(1, 10));
+      archive.append(result(2, 10));
+      archive.append(result(3, 11));
+      archive.append(result(4, 13));
+      archive.append(result(5, 15));
+
+      assertThat(sequences(archive, 10, 10)).containsExactly(1, 2);
+      assertThat(sequences(archive, 11, 14)).containsExactly(3, 4);
+      assertThat(sequences(archive, 12, 12)).isEmpty();
+      assertThat(sequences(archive, 1, 100)).containsExactly(1, 2, 3, 4, 5);
+      assertThat(sequences(archive, 16, 100)).isEmpty();
+      assertThat(archive.binaryTransactions(ledgerIndex(13), ledgerIndex(15)).collect(Collectors.toList()))
+        .containsExactly(result(4, 13), result(5, 15));
+      assertThatThrownBy(() -> archive.transactions(ledgerIndex(11), ledgerIndex(10)))
+        .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(SegmentCompression.class)
+  void reopenKeepsTransactionsAcrossSegments(SegmentCompression compression) throws IOException {
+    ArchiveOptions options = ArchiveOptions.builder()
+      .segmentSize(4096)
+      .compression(compression)
+      .build();
+    try (TransactionArchive archive = TransactionArchive.open(directory, options)) {
+      for (int sequence = 1; sequence <= 100; sequence++) {
+        archive.append(result(sequence, 1000 + sequence / 3));
+      }
+    }
+    assertThat(segmentFiles()).hasSizeGreaterThan(1);
+
+    try (TransactionArchive archive = TransactionArchive.open(directory, options)) {
+      assertThat(archive.size()).isEqualTo(100);
+      assertThat(archive.lastLedgerIndex()).hasValue(ledgerIndex(1033));
+      for (int sequence = 1; sequence <= 100; sequence++) {
+        BinaryTransactionResult result = result(sequence, 1000 + sequence / 3);
+        assertThat(archive.get(result.hash().get())).hasValue(result);
+      }
+      assertThat(sequences(archive, 1010, 1011)).containsExactly(30, 31, 32, 33, 34, 35);
+
+      archive.append(result(101, 1034));
+      assertThat(archive.size()).isEqualTo(101);
+    }
+  }
+
+  @Test
+  void compressedSegmentsAreSmaller() throws IOException {
+    Path uncompressed = directory.resolve("uncompressed");
+    Path compressed = directory.resolve("compressed");
+    try (
+      TransactionArchive first = TransactionArchive.open(uncompressed);
+      TransactionArchive second = TransactionArchive.open(
+        compressed, ArchiveOptions.builder().compression(SegmentCompression.DEFLATE).build()
+      )
+    ) {
+      for (int sequence = 1; sequence <= 20; sequence++) {
+        first.append(result(sequence, 1000));
+        second.append(result(sequence, 1000));
+      }
+    }
+    assertThat(Files.size(compressed.resolve("segment-00000001.dat")))
+      .isLessThan(Files.size(uncompressed.resolve("segment-00000001.dat")));
+  }
+
+  @Test
+  void openDiscardsPartlyWrittenTransaction() throws IOException {
+    try (TransactionArchive archive = TransactionArchive.open(directory)) {
+      archive.append(result(1, 10));
+      archive.append(result(2, 11));
+    }
+    Path segment = directory.resolve("segment-00000001.dat");
+    long size = Files.size(segment);
+    Files.write(segment, new byte[] {0, 0, 1, 0, 1, 2, 3}, StandardOpenOption.APPEND);
+
+    try (TransactionArchive archive = TransactionArchive.open(directory)) {
+      assertThat(Files.size(segment)).isEqualTo(size);
+      assertThat(archive.size()).isEqualTo(2);
+      archive.append(result(3, 12));
+      assertThat(sequences(archive, 10, 12)).containsExactly(1, 2, 3);
+    }
+  }
+
+  @Test
+  void openRebuildsIndexes() throws IOException {
+    try (TransactionArchive archive = TransactionArchive.open(directory)) {
+      archive.append(result(1, 10));
+      archive.append(result(2, 11));
+      archive.append(result(3, 11));
+    }
+    Files.delete(directory.resolve("hash.idx"));
+    Files.write(directory.resolve("ledger.idx"), new byte[] {1, 2, 3});
+
+    try (TransactionArchive archive = TransactionArchive.open(directory)) {
+      assertThat(archive.size()).isEqualTo(3);
+      assertThat(archive.contains(result(2, 11).hash().get())).isTrue();
+      assertThat(sequences(archive, 11, 11)).containsExactly(2, 3);
+    }
+  }
+
+  @Test
+  void openIndexesTransactionsMissingFromIndexes() throws IOException {
+    try (TransactionArchive archive = TransactionArchive.open(directory)) {
+      archive.append(result(1, 10));
+    }
+    Path indexes = directory.resolve("indexes");
+    Files.createDirectory(indexes);
+    Files.copy(directory.resolve("hash.idx"), indexes.resolve("hash.idx"));
+    Files.copy(directory.resolve("ledger.idx"), indexes.resolve("ledger.idx"));
+    try (TransactionArchive archive = TransactionArchive.open(directory)) {
+      archive.append(result(2, 11));
+    }
+    Files.copy(indexes.resolve("hash.idx"), directory.resolve("hash.idx"), StandardCopyOption.REPLACE_EXISTING);
+    Files.copy(indexes.resolve("ledger.idx"), directory.resolve("ledger.idx"), StandardCopyOption.REPLACE_EXISTING);
+
+    try (TransactionArchive archive = TransactionArchive.open(directory)) {
+      assertThat(archive.size()).isEqualTo(2);
+      assertThat(archive.get(result(2, 11).hash().get())).hasValue(result(2, 11));
+    }
+  }
+
+  @Test
+  void openRejectsArchiveThatIsAlreadyOpen() throws IOException {
+    try (TransactionArchive archive = TransactionArchive.open(directory)) {
+      assertThatThrownBy(() -> TransactionArchive.open(directory)).isInstanceOf(IOException.class);
+      archive.append(result(1, 10));
+    }
+    try (TransactionArchive archive = TransactionArchive.open(directory)) {
+      assertThat(archive.size()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void closedArchiveCannotBeUsed() throws IOException {
+    TransactionArchive archive = TransactionArchive.open(directory);
+    archive.close();
+    archive.close();
+
+    assertThatThrownBy(() -> archive.append(result(1, 10))).isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(archive::size).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void optionsRejectTinySegments() {
+    assertThatThrownBy(() -> ArchiveOptions.builder().segmentSize(100).build())
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private List<Integer> sequences(TransactionArchive archive, int from, int to) {
+    return archive.transactions(ledgerIndex(from), ledgerIndex(to))
+      .map(result -> result.transaction().sequence().intValue())
+      .collect(Collectors.toList());
+  }
+
+  private List<Path> segmentFiles() throws IOException {
+    return Files.list(directory)
+      .filter(path -> path.getFileName().toString().startsWith("segment-"))
+      .collect(Collectors.toList());
+  }
+
+  private BinaryTransactionResult result(int sequence, int ledgerIndex) throws IOException {
+    String transactionBlob = transactionBlob(sequence);
+    return BinaryTransactionResult.builder()
+      .transactionBlob(transactionBlob)
+      .metadataBlob(codec.encode(objectMapper.writeValueAsString(metadataJson(sequence, ledgerIndex))))
+      .hash(Hash256.of(Sha512Half.transactionId(UnsignedByteArray.fromHex(transactionBlob)).hexValue()))
+      .ledgerIndex(ledgerIndex(ledgerIndex))
+      .validated(true)
+      .closeDate(UnsignedLong.valueOf(666212460L + ledgerIndex))
+      .build();
+  }
+
+  private String transactionBlob(int sequence) throws IOException {
+    return codec.encode(objectMapper.writeValueAsString(payment(sequence)));
+  }
+
+  private Payment payment(int sequence) {
+    return Payment.builder()
+      .account(Address.of("rU6K7V3Po4snVhBBaU29sesqs2qTQJWDw1"))
+      .fee(XrpCurrencyAmount.ofDrops(10))
+      .sequence(UnsignedInteger.valueOf(sequence))
+      .destination(Address.of("rEqrVunkmDhWNGHELTzQmn4mX7LKvdomfq"))
+      .amount(XrpCurrencyAmount.ofDrops(12345))
+      .signingPublicKey("030D58EB48B4420B1F7B9DF55087E0E29FEF0E8468F9A6825B01CA2C361042D435")
+      .build();
+  }
+
+  private static LedgerIndex ledgerIndex(int ledgerIndex) {
+    return LedgerIndex.of(UnsignedInteger.valueOf(ledgerIndex));
+  }
+
+  private ObjectNode metadataJson(int sequence, int ledgerIndex) {
+    ObjectNode meta = objectMapper.createObjectNode();
+    meta.put("TransactionIndex", 0);
+    meta.put("TransactionResult", "tesSUCCESS");
+    meta.put("DeliveredAmount", "12345");
+    ObjectNode modifiedNode = meta.putArray("AffectedNodes").addObject().putObject("ModifiedNode");
+    modifiedNode.put("LedgerEntryType", "AccountRoot");
+    modifiedNode.put("LedgerIndex", "13F1A95D7AAB7108D5CE7EEAF504B2894B8C674E6D68499076441C4837282BF8");
+    modifiedNode.put("PreviousTxnID", "A1A5C0A0F4A9E0B1D4C2B5C1F3B0E9A8D7C6B5A4F3E2D1C0B9A8F7E6D5C4B3A2");
+    modifiedNode.put("PreviousTxnLgrSeq", ledgerIndex - 1);
+    ObjectNode finalFields = modifiedNode.putObject("FinalFields");
+    finalFields.put("Account", "rU6K7V3Po4snVhBBaU29sesqs2qTQJWDw1");
+    finalFields.put("Balance", "99987645");
+    finalFields.put("Flags", 0);
+    finalFields.put("OwnerCount", 0);
+    finalFields.put("Sequence", sequence + 1);
+    ObjectNode previousFields = modifiedNode.putObject("PreviousFields");
+    previousFields.put("Balance", "100000000");
+    previousFields.put("Sequence", sequence);
+    return meta;
+  }
+
+}
@@ -0,0 +1,121 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
+import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
+import org.xrpl.xrpl4j.codec.binary.definitions.FieldInfo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Loads the benchmark inputs from codec-fixtures.json and data-driven-tests.json, the fixtures that the binary codec
+ * is tested against, so that the benchmarks run on real transactions and ledger entries.
+ */
+final class BenchmarkFixtures {
+
+  /**
+   * The name of the fixture set of transactions, which is the transaction in codec-fixtures.json and the whole objects
+   * in data-driven-tests.json.
+   */
+  static final String TRANSACTIONS = "transactions";
+
+  /**
+   * The name of the fixture set of ledger entries, which are the {@code accountState} objects in codec-fixtures.json.
+   */
+  static final String LEDGER_ENTRIES = "ledgerEntries";
+
+  private static final ObjectMapper objectMapper = BinaryCodecObjectMapperFactory.getObjectMapper();
+
+  private static final DefinitionsService definitionsService = DefinitionsService.getInstance();
+
+  private BenchmarkFixtures() {
+  }
+
+  /**
+   * Get the JSON objects of a fixture set.
+   *
+   * @param fixtureSet Either {@link #TRANSACTIONS} or {@link #LEDGER_ENTRIES}.
+   *
+   * @return A {@link List} of {@link JsonNode}s.
+   */
+  static List<JsonNode> objects(final String fixtureSet) {
+    Objects.requireNonNull(fixtureSet);
+    List<JsonNode> objects = new ArrayList<>();
+    JsonNode codecFixtures = read("/codec-fixtures.json");
+    switch (fixtureSet) {
+      case TRANSACTIONS: {
+        codecFixtures.get("transactions").forEach(fixture -> objects.add(fixture.get("json")));
+        read("/data-driven-tests.json").get("whole_objects").forEach(fixture -> objects.add(fixture.get("tx_json")));
+        break;
+      }
+      case LEDGER_ENTRIES: {
+        codecFixtures.get("accountState").forEach(fixture -> objects.add(fixture.get("json")));
+        break;
+      }
+      default: {
+        throw new IllegalArgumentException("Unknown fixture set: " + fixtureSet);
+      }
+    }
+    return Collections.unmodifiableList(objects);
+  }
+
+  /**
+   * Get the values of every field of type {@code typeName} in the transactions and ledger entries, as well as the
+   * values of that type in the {@code values_tests} of data-driven-tests.json. For {@code STObject}, these are the
+   * transactions and ledger entries themselves.
+   *
+   * @param typeName The name of a serialized type, as it appears in definitions.json.
+   *
+   * @return A {@link List} of {@link JsonNode}s.
+   */
+  static List<JsonNode> values(final String typeName) {
+    Objects.requireNonNull(typeName);
+    List<JsonNode> objects = new ArrayList<>(objects(TRANSACTIONS));
+    objects.addAll(objects(LEDGER_ENTRIES));
+    if (typeName.equals("STObject")) {
+      return Collections.unmodifiableList(objects);
+    }
+
+    List<JsonNode> values = new ArrayList<>();
+    objects.forEach(object -> fieldsOfType(object, typeName).forEach(values::add));
+    read("/data-driven-tests.json").get("values_tests").forEach(test -> {
+      if (test.get("type").asText().equals(typeName) && !test.has("error")) {
+        values.add(test.get("test_json"));
+      }
+    });
+    if (values.isEmpty()) {
+      throw new IllegalArgumentException("No fixtures have values of type " + typeName);
+    }
+    return Collections.unmodifiableList(values);
+  }
+
+  private static Stream<JsonNode> fieldsOfType(final JsonNode object, final String typeName) {
+    Iterable<Map.Entry<String, JsonNode>> fields = object::fields;
+    return StreamSupport.stream(fields.spliterator(), false)
+      .filter(field -> definitionsService.getFieldInfo(field.getKey())
+        .map(FieldInfo::type)
+        .filter(typeName::equals)
+        .isPresent())
+      .map(Map.Entry::getValue);
+  }
+
+  private static JsonNode read(final String resource) {
+    try (InputStream inputStream = BenchmarkFixtures.class.getResourceAsStream(resource)) {
+      Objects.requireNonNull(inputStream, () -> "Missing fixture resource " + resource);
+      return objectMapper.readTree(inputStream);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+}
@@ -0,0 +1,34 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The entry point of benchmarks.jar. Runs the benchmarks selected by the JMH command line options in {@code args},
+ * always with the GC profiler, so that every result reports the bytes allocated per operation
+ * ({@code gc.alloc.rate.norm}) alongside operations per second.
+ */
+public class BenchmarkRunner {
+
+  /**
+   * Run the benchmarks.
+   *
+   * @param args JMH command line options, for example a regular expression that selects benchmarks by name.
+   *
+   * @throws CommandLineOptionException if {@code args} are not valid JMH options.
+   * @throws RunnerException            if a benchmark fails.
+   */
+  public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+    Options options = new OptionsBuilder()
+      .parent(new CommandLineOptions(args))
+      .addProfiler(GCProfiler.class)
+      .build();
+    new Runner(options).run();
+  }
+
+}
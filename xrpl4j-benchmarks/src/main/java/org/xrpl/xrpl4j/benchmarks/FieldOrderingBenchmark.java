@@ -0,0 +1,115 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
+import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares two ways of putting the fields of a transaction or ledger entry in canonical order before encoding it.
+ *
+ * <p>{@code sortFieldNames} looks up each member of the object and sorts them on a primitive key, as
+ * {@link org.xrpl.xrpl4j.codec.binary.types.STObjectType} does. {@code walkDefinitionsPlan} walks every serialized field
+ * in the definitions, already in canonical order, and looks each one up in the object. Only the ordering is measured;
+ * no values are encoded.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FieldOrderingBenchmark {
+
+  private static final DefinitionsService definitionsService = DefinitionsService.getInstance();
+
+  /**
+   * The name of the fixture set to order. JMH sets this, and runs every benchmark for each value.
+   */
+  @Param({BenchmarkFixtures.TRANSACTIONS, BenchmarkFixtures.LEDGER_ENTRIES})
+  public String fixtureSet;
+
+  private List<JsonNode> objects;
+
+  private FieldInstance[] plan;
+
+  /**
+   * Load the fixture set and sort the serialized fields of the definitions.
+   */
+  @Setup
+  public void setUp() {
+    objects = BenchmarkFixtures.objects(fixtureSet);
+    plan = definitionsService.getFieldInstances().stream()
+      .filter(FieldInstance::isSerialized)
+      .sorted()
+      .toArray(FieldInstance[]::new);
+  }
+
+  /**
+   * Benchmark ordering the members of each object with a primitive sort.
+   *
+   * @param blackhole A {@link Blackhole} to consume the results.
+   */
+  @Benchmark
+  public void sortFieldNames(final Blackhole blackhole) {
+    for (JsonNode object : objects) {
+      FieldInstance[] fields = new FieldInstance[object.size()];
+      long[] sortKeys = new long[object.size()];
+      int count = 0;
+      Iterator<String> fieldNames = object.fieldNames();
+      while (fieldNames.hasNext()) {
+        Optional<FieldInstance> field = definitionsService.getFieldInstance(fieldNames.next())
+          .filter(FieldInstance::isSerialized);
+        if (field.isPresent()) {
+          sortKeys[count] = ((long) field.get().ordinal() << 32) | count;
+          fields[count++] = field.get();
+        }
+      }
+      Arrays.sort(sortKeys, 0, count);
+      for (int i = 0; i < count; i++) {
+        FieldInstance field = fields[(int) sortKeys[i]];
+        blackhole.consume(object.get(field.name()));
+      }
+    }
+  }
+
+  /**
+   * Benchmark ordering the members of each object by walking every serialized field in the definitions.
+   *
+   * @param blackhole A {@link Blackhole} to consume the results.
+   */
+  @Benchmark
+  public void walkDefinitionsPlan(final Blackhole blackhole) {
+    for (JsonNode object : objects) {
+      int remaining = object.size();
+      for (FieldInstance field : plan) {
+        JsonNode value = object.get(field.name());
+        if (value == null) {
+          continue;
+        }
+        blackhole.consume(value);
+        if (--remaining == 0) {
+          break;
+        }
+      }
+    }
+  }
+
+}
@@ -0,0 +1,110 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
+import org.xrpl.xrpl4j.codec.binary.types.SerializedType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks individual {@link SerializedType}s on the values of that type found in the codec fixtures.
+ *
+ * <p>Each operation converts every value of the type once, so scores are comparable between runs of the same type
+ * but not between types.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SerializedTypeBenchmark {
+
+  /**
+   * The name of the type to benchmark, as it appears in definitions.json. JMH sets this, and runs every benchmark for
+   * each value.
+   */
+  @Param({"Amount", "STObject", "STArray", "PathSet"})
+  public String typeName;
+
+  private SerializedType<?> type;
+
+  private List<JsonNode> values;
+
+  private List<byte[]> binaries;
+
+  private List<SerializedType<?>> parsed;
+
+  /**
+   * Load the values of the type and encode them, so that the parse and JSON benchmarks have binary and parsed values
+   * to work with.
+   *
+   * @throws JsonProcessingException if a value cannot be encoded.
+   */
+  @Setup
+  public void setUp() throws JsonProcessingException {
+    type = SerializedType.getTypeByName(typeName);
+    values = BenchmarkFixtures.values(typeName);
+    binaries = new ArrayList<>();
+    parsed = new ArrayList<>();
+    for (JsonNode value : values) {
+      SerializedType<?> encoded = type.fromJson(value);
+      binaries.add(encoded.toBytes());
+      parsed.add(encoded);
+    }
+  }
+
+  /**
+   * Benchmark {@link SerializedType#fromJson(JsonNode)}, which encodes JSON to binary.
+   *
+   * @param blackhole A {@link Blackhole} to consume the results.
+   *
+   * @throws JsonProcessingException if a value cannot be encoded.
+   */
+  @Benchmark
+  public void fromJson(final Blackhole blackhole) throws JsonProcessingException {
+    for (JsonNode value : values) {
+      blackhole.consume(type.fromJson(value));
+    }
+  }
+
+  /**
+   * Benchmark {@link SerializedType#fromParser(BinaryParser)}, which reads a value from binary.
+   *
+   * @param blackhole A {@link Blackhole} to consume the results.
+   */
+  @Benchmark
+  public void fromParser(final Blackhole blackhole) {
+    for (byte[] binary : binaries) {
+      blackhole.consume(type.fromParser(new BinaryParser(binary)));
+    }
+  }
+
+  /**
+   * Benchmark {@link SerializedType#toJson()}, which decodes a value to JSON.
+   *
+   * @param blackhole A {@link Blackhole} to consume the results.
+   */
+  @Benchmark
+  public void toJson(final Blackhole blackhole) {
+    for (SerializedType<?> value : parsed) {
+      blackhole.consume(value.toJson());
+    }
+  }
+
+}
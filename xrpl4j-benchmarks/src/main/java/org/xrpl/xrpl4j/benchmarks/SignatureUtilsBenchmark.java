@@ -0,0 +1,111 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.UnsignedInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.crypto.signing.SignatureUtils;
+import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.IssuedCurrencyAmount;
+import org.xrpl.xrpl4j.model.transactions.OfferCreate;
+import org.xrpl.xrpl4j.model.transactions.Payment;
+import org.xrpl.xrpl4j.model.transactions.Transaction;
+import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link SignatureUtils#toSignableBytes(Transaction)}, which encodes a transaction from the
+ * {@link com.fasterxml.jackson.databind.JsonNode} tree the {@link ObjectMapper} serializes it to, against writing the
+ * transaction as JSON text and encoding that text, as {@link SignatureUtils} used to.
+ *
+ * <p>Each operation encodes every transaction once.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SignatureUtilsBenchmark {
+
+  private static final Address ACCOUNT = Address.of("rHb9CJAWyB4rj91VRWn96DkukG4bwdtyTh");
+  private static final Address DESTINATION = Address.of("rPT1Sjq2YGrBMTttX4GZHjKu9dyfzbpAYe");
+  private static final String SIGNING_PUBLIC_KEY =
+    "ED5F5AC8B98974A3CA843326D9B88CEBD0560177B973EE0B149F782CFAA06DC66A";
+
+  private final ObjectMapper objectMapper = ObjectMapperFactory.create();
+
+  private final XrplBinaryCodec binaryCodec = new XrplBinaryCodec();
+
+  private final SignatureUtils signatureUtils = new SignatureUtils(objectMapper, binaryCodec);
+
+  private final List<Transaction> transactions = ImmutableList.of(
+    Payment.builder()
+      .account(ACCOUNT)
+      .fee(XrpCurrencyAmount.ofDrops(12))
+      .sequence(UnsignedInteger.valueOf(42))
+      .destination(DESTINATION)
+      .amount(XrpCurrencyAmount.ofDrops(1000000))
+      .signingPublicKey(SIGNING_PUBLIC_KEY)
+      .build(),
+    Payment.builder()
+      .account(ACCOUNT)
+      .fee(XrpCurrencyAmount.ofDrops(12))
+      .sequence(UnsignedInteger.valueOf(43))
+      .destination(DESTINATION)
+      .destinationTag(UnsignedInteger.valueOf(7))
+      .amount(IssuedCurrencyAmount.builder().currency("USD").issuer(DESTINATION).value("12.5").build())
+      .signingPublicKey(SIGNING_PUBLIC_KEY)
+      .build(),
+    OfferCreate.builder()
+      .account(ACCOUNT)
+      .fee(XrpCurrencyAmount.ofDrops(12))
+      .sequence(UnsignedInteger.valueOf(44))
+      .takerGets(XrpCurrencyAmount.ofDrops(5000000))
+      .takerPays(IssuedCurrencyAmount.builder().currency("USD").issuer(DESTINATION).value("2.25").build())
+      .signingPublicKey(SIGNING_PUBLIC_KEY)
+      .build()
+  );
+
+  /**
+   * Benchmark {@link SignatureUtils#toSignableBytes(Transaction)}.
+   *
+   * @param blackhole A {@link Blackhole} to consume the results.
+   */
+  @Benchmark
+  public void toSignableBytes(final Blackhole blackhole) {
+    for (Transaction transaction : transactions) {
+      blackhole.consume(signatureUtils.toSignableBytes(transaction));
+    }
+  }
+
+  /**
+   * Benchmark writing each transaction as JSON text and encoding the text with
+   * {@link XrplBinaryCodec#encodeForSigningToBytes(String)}.
+   *
+   * @param blackhole A {@link Blackhole} to consume the results.
+   *
+   * @throws JsonProcessingException if a transaction cannot be written or encoded.
+   */
+  @Benchmark
+  public void toSignableBytesFromJsonText(final Blackhole blackhole) throws JsonProcessingException {
+    for (Transaction transaction : transactions) {
+      blackhole.consume(binaryCodec.encodeForSigningToBytes(objectMapper.writeValueAsString(transaction)));
+    }
+  }
+
+}
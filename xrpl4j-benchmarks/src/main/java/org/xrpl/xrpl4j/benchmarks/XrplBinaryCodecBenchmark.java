@@ -0,0 +1,122 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the string API of {@link XrplBinaryCodec} on the transactions and ledger entries of the codec fixtures.
+ *
+ * <p>Each operation encodes or decodes every object in the fixture set once, so scores are comparable between runs
+ * of the same fixture set but not between fixture sets.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class XrplBinaryCodecBenchmark {
+
+  // An arbitrary account to multi-sign with.
+  private static final String SIGNER_ADDRESS = "rHb9CJAWyB4rj91VRWn96DkukG4bwdtyTh";
+
+  private final XrplBinaryCodec binaryCodec = new XrplBinaryCodec();
+
+  /**
+   * The name of the fixture set to encode and decode. JMH sets this, and runs every benchmark for each value.
+   */
+  @Param({BenchmarkFixtures.TRANSACTIONS, BenchmarkFixtures.LEDGER_ENTRIES})
+  public String fixtureSet;
+
+  private List<String> jsons;
+
+  private List<String> hexes;
+
+  /**
+   * Load the fixture set and encode it, so that the decode benchmark has binary to decode.
+   *
+   * @throws JsonProcessingException if a fixture cannot be encoded.
+   */
+  @Setup
+  public void setUp() throws JsonProcessingException {
+    jsons = new ArrayList<>();
+    hexes = new ArrayList<>();
+    for (JsonNode object : BenchmarkFixtures.objects(fixtureSet)) {
+      String json = object.toString();
+      jsons.add(json);
+      hexes.add(binaryCodec.encode(json));
+    }
+  }
+
+  /**
+   * Benchmark {@link XrplBinaryCodec#encode(String)}.
+   *
+   * @param blackhole A {@link Blackhole} to consume the results.
+   *
+   * @throws JsonProcessingException if a fixture cannot be encoded.
+   */
+  @Benchmark
+  public void encode(final Blackhole blackhole) throws JsonProcessingException {
+    for (String json : jsons) {
+      blackhole.consume(binaryCodec.encode(json));
+    }
+  }
+
+  /**
+   * Benchmark {@link XrplBinaryCodec#encodeForSigning(String)}.
+   *
+   * @param blackhole A {@link Blackhole} to consume the results.
+   *
+   * @throws JsonProcessingException if a fixture cannot be encoded.
+   */
+  @Benchmark
+  public void encodeForSigning(final Blackhole blackhole) throws JsonProcessingException {
+    for (String json : jsons) {
+      blackhole.consume(binaryCodec.encodeForSigning(json));
+    }
+  }
+
+  /**
+   * Benchmark {@link XrplBinaryCodec#encodeForMultiSigning(String, String)}.
+   *
+   * @param blackhole A {@link Blackhole} to consume the results.
+   *
+   * @throws JsonProcessingException if a fixture cannot be encoded.
+   */
+  @Benchmark
+  public void encodeForMultiSigning(final Blackhole blackhole) throws JsonProcessingException {
+    for (String json : jsons) {
+      blackhole.consume(binaryCodec.encodeForMultiSigning(json, SIGNER_ADDRESS));
+    }
+  }
+
+  /**
+   * Benchmark {@link XrplBinaryCodec#decode(String)}.
+   *
+   * @param blackhole A {@link Blackhole} to consume the results.
+   */
+  @Benchmark
+  public void decode(final Blackhole blackhole) {
+    for (String hex : hexes) {
+      blackhole.consume(binaryCodec.decode(hex));
+    }
+  }
+
+}
@@ -0,0 +1,84 @@
+package org.xrpl.xrpl4j.codec.binary;
+
+import com.google.common.base.Preconditions;
+import org.immutables.value.Value;
+import org.immutables.value.Value.Immutable;
+
+import java.util.Optional;
+
+/**
+ * The result of decoding one item of a batch with {@link XrplBinaryBatchDecoder}. Exactly one of {@link #json()} and
+ * {@link #error()} is present.
+ */
+@Immutable
+public interface BatchDecodeResult {
+
+  static ImmutableBatchDecodeResult.Builder builder() {
+    return ImmutableBatchDecodeResult.builder();
+  }
+
+  /**
+   * Construct a {@link BatchDecodeResult} for an item that was decoded.
+   *
+   * @param index The position of the item in the batch.
+   * @param json  The decoded JSON.
+   *
+   * @return A successful {@link BatchDecodeResult}.
+   */
+  static BatchDecodeResult success(int index, String json) {
+    return builder().index(index).json(json).build();
+  }
+
+  /**
+   * Construct a {@link BatchDecodeResult} for an item that could not be decoded.
+   *
+   * @param index The position of the item in the batch.
+   * @param error The {@link Throwable} thrown while decoding the item.
+   *
+   * @return A failed {@link BatchDecodeResult}.
+   */
+  static BatchDecodeResult failure(int index, Throwable error) {
+    return builder().index(index).error(error).build();
+  }
+
+  /**
+   * The position of the decoded item in the batch, starting at 0.
+   *
+   * @return An int.
+   */
+  int index();
+
+  /**
+   * The decoded JSON, if the item was decoded.
+   *
+   * @return An optionally-present {@link String} containing a JSON object.
+   */
+  Optional<String> json();
+
+  /**
+   * What was thrown while decoding the item, if it could not be decoded.
+   *
+   * @return An optionally-present {@link Throwable}.
+   */
+  Optional<Throwable> error();
+
+  /**
+   * Whether the item was decoded.
+   *
+   * @return {@code true} if {@link #json()} is present, otherwise {@code false}.
+   */
+  @Value.Derived
+  default boolean isSuccess() {
+    return json().isPresent();
+  }
+
+  /**
+   * Validate fields.
+   */
+  @Value.Check
+  default void check() {
+    Preconditions.checkState(json().isPresent() != error().isPresent(),
+      "Exactly one of json and error must be present.");
+  }
+
+}
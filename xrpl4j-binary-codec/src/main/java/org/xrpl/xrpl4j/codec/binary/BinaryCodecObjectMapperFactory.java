@@ -10,9 +10,13 @@ import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.datatype.guava.GuavaModule;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 
+/**
+ * Factory for the {@link ObjectMapper} used by the binary codec. The mapper is configured once when this class is
+ * loaded and never reconfigured, so it is safe to share between threads.
+ */
 public class BinaryCodecObjectMapperFactory {
 
-  private static ObjectMapper objectMapper = JsonMapper.builder()
+  private static final ObjectMapper objectMapper = JsonMapper.builder()
     .addModule(new Jdk8Module())
     .addModule(new GuavaModule())
     .configure(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN, true)
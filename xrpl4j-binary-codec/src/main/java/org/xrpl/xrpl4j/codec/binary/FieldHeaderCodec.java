@@ -1,26 +1,28 @@
 package org.xrpl.xrpl4j.codec.binary;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
 import org.xrpl.xrpl4j.codec.addresses.ByteUtils;
+import org.xrpl.xrpl4j.codec.addresses.Hex;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
 import org.xrpl.xrpl4j.codec.binary.definitions.Definitions;
 import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsProvider;
 import org.xrpl.xrpl4j.codec.binary.definitions.FieldInfo;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * A codec for instances of {@link FieldHeader}.
+ *
+ * <p>Instances are immutable once constructed, so the JVM-wide instance returned by {@link #getInstance()} may be
+ * used from any number of threads without synchronization.</p>
  */
 public class FieldHeaderCodec {
 
-  private static final FieldHeaderCodec INSTANCE = new FieldHeaderCodec(DefinitionsProvider.getInstance().get(),
-    BinaryCodecObjectMapperFactory.getObjectMapper());
+  private static final FieldHeaderCodec INSTANCE = new FieldHeaderCodec(DefinitionsProvider.getInstance().get());
 
   private final Definitions definitions;
 
@@ -34,26 +36,35 @@ public class FieldHeaderCodec {
    * Required-args Constructor.
    *
    * @param definitions A {@link Definitions}.
-   * @param mapper      An {@link ObjectMapper}.
    */
-  public FieldHeaderCodec(Definitions definitions, ObjectMapper mapper) {
+  public FieldHeaderCodec(Definitions definitions) {
     this.definitions = definitions;
-    this.fieldMetadataMap = new HashMap<>();
-    this.fieldIdNameMap = new HashMap<>();
-    this.typeOrdinalMap = definitions.types();
-    this.definitions.fields().forEach(field -> {
-      try {
-        String fieldName = field.get(0).textValue();
-        FieldInfo metadata = mapper.readValue(field.get(1).toString(), FieldInfo.class);
-        FieldHeader fieldHeader = FieldHeader.builder().fieldCode(metadata.nth())
-          .typeCode(typeOrdinalMap.get(metadata.type()))
-          .build();
-        fieldMetadataMap.put(fieldName, metadata);
-        fieldIdNameMap.put(fieldHeader, fieldName);
-      } catch (JsonProcessingException e) {
-        throw new IllegalArgumentException("invalid json", e);
-      }
+    Map<String, FieldInfo> tempFieldMetadataMap = new HashMap<>();
+    Map<FieldHeader, String> tempFieldIdNameMap = new HashMap<>();
+    this.typeOrdinalMap = ImmutableMap.copyOf(definitions.types());
+    this.definitions.fieldInfos().forEach((fieldName, metadata) -> {
+      FieldHeader fieldHeader = FieldHeader.builder().fieldCode(metadata.nth())
+        .typeCode(typeOrdinalMap.get(metadata.type()))
+        .build();
+      tempFieldMetadataMap.put(fieldName, metadata);
+      tempFieldIdNameMap.put(fieldHeader, fieldName);
     });
+    this.fieldMetadataMap = ImmutableMap.copyOf(tempFieldMetadataMap);
+    this.fieldIdNameMap = ImmutableMap.copyOf(tempFieldIdNameMap);
+  }
+
+  /**
+   * Constructor for callers that still pass an {@link ObjectMapper}, which is no longer needed since
+   * {@link Definitions#fieldInfos()} holds parsed {@link FieldInfo}s.
+   *
+   * @param definitions A {@link Definitions}.
+   * @param mapper      An {@link ObjectMapper}, which is ignored.
+   *
+   * @deprecated Use {@link #FieldHeaderCodec(Definitions)}.
+   */
+  @Deprecated
+  public FieldHeaderCodec(Definitions definitions, ObjectMapper mapper) {
+    this(definitions);
   }
 
   public static FieldHeaderCodec getInstance() {
@@ -65,31 +76,38 @@ public class FieldHeaderCodec {
   }
 
   protected String encode(FieldHeader fieldHeader) {
-    List<UnsignedByte> segments = new ArrayList<>();
+    return Hex.encode(encodeToBytes(fieldHeader));
+  }
+
+  /**
+   * Encodes a {@link FieldHeader} to the one, two or three bytes that precede a field's value in canonical XRPL binary.
+   *
+   * @param fieldHeader A {@link FieldHeader} to encode.
+   *
+   * @return A byte array containing the encoded field header.
+   */
+  public byte[] encodeToBytes(FieldHeader fieldHeader) {
     int typeCode = fieldHeader.typeCode();
     int fieldCode = fieldHeader.fieldCode();
+    Preconditions.checkArgument(typeCode >= 0 && typeCode <= 255, "typeCode out of range: " + typeCode);
+    Preconditions.checkArgument(fieldCode >= 0 && fieldCode <= 255, "fieldCode out of range: " + fieldCode);
     if (typeCode < 16) {
       if (fieldCode < 16) {
         // single byte case where high bits contain type code, low bits contain field code
-        segments.add(UnsignedByte.of((byte) typeCode, (byte) fieldCode));
+        return new byte[] {(byte) (typeCode << 4 | fieldCode)};
       } else {
         // 2 byte case where first byte contains type code + filler, second byte contains field code
-        segments.add(UnsignedByte.of((byte) typeCode, (byte) 0));
-        segments.add(UnsignedByte.of(fieldCode));
+        return new byte[] {(byte) (typeCode << 4), (byte) fieldCode};
       }
     } else {
       if (fieldCode < 16) {
         // 2 byte case where first byte contains filler+field code, second byte contains typeCode
-        segments.add(UnsignedByte.of((byte) 0, (byte) fieldCode));
-        segments.add(UnsignedByte.of(typeCode));
+        return new byte[] {(byte) fieldCode, (byte) typeCode};
       } else {
         // 3 byte case where first byte is filler, 2nd byte is type code, third byte is field code
-        segments.add(UnsignedByte.of((byte) 0));
-        segments.add(UnsignedByte.of(typeCode));
-        segments.add(UnsignedByte.of(fieldCode));
+        return new byte[] {0, (byte) typeCode, (byte) fieldCode};
       }
     }
-    return ByteUtils.toHex(segments);
   }
 
   public String decode(String hex) {
@@ -0,0 +1,116 @@
+package org.xrpl.xrpl4j.codec.binary;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Decodes batches of canonical XRPL binary hex strings, such as the {@code tx_blob} and {@code meta} values of every
+ * transaction in a ledger, in parallel.
+ *
+ * <p>Items are split into a few chunks per available processor and each chunk is decoded on the configured
+ * {@link Executor}. Results are returned in input order, and an item that cannot be decoded is reported as a failed
+ * {@link BatchDecodeResult} rather than stopping the rest of the batch.</p>
+ *
+ * <p>This class is thread-safe, so one instance may decode several batches at the same time.</p>
+ */
+public class XrplBinaryBatchDecoder {
+
+  private static final int CHUNKS_PER_PROCESSOR = 4;
+
+  private final XrplBinaryCodec codec;
+
+  private final Executor executor;
+
+  /**
+   * Construct an {@link XrplBinaryBatchDecoder} that decodes on {@link ForkJoinPool#commonPool()}.
+   *
+   * @param codec The {@link XrplBinaryCodec} used to decode each item.
+   */
+  public XrplBinaryBatchDecoder(final XrplBinaryCodec codec) {
+    this(codec, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Construct an {@link XrplBinaryBatchDecoder} that decodes on {@code executor}.
+   *
+   * @param codec    The {@link XrplBinaryCodec} used to decode each item.
+   * @param executor The {@link Executor} to decode on, for example a dedicated {@link ForkJoinPool}.
+   */
+  public XrplBinaryBatchDecoder(final XrplBinaryCodec codec, final Executor executor) {
+    this.codec = Objects.requireNonNull(codec);
+    this.executor = Objects.requireNonNull(executor);
+  }
+
+  /**
+   * Decode every hex string in {@code hexBlobs} to JSON, blocking until the whole batch has been decoded.
+   *
+   * @param hexBlobs A {@link Collection} of canonical XRPL binary hex strings.
+   *
+   * @return A {@link List} with one {@link BatchDecodeResult} per item of {@code hexBlobs}, in iteration order.
+   */
+  public List<BatchDecodeResult> decode(final Collection<String> hexBlobs) {
+    Objects.requireNonNull(hexBlobs);
+    final List<String> items = new ArrayList<>(hexBlobs);
+    final BatchDecodeResult[] results = new BatchDecodeResult[items.size()];
+    if (items.isEmpty()) {
+      return ImmutableList.of();
+    }
+
+    int chunks = Runtime.getRuntime().availableProcessors() * CHUNKS_PER_PROCESSOR;
+    int chunkSize = Math.max(1, (items.size() + chunks - 1) / chunks);
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    for (int start = 0; start < items.size(); start += chunkSize) {
+      final int from = start;
+      final int to = Math.min(items.size(), start + chunkSize);
+      futures.add(CompletableFuture.runAsync(() -> decodeRange(items, results, from, to), executor));
+    }
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    return ImmutableList.copyOf(Arrays.asList(results));
+  }
+
+  /**
+   * Decode every hex string in {@code hexBlobs} to JSON, blocking until the whole batch has been decoded. The stream is
+   * consumed before decoding starts.
+   *
+   * @param hexBlobs A {@link Stream} of canonical XRPL binary hex strings.
+   *
+   * @return A {@link List} with one {@link BatchDecodeResult} per item of {@code hexBlobs}, in encounter order.
+   */
+  public List<BatchDecodeResult> decode(final Stream<String> hexBlobs) {
+    Objects.requireNonNull(hexBlobs);
+    return decode(hexBlobs.collect(Collectors.toList()));
+  }
+
+  private void decodeRange(
+    final List<String> items,
+    final BatchDecodeResult[] results,
+    final int from,
+    final int to
+  ) {
+    for (int index = from; index < to; index++) {
+      results[index] = decodeItem(index, items.get(index));
+    }
+  }
+
+  private BatchDecodeResult decodeItem(final int index, final String hex) {
+    try {
+      return BatchDecodeResult.success(index, codec.decode(hex));
+    } catch (VirtualMachineError e) {
+      throw e;
+    } catch (RuntimeException | Error e) {
+      // Some malformed input is reported by the codec with an Error rather than an exception.
+      return BatchDecodeResult.failure(index, e);
+    }
+  }
+
+}
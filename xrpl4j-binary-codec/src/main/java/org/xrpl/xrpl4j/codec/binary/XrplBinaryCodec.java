@@ -1,5 +1,7 @@
 package org.xrpl.xrpl4j.codec.binary;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -10,16 +12,33 @@ import com.google.common.primitives.UnsignedLong;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
 import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
+import org.xrpl.xrpl4j.codec.binary.hash.HashPrefix;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinaryJsonDecoder;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
+import org.xrpl.xrpl4j.codec.binary.serdes.BytesSink;
+import org.xrpl.xrpl4j.codec.binary.serdes.EncodingContext;
 import org.xrpl.xrpl4j.codec.binary.types.AccountIdType;
 import org.xrpl.xrpl4j.codec.binary.types.STObjectType;
 import org.xrpl.xrpl4j.codec.binary.types.UInt64Type;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * Encodes JSON to canonical XRPL binary and decodes canonical XRPL binary to JSON.
+ *
+ * <p>This class holds no mutable state, so a single instance may be shared between threads. To decode many values
+ * in parallel, see {@link XrplBinaryBatchDecoder}.</p>
+ */
 public class XrplBinaryCodec {
 
   public static final String TRX_SIGNATURE_PREFIX = "53545800";
@@ -32,6 +51,7 @@ public class XrplBinaryCodec {
 
   private static final DefinitionsService definitionsService = DefinitionsService.getInstance();
   private static final ObjectMapper objectMapper = BinaryCodecObjectMapperFactory.getObjectMapper();
+  private static final BinaryJsonDecoder jsonDecoder = new BinaryJsonDecoder();
 
   /**
    * Encodes JSON to canonical XRPL binary as a hex string.
@@ -42,24 +62,80 @@ public class XrplBinaryCodec {
    * @throws JsonProcessingException if {@code json} is not valid JSON.
    */
   public String encode(String json) throws JsonProcessingException {
-    Objects.requireNonNull(json);
-    JsonNode node = BinaryCodecObjectMapperFactory.getObjectMapper().readTree(json);
-    return encode(node);
+    return encodeToBytes(json).hexValue();
   }
 
   /**
-   * Encodes JSON to canonical XRPL binary as a hex string.
+   * Encodes JSON to canonical XRPL binary, writing the result to {@code outputStream}. The stream is not flushed or
+   * closed.
    *
-   * @param jsonNode A {@link JsonNode} containing JSON to be encoded.
+   * @param json         A {@link String} containing JSON to be encoded.
+   * @param outputStream The {@link OutputStream} to write the binary representation of {@code json} to.
+   *
+   * @throws IOException if {@code json} is not valid JSON or the bytes cannot be written.
+   */
+  public void encode(String json, OutputStream outputStream) throws IOException {
+    Objects.requireNonNull(outputStream);
+    encodeToBytes(json).writeTo(outputStream);
+  }
+
+  /**
+   * Encodes JSON to canonical XRPL binary, writing the result to {@code channel}. The channel is not closed.
+   *
+   * @param json    A {@link String} containing JSON to be encoded.
+   * @param channel The {@link WritableByteChannel} to write the binary representation of {@code json} to.
    *
-   * @return A {@link String} containing the hex-encoded representation of {@code jsonNode}.
-   * @throws JsonProcessingException if {@code jsonNode} is not valid JSON.
+   * @throws IOException if {@code json} is not valid JSON or the bytes cannot be written.
+   */
+  public void encode(String json, WritableByteChannel channel) throws IOException {
+    Objects.requireNonNull(channel);
+    ByteBuffer buffer = encodeToBytes(json).asByteBuffer();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  /**
+   * Encodes a JSON object to canonical XRPL binary, writing the bytes to {@code sink} as they are produced. Use
+   * {@link BytesSink#of(java.security.MessageDigest)} to hash the encoding without collecting it first. Only the value
+   * of each length prefixed field, such as a public key or memo, is collected before it is written, because its length
+   * has to be written in front of it.
+   *
+   * @param jsonNode A {@link JsonNode} containing JSON to be encoded.
+   * @param sink     A {@link BytesSink} to write the encoded bytes to.
    */
-  private String encode(final JsonNode jsonNode) {
+  public void encode(final JsonNode jsonNode, final BytesSink sink) {
     Objects.requireNonNull(jsonNode);
-    UnsignedByteArray byteList = UnsignedByteArray.empty();
-    new STObjectType().fromJson(jsonNode).toBytesSink(byteList);
-    return byteList.hexValue();
+    Objects.requireNonNull(sink);
+    new STObjectType().encode(jsonNode, sink);
+  }
+
+  /**
+   * Encodes JSON to canonical XRPL binary.
+   *
+   * @param json A {@link String} containing JSON to be encoded.
+   *
+   * @return An {@link UnsignedByteArray} containing the binary representation of {@code json}.
+   * @throws JsonProcessingException if {@code json} is not valid JSON.
+   */
+  public UnsignedByteArray encodeToBytes(String json) throws JsonProcessingException {
+    Objects.requireNonNull(json);
+    return encodeToBytes(BinaryCodecObjectMapperFactory.getObjectMapper().readTree(json));
+  }
+
+  /**
+   * Encodes a JSON object to canonical XRPL binary. Callers that already hold a {@link JsonNode}, for example one built
+   * with {@link ObjectMapper#valueToTree(Object)}, can use this to avoid writing and re-parsing a JSON {@link String}.
+   *
+   * @param jsonNode A {@link JsonNode} containing the JSON object to be encoded.
+   *
+   * @return An {@link UnsignedByteArray} containing the binary representation of {@code jsonNode}.
+   */
+  public UnsignedByteArray encodeToBytes(JsonNode jsonNode) {
+    try (EncodingContext context = EncodingContext.acquire()) {
+      encode(jsonNode, context);
+      return context.toUnsignedByteArray();
+    }
   }
 
   /**
@@ -71,8 +147,50 @@ public class XrplBinaryCodec {
    * @throws JsonProcessingException if JSON is not valid.
    */
   public String encodeForSigning(String json) throws JsonProcessingException {
-    JsonNode node = BinaryCodecObjectMapperFactory.getObjectMapper().readTree(json);
-    return TRX_SIGNATURE_PREFIX + encode(removeNonSigningFields(node));
+    return encodeForSigningToBytes(json).hexValue();
+  }
+
+  /**
+   * Encodes a JSON object to canonical XRPL binary for signing, including the single-signing hash prefix, writing the
+   * bytes to {@code sink} as they are produced. Fields that are not signing fields are left out. {@code jsonNode} is
+   * not modified.
+   *
+   * @param jsonNode A {@link JsonNode} containing the JSON object to be encoded.
+   * @param sink     A {@link BytesSink} to write the bytes to be signed to.
+   */
+  public void encodeForSigning(JsonNode jsonNode, BytesSink sink) {
+    Objects.requireNonNull(jsonNode);
+    Objects.requireNonNull(sink);
+    HashPrefix.TRANSACTION_SIGN.writeTo(sink);
+    encode(removeNonSigningFields(jsonNode), sink);
+  }
+
+  /**
+   * Encodes JSON to canonical XRPL binary for signing, including the single-signing hash prefix.
+   *
+   * @param json String containing JSON to be encoded.
+   *
+   * @return An {@link UnsignedByteArray} containing the bytes to be signed.
+   * @throws JsonProcessingException if JSON is not valid.
+   */
+  public UnsignedByteArray encodeForSigningToBytes(String json) throws JsonProcessingException {
+    return encodeForSigningToBytes(BinaryCodecObjectMapperFactory.getObjectMapper().readTree(json));
+  }
+
+  /**
+   * Encodes a JSON object to canonical XRPL binary for signing, including the single-signing hash prefix. Fields that
+   * are not signing fields are left out. {@code jsonNode} is not modified.
+   *
+   * @param jsonNode A {@link JsonNode} containing the JSON object to be encoded.
+   *
+   * @return An {@link UnsignedByteArray} containing the bytes to be signed.
+   */
+  public UnsignedByteArray encodeForSigningToBytes(JsonNode jsonNode) {
+    Objects.requireNonNull(jsonNode);
+    try (EncodingContext context = EncodingContext.acquire()) {
+      encodeForSigning(jsonNode, context);
+      return context.toUnsignedByteArray();
+    }
   }
 
   /**
@@ -85,14 +203,79 @@ public class XrplBinaryCodec {
    * @throws JsonProcessingException if JSON is not valid.
    */
   public String encodeForMultiSigning(String json, String xrpAccountId) throws JsonProcessingException {
-    JsonNode node = BinaryCodecObjectMapperFactory.getObjectMapper().readTree(json);
-    if (!node.isObject()) {
+    return encodeForMultiSigningToBytes(json, xrpAccountId).hexValue();
+  }
+
+  /**
+   * Encodes a JSON object to canonical XRPL binary for multi-signing, including the multi-signing hash prefix and the
+   * AccountID of the signer as a suffix, writing the bytes to {@code sink} as they are produced. Fields that are not
+   * signing fields are left out. {@code jsonNode} is not modified.
+   *
+   * @param jsonNode     A {@link JsonNode} containing the JSON object to be encoded.
+   * @param xrpAccountId A {@link String} containing the XRPL AccountId.
+   * @param sink         A {@link BytesSink} to write the bytes to be signed to.
+   */
+  public void encodeForMultiSigning(JsonNode jsonNode, String xrpAccountId, BytesSink sink) {
+    Objects.requireNonNull(xrpAccountId);
+    encodeForMultiSigningWithoutSigner(jsonNode, sink);
+    new AccountIdType().fromJson(new TextNode(xrpAccountId)).toBytesSink(sink);
+  }
+
+  /**
+   * Encodes a JSON object to canonical XRPL binary for multi-signing, including the multi-signing hash prefix but not
+   * the AccountID suffix, writing the bytes to {@code sink} as they are produced. These bytes are the same for every
+   * signer, so they can be encoded once and followed by each signer's 20 byte AccountID. {@code jsonNode} is not
+   * modified.
+   *
+   * @param jsonNode A {@link JsonNode} containing the JSON object to be encoded.
+   * @param sink     A {@link BytesSink} to write the bytes shared by every signer to.
+   *
+   * @see org.xrpl.xrpl4j.codec.binary.hash.MultiSigningHashes
+   */
+  public void encodeForMultiSigningWithoutSigner(JsonNode jsonNode, BytesSink sink) {
+    Objects.requireNonNull(jsonNode);
+    Objects.requireNonNull(sink);
+    if (!jsonNode.isObject()) {
       throw new IllegalArgumentException("JSON object required for signing");
     }
+    ObjectNode signingNode = (ObjectNode) removeNonSigningFields(jsonNode);
     // any existing signing keys should not also be signed
-    ((ObjectNode) node).set("SigningPubKey", new TextNode(""));
-    String suffix = new AccountIdType().fromJson(new TextNode(xrpAccountId)).toHex();
-    return TRX_MULTI_SIGNATURE_PREFIX + encode(removeNonSigningFields(node)) + suffix;
+    signingNode.set("SigningPubKey", new TextNode(""));
+    HashPrefix.TRANSACTION_MULTI_SIGN.writeTo(sink);
+    encode(signingNode, sink);
+  }
+
+  /**
+   * Encodes JSON to canonical XRPL binary for multi-signing, including the multi-signing hash prefix and the AccountID
+   * of the signer as a suffix.
+   *
+   * @param json         A {@link String} containing JSON to be encoded.
+   * @param xrpAccountId A {@link String} containing the XRPL AccountId.
+   *
+   * @return An {@link UnsignedByteArray} containing the bytes to be signed.
+   * @throws JsonProcessingException if JSON is not valid.
+   */
+  public UnsignedByteArray encodeForMultiSigningToBytes(String json, String xrpAccountId)
+    throws JsonProcessingException {
+    JsonNode node = BinaryCodecObjectMapperFactory.getObjectMapper().readTree(json);
+    return encodeForMultiSigningToBytes(node, xrpAccountId);
+  }
+
+  /**
+   * Encodes a JSON object to canonical XRPL binary for multi-signing, including the multi-signing hash prefix and the
+   * AccountID of the signer as a suffix. Fields that are not signing fields are left out. {@code jsonNode} is not
+   * modified.
+   *
+   * @param jsonNode     A {@link JsonNode} containing the JSON object to be encoded.
+   * @param xrpAccountId A {@link String} containing the XRPL AccountId.
+   *
+   * @return An {@link UnsignedByteArray} containing the bytes to be signed.
+   */
+  public UnsignedByteArray encodeForMultiSigningToBytes(JsonNode jsonNode, String xrpAccountId) {
+    try (EncodingContext context = EncodingContext.acquire()) {
+      encodeForMultiSigning(jsonNode, xrpAccountId, context);
+      return context.toUnsignedByteArray();
+    }
   }
 
   /**
@@ -132,9 +315,130 @@ public class XrplBinaryCodec {
    * @return A {@link String} representing the decoded hex.
    */
   public String decode(String hex) {
-    return new BinaryParser(hex).readType(STObjectType.class)
-      .toJson()
-      .toString();
+    return decode(new BinaryParser(hex));
+  }
+
+  /**
+   * Decodes canonical XRPL binary to JSON. {@code bytes} is parsed in place, without being copied.
+   *
+   * @param bytes A byte array containing canonical XRPL binary.
+   *
+   * @return A {@link String} representing the decoded bytes.
+   */
+  public String decode(byte[] bytes) {
+    Objects.requireNonNull(bytes);
+    return decode(new BinaryParser(bytes));
+  }
+
+  /**
+   * Decodes the remaining bytes of {@code buffer}, which contain canonical XRPL binary, to JSON. The position of {@code
+   * buffer} is not changed.
+   *
+   * @param buffer A {@link ByteBuffer} containing canonical XRPL binary.
+   *
+   * @return A {@link String} representing the decoded bytes.
+   */
+  public String decode(ByteBuffer buffer) {
+    Objects.requireNonNull(buffer);
+    return decode(new BinaryParser(buffer));
+  }
+
+  /**
+   * Decodes only the named top-level fields of a canonical XRPL binary hex string to JSON. Every other field is skipped
+   * without being decoded, which is much cheaper than {@link #decode(String)} when only a few fields are needed.
+   *
+   * @param hex        A {@link String} value to decode.
+   * @param fieldNames The names of the fields to decode, for example {@code TransactionType} and {@code Account}.
+   *
+   * @return A {@link String} containing a JSON object with those of {@code fieldNames} that are present in {@code hex}.
+   */
+  public String decode(String hex, Set<String> fieldNames) {
+    return decode(new BinaryParser(hex), fieldNames);
+  }
+
+  /**
+   * Decodes only the named top-level fields of canonical XRPL binary to JSON. Every other field is skipped without
+   * being decoded, which is much cheaper than {@link #decode(byte[])} when only a few fields are needed.
+   *
+   * @param bytes      A byte array containing canonical XRPL binary.
+   * @param fieldNames The names of the fields to decode, for example {@code TransactionType} and {@code Account}.
+   *
+   * @return A {@link String} containing a JSON object with those of {@code fieldNames} that are present in {@code
+   *   bytes}.
+   */
+  public String decode(byte[] bytes, Set<String> fieldNames) {
+    Objects.requireNonNull(bytes);
+    return decode(new BinaryParser(bytes), fieldNames);
+  }
+
+  /**
+   * Decodes canonical XRPL binary to JSON, writing the JSON object to {@code generator} as it is decoded. No
+   * intermediate JSON tree is built. The generator is not flushed or closed.
+   *
+   * @param bytes     A byte array containing canonical XRPL binary.
+   * @param generator The {@link JsonGenerator} to write the decoded JSON to.
+   *
+   * @throws IOException if {@code generator} cannot be written to.
+   */
+  public void decode(byte[] bytes, JsonGenerator generator) throws IOException {
+    Objects.requireNonNull(bytes);
+    jsonDecoder.decodeObject(new BinaryParser(bytes), generator);
+  }
+
+  /**
+   * Decodes canonical XRPL binary to JSON, writing the JSON to {@code writer} as it is decoded. The writer is not
+   * closed.
+   *
+   * @param bytes  A byte array containing canonical XRPL binary.
+   * @param writer The {@link Writer} to write the decoded JSON to.
+   *
+   * @throws IOException if {@code writer} cannot be written to.
+   */
+  public void decode(byte[] bytes, Writer writer) throws IOException {
+    Objects.requireNonNull(writer);
+    try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      decode(bytes, generator);
+    }
+  }
+
+  /**
+   * Decodes canonical XRPL binary to JSON, writing the UTF-8 encoded JSON to {@code outputStream} as it is decoded. The
+   * stream is not closed.
+   *
+   * @param bytes        A byte array containing canonical XRPL binary.
+   * @param outputStream The {@link OutputStream} to write the decoded JSON to.
+   *
+   * @throws IOException if {@code outputStream} cannot be written to.
+   */
+  public void decode(byte[] bytes, OutputStream outputStream) throws IOException {
+    Objects.requireNonNull(outputStream);
+    try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      decode(bytes, generator);
+    }
+  }
+
+  private String decode(BinaryParser parser) {
+    StringWriter writer = new StringWriter();
+    try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+      jsonDecoder.decodeObject(parser, generator);
+    } catch (IOException e) {
+      // A StringWriter never throws, so this can only be a bug in the decoder.
+      throw new IllegalStateException(e.getMessage(), e);
+    }
+    return writer.toString();
+  }
+
+  private String decode(BinaryParser parser, Set<String> fieldNames) {
+    StringWriter writer = new StringWriter();
+    try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+      jsonDecoder.decodeObject(parser, generator, fieldNames);
+    } catch (IOException e) {
+      // A StringWriter never throws, so this can only be a bug in the decoder.
+      throw new IllegalStateException(e.getMessage(), e);
+    }
+    return writer.toString();
   }
 
   /**
@@ -0,0 +1,324 @@
+package org.xrpl.xrpl4j.codec.binary;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.xrpl.xrpl4j.codec.addresses.Hex;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.hash.Sha512Half;
+import org.xrpl.xrpl4j.codec.binary.shamap.LedgerHashes;
+import org.xrpl.xrpl4j.model.client.accounts.AccountTransactionsBinaryResult;
+import org.xrpl.xrpl4j.model.client.accounts.AccountTransactionsResult;
+import org.xrpl.xrpl4j.model.client.accounts.AccountTransactionsTransaction;
+import org.xrpl.xrpl4j.model.client.accounts.AccountTransactionsTransactionResult;
+import org.xrpl.xrpl4j.model.client.accounts.ImmutableAccountTransactionsResult;
+import org.xrpl.xrpl4j.model.client.ledger.LedgerBinaryResult;
+import org.xrpl.xrpl4j.model.client.ledger.LedgerResult;
+import org.xrpl.xrpl4j.model.client.transactions.BinaryTransactionResult;
+import org.xrpl.xrpl4j.model.client.transactions.TransactionResult;
+import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
+import org.xrpl.xrpl4j.model.ledger.ImmutableLedgerHeader;
+import org.xrpl.xrpl4j.model.ledger.LedgerHeader;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+import org.xrpl.xrpl4j.model.transactions.Transaction;
+import org.xrpl.xrpl4j.model.transactions.TransactionMetadata;
+import org.xrpl.xrpl4j.model.transactions.TransactionType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Decodes canonical XRPL binary, such as the {@code tx_blob} and {@code meta} values that rippled returns when asked
+ * for binary results, directly to xrpl4j {@link Transaction} and {@link TransactionMetadata} objects.
+ *
+ * <p>{@link XrplBinaryCodec#decode(String)} followed by {@link ObjectMapper#readValue(String, Class)} writes the
+ * decoded JSON out as a {@link String}, parses it again, and builds a JSON tree to find the {@code TransactionType}.
+ * This decoder instead buffers the decoded JSON tokens in memory, reads the {@code TransactionType} from the buffer,
+ * and binds the tokens straight to the matching {@link Transaction} subtype, so the result is the same without the
+ * text or the tree.</p>
+ *
+ * <p>Whole results of the tx, account_tx and ledger methods called with {@code binary} set to {@code true} can also
+ * be decoded to the {@link TransactionResult}, {@link AccountTransactionsResult} and {@link LedgerResult} that the
+ * same calls return in JSON form.</p>
+ *
+ * <p>This class holds no mutable state, so one instance may be shared between threads.</p>
+ */
+public class XrplBinaryTransactionDecoder {
+
+  private static final String TRANSACTION_TYPE = "TransactionType";
+
+  // rippled adds delivered_amount to JSON metadata, but binary metadata only has the DeliveredAmount field.
+  private static final String DELIVERED_AMOUNT = "DeliveredAmount";
+  private static final String DELIVERED_AMOUNT_JSON = "delivered_amount";
+
+  private final XrplBinaryCodec codec;
+
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Construct an {@link XrplBinaryTransactionDecoder} that binds with {@link ObjectMapperFactory#create()}.
+   */
+  public XrplBinaryTransactionDecoder() {
+    this(new XrplBinaryCodec(), ObjectMapperFactory.create());
+  }
+
+  /**
+   * Construct an {@link XrplBinaryTransactionDecoder}.
+   *
+   * @param codec        The {@link XrplBinaryCodec} used to decode binary.
+   * @param objectMapper An {@link ObjectMapper} configured for the xrpl4j model, as created by
+   *                     {@link ObjectMapperFactory#create()}.
+   */
+  public XrplBinaryTransactionDecoder(final XrplBinaryCodec codec, final ObjectMapper objectMapper) {
+    this.codec = Objects.requireNonNull(codec);
+    this.objectMapper = Objects.requireNonNull(objectMapper);
+  }
+
+  /**
+   * Decode a binary transaction, such as a {@code tx_blob}, to the {@link Transaction} subtype named by its {@code
+   * TransactionType} field.
+   *
+   * @param hex A {@link String} containing a canonical XRPL binary transaction, hex encoded.
+   *
+   * @return A {@link Transaction}.
+   * @throws JsonProcessingException if the decoded transaction cannot be bound to its {@link Transaction} subtype.
+   */
+  public Transaction decodeTransaction(final String hex) throws JsonProcessingException {
+    Objects.requireNonNull(hex);
+    return decodeTransaction(Hex.decode(hex));
+  }
+
+  /**
+   * Decode a binary transaction to the {@link Transaction} subtype named by its {@code TransactionType} field.
+   *
+   * @param bytes A byte array containing a canonical XRPL binary transaction.
+   *
+   * @return A {@link Transaction}.
+   * @throws JsonProcessingException if the decoded transaction cannot be bound to its {@link Transaction} subtype.
+   */
+  public Transaction decodeTransaction(final byte[] bytes) throws JsonProcessingException {
+    Objects.requireNonNull(bytes);
+    TokenBuffer tokens = new TokenBuffer(objectMapper, false);
+    try {
+      codec.decode(bytes, new TokenWriter(tokens, false));
+      TransactionType transactionType = TransactionType.forValue(readTransactionType(tokens));
+      Class<? extends Transaction> transactionClass = Transaction.typeMap.inverse().get(transactionType);
+      if (transactionClass == null) {
+        throw new IllegalArgumentException("Transactions of type " + transactionType + " cannot be decoded");
+      }
+      return objectMapper.readValue(tokens.asParser(), transactionClass);
+    } catch (JsonProcessingException e) {
+      throw e;
+    } catch (IOException e) {
+      // A TokenBuffer is written to and read from memory, so this is not expected.
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Decode binary transaction metadata, such as a {@code meta} blob. Its {@code DeliveredAmount} field, if present,
+   * becomes {@link TransactionMetadata#deliveredAmount()}.
+   *
+   * @param hex A {@link String} containing canonical XRPL binary transaction metadata, hex encoded.
+   *
+   * @return A {@link TransactionMetadata}.
+   * @throws JsonProcessingException if the decoded metadata cannot be bound to {@link TransactionMetadata}.
+   */
+  public TransactionMetadata decodeMetadata(final String hex) throws JsonProcessingException {
+    Objects.requireNonNull(hex);
+    return decodeMetadata(Hex.decode(hex));
+  }
+
+  /**
+   * Decode binary transaction metadata. Its {@code DeliveredAmount} field, if present, becomes
+   * {@link TransactionMetadata#deliveredAmount()}.
+   *
+   * @param bytes A byte array containing canonical XRPL binary transaction metadata.
+   *
+   * @return A {@link TransactionMetadata}.
+   * @throws JsonProcessingException if the decoded metadata cannot be bound to {@link TransactionMetadata}.
+   */
+  public TransactionMetadata decodeMetadata(final byte[] bytes) throws JsonProcessingException {
+    Objects.requireNonNull(bytes);
+    TokenBuffer tokens = new TokenBuffer(objectMapper, false);
+    try {
+      codec.decode(bytes, new TokenWriter(tokens, true));
+      return objectMapper.readValue(tokens.asParser(), TransactionMetadata.class);
+    } catch (JsonProcessingException e) {
+      throw e;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Decode a transaction returned in binary form, by the tx method or as one of the transactions of a binary ledger
+   * result, to the {@link TransactionResult} that the same call returns in JSON form. If {@code result} has no
+   * {@code hash}, the hash is computed from the binary transaction.
+   *
+   * @param result          A {@link BinaryTransactionResult}.
+   * @param transactionType The {@link Transaction} type that the transaction is expected to be.
+   * @param <T>             The type of {@link Transaction} in the returned {@link TransactionResult}.
+   *
+   * @return A {@link TransactionResult}.
+   * @throws JsonProcessingException if the transaction or its metadata cannot be bound to the model.
+   * @throws ClassCastException      if the transaction is not a {@code transactionType}.
+   */
+  public <T extends Transaction> TransactionResult<T> decodeTransactionResult(
+    final BinaryTransactionResult result,
+    final Class<T> transactionType
+  ) throws JsonProcessingException {
+    Objects.requireNonNull(result);
+    Objects.requireNonNull(transactionType);
+    byte[] transactionBytes = Hex.decode(result.transactionBlob());
+    return TransactionResult.<T>builder()
+      .transaction(transactionType.cast(decodeTransaction(transactionBytes)))
+      .hash(result.hash().orElseGet(() -> transactionHash(transactionBytes)))
+      .ledgerIndex(result.ledgerIndex())
+      .validated(result.validated())
+      .metadata(decodeOptionalMetadata(result.metadataBlob()))
+      .closeDate(result.closeDate())
+      .status(result.status())
+      .build();
+  }
+
+  /**
+   * Decode the result of an account_tx call made with {@code binary} set to {@code true} to the
+   * {@link AccountTransactionsResult} that the same call returns in JSON form. The hash of each transaction is
+   * computed from the binary transaction.
+   *
+   * @param result An {@link AccountTransactionsBinaryResult}.
+   *
+   * @return An {@link AccountTransactionsResult}.
+   * @throws JsonProcessingException if a transaction or its metadata cannot be bound to the model.
+   */
+  public AccountTransactionsResult decodeAccountTransactions(final AccountTransactionsBinaryResult result)
+    throws JsonProcessingException {
+    Objects.requireNonNull(result);
+    ImmutableAccountTransactionsResult.Builder builder = AccountTransactionsResult.builder()
+      .account(result.account())
+      .ledgerIndexMinimum(result.ledgerIndexMinimum())
+      .ledgerIndexMaximum(result.ledgerIndexMaximum())
+      .limit(result.limit())
+      .marker(result.marker())
+      .validated(result.validated())
+      .status(result.status());
+    for (BinaryTransactionResult transaction : result.transactions()) {
+      byte[] transactionBytes = Hex.decode(transaction.transactionBlob());
+      builder.addTransactions(AccountTransactionsTransactionResult.<Transaction>builder()
+        .resultTransaction(AccountTransactionsTransaction.<Transaction>builder()
+          .transaction(decodeTransaction(transactionBytes))
+          .hash(transaction.hash().orElseGet(() -> transactionHash(transactionBytes)))
+          .ledgerIndex(transaction.ledgerIndex()
+            .orElseThrow(() -> new IllegalArgumentException("account_tx transaction has no ledger_index")))
+          .build())
+        .metadata(decodeOptionalMetadata(transaction.metadataBlob()))
+        .validated(transaction.validated())
+        .build());
+    }
+    return builder.build();
+  }
+
+  /**
+   * Decode the result of a ledger call made with {@code binary} set to {@code true} to the {@link LedgerResult} that
+   * the same call returns in JSON form. The ledger header is decoded with {@link LedgerHashes#ledgerHeader}, and the
+   * hash of each transaction is computed from the binary transaction.
+   *
+   * @param result A {@link LedgerBinaryResult}.
+   *
+   * @return A {@link LedgerResult}.
+   * @throws JsonProcessingException if a transaction or its metadata cannot be bound to the model.
+   */
+  public LedgerResult decodeLedger(final LedgerBinaryResult result) throws JsonProcessingException {
+    Objects.requireNonNull(result);
+    ImmutableLedgerHeader.Builder ledger = LedgerHeader.builder()
+      .from(LedgerHashes.ledgerHeader(UnsignedByteArray.fromHex(result.ledger().ledgerData())))
+      .closed(result.ledger().closed());
+    for (BinaryTransactionResult transaction : result.ledger().transactions()) {
+      ledger.addTransactions(decodeTransactionResult(transaction, Transaction.class));
+    }
+    return LedgerResult.builder()
+      .ledger(ledger.build())
+      .ledgerHash(result.ledgerHash())
+      .ledgerIndex(result.ledgerIndex())
+      .ledgerCurrentIndex(result.ledgerCurrentIndex())
+      .validated(result.validated())
+      .status(result.status())
+      .build();
+  }
+
+  private Optional<TransactionMetadata> decodeOptionalMetadata(final Optional<String> hex)
+    throws JsonProcessingException {
+    if (!hex.isPresent()) {
+      return Optional.empty();
+    }
+    return Optional.of(decodeMetadata(hex.get()));
+  }
+
+  private static Hash256 transactionHash(final byte[] transactionBytes) {
+    return Hash256.of(
+      Sha512Half.transactionId(UnsignedByteArray.wrap(transactionBytes, 0, transactionBytes.length)).hexValue()
+    );
+  }
+
+  private static String readTransactionType(final TokenBuffer tokens) throws IOException {
+    try (JsonParser parser = tokens.asParser()) {
+      parser.nextToken();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        boolean found = parser.getCurrentName().equals(TRANSACTION_TYPE);
+        parser.nextToken();
+        if (found) {
+          return parser.getText();
+        }
+        parser.skipChildren();
+      }
+    }
+    throw new IllegalArgumentException("Binary transaction has no " + TRANSACTION_TYPE + " field");
+  }
+
+  /**
+   * Writes decoded tokens so that they bind exactly as the same JSON read from text would: numbers that fit in an
+   * {@code int} are written as one, as a JSON parser would read them, so that fields bound to a
+   * {@link com.fasterxml.jackson.databind.JsonNode} compare equal either way. For metadata, the top-level
+   * {@code DeliveredAmount} field is also renamed to the {@code delivered_amount} name that
+   * {@link TransactionMetadata} binds.
+   */
+  private static final class TokenWriter extends JsonGeneratorDelegate {
+
+    private final boolean renameDeliveredAmount;
+
+    TokenWriter(final JsonGenerator delegate, final boolean renameDeliveredAmount) {
+      super(delegate, false);
+      this.renameDeliveredAmount = renameDeliveredAmount;
+    }
+
+    @Override
+    public void writeFieldName(final String name) throws IOException {
+      if (renameDeliveredAmount && name.equals(DELIVERED_AMOUNT) && isTopLevel()) {
+        super.writeFieldName(DELIVERED_AMOUNT_JSON);
+      } else {
+        super.writeFieldName(name);
+      }
+    }
+
+    @Override
+    public void writeNumber(final long value) throws IOException {
+      if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+        super.writeNumber((int) value);
+      } else {
+        super.writeNumber(value);
+      }
+    }
+
+    private boolean isTopLevel() {
+      return getOutputContext().getParent() != null && getOutputContext().getParent().inRoot();
+    }
+  }
+
+}
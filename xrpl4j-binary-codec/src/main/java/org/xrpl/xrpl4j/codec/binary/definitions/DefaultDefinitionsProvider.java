@@ -6,27 +6,45 @@ import com.google.common.base.Suppliers;
 import com.google.common.io.Resources;
 
 import java.io.IOException;
+import java.net.URL;
 import java.util.Objects;
 
+/**
+ * A {@link DefinitionsProvider} that reads a definitions.json file at runtime, for callers that need definitions other
+ * than the ones compiled into the codec, such as those of a network with custom amendments. The file is read the first
+ * time {@link #get()} is called.
+ *
+ * @see DefinitionsProvider#getInstance()
+ */
 public class DefaultDefinitionsProvider implements DefinitionsProvider {
 
   private final Supplier<Definitions> supplier;
 
   /**
-   * Required-args Constructor.
+   * Construct a provider that reads the definitions.json bundled with the codec.
    *
    * @param objectMapper An {@link ObjectMapper}.
    */
-  @SuppressWarnings("UnstableApiUsage")
   public DefaultDefinitionsProvider(final ObjectMapper objectMapper) {
+    this(objectMapper, Resources.getResource(DefaultDefinitionsProvider.class, "/definitions.json"));
+  }
+
+  /**
+   * Construct a provider that reads the definitions.json file at {@code definitionsUrl}.
+   *
+   * @param objectMapper   An {@link ObjectMapper}.
+   * @param definitionsUrl The {@link URL} of a file in the format of definitions.json.
+   */
+  @SuppressWarnings("UnstableApiUsage")
+  public DefaultDefinitionsProvider(final ObjectMapper objectMapper, final URL definitionsUrl) {
     Objects.requireNonNull(objectMapper);
+    Objects.requireNonNull(definitionsUrl);
 
     this.supplier = Suppliers.memoize(() -> {
       try {
-        return objectMapper.readerFor(Definitions.class)
-          .readValue(Resources.getResource(DefaultDefinitionsProvider.class, "/definitions.json"));
+        return objectMapper.readerFor(Definitions.class).readValue(definitionsUrl);
       } catch (IOException e) {
-        throw new IllegalStateException("Cannot read definition.json file", e);
+        throw new IllegalStateException("Cannot read definitions from " + definitionsUrl, e);
       }
     });
   }
@@ -1,10 +1,16 @@
 package org.xrpl.xrpl4j.codec.binary.definitions;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.google.common.collect.ImmutableList;
 import org.immutables.value.Value.Immutable;
+import org.immutables.value.Value.Lazy;
+import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
 
 import java.util.List;
 import java.util.Map;
@@ -29,9 +35,32 @@ public interface Definitions {
    * Fields definitions list.
    *
    * @return {@link List} of type {@link List} of type {@link JsonNode} containing all field definitions.
+   *
+   * @deprecated Use {@link #fieldInfos()}, which holds the same fields without going through {@link JsonNode}s. This
+   *   list is built from it on first use.
+   */
+  @Deprecated
+  @Lazy
+  @JsonIgnore
+  default List<List<JsonNode>> fields() {
+    ObjectMapper objectMapper = BinaryCodecObjectMapperFactory.getObjectMapper();
+    return fieldInfos().entrySet().stream()
+      .map(field -> ImmutableList.<JsonNode>of(
+        TextNode.valueOf(field.getKey()),
+        objectMapper.valueToTree(field.getValue())
+      ))
+      .collect(ImmutableList.toImmutableList());
+  }
+
+  /**
+   * Field definitions, keyed by field name in the order they appear in definitions.json.
+   *
+   * @return {@link Map} keyed by {@link String} with {@link FieldInfo} values for all fields.
    */
   @JsonProperty("FIELDS")
-  List<List<JsonNode>> fields();
+  @JsonSerialize(using = FieldInfosSerializer.class)
+  @JsonDeserialize(using = FieldInfosDeserializer.class)
+  Map<String, FieldInfo> fieldInfos();
 
   /**
    * Ledger types mappings (transaction type to ordinal value).
@@ -1,7 +1,5 @@
 package org.xrpl.xrpl4j.codec.binary.definitions;
 
-import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
-
 import java.util.function.Supplier;
 
 /**
@@ -9,7 +7,11 @@ import java.util.function.Supplier;
  */
 public interface DefinitionsProvider extends Supplier<Definitions> {
 
-  DefinitionsProvider INSTANCE = new DefaultDefinitionsProvider(BinaryCodecObjectMapperFactory.getObjectMapper());
+  /**
+   * Provides the definitions compiled from the definitions.json bundled with the codec, without reading or parsing
+   * any JSON at runtime.
+   */
+  DefinitionsProvider INSTANCE = GeneratedDefinitions::definitions;
 
   static DefinitionsProvider getInstance() {
     return INSTANCE;
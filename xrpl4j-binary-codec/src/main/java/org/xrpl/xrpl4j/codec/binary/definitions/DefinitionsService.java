@@ -1,12 +1,10 @@
 package org.xrpl.xrpl4j.codec.binary.definitions;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
-import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
 import org.xrpl.xrpl4j.codec.binary.FieldHeader;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -14,11 +12,16 @@ import java.util.stream.Collectors;
 
 /**
  * Service for accessing XRPL type and field metadata from definitions.json.
+ *
+ * <p>Instances are immutable once constructed: every lookup structure is built in the constructor and never changed,
+ * so the JVM-wide instance returned by {@link #getInstance()} may be used from any number of threads without
+ * synchronization.</p>
  */
 public class DefinitionsService {
 
-  private static final DefinitionsService INSTANCE = new DefinitionsService(DefinitionsProvider.getInstance(),
-    BinaryCodecObjectMapperFactory.getObjectMapper());
+  private static final int MAX_FIELD_CODE = 255;
+
+  private static final DefinitionsService INSTANCE = new DefinitionsService(DefinitionsProvider.getInstance());
 
   private final Definitions definitions;
 
@@ -26,6 +29,14 @@ public class DefinitionsService {
 
   private final Map<FieldHeader, String> fieldIdNameMap;
 
+  private final Map<String, FieldInstance> fieldInstanceMap;
+
+  /**
+   * {@link FieldInstance}s indexed by type code and then by field code ({@code nth}), for fields whose codes can appear
+   * in a field header. Rows are only as long as the largest field code of their type, and missing entries are null.
+   */
+  private final FieldInstance[][] fieldInstanceTable;
+
   private final Map<String, Integer> typeOrdinalMap;
 
   private final Map<Integer, String> transactionTypeReverseLookupMap;
@@ -38,29 +49,34 @@ public class DefinitionsService {
    * Required-args Constructor.
    *
    * @param definitionsProvider A {@link DefinitionsProvider}.
-   * @param mapper              An {@link ObjectMapper}.
    */
-  DefinitionsService(DefinitionsProvider definitionsProvider, ObjectMapper mapper) {
+  DefinitionsService(DefinitionsProvider definitionsProvider) {
     this.definitions = definitionsProvider.get();
     this.typeOrdinalMap = ImmutableMap.copyOf(definitions.types());
 
     Map<String, FieldInfo> tempFieldInfoMap = new HashMap<>();
     Map<FieldHeader, String> tempFieldIdNameMap = new HashMap<>();
-    this.definitions.fields().forEach(field -> {
-      try {
-        String fieldName = field.get(0).textValue();
-        FieldInfo metadata = mapper.readValue(field.get(1).toString(), FieldInfo.class);
-        FieldHeader fieldHeader = FieldHeader.builder().fieldCode(metadata.nth())
-          .typeCode(typeOrdinalMap.get(metadata.type()))
-          .build();
-        tempFieldInfoMap.put(fieldName, metadata);
-        tempFieldIdNameMap.put(fieldHeader, fieldName);
-      } catch (JsonProcessingException e) {
-        throw new IllegalArgumentException("invalid json", e);
-      }
+    Map<String, FieldInstance> tempFieldInstanceMap = new HashMap<>();
+    this.definitions.fieldInfos().forEach((fieldName, metadata) -> {
+      FieldHeader fieldHeader = FieldHeader.builder().fieldCode(metadata.nth())
+        .typeCode(typeOrdinalMap.get(metadata.type()))
+        .build();
+      tempFieldInfoMap.put(fieldName, metadata);
+      tempFieldIdNameMap.put(fieldHeader, fieldName);
+      tempFieldInstanceMap.put(fieldName, FieldInstance.builder()
+        .header(fieldHeader)
+        .isSerialized(metadata.isSerialized())
+        .isSigningField(metadata.isSigningField())
+        .isVariableLengthEncoded(metadata.isVariableLengthEncoded())
+        .nth(metadata.nth())
+        .name(fieldName)
+        .type(metadata.type())
+        .build());
     });
     this.fieldInfoMap = ImmutableMap.copyOf(tempFieldInfoMap);
     this.fieldIdNameMap = ImmutableMap.copyOf(tempFieldIdNameMap);
+    this.fieldInstanceMap = ImmutableMap.copyOf(tempFieldInstanceMap);
+    this.fieldInstanceTable = buildFieldInstanceTable(tempFieldIdNameMap, tempFieldInstanceMap);
     this.transactionTypeReverseLookupMap = inverse(definitions.transactionTypes());
     this.transactionResultReverseLookupNap = inverse(definitions.transactionResults());
     this.ledgerEntryTypeReverseLookupMap = inverse(definitions.ledgerEntryTypes());
@@ -131,18 +147,36 @@ public class DefinitionsService {
    * @return An {@link Optional} of type {@link FieldInstance}.
    */
   public Optional<FieldInstance> getFieldInstance(String fieldName) {
-    return DefinitionsService.getInstance().getFieldInfo(fieldName)
-      .flatMap(info -> getFieldHeader(fieldName)
-        .map(header ->
-          FieldInstance.builder()
-            .header(header)
-            .isSerialized(info.isSerialized())
-            .isSigningField(info.isSigningField())
-            .isVariableLengthEncoded(info.isVariableLengthEncoded())
-            .nth(info.nth())
-            .name(fieldName)
-            .type(info.type())
-            .build()));
+    return Optional.ofNullable(fieldInstanceMap.get(fieldName));
+  }
+
+  /**
+   * Obtain an optionally-present field instance with the specified type code and field code, as found in a field
+   * header. This is an array lookup, so it is suitable for use on every field of every object being parsed.
+   *
+   * @param typeCode  An int representing the type code of the field.
+   * @param fieldCode An int representing the field code ({@code nth}) of the field.
+   *
+   * @return An {@link Optional} of type {@link FieldInstance}.
+   */
+  public Optional<FieldInstance> getFieldInstance(int typeCode, int fieldCode) {
+    if (typeCode < 0 || typeCode >= fieldInstanceTable.length) {
+      return Optional.empty();
+    }
+    FieldInstance[] fieldsOfType = fieldInstanceTable[typeCode];
+    if (fieldCode < 0 || fieldCode >= fieldsOfType.length) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(fieldsOfType[fieldCode]);
+  }
+
+  /**
+   * Obtain every field instance in the definitions.
+   *
+   * @return A {@link Collection} of {@link FieldInstance}s, in no particular order.
+   */
+  public Collection<FieldInstance> getFieldInstances() {
+    return fieldInstanceMap.values();
   }
 
   /**
@@ -193,6 +227,41 @@ public class DefinitionsService {
     }
   }
 
+  private static FieldInstance[][] buildFieldInstanceTable(
+    Map<FieldHeader, String> fieldIdNameMap,
+    Map<String, FieldInstance> fieldInstanceMap
+  ) {
+    // Only codes that fit in a field header can be looked up; pseudo-types like "Transaction" are left out.
+    int[] rowLengths = new int[MAX_FIELD_CODE + 1];
+    for (FieldHeader header : fieldIdNameMap.keySet()) {
+      if (isEncodable(header)) {
+        rowLengths[header.typeCode()] = Math.max(rowLengths[header.typeCode()], header.fieldCode() + 1);
+      }
+    }
+
+    int typeCount = 0;
+    for (int typeCode = 0; typeCode < rowLengths.length; typeCode++) {
+      if (rowLengths[typeCode] > 0) {
+        typeCount = typeCode + 1;
+      }
+    }
+    FieldInstance[][] table = new FieldInstance[typeCount][];
+    for (int typeCode = 0; typeCode < typeCount; typeCode++) {
+      table[typeCode] = new FieldInstance[rowLengths[typeCode]];
+    }
+    fieldIdNameMap.forEach((header, fieldName) -> {
+      if (isEncodable(header)) {
+        table[header.typeCode()][header.fieldCode()] = fieldInstanceMap.get(fieldName);
+      }
+    });
+    return table;
+  }
+
+  private static boolean isEncodable(FieldHeader header) {
+    return header.typeCode() >= 0 && header.typeCode() <= MAX_FIELD_CODE &&
+      header.fieldCode() >= 0 && header.fieldCode() <= MAX_FIELD_CODE;
+  }
+
   private Map<Integer, String> inverse(Map<String, Integer> map) {
     return map.entrySet()
       .stream()
@@ -0,0 +1,49 @@
+package org.xrpl.xrpl4j.codec.binary.definitions;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.google.common.collect.ImmutableMap;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Deserializes the {@code FIELDS} section of definitions.json, which is an array of {@code [name, info]} pairs, into
+ * a {@link Map} of field name to {@link FieldInfo} in the order the fields appear. Each {@link FieldInfo} is read
+ * straight from the parser.
+ */
+public class FieldInfosDeserializer extends StdDeserializer<Map<String, FieldInfo>> {
+
+  public FieldInfosDeserializer() {
+    super(Map.class);
+  }
+
+  @Override
+  public Map<String, FieldInfo> deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+    expect(parser, parser.currentToken(), JsonToken.START_ARRAY, context);
+    ImmutableMap.Builder<String, FieldInfo> fields = ImmutableMap.builder();
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      expect(parser, parser.currentToken(), JsonToken.START_ARRAY, context);
+      expect(parser, parser.nextToken(), JsonToken.VALUE_STRING, context);
+      String fieldName = parser.getText();
+      expect(parser, parser.nextToken(), JsonToken.START_OBJECT, context);
+      fields.put(fieldName, context.readValue(parser, FieldInfo.class));
+      expect(parser, parser.nextToken(), JsonToken.END_ARRAY, context);
+    }
+    return fields.build();
+  }
+
+  private void expect(
+    JsonParser parser,
+    JsonToken actual,
+    JsonToken expected,
+    DeserializationContext context
+  ) throws IOException {
+    if (actual != expected) {
+      context.reportWrongTokenException(this, expected, "FIELDS must be an array of [name, info] pairs");
+    }
+  }
+
+}
@@ -0,0 +1,37 @@
+package org.xrpl.xrpl4j.codec.binary.definitions;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Serializes a {@link Map} of field name to {@link FieldInfo} as the array of {@code [name, info]} pairs that the
+ * {@code FIELDS} section of definitions.json holds.
+ */
+public class FieldInfosSerializer extends StdSerializer<Map<String, FieldInfo>> {
+
+  @SuppressWarnings("unchecked")
+  public FieldInfosSerializer() {
+    super((Class<Map<String, FieldInfo>>) (Class<?>) Map.class);
+  }
+
+  @Override
+  public void serialize(
+    Map<String, FieldInfo> fields,
+    JsonGenerator generator,
+    SerializerProvider provider
+  ) throws IOException {
+    generator.writeStartArray();
+    for (Map.Entry<String, FieldInfo> field : fields.entrySet()) {
+      generator.writeStartArray();
+      generator.writeString(field.getKey());
+      provider.defaultSerializeValue(field.getValue(), generator);
+      generator.writeEndArray();
+    }
+    generator.writeEndArray();
+  }
+
+}
@@ -1,7 +1,10 @@
 package org.xrpl.xrpl4j.codec.binary.definitions;
 
+import org.immutables.value.Value.Derived;
 import org.immutables.value.Value.Immutable;
+import org.immutables.value.Value.Lazy;
 import org.xrpl.xrpl4j.codec.binary.FieldHeader;
+import org.xrpl.xrpl4j.codec.binary.FieldHeaderCodec;
 
 /**
  * Holder of {@link FieldHeader} and {@link FieldInfo} data. Provided by {@link DefinitionsService} for looking up
@@ -58,14 +61,27 @@ public interface FieldInstance extends Comparable<FieldInstance> {
   boolean isVariableLengthEncoded();
 
   /**
-   * Globally unique ordinal position based on type code and field code.
+   * Globally unique ordinal position based on type code and field code. Fields are written in canonical order by
+   * sorting on this value.
    *
    * @return An int representing the ordinal of this FieldInstance.
    */
+  @Derived
   default int ordinal() {
     return (header().typeCode() << 16) | nth();
   }
 
+  /**
+   * The encoded {@link #header()}, as written before this field's value in canonical XRPL binary. Computed once per
+   * {@link FieldInstance}; the returned array is shared and must not be modified.
+   *
+   * @return A byte array containing the one, two or three byte field header.
+   */
+  @Lazy
+  default byte[] headerBytes() {
+    return FieldHeaderCodec.getInstance().encodeToBytes(header());
+  }
+
   /**
    * The {@link FieldHeader} for this {@link FieldInstance}.
    *
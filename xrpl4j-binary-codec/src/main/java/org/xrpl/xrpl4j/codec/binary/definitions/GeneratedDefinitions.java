@@ -0,0 +1,449 @@
+package org.xrpl.xrpl4j.codec.binary.definitions;
+
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Map;
+
+/**
+ * The XRPL definitions compiled from definitions.json, so that the codec can start without reading and parsing
+ * that file.
+ *
+ * <p>This class is generated by {@code DefinitionsGenerator} and must not be edited by hand. After changing
+ * definitions.json, regenerate it with {@code mvn -P generate-definitions process-test-classes} in
+ * xrpl4j-binary-codec.</p>
+ */
+final class GeneratedDefinitions {
+
+  private static final Definitions DEFINITIONS = ImmutableDefinitions.builder()
+    .types(types())
+    .fieldInfos(fieldInfos())
+    .ledgerEntryTypes(ledgerEntryTypes())
+    .transactionTypes(transactionTypes())
+    .transactionResults(transactionResults())
+    .build();
+
+  private GeneratedDefinitions() {
+  }
+
+  static Definitions definitions() {
+    return DEFINITIONS;
+  }
+
+  private static Map<String, Integer> types() {
+    ImmutableMap.Builder<String, Integer> codes = ImmutableMap.builder();
+    codes.put("Validation", 10003);
+    codes.put("Done", -1);
+    codes.put("Hash128", 4);
+    codes.put("Blob", 7);
+    codes.put("AccountID", 8);
+    codes.put("Amount", 6);
+    codes.put("Hash256", 5);
+    codes.put("UInt8", 16);
+    codes.put("Vector256", 19);
+    codes.put("STObject", 14);
+    codes.put("Unknown", -2);
+    codes.put("Transaction", 10001);
+    codes.put("Hash160", 17);
+    codes.put("PathSet", 18);
+    codes.put("LedgerEntry", 10002);
+    codes.put("UInt16", 1);
+    codes.put("NotPresent", 0);
+    codes.put("UInt64", 3);
+    codes.put("UInt32", 2);
+    codes.put("STArray", 15);
+    return codes.build();
+  }
+
+  private static Map<String, FieldInfo> fieldInfos() {
+    ImmutableMap.Builder<String, FieldInfo> fields = ImmutableMap.builder();
+    fields.put("Generic", field(0, "Unknown", false, false, false));
+    fields.put("Invalid", field(-1, "Unknown", false, false, false));
+    fields.put("LedgerEntryType", field(1, "UInt16", false, true, true));
+    fields.put("TransactionType", field(2, "UInt16", false, true, true));
+    fields.put("SignerWeight", field(3, "UInt16", false, true, true));
+    fields.put("TransferFee", field(4, "UInt16", false, true, true));
+    fields.put("Flags", field(2, "UInt32", false, true, true));
+    fields.put("SourceTag", field(3, "UInt32", false, true, true));
+    fields.put("Sequence", field(4, "UInt32", false, true, true));
+    fields.put("PreviousTxnLgrSeq", field(5, "UInt32", false, true, true));
+    fields.put("LedgerSequence", field(6, "UInt32", false, true, true));
+    fields.put("CloseTime", field(7, "UInt32", false, true, true));
+    fields.put("ParentCloseTime", field(8, "UInt32", false, true, true));
+    fields.put("SigningTime", field(9, "UInt32", false, true, true));
+    fields.put("Expiration", field(10, "UInt32", false, true, true));
+    fields.put("TransferRate", field(11, "UInt32", false, true, true));
+    fields.put("WalletSize", field(12, "UInt32", false, true, true));
+    fields.put("OwnerCount", field(13, "UInt32", false, true, true));
+    fields.put("DestinationTag", field(14, "UInt32", false, true, true));
+    fields.put("HighQualityIn", field(16, "UInt32", false, true, true));
+    fields.put("HighQualityOut", field(17, "UInt32", false, true, true));
+    fields.put("LowQualityIn", field(18, "UInt32", false, true, true));
+    fields.put("LowQualityOut", field(19, "UInt32", false, true, true));
+    fields.put("QualityIn", field(20, "UInt32", false, true, true));
+    fields.put("QualityOut", field(21, "UInt32", false, true, true));
+    fields.put("StampEscrow", field(22, "UInt32", false, true, true));
+    fields.put("BondAmount", field(23, "UInt32", false, true, true));
+    fields.put("LoadFee", field(24, "UInt32", false, true, true));
+    fields.put("OfferSequence", field(25, "UInt32", false, true, true));
+    fields.put("FirstLedgerSequence", field(26, "UInt32", false, true, true));
+    fields.put("LastLedgerSequence", field(27, "UInt32", false, true, true));
+    fields.put("TransactionIndex", field(28, "UInt32", false, true, true));
+    fields.put("OperationLimit", field(29, "UInt32", false, true, true));
+    fields.put("ReferenceFeeUnits", field(30, "UInt32", false, true, true));
+    fields.put("ReserveBase", field(31, "UInt32", false, true, true));
+    fields.put("ReserveIncrement", field(32, "UInt32", false, true, true));
+    fields.put("SetFlag", field(33, "UInt32", false, true, true));
+    fields.put("ClearFlag", field(34, "UInt32", false, true, true));
+    fields.put("SignerQuorum", field(35, "UInt32", false, true, true));
+    fields.put("CancelAfter", field(36, "UInt32", false, true, true));
+    fields.put("FinishAfter", field(37, "UInt32", false, true, true));
+    fields.put("IndexNext", field(1, "UInt64", false, true, true));
+    fields.put("IndexPrevious", field(2, "UInt64", false, true, true));
+    fields.put("BookNode", field(3, "UInt64", false, true, true));
+    fields.put("OwnerNode", field(4, "UInt64", false, true, true));
+    fields.put("BaseFee", field(5, "UInt64", false, true, true));
+    fields.put("ExchangeRate", field(6, "UInt64", false, true, true));
+    fields.put("LowNode", field(7, "UInt64", false, true, true));
+    fields.put("HighNode", field(8, "UInt64", false, true, true));
+    fields.put("EmailHash", field(1, "Hash128", false, true, true));
+    fields.put("LedgerHash", field(1, "Hash256", false, true, true));
+    fields.put("ParentHash", field(2, "Hash256", false, true, true));
+    fields.put("TransactionHash", field(3, "Hash256", false, true, true));
+    fields.put("AccountHash", field(4, "Hash256", false, true, true));
+    fields.put("PreviousTxnID", field(5, "Hash256", false, true, true));
+    fields.put("LedgerIndex", field(6, "Hash256", false, true, true));
+    fields.put("WalletLocator", field(7, "Hash256", false, true, true));
+    fields.put("RootIndex", field(8, "Hash256", false, true, true));
+    fields.put("AccountTxnID", field(9, "Hash256", false, true, true));
+    fields.put("TokenID", field(10, "Hash256", false, true, true));
+    fields.put("BookDirectory", field(16, "Hash256", false, true, true));
+    fields.put("InvoiceID", field(17, "Hash256", false, true, true));
+    fields.put("Nickname", field(18, "Hash256", false, true, true));
+    fields.put("Amendment", field(19, "Hash256", false, true, true));
+    fields.put("TicketID", field(20, "Hash256", false, true, true));
+    fields.put("Digest", field(21, "Hash256", false, true, true));
+    fields.put("hash", field(257, "Hash256", false, false, false));
+    fields.put("index", field(258, "Hash256", false, false, false));
+    fields.put("Amount", field(1, "Amount", false, true, true));
+    fields.put("Balance", field(2, "Amount", false, true, true));
+    fields.put("LimitAmount", field(3, "Amount", false, true, true));
+    fields.put("TakerPays", field(4, "Amount", false, true, true));
+    fields.put("TakerGets", field(5, "Amount", false, true, true));
+    fields.put("LowLimit", field(6, "Amount", false, true, true));
+    fields.put("HighLimit", field(7, "Amount", false, true, true));
+    fields.put("Fee", field(8, "Amount", false, true, true));
+    fields.put("SendMax", field(9, "Amount", false, true, true));
+    fields.put("DeliverMin", field(10, "Amount", false, true, true));
+    fields.put("MinimumOffer", field(16, "Amount", false, true, true));
+    fields.put("RippleEscrow", field(17, "Amount", false, true, true));
+    fields.put("DeliveredAmount", field(18, "Amount", false, true, true));
+    fields.put("BrokerFee", field(19, "Amount", false, true, true));
+    fields.put("taker_gets_funded", field(258, "Amount", false, false, false));
+    fields.put("taker_pays_funded", field(259, "Amount", false, false, false));
+    fields.put("PublicKey", field(1, "Blob", true, true, true));
+    fields.put("MessageKey", field(2, "Blob", true, true, true));
+    fields.put("SigningPubKey", field(3, "Blob", true, true, true));
+    fields.put("TxnSignature", field(4, "Blob", true, true, false));
+    fields.put("URI", field(5, "Blob", true, true, true));
+    fields.put("Signature", field(6, "Blob", true, true, false));
+    fields.put("Domain", field(7, "Blob", true, true, true));
+    fields.put("FundCode", field(8, "Blob", true, true, true));
+    fields.put("RemoveCode", field(9, "Blob", true, true, true));
+    fields.put("ExpireCode", field(10, "Blob", true, true, true));
+    fields.put("CreateCode", field(11, "Blob", true, true, true));
+    fields.put("MemoType", field(12, "Blob", true, true, true));
+    fields.put("MemoData", field(13, "Blob", true, true, true));
+    fields.put("MemoFormat", field(14, "Blob", true, true, true));
+    fields.put("Fulfillment", field(16, "Blob", true, true, true));
+    fields.put("Condition", field(17, "Blob", true, true, true));
+    fields.put("MasterSignature", field(18, "Blob", true, true, false));
+    fields.put("UNLModifyValidator", field(19, "Blob", true, true, true));
+    fields.put("ValidatorToDisable", field(20, "Blob", true, true, true));
+    fields.put("ValidatorToReEnable", field(21, "Blob", true, true, true));
+    fields.put("Account", field(1, "AccountID", true, true, true));
+    fields.put("Owner", field(2, "AccountID", true, true, true));
+    fields.put("Destination", field(3, "AccountID", true, true, true));
+    fields.put("Issuer", field(4, "AccountID", true, true, true));
+    fields.put("Authorize", field(5, "AccountID", true, true, true));
+    fields.put("Unauthorize", field(6, "AccountID", true, true, true));
+    fields.put("Target", field(7, "AccountID", true, true, true));
+    fields.put("RegularKey", field(8, "AccountID", true, true, true));
+    fields.put("Minter", field(9, "AccountID", true, true, true));
+    fields.put("ObjectEndMarker", field(1, "STObject", false, true, true));
+    fields.put("TransactionMetaData", field(2, "STObject", false, true, true));
+    fields.put("CreatedNode", field(3, "STObject", false, true, true));
+    fields.put("DeletedNode", field(4, "STObject", false, true, true));
+    fields.put("ModifiedNode", field(5, "STObject", false, true, true));
+    fields.put("PreviousFields", field(6, "STObject", false, true, true));
+    fields.put("FinalFields", field(7, "STObject", false, true, true));
+    fields.put("NewFields", field(8, "STObject", false, true, true));
+    fields.put("TemplateEntry", field(9, "STObject", false, true, true));
+    fields.put("Memo", field(10, "STObject", false, true, true));
+    fields.put("SignerEntry", field(11, "STObject", false, true, true));
+    fields.put("NonFungibleToken", field(12, "STObject", false, true, true));
+    fields.put("Signer", field(16, "STObject", false, true, true));
+    fields.put("Majority", field(18, "STObject", false, true, true));
+    fields.put("DisabledValidator", field(19, "STObject", false, true, true));
+    fields.put("ArrayEndMarker", field(1, "STArray", false, true, true));
+    fields.put("Signers", field(3, "STArray", false, true, false));
+    fields.put("SignerEntries", field(4, "STArray", false, true, true));
+    fields.put("Template", field(5, "STArray", false, true, true));
+    fields.put("Necessary", field(6, "STArray", false, true, true));
+    fields.put("Sufficient", field(7, "STArray", false, true, true));
+    fields.put("AffectedNodes", field(8, "STArray", false, true, true));
+    fields.put("Memos", field(9, "STArray", false, true, true));
+    fields.put("NonFungibleTokens", field(10, "STArray", false, true, true));
+    fields.put("Majorities", field(16, "STArray", false, true, true));
+    fields.put("DisabledValidators", field(17, "STArray", false, true, true));
+    fields.put("CloseResolution", field(1, "UInt8", false, true, true));
+    fields.put("Method", field(2, "UInt8", false, true, true));
+    fields.put("TransactionResult", field(3, "UInt8", false, true, true));
+    fields.put("TakerPaysCurrency", field(1, "Hash160", false, true, true));
+    fields.put("TakerPaysIssuer", field(2, "Hash160", false, true, true));
+    fields.put("TakerGetsCurrency", field(3, "Hash160", false, true, true));
+    fields.put("TakerGetsIssuer", field(4, "Hash160", false, true, true));
+    fields.put("Paths", field(1, "PathSet", false, true, true));
+    fields.put("Indexes", field(1, "Vector256", true, true, true));
+    fields.put("Hashes", field(2, "Vector256", true, true, true));
+    fields.put("Amendments", field(3, "Vector256", true, true, true));
+    fields.put("TokenOffers", field(4, "Vector256", true, true, true));
+    fields.put("Transaction", field(1, "Transaction", false, false, false));
+    fields.put("LedgerEntry", field(1, "LedgerEntry", false, false, false));
+    fields.put("Validation", field(1, "Validation", false, false, false));
+    fields.put("SignerListID", field(38, "UInt32", false, true, true));
+    fields.put("SettleDelay", field(39, "UInt32", false, true, true));
+    fields.put("TicketCount", field(40, "UInt32", false, true, true));
+    fields.put("TicketSequence", field(41, "UInt32", false, true, true));
+    fields.put("TokenTaxon", field(42, "UInt32", false, true, true));
+    fields.put("MintedTokens", field(43, "UInt32", false, true, true));
+    fields.put("BurnedTokens", field(44, "UInt32", false, true, true));
+    fields.put("Channel", field(22, "Hash256", false, true, true));
+    fields.put("ConsensusHash", field(23, "Hash256", false, true, true));
+    fields.put("CheckID", field(24, "Hash256", false, true, true));
+    fields.put("ValidatedHash", field(25, "Hash256", false, true, true));
+    fields.put("PreviousPageMin", field(26, "Hash256", false, true, true));
+    fields.put("NextPageMin", field(27, "Hash256", false, true, true));
+    fields.put("BuyOffer", field(28, "Hash256", false, true, true));
+    fields.put("SellOffer", field(29, "Hash256", false, true, true));
+    fields.put("TickSize", field(16, "UInt8", false, true, true));
+    fields.put("UNLModifyDisabling", field(17, "UInt8", false, true, true));
+    fields.put("DestinationNode", field(9, "UInt64", false, true, true));
+    fields.put("Cookie", field(10, "UInt64", false, true, true));
+    fields.put("ServerVersion", field(11, "UInt64", false, true, true));
+    fields.put("OfferNode", field(12, "UInt64", false, true, true));
+    return fields.build();
+  }
+
+  private static Map<String, Integer> ledgerEntryTypes() {
+    ImmutableMap.Builder<String, Integer> codes = ImmutableMap.builder();
+    codes.put("Any", -3);
+    codes.put("Child", -2);
+    codes.put("Invalid", -1);
+    codes.put("AccountRoot", 97);
+    codes.put("DirectoryNode", 100);
+    codes.put("RippleState", 114);
+    codes.put("Ticket", 84);
+    codes.put("SignerList", 83);
+    codes.put("Offer", 111);
+    codes.put("LedgerHashes", 104);
+    codes.put("Amendments", 102);
+    codes.put("FeeSettings", 115);
+    codes.put("Escrow", 117);
+    codes.put("PayChannel", 120);
+    codes.put("DepositPreauth", 112);
+    codes.put("Check", 67);
+    codes.put("Nickname", 110);
+    codes.put("Contract", 99);
+    codes.put("NFTokenPage", 80);
+    codes.put("NFTokenOffer", 55);
+    codes.put("NegativeUNL", 78);
+    return codes.build();
+  }
+
+  private static Map<String, Integer> transactionTypes() {
+    ImmutableMap.Builder<String, Integer> codes = ImmutableMap.builder();
+    codes.put("Invalid", -1);
+    codes.put("Payment", 0);
+    codes.put("EscrowCreate", 1);
+    codes.put("EscrowFinish", 2);
+    codes.put("AccountSet", 3);
+    codes.put("EscrowCancel", 4);
+    codes.put("SetRegularKey", 5);
+    codes.put("NickNameSet", 6);
+    codes.put("OfferCreate", 7);
+    codes.put("OfferCancel", 8);
+    codes.put("Contract", 9);
+    codes.put("TicketCreate", 10);
+    codes.put("TicketCancel", 11);
+    codes.put("SignerListSet", 12);
+    codes.put("PaymentChannelCreate", 13);
+    codes.put("PaymentChannelFund", 14);
+    codes.put("PaymentChannelClaim", 15);
+    codes.put("CheckCreate", 16);
+    codes.put("CheckCash", 17);
+    codes.put("CheckCancel", 18);
+    codes.put("DepositPreauth", 19);
+    codes.put("TrustSet", 20);
+    codes.put("AccountDelete", 21);
+    codes.put("NFTokenMint", 25);
+    codes.put("NFTokenBurn", 26);
+    codes.put("NFTokenCreateOffer", 27);
+    codes.put("NFTokenCancelOffer", 28);
+    codes.put("NFTokenAcceptOffer", 29);
+    codes.put("EnableAmendment", 100);
+    codes.put("SetFee", 101);
+    codes.put("UNLModify", 102);
+    return codes.build();
+  }
+
+  private static Map<String, Integer> transactionResults() {
+    ImmutableMap.Builder<String, Integer> codes = ImmutableMap.builder();
+    codes.put("telLOCAL_ERROR", -399);
+    codes.put("telBAD_DOMAIN", -398);
+    codes.put("telBAD_PATH_COUNT", -397);
+    codes.put("telBAD_PUBLIC_KEY", -396);
+    codes.put("telFAILED_PROCESSING", -395);
+    codes.put("telINSUF_FEE_P", -394);
+    codes.put("telNO_DST_PARTIAL", -393);
+    codes.put("telCAN_NOT_QUEUE", -392);
+    codes.put("telCAN_NOT_QUEUE_BALANCE", -391);
+    codes.put("telCAN_NOT_QUEUE_BLOCKS", -390);
+    codes.put("telCAN_NOT_QUEUE_BLOCKED", -389);
+    codes.put("telCAN_NOT_QUEUE_FEE", -388);
+    codes.put("telCAN_NOT_QUEUE_FULL", -387);
+    codes.put("temMALFORMED", -299);
+    codes.put("temBAD_AMOUNT", -298);
+    codes.put("temBAD_CURRENCY", -297);
+    codes.put("temBAD_EXPIRATION", -296);
+    codes.put("temBAD_FEE", -295);
+    codes.put("temBAD_ISSUER", -294);
+    codes.put("temBAD_LIMIT", -293);
+    codes.put("temBAD_OFFER", -292);
+    codes.put("temBAD_PATH", -291);
+    codes.put("temBAD_PATH_LOOP", -290);
+    codes.put("temBAD_REGKEY", -289);
+    codes.put("temBAD_SEND_XRP_LIMIT", -288);
+    codes.put("temBAD_SEND_XRP_MAX", -287);
+    codes.put("temBAD_SEND_XRP_NO_DIRECT", -286);
+    codes.put("temBAD_SEND_XRP_PARTIAL", -285);
+    codes.put("temBAD_SEND_XRP_PATHS", -284);
+    codes.put("temBAD_SEQUENCE", -283);
+    codes.put("temBAD_SIGNATURE", -282);
+    codes.put("temBAD_SRC_ACCOUNT", -281);
+    codes.put("temBAD_TRANSFER_RATE", -280);
+    codes.put("temDST_IS_SRC", -279);
+    codes.put("temDST_NEEDED", -278);
+    codes.put("temINVALID", -277);
+    codes.put("temINVALID_FLAG", -276);
+    codes.put("temREDUNDANT", -275);
+    codes.put("temRIPPLE_EMPTY", -274);
+    codes.put("temDISABLED", -273);
+    codes.put("temBAD_SIGNER", -272);
+    codes.put("temBAD_QUORUM", -271);
+    codes.put("temBAD_WEIGHT", -270);
+    codes.put("temBAD_TICK_SIZE", -269);
+    codes.put("temINVALID_ACCOUNT_ID", -268);
+    codes.put("temCANNOT_PREAUTH_SELF", -267);
+    codes.put("temUNCERTAIN", -266);
+    codes.put("temUNKNOWN", -265);
+    codes.put("tefFAILURE", -199);
+    codes.put("tefALREADY", -198);
+    codes.put("tefBAD_ADD_AUTH", -197);
+    codes.put("tefBAD_AUTH", -196);
+    codes.put("tefBAD_LEDGER", -195);
+    codes.put("tefCREATED", -194);
+    codes.put("tefEXCEPTION", -193);
+    codes.put("tefINTERNAL", -192);
+    codes.put("tefNO_AUTH_REQUIRED", -191);
+    codes.put("tefPAST_SEQ", -190);
+    codes.put("tefWRONG_PRIOR", -189);
+    codes.put("tefMASTER_DISABLED", -188);
+    codes.put("tefMAX_LEDGER", -187);
+    codes.put("tefBAD_SIGNATURE", -186);
+    codes.put("tefBAD_QUORUM", -185);
+    codes.put("tefNOT_MULTI_SIGNING", -184);
+    codes.put("tefBAD_AUTH_MASTER", -183);
+    codes.put("tefINVARIANT_FAILED", -182);
+    codes.put("tefTOO_BIG", -181);
+    codes.put("tefNO_TICKET", -180);
+    codes.put("tefTOKEN_IS_NOT_TRANSFERABLE", -179);
+    codes.put("terRETRY", -99);
+    codes.put("terFUNDS_SPENT", -98);
+    codes.put("terINSUF_FEE_B", -97);
+    codes.put("terNO_ACCOUNT", -96);
+    codes.put("terNO_AUTH", -95);
+    codes.put("terNO_LINE", -94);
+    codes.put("terOWNERS", -93);
+    codes.put("terPRE_SEQ", -92);
+    codes.put("terLAST", -91);
+    codes.put("terNO_RIPPLE", -90);
+    codes.put("terQUEUED", -89);
+    codes.put("tesSUCCESS", 0);
+    codes.put("tecCLAIM", 100);
+    codes.put("tecPATH_PARTIAL", 101);
+    codes.put("tecUNFUNDED_ADD", 102);
+    codes.put("tecUNFUNDED_OFFER", 103);
+    codes.put("tecUNFUNDED_PAYMENT", 104);
+    codes.put("tecFAILED_PROCESSING", 105);
+    codes.put("tecDIR_FULL", 121);
+    codes.put("tecINSUF_RESERVE_LINE", 122);
+    codes.put("tecINSUF_RESERVE_OFFER", 123);
+    codes.put("tecNO_DST", 124);
+    codes.put("tecNO_DST_INSUF_XRP", 125);
+    codes.put("tecNO_LINE_INSUF_RESERVE", 126);
+    codes.put("tecNO_LINE_REDUNDANT", 127);
+    codes.put("tecPATH_DRY", 128);
+    codes.put("tecUNFUNDED", 129);
+    codes.put("tecNO_ALTERNATIVE_KEY", 130);
+    codes.put("tecNO_REGULAR_KEY", 131);
+    codes.put("tecOWNERS", 132);
+    codes.put("tecNO_ISSUER", 133);
+    codes.put("tecNO_AUTH", 134);
+    codes.put("tecNO_LINE", 135);
+    codes.put("tecINSUFF_FEE", 136);
+    codes.put("tecFROZEN", 137);
+    codes.put("tecNO_TARGET", 138);
+    codes.put("tecNO_PERMISSION", 139);
+    codes.put("tecNO_ENTRY", 140);
+    codes.put("tecINSUFFICIENT_RESERVE", 141);
+    codes.put("tecNEED_MASTER_KEY", 142);
+    codes.put("tecDST_TAG_NEEDED", 143);
+    codes.put("tecINTERNAL", 144);
+    codes.put("tecOVERSIZE", 145);
+    codes.put("tecCRYPTOCONDITION_ERROR", 146);
+    codes.put("tecINVARIANT_FAILED", 147);
+    codes.put("tecEXPIRED", 148);
+    codes.put("tecDUPLICATE", 149);
+    codes.put("tecKILLED", 150);
+    codes.put("tecHAS_OBLIGATIONS", 151);
+    codes.put("tecTOO_SOON", 152);
+    codes.put("tecMAX_SEQUENCE_REACHED", 154);
+    codes.put("tecNO_SUITABLE_PAGE", 155);
+    codes.put("tecBUY_SELL_MISMATCH", 156);
+    codes.put("tecOFFER_TYPE_MISMATCH", 157);
+    codes.put("tecCANT_ACCEPT_OWN_OFFER", 158);
+    codes.put("tecINSUFFICIENT_FUNDS", 159);
+    codes.put("tecOBJECT_NOT_FOUND", 160);
+    codes.put("tecINSUFFICIENT_PAYMENT", 161);
+    codes.put("tecINCORRECT_ASSET", 162);
+    codes.put("tecTOO_MANY", 163);
+    return codes.build();
+  }
+
+  private static FieldInfo field(
+    int nth,
+    String type,
+    boolean isVariableLengthEncoded,
+    boolean isSerialized,
+    boolean isSigningField
+  ) {
+    return ImmutableFieldInfo.builder()
+      .nth(nth)
+      .type(type)
+      .isVariableLengthEncoded(isVariableLengthEncoded)
+      .isSerialized(isSerialized)
+      .isSigningField(isSigningField)
+      .build();
+  }
+
+}
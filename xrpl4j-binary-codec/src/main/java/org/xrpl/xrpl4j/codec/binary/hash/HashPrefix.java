@@ -0,0 +1,89 @@
+package org.xrpl.xrpl4j.codec.binary.hash;
+
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.serdes.BytesSink;
+
+/**
+ * The four byte prefixes that the XRP Ledger puts in front of an object before hashing it, so that objects of different
+ * kinds that happen to serialize to the same bytes still have different hashes. Each prefix is three ASCII letters
+ * followed by a zero byte.
+ */
+public enum HashPrefix {
+
+  /**
+   * {@code TXN}: prefix of a signed transaction when computing its transaction ID.
+   */
+  TRANSACTION_ID(0x54584E00),
+
+  /**
+   * {@code SND}: prefix of a transaction and its metadata in a leaf of a ledger's transaction tree.
+   */
+  TRANSACTION_NODE(0x534E4400),
+
+  /**
+   * {@code MLN}: prefix of a ledger entry in a leaf of a ledger's state tree.
+   */
+  LEAF_NODE(0x4D4C4E00),
+
+  /**
+   * {@code MIN}: prefix of an inner node of a ledger's transaction or state tree.
+   */
+  INNER_NODE(0x4D494E00),
+
+  /**
+   * {@code LWR}: prefix of a ledger header when computing the ledger hash.
+   */
+  LEDGER_MASTER(0x4C575200),
+
+  /**
+   * {@code STX}: prefix of a transaction when it is single-signed.
+   */
+  TRANSACTION_SIGN(0x53545800),
+
+  /**
+   * {@code SMT}: prefix of a transaction when it is multi-signed.
+   */
+  TRANSACTION_MULTI_SIGN(0x534D5400),
+
+  /**
+   * {@code CLM}: prefix of a payment channel claim when it is signed.
+   */
+  PAYMENT_CHANNEL_CLAIM(0x434C4D00);
+
+  private final int value;
+
+  private final byte[] bytes;
+
+  HashPrefix(final int value) {
+    this.value = value;
+    this.bytes = new byte[] {(byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value};
+  }
+
+  /**
+   * The prefix as a big-endian 32 bit integer.
+   *
+   * @return An int.
+   */
+  public int value() {
+    return value;
+  }
+
+  /**
+   * The four bytes of the prefix.
+   *
+   * @return A new {@link UnsignedByteArray} holding the prefix.
+   */
+  public UnsignedByteArray bytes() {
+    return UnsignedByteArray.of(bytes);
+  }
+
+  /**
+   * Write the four bytes of the prefix to {@code sink}.
+   *
+   * @param sink The {@link BytesSink} to write to.
+   */
+  public void writeTo(final BytesSink sink) {
+    sink.put(bytes);
+  }
+
+}
@@ -0,0 +1,123 @@
+package org.xrpl.xrpl4j.codec.binary.hash;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.binary.serdes.BytesSink;
+import org.xrpl.xrpl4j.codec.binary.types.AccountIdType;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
+
+/**
+ * The bytes and hashes that each signer of a multi-signed transaction signs, prepared from a single encoding of the
+ * transaction.
+ *
+ * <p>Every signer signs the multi-signing hash prefix and the transaction's signing fields followed by their own
+ * AccountID, so only the last 20 bytes differ between signers. An instance encodes the shared bytes once, keeping both
+ * the bytes and the SHA-512 state after them. {@link #signingHash(String)} clones that state and adds the signer's
+ * AccountID, and {@link #signingBytes(String)} copies the bytes and appends it, so neither re-encodes the
+ * transaction.</p>
+ *
+ * <p>Instances are never modified after they are prepared, so they may be used from any thread.</p>
+ */
+public class MultiSigningHashes {
+
+  private static final String ALGORITHM = "SHA-512";
+
+  private static final XrplBinaryCodec codec = new XrplBinaryCodec();
+
+  private final UnsignedByteArray sharedBytes;
+
+  private final MessageDigest sharedDigest;
+
+  private MultiSigningHashes(final UnsignedByteArray sharedBytes, final MessageDigest sharedDigest) {
+    this.sharedBytes = sharedBytes;
+    this.sharedDigest = sharedDigest;
+  }
+
+  /**
+   * Encode {@code transactionJson} for multi-signing, ready to compute the signing bytes and hashes of any number of
+   * signers.
+   *
+   * @param transactionJson A {@link JsonNode} containing an unsigned transaction.
+   *
+   * @return A {@link MultiSigningHashes}.
+   *
+   * @see XrplBinaryCodec#encodeForMultiSigningWithoutSigner(JsonNode, BytesSink)
+   */
+  public static MultiSigningHashes of(final JsonNode transactionJson) {
+    Objects.requireNonNull(transactionJson);
+    UnsignedByteArray sharedBytes = UnsignedByteArray.empty();
+    MessageDigest sharedDigest = newDigest();
+    codec.encodeForMultiSigningWithoutSigner(
+      transactionJson,
+      BytesSink.tee(BytesSink.of(sharedBytes), BytesSink.of(sharedDigest))
+    );
+    return new MultiSigningHashes(sharedBytes, sharedDigest);
+  }
+
+  /**
+   * The bytes that {@code signerAddress} signs, which are the same as
+   * {@link XrplBinaryCodec#encodeForMultiSigningToBytes(JsonNode, String)} returns. An ed25519 key signs these bytes.
+   *
+   * @param signerAddress The classic address of the signer.
+   *
+   * @return A new {@link UnsignedByteArray} that the caller may modify.
+   */
+  public UnsignedByteArray signingBytes(final String signerAddress) {
+    UnsignedByteArray accountId = accountId(signerAddress);
+    return UnsignedByteArray.empty().append(sharedBytes).append(accountId);
+  }
+
+  /**
+   * The SHA-512Half of the bytes that {@code signerAddress} signs, which a secp256k1 key signs. Only the signer's
+   * AccountID is hashed by this method; the rest of the digest state is copied from the one prepared by
+   * {@link #of(JsonNode)}.
+   *
+   * @param signerAddress The classic address of the signer.
+   *
+   * @return An {@link UnsignedByteArray} holding the 32 byte signing hash.
+   */
+  public UnsignedByteArray signingHash(final String signerAddress) {
+    UnsignedByteArray accountId = accountId(signerAddress);
+    MessageDigest digest;
+    try {
+      digest = cloneSharedDigest();
+    } catch (CloneNotSupportedException e) {
+      // Not every security provider can copy a digest's state, in which case the shared bytes are hashed again.
+      return Sha512Half.hash(sink -> {
+        sink.put(sharedBytes);
+        sink.put(accountId);
+      });
+    }
+    BytesSink.of(digest).put(accountId);
+    return UnsignedByteArray.wrap(digest.digest(), 0, Sha512Half.LENGTH);
+  }
+
+  private MessageDigest cloneSharedDigest() throws CloneNotSupportedException {
+    // Cloning only reads the shared state, but MessageDigest does not promise that concurrent clones are safe.
+    synchronized (sharedDigest) {
+      return (MessageDigest) sharedDigest.clone();
+    }
+  }
+
+  private static UnsignedByteArray accountId(final String signerAddress) {
+    Objects.requireNonNull(signerAddress);
+    UnsignedByteArray accountId = UnsignedByteArray.empty();
+    new AccountIdType().fromJson(new TextNode(signerAddress)).toBytesSink(accountId);
+    return accountId;
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance(ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      // Every Java platform is required to support SHA-512.
+      throw new IllegalStateException(e.getMessage(), e);
+    }
+  }
+
+}
@@ -0,0 +1,153 @@
+package org.xrpl.xrpl4j.codec.binary.hash;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.binary.serdes.BytesSink;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Computes SHA-512Half, the first 32 bytes of a SHA-512 digest, which the XRP Ledger uses for transaction IDs, signing
+ * hashes and ledger object hashes.
+ *
+ * <p>Each thread reuses its own {@link MessageDigest}, and bytes are fed to it as they are produced rather than being
+ * collected first. The methods of this class may be called from any thread, and may be nested, for example to hash
+ * a child object while writing its parent.</p>
+ */
+public final class Sha512Half {
+
+  /**
+   * The number of bytes in a SHA-512Half hash.
+   */
+  public static final int LENGTH = 32;
+
+  private static final String ALGORITHM = "SHA-512";
+
+  private static final XrplBinaryCodec codec = new XrplBinaryCodec();
+
+  // Holds the calling thread's idle digest, or null while that digest is in use by an enclosing call.
+  private static final ThreadLocal<MessageDigest> idleDigest = ThreadLocal.withInitial(Sha512Half::newDigest);
+
+  private Sha512Half() {
+  }
+
+  /**
+   * Hash the bytes written by {@code writer}.
+   *
+   * @param writer A {@link Consumer} that writes the bytes to hash to the {@link BytesSink} it is given.
+   *
+   * @return An {@link UnsignedByteArray} holding the 32 byte hash.
+   */
+  public static UnsignedByteArray hash(final Consumer<BytesSink> writer) {
+    Objects.requireNonNull(writer);
+    MessageDigest digest = acquire();
+    try {
+      writer.accept(BytesSink.of(digest));
+      return UnsignedByteArray.wrap(digest.digest(), 0, LENGTH);
+    } finally {
+      release(digest);
+    }
+  }
+
+  /**
+   * Hash {@code bytes}.
+   *
+   * @param bytes The {@link UnsignedByteArray} to hash.
+   *
+   * @return An {@link UnsignedByteArray} holding the 32 byte hash.
+   */
+  public static UnsignedByteArray hash(final UnsignedByteArray bytes) {
+    Objects.requireNonNull(bytes);
+    return hash(sink -> sink.put(bytes));
+  }
+
+  /**
+   * Hash {@code bytes} preceded by {@code prefix}.
+   *
+   * @param prefix The {@link HashPrefix} to hash first.
+   * @param bytes  The {@link UnsignedByteArray} to hash after {@code prefix}.
+   *
+   * @return An {@link UnsignedByteArray} holding the 32 byte hash.
+   */
+  public static UnsignedByteArray hash(final HashPrefix prefix, final UnsignedByteArray bytes) {
+    Objects.requireNonNull(prefix);
+    Objects.requireNonNull(bytes);
+    return hash(sink -> {
+      prefix.writeTo(sink);
+      sink.put(bytes);
+    });
+  }
+
+  /**
+   * Compute the ID of a signed transaction, which is the hash of its canonical binary preceded by
+   * {@link HashPrefix#TRANSACTION_ID}.
+   *
+   * @param signedTransactionBytes The canonical binary of a signed transaction, as submitted to the ledger.
+   *
+   * @return An {@link UnsignedByteArray} holding the 32 byte transaction ID.
+   */
+  public static UnsignedByteArray transactionId(final UnsignedByteArray signedTransactionBytes) {
+    return hash(HashPrefix.TRANSACTION_ID, signedTransactionBytes);
+  }
+
+  /**
+   * Compute the hash that a single signer signs with a secp256k1 key, encoding {@code transactionJson} straight into
+   * the digest.
+   *
+   * @param transactionJson A {@link JsonNode} containing an unsigned transaction.
+   *
+   * @return An {@link UnsignedByteArray} holding the 32 byte signing hash.
+   *
+   * @see XrplBinaryCodec#encodeForSigning(JsonNode, BytesSink)
+   */
+  public static UnsignedByteArray signingHash(final JsonNode transactionJson) {
+    Objects.requireNonNull(transactionJson);
+    return hash(sink -> codec.encodeForSigning(transactionJson, sink));
+  }
+
+  /**
+   * Compute the hash that {@code signerAddress} signs with a secp256k1 key when multi-signing, encoding
+   * {@code transactionJson} straight into the digest.
+   *
+   * @param transactionJson A {@link JsonNode} containing an unsigned transaction.
+   * @param signerAddress   The classic address of the signer.
+   *
+   * @return An {@link UnsignedByteArray} holding the 32 byte signing hash.
+   *
+   * @see XrplBinaryCodec#encodeForMultiSigning(JsonNode, String, BytesSink)
+   */
+  public static UnsignedByteArray multiSigningHash(final JsonNode transactionJson, final String signerAddress) {
+    Objects.requireNonNull(transactionJson);
+    Objects.requireNonNull(signerAddress);
+    return hash(sink -> codec.encodeForMultiSigning(transactionJson, signerAddress, sink));
+  }
+
+  private static MessageDigest acquire() {
+    MessageDigest digest = idleDigest.get();
+    if (digest == null) {
+      // An enclosing call on this thread is using the cached digest.
+      return newDigest();
+    }
+    idleDigest.set(null);
+    return digest;
+  }
+
+  private static void release(final MessageDigest digest) {
+    digest.reset();
+    idleDigest.set(digest);
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance(ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      // Every Java platform is required to support SHA-512.
+      throw new IllegalStateException(e.getMessage(), e);
+    }
+  }
+
+}
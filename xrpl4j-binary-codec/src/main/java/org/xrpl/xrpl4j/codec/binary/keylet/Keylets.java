@@ -0,0 +1,282 @@
+package org.xrpl.xrpl4j.codec.binary.keylet;
+
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.Longs;
+import com.google.common.primitives.UnsignedBytes;
+import com.google.common.primitives.UnsignedInteger;
+import com.google.common.primitives.UnsignedLong;
+import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.hash.Sha512Half;
+import org.xrpl.xrpl4j.codec.binary.types.CurrencyType;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Computes the index of a ledger object from the fields that identify it, the same way rippled does, so that the
+ * object can be looked up directly with the {@code ledger_entry} method.
+ *
+ * <p>An index is the SHA-512Half of the object's {@link LedgerSpace} key followed by its identifying fields, where
+ * accounts are written as 20 byte AccountIDs, currencies as 20 byte currency codes and sequence numbers as big-endian
+ * UInt32s.</p>
+ *
+ * <p>The methods of this class may be called from any thread.</p>
+ */
+public final class Keylets {
+
+  private static final AddressCodec addressCodec = AddressCodec.getInstance();
+
+  private static final CurrencyType currencyType = new CurrencyType();
+
+  // The XRP currency code, which no trust line can hold.
+  private static final byte[] XRP_CURRENCY = new byte[20];
+
+  // A skip list of every 256th ledger is kept for each group of 65536 ledgers.
+  private static final int SKIP_LIST_SHIFT = 16;
+
+  private Keylets() {
+  }
+
+  /**
+   * The index of the {@code AccountRoot} of {@code account}.
+   *
+   * @param account The {@link Address} of the account.
+   *
+   * @return The {@link Hash256} index.
+   */
+  public static Hash256 accountRoot(final Address account) {
+    return index(LedgerSpace.ACCOUNT, accountId(account));
+  }
+
+  /**
+   * The index of the first page of the owner directory of {@code account}, which lists the objects that the account
+   * owns.
+   *
+   * @param account The {@link Address} of the account.
+   *
+   * @return The {@link Hash256} index.
+   */
+  public static Hash256 ownerDirectory(final Address account) {
+    return index(LedgerSpace.OWNER_DIRECTORY, accountId(account));
+  }
+
+  /**
+   * The index of a page of a directory, as named by the {@code IndexNext} and {@code IndexPrevious} fields of the
+   * directory's other pages.
+   *
+   * @param rootIndex The {@link Hash256} index of the first page of the directory.
+   * @param page      The number of the page, where the first page is page 0.
+   *
+   * @return The {@link Hash256} index, which is {@code rootIndex} for page 0.
+   */
+  public static Hash256 directoryPage(final Hash256 rootIndex, final UnsignedLong page) {
+    Objects.requireNonNull(rootIndex);
+    Objects.requireNonNull(page);
+    if (page.equals(UnsignedLong.ZERO)) {
+      return rootIndex;
+    }
+    return index(LedgerSpace.DIRECTORY_NODE, hash(rootIndex), Longs.toByteArray(page.longValue()));
+  }
+
+  /**
+   * The index of the {@code RippleState} that holds the trust line between two accounts in a currency. The order of
+   * the accounts does not matter.
+   *
+   * @param account      The {@link Address} of one account.
+   * @param otherAccount The {@link Address} of the other account.
+   * @param currency     A three character currency code, or a 40 character hex currency code.
+   *
+   * @return The {@link Hash256} index.
+   *
+   * @throws IllegalArgumentException if the accounts are the same, or {@code currency} is not a valid currency code or
+   *                                  is XRP.
+   */
+  public static Hash256 trustLine(final Address account, final Address otherAccount, final String currency) {
+    byte[] accountId = accountId(account);
+    byte[] otherAccountId = accountId(otherAccount);
+    int comparison = UnsignedBytes.lexicographicalComparator().compare(accountId, otherAccountId);
+    if (comparison == 0) {
+      throw new IllegalArgumentException("An account cannot have a trust line to itself: " + account.value());
+    }
+    byte[] currencyCode = currencyCode(currency);
+    if (Arrays.equals(currencyCode, XRP_CURRENCY)) {
+      throw new IllegalArgumentException("Trust lines cannot hold XRP");
+    }
+    return comparison < 0 ?
+      index(LedgerSpace.TRUST_LINE, accountId, otherAccountId, currencyCode) :
+      index(LedgerSpace.TRUST_LINE, otherAccountId, accountId, currencyCode);
+  }
+
+  /**
+   * The index of an {@code Offer}.
+   *
+   * @param account  The {@link Address} of the account that placed the offer.
+   * @param sequence The sequence number of the {@code OfferCreate} transaction that placed the offer.
+   *
+   * @return The {@link Hash256} index.
+   */
+  public static Hash256 offer(final Address account, final UnsignedInteger sequence) {
+    return index(LedgerSpace.OFFER, accountId(account), uint32(sequence));
+  }
+
+  /**
+   * The index of a {@code Check}.
+   *
+   * @param account  The {@link Address} of the account that created the check.
+   * @param sequence The sequence number of the {@code CheckCreate} transaction that created the check.
+   *
+   * @return The {@link Hash256} index.
+   */
+  public static Hash256 check(final Address account, final UnsignedInteger sequence) {
+    return index(LedgerSpace.CHECK, accountId(account), uint32(sequence));
+  }
+
+  /**
+   * The index of an {@code Escrow}.
+   *
+   * @param owner    The {@link Address} of the account that created the escrow.
+   * @param sequence The sequence number of the {@code EscrowCreate} transaction that created the escrow, which later
+   *                 transactions give as {@code OfferSequence}.
+   *
+   * @return The {@link Hash256} index.
+   */
+  public static Hash256 escrow(final Address owner, final UnsignedInteger sequence) {
+    return index(LedgerSpace.ESCROW, accountId(owner), uint32(sequence));
+  }
+
+  /**
+   * The index of a {@code PayChannel}.
+   *
+   * @param source      The {@link Address} of the account that created the channel.
+   * @param destination The {@link Address} of the account that the channel pays.
+   * @param sequence    The sequence number of the {@code PaymentChannelCreate} transaction that created the channel.
+   *
+   * @return The {@link Hash256} index, which is also the channel ID.
+   */
+  public static Hash256 paymentChannel(
+    final Address source,
+    final Address destination,
+    final UnsignedInteger sequence
+  ) {
+    return index(LedgerSpace.PAYMENT_CHANNEL, accountId(source), accountId(destination), uint32(sequence));
+  }
+
+  /**
+   * The index of a {@code Ticket}.
+   *
+   * @param account        The {@link Address} of the account that owns the ticket.
+   * @param ticketSequence The sequence number that the ticket reserves.
+   *
+   * @return The {@link Hash256} index.
+   */
+  public static Hash256 ticket(final Address account, final UnsignedInteger ticketSequence) {
+    return index(LedgerSpace.TICKET, accountId(account), uint32(ticketSequence));
+  }
+
+  /**
+   * The index of the {@code SignerList} of {@code account}.
+   *
+   * @param account The {@link Address} of the account.
+   *
+   * @return The {@link Hash256} index.
+   */
+  public static Hash256 signerList(final Address account) {
+    // Accounts have a single signer list, whose SignerListID is always 0.
+    return index(LedgerSpace.SIGNER_LIST, accountId(account), uint32(UnsignedInteger.ZERO));
+  }
+
+  /**
+   * The index of the {@code DepositPreauth} with which {@code owner} allows {@code authorized} to send it payments.
+   *
+   * @param owner      The {@link Address} of the account that granted the preauthorization.
+   * @param authorized The {@link Address} of the preauthorized account.
+   *
+   * @return The {@link Hash256} index.
+   */
+  public static Hash256 depositPreauth(final Address owner, final Address authorized) {
+    return index(LedgerSpace.DEPOSIT_PREAUTH, accountId(owner), accountId(authorized));
+  }
+
+  /**
+   * The index of the {@code LedgerHashes} object that lists the hashes of the most recent 256 ledgers.
+   *
+   * @return The {@link Hash256} index.
+   */
+  public static Hash256 ledgerHashes() {
+    return index(LedgerSpace.SKIP_LIST);
+  }
+
+  /**
+   * The index of the {@code LedgerHashes} object that lists the hash of every 256th ledger in the group of 65536
+   * ledgers that contains {@code ledgerIndex}.
+   *
+   * @param ledgerIndex The index of a flag ledger, which is a multiple of 256.
+   *
+   * @return The {@link Hash256} index.
+   */
+  public static Hash256 ledgerHashes(final UnsignedInteger ledgerIndex) {
+    Objects.requireNonNull(ledgerIndex);
+    return index(LedgerSpace.SKIP_LIST, Ints.toByteArray(ledgerIndex.intValue() >>> SKIP_LIST_SHIFT));
+  }
+
+  /**
+   * The index of the {@code Amendments} object.
+   *
+   * @return The {@link Hash256} index.
+   */
+  public static Hash256 amendments() {
+    return index(LedgerSpace.AMENDMENTS);
+  }
+
+  /**
+   * The index of the {@code FeeSettings} object.
+   *
+   * @return The {@link Hash256} index.
+   */
+  public static Hash256 feeSettings() {
+    return index(LedgerSpace.FEE_SETTINGS);
+  }
+
+  /**
+   * The index of the {@code NegativeUNL} object.
+   *
+   * @return The {@link Hash256} index.
+   */
+  public static Hash256 negativeUnl() {
+    return index(LedgerSpace.NEGATIVE_UNL);
+  }
+
+  private static Hash256 index(final LedgerSpace space, final byte[]... fields) {
+    UnsignedByteArray hash = Sha512Half.hash(sink -> {
+      space.writeTo(sink);
+      for (byte[] field : fields) {
+        sink.put(field);
+      }
+    });
+    return Hash256.of(hash.hexValue());
+  }
+
+  private static byte[] accountId(final Address account) {
+    Objects.requireNonNull(account);
+    return addressCodec.decodeAccountId(account).toByteArray();
+  }
+
+  private static byte[] currencyCode(final String currency) {
+    Objects.requireNonNull(currency);
+    return currencyType.fromJson(new TextNode(currency)).toBytes();
+  }
+
+  private static byte[] hash(final Hash256 hash) {
+    return UnsignedByteArray.fromHex(hash.value()).toByteArray();
+  }
+
+  private static byte[] uint32(final UnsignedInteger value) {
+    Objects.requireNonNull(value);
+    return Ints.toByteArray(value.intValue());
+  }
+
+}
@@ -0,0 +1,116 @@
+package org.xrpl.xrpl4j.codec.binary.keylet;
+
+import org.xrpl.xrpl4j.codec.binary.serdes.BytesSink;
+
+/**
+ * The two byte space keys that rippled puts in front of the fields that identify a ledger object before hashing them
+ * into the object's index, so that objects of different types never share an index. Each key is a single ASCII
+ * character written as a big-endian 16 bit integer.
+ */
+public enum LedgerSpace {
+
+  /**
+   * {@code a}: an {@code AccountRoot}.
+   */
+  ACCOUNT('a'),
+
+  /**
+   * {@code d}: a page of a directory, other than its first page.
+   */
+  DIRECTORY_NODE('d'),
+
+  /**
+   * {@code r}: a {@code RippleState}, or trust line.
+   */
+  TRUST_LINE('r'),
+
+  /**
+   * {@code o}: an {@code Offer}.
+   */
+  OFFER('o'),
+
+  /**
+   * {@code O}: the first page of an account's owner directory.
+   */
+  OWNER_DIRECTORY('O'),
+
+  /**
+   * {@code B}: the first page of an order book directory.
+   */
+  BOOK_DIRECTORY('B'),
+
+  /**
+   * {@code s}: a {@code LedgerHashes} object, or skip list.
+   */
+  SKIP_LIST('s'),
+
+  /**
+   * {@code u}: an {@code Escrow}.
+   */
+  ESCROW('u'),
+
+  /**
+   * {@code f}: the {@code Amendments} object.
+   */
+  AMENDMENTS('f'),
+
+  /**
+   * {@code e}: the {@code FeeSettings} object.
+   */
+  FEE_SETTINGS('e'),
+
+  /**
+   * {@code T}: a {@code Ticket}.
+   */
+  TICKET('T'),
+
+  /**
+   * {@code S}: a {@code SignerList}.
+   */
+  SIGNER_LIST('S'),
+
+  /**
+   * {@code x}: a {@code PayChannel}.
+   */
+  PAYMENT_CHANNEL('x'),
+
+  /**
+   * {@code C}: a {@code Check}.
+   */
+  CHECK('C'),
+
+  /**
+   * {@code p}: a {@code DepositPreauth}.
+   */
+  DEPOSIT_PREAUTH('p'),
+
+  /**
+   * {@code N}: the {@code NegativeUNL} object.
+   */
+  NEGATIVE_UNL('N');
+
+  private final char key;
+
+  LedgerSpace(final char key) {
+    this.key = key;
+  }
+
+  /**
+   * The character that identifies this space.
+   *
+   * @return A char.
+   */
+  public char key() {
+    return key;
+  }
+
+  /**
+   * Write the two bytes of this space key to {@code sink}.
+   *
+   * @param sink The {@link BytesSink} to write to.
+   */
+  public void writeTo(final BytesSink sink) {
+    sink.put(new byte[] {(byte) (key >>> 8), (byte) key});
+  }
+
+}
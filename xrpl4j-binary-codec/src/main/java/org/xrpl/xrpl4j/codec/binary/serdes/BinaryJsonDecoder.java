@@ -0,0 +1,141 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
+import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
+import org.xrpl.xrpl4j.codec.binary.types.STArrayType;
+import org.xrpl.xrpl4j.codec.binary.types.STObjectType;
+import org.xrpl.xrpl4j.codec.binary.types.SerializedType;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Decodes canonical XRPL binary to JSON in a single pass, writing tokens directly to a {@link JsonGenerator}.
+ *
+ * <p>Unlike {@link STObjectType#toJson()}, nested objects and arrays are not re-serialized and re-parsed, and no
+ * intermediate {@link com.fasterxml.jackson.databind.JsonNode} tree is built, so decoding is linear in the size of the
+ * input regardless of how deeply it is nested. The JSON written is the same as {@link STObjectType#toJson()}.</p>
+ *
+ * <p>This class holds no state, so a single instance may be shared between threads.</p>
+ */
+public class BinaryJsonDecoder {
+
+  private static final String ST_OBJECT = "STObject";
+  private static final String ST_ARRAY = "STArray";
+  private static final String UINT8 = "UInt8";
+  private static final String UINT16 = "UInt16";
+
+  private static final DefinitionsService definitionsService = DefinitionsService.getInstance();
+
+  /**
+   * Reads an STObject from {@code parser} and writes it to {@code generator} as a JSON object. Fields are read until
+   * an object end marker is found or {@code parser} has no more bytes.
+   *
+   * @param parser    A {@link BinaryParser} positioned at the first field of an STObject.
+   * @param generator The {@link JsonGenerator} to write to.
+   *
+   * @throws IOException if {@code generator} cannot be written to.
+   */
+  public void decodeObject(final BinaryParser parser, final JsonGenerator generator) throws IOException {
+    Objects.requireNonNull(parser);
+    Objects.requireNonNull(generator);
+
+    generator.writeStartObject();
+    while (parser.hasMore()) {
+      FieldInstance field = parser.readField().orElseThrow(() -> new IllegalArgumentException("bad field encountered"));
+      if (field.name().equals(STObjectType.OBJECT_END_MARKER)) {
+        break;
+      }
+      generator.writeFieldName(field.name());
+      writeFieldValue(parser, field, generator);
+    }
+    generator.writeEndObject();
+  }
+
+  /**
+   * Reads an STObject from {@code parser} and writes a JSON object containing only the fields named in {@code
+   * fieldNames} to {@code generator}. Other fields are skipped over without being decoded, and nested objects and
+   * arrays are only decoded if they are named themselves. Reading stops as soon as every named field has been found,
+   * so {@code parser} may be left part way through the object.
+   *
+   * @param parser     A {@link BinaryParser} positioned at the first field of an STObject.
+   * @param generator  The {@link JsonGenerator} to write to.
+   * @param fieldNames The names of the top-level fields to decode.
+   *
+   * @throws IOException if {@code generator} cannot be written to.
+   */
+  public void decodeObject(
+    final BinaryParser parser,
+    final JsonGenerator generator,
+    final Set<String> fieldNames
+  ) throws IOException {
+    Objects.requireNonNull(parser);
+    Objects.requireNonNull(generator);
+    Objects.requireNonNull(fieldNames);
+
+    generator.writeStartObject();
+    int remaining = fieldNames.size();
+    while (remaining > 0 && parser.hasMore()) {
+      FieldInstance field = parser.readField().orElseThrow(() -> new IllegalArgumentException("bad field encountered"));
+      if (field.name().equals(STObjectType.OBJECT_END_MARKER)) {
+        break;
+      }
+      if (fieldNames.contains(field.name())) {
+        generator.writeFieldName(field.name());
+        writeFieldValue(parser, field, generator);
+        remaining--;
+      } else {
+        parser.skipFieldValue(field);
+      }
+    }
+    generator.writeEndObject();
+  }
+
+  private void decodeArray(final BinaryParser parser, final JsonGenerator generator) throws IOException {
+    generator.writeStartArray();
+    while (parser.hasMore()) {
+      FieldInstance field = parser.readField().orElseThrow(() -> new IllegalArgumentException("bad field encountered"));
+      if (field.name().equals(STArrayType.ARRAY_END_MARKER_NAME)) {
+        break;
+      }
+      generator.writeStartObject();
+      generator.writeFieldName(field.name());
+      decodeObject(parser, generator);
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+  }
+
+  private void writeFieldValue(
+    final BinaryParser parser,
+    final FieldInstance field,
+    final JsonGenerator generator
+  ) throws IOException {
+    switch (field.type()) {
+      case ST_OBJECT:
+        decodeObject(parser, generator);
+        return;
+      case ST_ARRAY:
+        decodeArray(parser, generator);
+        return;
+      case UINT8:
+      case UINT16:
+        // TransactionType, LedgerEntryType and TransactionResult are written by name rather than by value.
+        SerializedType<?> value = parser.readFieldValue(field);
+        Optional<String> specialized =
+          definitionsService.mapFieldRawValueToSpecialization(field.name(), value.toJson().asText());
+        if (specialized.isPresent()) {
+          generator.writeString(specialized.get());
+        } else {
+          value.toJson(generator);
+        }
+        return;
+      default:
+        parser.readFieldValue(field).toJson(generator);
+    }
+  }
+
+}
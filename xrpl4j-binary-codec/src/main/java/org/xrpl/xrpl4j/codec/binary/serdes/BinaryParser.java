@@ -1,22 +1,27 @@
 package org.xrpl.xrpl4j.codec.binary.serdes;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.primitives.UnsignedLong;
-import org.xrpl.xrpl4j.codec.addresses.ByteUtils;
+import org.xrpl.xrpl4j.codec.addresses.Hex;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.FieldHeader;
 import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
 import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
 import org.xrpl.xrpl4j.codec.binary.types.FieldWithValue;
+import org.xrpl.xrpl4j.codec.binary.types.HopType;
+import org.xrpl.xrpl4j.codec.binary.types.STArrayType;
+import org.xrpl.xrpl4j.codec.binary.types.STObjectType;
 import org.xrpl.xrpl4j.codec.binary.types.SerializedType;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.ByteBuffer;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
 /**
- * Parser for XRPL binary hex values.
+ * Parser for XRPL binary values. The parser reads from a byte array or {@link ByteBuffer} using an int cursor; hex
+ * input is decoded once when the parser is constructed.
  */
 public class BinaryParser {
 
@@ -30,22 +35,113 @@ public class BinaryParser {
   public static final int MAX_BYTE_VALUE = 256;
   // max value that can be represented in using two 8-bit bytes
   public static final int MAX_DOUBLE_BYTE_VALUE = 65536;
-  // 1 byte encodes to 2 characters in hex
-  private static final int BYTE_HEX_LENGTH = 2;
-  private final String hex;
+
+  private static final DefinitionsService definitionsService = DefinitionsService.getInstance();
+
+  private static final int NATIVE_AMOUNT_WIDTH = 8;
+  private static final int ISSUED_CURRENCY_AMOUNT_WIDTH = 48;
+  private static final int HOP_FIELD_WIDTH = 20;
+  private static final int PATHSET_END = 0x00;
+  private static final int PATH_SEPARATOR = 0xFF;
+
+  private static final Map<String, Integer> FIXED_WIDTHS = ImmutableMap.<String, Integer>builder()
+    .put("UInt8", 1)
+    .put("UInt16", 2)
+    .put("UInt32", 4)
+    .put("UInt64", 8)
+    .put("Hash128", 16)
+    .put("Hash160", 20)
+    .put("Hash256", 32)
+    .put("Currency", 20)
+    .put("AccountID", 20)
+    .build();
+
+  // set when the parser reads from a heap byte[], in which case values are returned as views over it.
+  private final byte[] array;
+
+  // set when the parser reads from a direct or memory-mapped ByteBuffer that has no backing array.
+  private final ByteBuffer buffer;
+
+  private final int start;
+
+  private final int size;
 
   private int cursor = 0;
 
+  /**
+   * Construct a parser over a hex-encoded {@link String}. The hex is decoded once, up front.
+   *
+   * @param hex A {@link String} containing hex-encoded XRPL binary.
+   */
   public BinaryParser(String hex) {
-    this.hex = hex;
+    this(Hex.decode(hex));
   }
 
+  /**
+   * Construct a parser over a byte array without copying it. {@link UnsignedByteArray}s returned by {@link #read(int)}
+   * are views over {@code bytes}, so {@code bytes} must not be modified while those values are in use.
+   *
+   * @param bytes A byte array containing XRPL binary.
+   */
+  public BinaryParser(byte[] bytes) {
+    this(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Construct a parser over a range of a byte array without copying it. {@link UnsignedByteArray}s returned by {@link
+   * #read(int)} are views over {@code bytes}, so {@code bytes} must not be modified while those values are in use.
+   *
+   * @param bytes  A byte array containing XRPL binary.
+   * @param offset The index of the first byte to parse.
+   * @param length The number of bytes to parse.
+   */
+  public BinaryParser(byte[] bytes, int offset, int length) {
+    Objects.requireNonNull(bytes);
+    if (offset < 0 || length < 0 || offset + length > bytes.length) {
+      throw new IndexOutOfBoundsException(
+        "offset: " + offset + ", length: " + length + ", array length: " + bytes.length
+      );
+    }
+    this.array = bytes;
+    this.buffer = null;
+    this.start = offset;
+    this.size = length;
+  }
+
+  /**
+   * Construct a parser over the remaining bytes of a {@link ByteBuffer}, such as a {@link
+   * java.nio.MappedByteBuffer}. The position of {@code buffer} is not changed. Heap buffers are parsed without copying;
+   * values read from direct buffers are copied out as they are read.
+   *
+   * @param buffer A {@link ByteBuffer} containing XRPL binary.
+   */
+  public BinaryParser(ByteBuffer buffer) {
+    Objects.requireNonNull(buffer);
+    if (buffer.hasArray()) {
+      this.array = buffer.array();
+      this.buffer = null;
+      this.start = buffer.arrayOffset() + buffer.position();
+    } else {
+      this.array = null;
+      this.buffer = buffer;
+      this.start = buffer.position();
+    }
+    this.size = buffer.remaining();
+  }
+
+  /**
+   * Get the next byte without moving the cursor.
+   *
+   * @return The next {@link UnsignedByte}.
+   */
   public UnsignedByte peek() {
-    return UnsignedByte.of(hex.substring(cursor, cursor + BYTE_HEX_LENGTH));
+    checkAvailable(1);
+    return UnsignedByte.of(byteAt(cursor));
   }
 
   public void skip(int bytesToSkip) {
-    cursor += bytesToSkip * BYTE_HEX_LENGTH;
+    checkAvailable(bytesToSkip);
+    cursor += bytesToSkip;
   }
 
   /**
@@ -56,39 +152,83 @@ public class BinaryParser {
    * @return An {@link UnsignedByteArray}.
    */
   public UnsignedByteArray read(int bytesToRead) {
-    if (cursor >= hex.length()) {
+    if (cursor >= size) {
       throw new IndexOutOfBoundsException("cursor moved past end of buffer");
     }
-    List<UnsignedByte> result = new ArrayList<>();
-    for (int i = 0; i < bytesToRead; i++) {
-      result.add(peek());
-      skip(1);
+    checkAvailable(bytesToRead);
+    UnsignedByteArray result;
+    if (array != null) {
+      result = UnsignedByteArray.wrap(array, start + cursor, bytesToRead);
+    } else {
+      byte[] copy = new byte[bytesToRead];
+      for (int i = 0; i < bytesToRead; i++) {
+        copy[i] = buffer.get(start + cursor + i);
+      }
+      result = UnsignedByteArray.of(copy);
     }
-    return new UnsignedByteArray(result);
+    cursor += bytesToRead;
+    return result;
   }
 
   public UnsignedLong readUInt8() {
-    return readUInt(1);
+    return UnsignedLong.valueOf(readUInt8AsInt());
   }
 
   public UnsignedLong readUInt16() {
-    return readUInt(2);
+    return UnsignedLong.valueOf(readUInt16AsInt());
   }
 
   public UnsignedLong readUInt32() {
-    return readUInt(4);
+    return UnsignedLong.valueOf(readUInt32AsLong());
   }
 
   public UnsignedLong readUInt64() {
+    return UnsignedLong.fromLongBits(readUInt64AsLong());
+  }
+
+  /**
+   * Read a UInt8 as a primitive.
+   *
+   * @return The value of the next byte, between 0 and 255.
+   */
+  public int readUInt8AsInt() {
+    return (int) readUInt(1);
+  }
+
+  /**
+   * Read a big-endian UInt16 as a primitive.
+   *
+   * @return The value of the next 2 bytes, between 0 and 65535.
+   */
+  public int readUInt16AsInt() {
+    return (int) readUInt(2);
+  }
+
+  /**
+   * Read a big-endian UInt32 as a primitive.
+   *
+   * @return The value of the next 4 bytes, between 0 and 2^32 - 1.
+   */
+  public long readUInt32AsLong() {
+    return readUInt(4);
+  }
+
+  /**
+   * Read a big-endian UInt64 as a primitive. Values of 2^63 or more are returned as negative longs, so callers should
+   * use the unsigned methods on {@link Long} (or {@link UnsignedLong#fromLongBits(long)}) to interpret them.
+   *
+   * @return The bits of the next 8 bytes.
+   */
+  public long readUInt64AsLong() {
     return readUInt(8);
   }
 
   public int size() {
-    return hex.length() / BYTE_HEX_LENGTH;
+    return size;
   }
 
   public boolean hasMore() {
-    return cursor < hex.length();
+    return cursor < size;
   }
 
   /**
@@ -97,15 +237,15 @@ public class BinaryParser {
    * @return The length of the variable length encoded bytes.
    */
   public int readVariableLengthLength() {
-    int firstByte = this.readUInt8().intValue();
+    int firstByte = this.readUInt8AsInt();
     if (firstByte <= MAX_SINGLE_BYTE_LENGTH) {
       return firstByte;
     } else if (firstByte <= MAX_SECOND_BYTE_VALUE) {
-      int b2 = this.readUInt8().intValue();
-      return MAX_SECOND_BYTE_VALUE - 1 + (firstByte - MAX_SECOND_BYTE_VALUE - 1) * MAX_BYTE_VALUE + b2;
+      int b2 = this.readUInt8AsInt();
+      return MAX_SINGLE_BYTE_LENGTH + 1 + (firstByte - MAX_SINGLE_BYTE_LENGTH - 1) * MAX_BYTE_VALUE + b2;
     } else if (firstByte <= 254) {
-      int b2 = this.readUInt8().intValue();
-      int b3 = this.readUInt8().intValue();
+      int b2 = this.readUInt8AsInt();
+      int b3 = this.readUInt8AsInt();
       return MAX_DOUBLE_BYTE_LENGTH + (firstByte - MAX_SECOND_BYTE_VALUE - 1) * MAX_DOUBLE_BYTE_VALUE +
         b2 * MAX_BYTE_VALUE +
         b3;
@@ -119,36 +259,44 @@ public class BinaryParser {
    * @return Field ordinal.
    */
   public FieldHeader readFieldHeader() {
-    int type = this.readUInt8().intValue();
+    int ordinal = readFieldOrdinal();
+    return FieldHeader.builder().fieldCode(ordinal & 0xFFFF).typeCode(ordinal >>> 16).build();
+  }
+
+  /**
+   * Read the field from the BinaryParser.
+   *
+   * @return The field represented by the bytes at the head of the BinaryParser.
+   */
+  public Optional<FieldInstance> readField() {
+    int ordinal = readFieldOrdinal();
+    return definitionsService.getFieldInstance(ordinal >>> 16, ordinal & 0xFFFF);
+  }
+
+  /**
+   * Reads a field header and returns its type code and field code packed as {@code typeCode << 16 | fieldCode}, the
+   * same layout as {@link FieldInstance#ordinal()}.
+   */
+  private int readFieldOrdinal() {
+    int type = this.readUInt8AsInt();
     int nth = type & 15;
     type >>= 4;
 
     if (type == 0) {
-      type = this.readUInt8().intValue();
+      type = this.readUInt8AsInt();
       if (type == 0 || type < 16) {
         throw new Error("Cannot read FieldOrdinal, type_code out of range");
       }
     }
 
     if (nth == 0) {
-      nth = this.readUInt8().intValue();
+      nth = this.readUInt8AsInt();
       if (nth == 0 || nth < 16) {
         throw new Error("Cannot read FieldOrdinal, field_code out of range");
       }
     }
 
-    return FieldHeader.builder().fieldCode(nth).typeCode(type).build();
-  }
-
-  /**
-   * Read the field from the BinaryParser.
-   *
-   * @return The field represented by the bytes at the head of the BinaryParser.
-   */
-  public Optional<FieldInstance> readField() {
-    FieldHeader header = readFieldHeader();
-    String fieldName = DefinitionsService.getInstance().getFieldName(header);
-    return DefinitionsService.getInstance().getFieldInstance(fieldName);
+    return (type << 16) | nth;
   }
 
   /**
@@ -205,6 +353,69 @@ public class BinaryParser {
     }
   }
 
+  /**
+   * Move past the value of {@code field} without reading it. Variable-length values are skipped using their length
+   * prefix and fixed-width values using their width; only STObject, STArray and PathSet values, which have no length
+   * prefix, are walked to find where they end.
+   *
+   * @param field The {@link FieldInstance} whose value is at the head of this parser.
+   */
+  public void skipFieldValue(final FieldInstance field) {
+    Objects.requireNonNull(field);
+
+    if (field.isVariableLengthEncoded()) {
+      skip(readVariableLengthLength());
+      return;
+    }
+    switch (field.type()) {
+      case "STObject":
+        skipFields(STObjectType.OBJECT_END_MARKER);
+        return;
+      case "STArray":
+        skipFields(STArrayType.ARRAY_END_MARKER_NAME);
+        return;
+      case "Amount":
+        // the first bit of the first byte is 0 for native XRP amounts, which are 8 bytes instead of 48
+        skip((peek().asInt() & 0x80) == 0 ? NATIVE_AMOUNT_WIDTH : ISSUED_CURRENCY_AMOUNT_WIDTH);
+        return;
+      case "PathSet":
+        skipPathSet();
+        return;
+      default:
+        Integer width = FIXED_WIDTHS.get(field.type());
+        if (width == null) {
+          throw new IllegalArgumentException("cannot skip field " + field.name() + " of type " + field.type());
+        }
+        skip(width);
+    }
+  }
+
+  private void skipFields(final String endMarkerName) {
+    while (hasMore()) {
+      FieldInstance field = readField().orElseThrow(() -> new IllegalArgumentException("bad field encountered"));
+      if (field.name().equals(endMarkerName)) {
+        return;
+      }
+      skipFieldValue(field);
+    }
+  }
+
+  private void skipPathSet() {
+    while (hasMore()) {
+      int type = readUInt8AsInt();
+      if (type == PATHSET_END) {
+        return;
+      }
+      if (type == PATH_SEPARATOR) {
+        continue;
+      }
+      int hopFields = ((type & HopType.TYPE_ACCOUNT) != 0 ? 1 : 0) +
+        ((type & HopType.TYPE_CURRENCY) != 0 ? 1 : 0) +
+        ((type & HopType.TYPE_ISSUER) != 0 ? 1 : 0);
+      skip(hopFields * HOP_FIELD_WIDTH);
+    }
+  }
+
   /**
    * Get the next field and value from the BinaryParser.
    *
@@ -219,8 +430,24 @@ public class BinaryParser {
           .build());
   }
 
-  private UnsignedLong readUInt(int bytes) {
-    return ByteUtils.toUnsignedLong(read(bytes));
+  private long readUInt(int bytes) {
+    checkAvailable(bytes);
+    long value = 0;
+    for (int i = 0; i < bytes; i++) {
+      value = (value << 8) | (byteAt(cursor + i) & 0xFF);
+    }
+    cursor += bytes;
+    return value;
+  }
+
+  private byte byteAt(int index) {
+    return array != null ? array[start + index] : buffer.get(start + index);
+  }
+
+  private void checkAvailable(int bytes) {
+    if (bytes < 0 || cursor + bytes > size) {
+      throw new IndexOutOfBoundsException("cursor moved past end of buffer");
+    }
   }
 
 }
@@ -2,9 +2,7 @@ package org.xrpl.xrpl4j.codec.binary.serdes;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
-import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
-import org.xrpl.xrpl4j.codec.binary.FieldHeaderCodec;
 import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
 import org.xrpl.xrpl4j.codec.binary.types.SerializedType;
 
@@ -15,7 +13,7 @@ import java.util.Objects;
  */
 public class BinarySerializer {
 
-  private final UnsignedByteArray sink;
+  private final BytesSink sink;
 
   /**
    * Required-args Constructor.
@@ -23,40 +21,80 @@ public class BinarySerializer {
    * @param sink An {@link UnsignedByteArray}.
    */
   public BinarySerializer(final UnsignedByteArray sink) {
-    this.sink = sink;
+    this(BytesSink.of(sink));
+  }
+
+  /**
+   * Construct a {@link BinarySerializer} that writes to {@code sink}.
+   *
+   * @param sink A {@link BytesSink}.
+   */
+  public BinarySerializer(final BytesSink sink) {
+    this.sink = Objects.requireNonNull(sink);
   }
 
   public void put(final String hexBytes) {
-    sink.append(UnsignedByteArray.fromHex(hexBytes));
+    sink.put(UnsignedByteArray.fromHex(hexBytes));
+  }
+
+  /**
+   * Write a single byte.
+   *
+   * @param value The byte to write.
+   */
+  public void put(final byte value) {
+    sink.put(value);
   }
 
   public void write(final UnsignedByteArray list) {
-    this.sink.append(list);
+    this.sink.put(list);
   }
 
   /**
-   * Calculate the header of Variable Length encoded bytes.
+   * Get the number of bytes in the variable length prefix of a value of {@code length} bytes.
    *
-   * @param length the length of the bytes.
+   * @param length The length of the value.
+   *
+   * @return 1, 2 or 3.
    */
-  private UnsignedByteArray encodeVariableLength(int length) {
+  static int lengthPrefixLength(final int length) {
     if (length <= 192) {
-      return UnsignedByteArray.of(UnsignedByte.of(length));
+      return 1;
     } else if (length <= 12480) {
-      length -= 193;
-      int byte1 = 193 + (length >>> 8);
-      int byte2 = length & 0xff;
-      return UnsignedByteArray.of(UnsignedByte.of(byte1), UnsignedByte.of(byte2));
+      return 2;
     } else if (length <= 918744) {
-      length -= 12481;
-      int byte1 = 241 + (length >>> 16);
-      int byte2 = (length >> 8) & 0xff;
-      int byte3 = length & 0xff;
-      return UnsignedByteArray.of(UnsignedByte.of(byte1), UnsignedByte.of(byte2), UnsignedByte.of(byte3));
+      return 3;
     }
     throw new Error("Overflow error");
   }
 
+  /**
+   * Write the variable length prefix of a value of {@code length} bytes to {@code sink}.
+   *
+   * @param length The length of the value.
+   * @param sink   The {@link BytesSink} to write to.
+   */
+  static void writeLengthPrefix(int length, final BytesSink sink) {
+    switch (lengthPrefixLength(length)) {
+      case 1: {
+        sink.put((byte) length);
+        break;
+      }
+      case 2: {
+        length -= 193;
+        sink.put((byte) (193 + (length >>> 8)));
+        sink.put((byte) length);
+        break;
+      }
+      default: {
+        length -= 12481;
+        sink.put((byte) (241 + (length >>> 16)));
+        sink.put((byte) (length >>> 8));
+        sink.put((byte) length);
+      }
+    }
+  }
+
   /**
    * Write field and value to BinarySerializer.
    *
@@ -66,8 +104,7 @@ public class BinarySerializer {
   public void writeFieldAndValue(final FieldInstance field, final SerializedType value) {
     Objects.requireNonNull(field);
     Objects.requireNonNull(value);
-    String fieldHeaderHex = FieldHeaderCodec.getInstance().encode(field.name());
-    this.sink.append(UnsignedByteArray.fromHex(fieldHeaderHex));
+    this.sink.put(field.headerBytes());
 
     if (field.isVariableLengthEncoded()) {
       this.writeLengthEncoded(value);
@@ -87,8 +124,27 @@ public class BinarySerializer {
   public void writeFieldAndValue(final FieldInstance field, final JsonNode value) throws JsonProcessingException {
     Objects.requireNonNull(field);
     Objects.requireNonNull(value);
-    SerializedType typedValue = SerializedType.getTypeByName(field.type()).fromJson(value);
-    writeFieldAndValue(field, typedValue);
+    SerializedType<?> type = SerializedType.getTypeByName(field.type());
+    if (!field.isVariableLengthEncoded()) {
+      this.sink.put(field.headerBytes());
+      type.encode(value, this.sink);
+    } else if (this.sink instanceof EncodingContext) {
+      // Write the value in place and insert its length in front of it afterwards, rather than collecting it first.
+      EncodingContext context = (EncodingContext) this.sink;
+      context.put(field.headerBytes());
+      int start = context.beginLengthPrefixed();
+      type.encode(value, context);
+      context.endLengthPrefixed(start);
+    } else {
+      // Any other sink gets its bytes as they are produced, so only the value itself is collected, in this thread's
+      // context, to find the length to write in front of it.
+      try (EncodingContext context = EncodingContext.acquire()) {
+        type.encode(value, context);
+        this.sink.put(field.headerBytes());
+        writeLengthPrefix(context.size(), this.sink);
+        context.writeTo(this.sink);
+      }
+    }
   }
 
   /**
@@ -98,10 +154,8 @@ public class BinarySerializer {
    */
   public void writeLengthEncoded(final SerializedType value) {
     Objects.requireNonNull(value);
-    UnsignedByteArray bytes = UnsignedByteArray.empty();
-    value.toBytesSink(bytes);
-    this.put(this.encodeVariableLength(bytes.length()).hexValue());
-    this.write(bytes);
+    writeLengthPrefix(value.length(), this.sink);
+    value.toBytesSink(this.sink);
   }
 
 }
@@ -0,0 +1,96 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+import org.xrpl.xrpl4j.codec.addresses.Hex;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+
+import java.security.MessageDigest;
+
+/**
+ * A destination for serialized bytes. {@link BinarySerializer} and
+ * {@link org.xrpl.xrpl4j.codec.binary.types.SerializedType#toBytesSink(BytesSink)} write to a sink, so the same
+ * encoding pass can collect bytes in memory, feed them straight into a {@link MessageDigest}, or both.
+ *
+ * <p>Sinks are not thread-safe.</p>
+ */
+public interface BytesSink {
+
+  /**
+   * Construct a {@link BytesSink} that appends to {@code array}.
+   *
+   * @param array The {@link UnsignedByteArray} to append to.
+   *
+   * @return A {@link BytesSink}.
+   */
+  static BytesSink of(final UnsignedByteArray array) {
+    return new UnsignedByteArraySink(array);
+  }
+
+  /**
+   * Construct a {@link BytesSink} that updates {@code digest}, so that bytes can be hashed without being collected
+   * first.
+   *
+   * @param digest The {@link MessageDigest} to update.
+   *
+   * @return A {@link BytesSink}.
+   */
+  static BytesSink of(final MessageDigest digest) {
+    return new MessageDigestSink(digest);
+  }
+
+  /**
+   * Construct a {@link BytesSink} that writes every byte to both {@code first} and {@code second}, for example to
+   * collect a transaction blob and compute its hash in the same pass.
+   *
+   * @param first  The first {@link BytesSink} to write to.
+   * @param second The second {@link BytesSink} to write to.
+   *
+   * @return A {@link BytesSink}.
+   */
+  static BytesSink tee(final BytesSink first, final BytesSink second) {
+    return new TeeSink(first, second);
+  }
+
+  /**
+   * Write a single byte.
+   *
+   * @param value The byte to write.
+   */
+  void put(byte value);
+
+  /**
+   * Write all of {@code bytes}.
+   *
+   * @param bytes The bytes to write.
+   */
+  default void put(byte[] bytes) {
+    put(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Write {@code length} bytes of {@code bytes}, starting at {@code offset}.
+   *
+   * @param bytes  The array holding the bytes to write.
+   * @param offset The index of the first byte to write.
+   * @param length The number of bytes to write.
+   */
+  void put(byte[] bytes, int offset, int length);
+
+  /**
+   * Write all of {@code bytes}.
+   *
+   * @param bytes The {@link UnsignedByteArray} to write.
+   */
+  void put(UnsignedByteArray bytes);
+
+  /**
+   * Write the bytes that {@code hex} encodes.
+   *
+   * @param hex A {@link CharSequence} of an even number of hex digits, of either case.
+   *
+   * @throws IllegalArgumentException if {@code hex} is not valid hex.
+   */
+  default void putHex(CharSequence hex) {
+    put(Hex.decode(hex));
+  }
+
+}
@@ -0,0 +1,196 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+import org.xrpl.xrpl4j.codec.addresses.Hex;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A reusable buffer that an object is encoded into before its bytes are handed on, so that encoding a transaction does
+ * not allocate a new buffer for the transaction, for each of its inner objects and arrays, or for each of its length
+ * prefixed fields.
+ *
+ * <p>The value of a length prefixed field is written straight after the field header with
+ * {@link #beginLengthPrefixed()} and {@link #endLengthPrefixed(int)}, which then inserts the prefix in front of it in
+ * place, because the length of the value is not known until it has been written.</p>
+ *
+ * <p>{@link #acquire()} lends the calling thread its own context, which is reset and returned to the thread by
+ * {@link #close()}, so steady-state encoding reuses the same buffer. A context can also be constructed and passed
+ * around explicitly. Contexts are not thread-safe, and must not be used after they are closed.</p>
+ */
+public final class EncodingContext implements BytesSink, AutoCloseable {
+
+  private static final int INITIAL_CAPACITY = 512;
+
+  // A context that has grown beyond this, for example to encode an unusually large object, is not kept for reuse.
+  private static final int MAX_RETAINED_CAPACITY = 1 << 16;
+
+  // Holds the calling thread's idle context, or null while that context is in use by an enclosing call.
+  private static final ThreadLocal<EncodingContext> idleContext =
+    ThreadLocal.withInitial(() -> new EncodingContext(true));
+
+  private final boolean threadLocal;
+
+  // Lets an UnsignedByteArray hand over its backing array without copying it.
+  private final OutputStream bufferStream = new OutputStream() {
+    @Override
+    public void write(final int value) {
+      put((byte) value);
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) {
+      put(bytes, offset, length);
+    }
+  };
+
+  private byte[] buffer = new byte[INITIAL_CAPACITY];
+
+  private int size;
+
+  /**
+   * Construct an empty {@link EncodingContext} that is owned by the caller.
+   */
+  public EncodingContext() {
+    this(false);
+  }
+
+  private EncodingContext(final boolean threadLocal) {
+    this.threadLocal = threadLocal;
+  }
+
+  /**
+   * Get an empty {@link EncodingContext} for the calling thread, which must be closed when the caller is done with it.
+   * If the thread's own context is already in use by an enclosing call, a new context is returned instead.
+   *
+   * @return An empty {@link EncodingContext}.
+   */
+  public static EncodingContext acquire() {
+    EncodingContext context = idleContext.get();
+    if (context == null) {
+      return new EncodingContext();
+    }
+    idleContext.set(null);
+    return context;
+  }
+
+  @Override
+  public void put(final byte value) {
+    ensureCapacity(1);
+    buffer[size++] = value;
+  }
+
+  @Override
+  public void put(final byte[] bytes, final int offset, final int length) {
+    Objects.requireNonNull(bytes);
+    ensureCapacity(length);
+    System.arraycopy(bytes, offset, buffer, size, length);
+    size += length;
+  }
+
+  @Override
+  public void put(final UnsignedByteArray bytes) {
+    Objects.requireNonNull(bytes);
+    try {
+      bytes.writeTo(bufferStream);
+    } catch (IOException e) {
+      // bufferStream never throws.
+      throw new IllegalStateException(e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public void putHex(final CharSequence hex) {
+    Objects.requireNonNull(hex);
+    int length = hex.length() / 2;
+    ensureCapacity(length);
+    Hex.decode(hex, 0, hex.length(), buffer, size);
+    size += length;
+  }
+
+  /**
+   * Start a length prefixed value, which is then written to this context as usual.
+   *
+   * @return The position of the value, to pass to {@link #endLengthPrefixed(int)}.
+   */
+  public int beginLengthPrefixed() {
+    return size;
+  }
+
+  /**
+   * Finish a length prefixed value by inserting the variable length prefix of its length in front of it.
+   *
+   * @param start The position returned by the matching call to {@link #beginLengthPrefixed()}.
+   */
+  public void endLengthPrefixed(final int start) {
+    if (start < 0 || start > size) {
+      throw new IndexOutOfBoundsException("start: " + start + ", size: " + size);
+    }
+    int length = size - start;
+    int prefixLength = BinarySerializer.lengthPrefixLength(length);
+    ensureCapacity(prefixLength);
+    System.arraycopy(buffer, start, buffer, start + prefixLength, length);
+    size = start;
+    BinarySerializer.writeLengthPrefix(length, this);
+    size += length;
+  }
+
+  /**
+   * Get the number of bytes written to this context since it was acquired or last reset.
+   *
+   * @return The number of bytes.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Discard the bytes written to this context, keeping its buffer for reuse.
+   */
+  public void reset() {
+    size = 0;
+  }
+
+  /**
+   * Write the bytes in this context to {@code sink}.
+   *
+   * @param sink The {@link BytesSink} to write to.
+   */
+  public void writeTo(final BytesSink sink) {
+    Objects.requireNonNull(sink);
+    sink.put(buffer, 0, size);
+  }
+
+  /**
+   * Copy the bytes in this context to a new {@link UnsignedByteArray} of exactly the right size.
+   *
+   * @return An {@link UnsignedByteArray}.
+   */
+  public UnsignedByteArray toUnsignedByteArray() {
+    return UnsignedByteArray.wrap(Arrays.copyOf(buffer, size), 0, size);
+  }
+
+  /**
+   * Reset this context and, if it was lent by {@link #acquire()}, return it to its thread for reuse.
+   */
+  @Override
+  public void close() {
+    reset();
+    if (buffer.length > MAX_RETAINED_CAPACITY) {
+      buffer = new byte[INITIAL_CAPACITY];
+    }
+    if (threadLocal) {
+      idleContext.set(this);
+    }
+  }
+
+  private void ensureCapacity(final int additional) {
+    if (additional > buffer.length - size) {
+      buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+    }
+  }
+
+}
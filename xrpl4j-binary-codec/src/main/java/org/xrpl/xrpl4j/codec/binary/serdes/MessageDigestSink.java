@@ -0,0 +1,54 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.util.Objects;
+
+/**
+ * A {@link BytesSink} that updates a {@link MessageDigest}.
+ */
+final class MessageDigestSink implements BytesSink {
+
+  private final MessageDigest digest;
+
+  // Lets an UnsignedByteArray hand over its backing array without copying it.
+  private final OutputStream digestStream = new OutputStream() {
+    @Override
+    public void write(final int value) {
+      digest.update((byte) value);
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) {
+      digest.update(bytes, offset, length);
+    }
+  };
+
+  MessageDigestSink(final MessageDigest digest) {
+    this.digest = Objects.requireNonNull(digest);
+  }
+
+  @Override
+  public void put(final byte value) {
+    digest.update(value);
+  }
+
+  @Override
+  public void put(final byte[] bytes, final int offset, final int length) {
+    digest.update(bytes, offset, length);
+  }
+
+  @Override
+  public void put(final UnsignedByteArray bytes) {
+    try {
+      bytes.writeTo(digestStream);
+    } catch (IOException e) {
+      // digestStream never throws.
+      throw new IllegalStateException(e.getMessage(), e);
+    }
+  }
+
+}
@@ -0,0 +1,45 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+
+import java.util.Objects;
+
+/**
+ * A {@link BytesSink} that writes to two other sinks.
+ */
+final class TeeSink implements BytesSink {
+
+  private final BytesSink first;
+
+  private final BytesSink second;
+
+  TeeSink(final BytesSink first, final BytesSink second) {
+    this.first = Objects.requireNonNull(first);
+    this.second = Objects.requireNonNull(second);
+  }
+
+  @Override
+  public void put(final byte value) {
+    first.put(value);
+    second.put(value);
+  }
+
+  @Override
+  public void put(final byte[] bytes) {
+    first.put(bytes);
+    second.put(bytes);
+  }
+
+  @Override
+  public void put(final byte[] bytes, final int offset, final int length) {
+    first.put(bytes, offset, length);
+    second.put(bytes, offset, length);
+  }
+
+  @Override
+  public void put(final UnsignedByteArray bytes) {
+    first.put(bytes);
+    second.put(bytes);
+  }
+
+}
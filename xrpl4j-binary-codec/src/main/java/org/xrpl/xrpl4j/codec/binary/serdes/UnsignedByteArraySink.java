@@ -0,0 +1,44 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A {@link BytesSink} that appends to an {@link UnsignedByteArray}.
+ */
+final class UnsignedByteArraySink implements BytesSink {
+
+  private final UnsignedByteArray array;
+
+  UnsignedByteArraySink(final UnsignedByteArray array) {
+    this.array = Objects.requireNonNull(array);
+  }
+
+  @Override
+  public void put(final byte value) {
+    array.append(UnsignedByte.of(value));
+  }
+
+  @Override
+  public void put(final byte[] bytes) {
+    array.append(bytes);
+  }
+
+  @Override
+  public void put(final byte[] bytes, final int offset, final int length) {
+    if (offset == 0 && length == bytes.length) {
+      array.append(bytes);
+    } else {
+      array.append(Arrays.copyOfRange(bytes, offset, offset + length));
+    }
+  }
+
+  @Override
+  public void put(final UnsignedByteArray bytes) {
+    array.append(bytes);
+  }
+
+}
@@ -0,0 +1,174 @@
+package org.xrpl.xrpl4j.codec.binary.shamap;
+
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.Longs;
+import com.google.common.primitives.UnsignedInteger;
+import com.google.common.primitives.UnsignedLong;
+import org.xrpl.xrpl4j.codec.addresses.Hex;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.hash.HashPrefix;
+import org.xrpl.xrpl4j.codec.binary.hash.Sha512Half;
+import org.xrpl.xrpl4j.model.client.common.LedgerIndex;
+import org.xrpl.xrpl4j.model.client.transactions.TransactionResult;
+import org.xrpl.xrpl4j.model.ledger.ImmutableLedgerHeader;
+import org.xrpl.xrpl4j.model.ledger.LedgerHeader;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Computes ledger hashes, which are the SHA-512Half of {@link HashPrefix#LEDGER_MASTER} followed by the binary ledger
+ * header.
+ *
+ * <p>The binary ledger header, which rippled returns as {@code ledger_data} when a ledger is requested with
+ * {@code binary=true}, is made up of the following fields, in order:</p>
+ *
+ * <ol>
+ *   <li>The ledger index, as a UInt32.</li>
+ *   <li>The total drops of XRP in existence, as a UInt64.</li>
+ *   <li>The parent ledger hash.</li>
+ *   <li>The transaction tree hash.</li>
+ *   <li>The state tree hash.</li>
+ *   <li>The parent close time, as a UInt32.</li>
+ *   <li>The close time, as a UInt32.</li>
+ *   <li>The close time resolution, as a UInt8.</li>
+ *   <li>The close flags, as a UInt8.</li>
+ * </ol>
+ */
+public final class LedgerHashes {
+
+  /**
+   * The number of bytes in a binary ledger header.
+   */
+  public static final int HEADER_LENGTH = 118;
+
+  static final int PARENT_HASH_OFFSET = 12;
+
+  static final int TRANSACTION_HASH_OFFSET = 44;
+
+  static final int ACCOUNT_HASH_OFFSET = 76;
+
+  private LedgerHashes() {
+  }
+
+  /**
+   * Compute the hash of the ledger with the given binary header.
+   *
+   * @param ledgerHeaderBytes The binary ledger header.
+   *
+   * @return An {@link UnsignedByteArray} holding the 32 byte ledger hash.
+   *
+   * @throws IllegalArgumentException if {@code ledgerHeaderBytes} is not {@link #HEADER_LENGTH} bytes long.
+   */
+  public static UnsignedByteArray ledgerHash(final UnsignedByteArray ledgerHeaderBytes) {
+    Objects.requireNonNull(ledgerHeaderBytes);
+    checkHeaderLength(ledgerHeaderBytes);
+    return Sha512Half.hash(HashPrefix.LEDGER_MASTER, ledgerHeaderBytes);
+  }
+
+  /**
+   * Compute the hash of the ledger with the given header.
+   *
+   * @param header A {@link LedgerHeader}.
+   *
+   * @return An {@link UnsignedByteArray} holding the 32 byte ledger hash.
+   *
+   * @throws IllegalArgumentException if {@code header} is missing any field of the binary ledger header.
+   */
+  public static UnsignedByteArray ledgerHash(final LedgerHeader header) {
+    return ledgerHash(ledgerHeaderBytes(header));
+  }
+
+  /**
+   * Encode a {@link LedgerHeader} as a binary ledger header.
+   *
+   * @param header A {@link LedgerHeader}.
+   *
+   * @return An {@link UnsignedByteArray} holding the {@link #HEADER_LENGTH} byte binary header.
+   *
+   * @throws IllegalArgumentException if {@code header} is missing any field of the binary ledger header.
+   */
+  public static UnsignedByteArray ledgerHeaderBytes(final LedgerHeader header) {
+    Objects.requireNonNull(header);
+    return UnsignedByteArray.empty()
+      .append(Ints.toByteArray(header.ledgerIndex().unsignedIntegerValue().intValue()))
+      .append(Longs.toByteArray(required(header.totalCoins(), "total_coins").value().longValue()))
+      .append(UnsignedByteArray.fromHex(header.parentHash().value()))
+      .append(hashBytes(header.transactionHash(), "transaction_hash"))
+      .append(hashBytes(header.accountHash(), "account_hash"))
+      .append(Ints.toByteArray(required(header.parentCloseTime(), "parent_close_time").intValue()))
+      .append(Ints.toByteArray(required(header.closeTime(), "close_time").intValue()))
+      .append(new byte[] {
+        required(header.closeTimeResolution(), "close_time_resolution").byteValue(),
+        required(header.closeFlags(), "close_flags").byteValue()
+      });
+  }
+
+  /**
+   * Decode a binary ledger header, such as the {@code ledger_data} that rippled returns for a ledger requested with
+   * {@code binary=true}. This is the inverse of {@link #ledgerHeaderBytes(LedgerHeader)}, and the returned header also
+   * has the {@link LedgerHeader#ledgerHash()} computed from the binary header and the
+   * {@link LedgerHeader#closeTimeHuman()} computed from its close time. The binary header does not say whether the
+   * ledger is closed, so {@link LedgerHeader#closed()} is {@code false}, and it has no transactions.
+   *
+   * @param ledgerHeaderBytes The binary ledger header.
+   *
+   * @return A {@link LedgerHeader}.
+   *
+   * @throws IllegalArgumentException if {@code ledgerHeaderBytes} is not {@link #HEADER_LENGTH} bytes long.
+   */
+  public static LedgerHeader ledgerHeader(final UnsignedByteArray ledgerHeaderBytes) {
+    Objects.requireNonNull(ledgerHeaderBytes);
+    checkHeaderLength(ledgerHeaderBytes);
+    ByteBuffer buffer = ledgerHeaderBytes.asByteBuffer();
+    ImmutableLedgerHeader.Builder builder = LedgerHeader.builder()
+      .ledgerHash(hash(ledgerHash(ledgerHeaderBytes).toByteArray()))
+      .ledgerIndex(LedgerIndex.of(UnsignedInteger.fromIntBits(buffer.getInt())))
+      .totalCoins(XrpCurrencyAmount.of(UnsignedLong.fromLongBits(buffer.getLong())))
+      .parentHash(readHash(buffer))
+      .transactionHash(readHash(buffer))
+      .accountHash(readHash(buffer))
+      .parentCloseTime(UnsignedLong.fromLongBits(Integer.toUnsignedLong(buffer.getInt())));
+    long closeTime = Integer.toUnsignedLong(buffer.getInt());
+    return builder
+      .closeTime(UnsignedLong.fromLongBits(closeTime))
+      .closeTimeHuman(
+        Instant.ofEpochSecond(TransactionResult.RIPPLE_EPOCH + closeTime).atZone(ZoneId.of("UTC"))
+      )
+      .closeTimeResolution(UnsignedInteger.fromIntBits(Byte.toUnsignedInt(buffer.get())))
+      .closeFlags(UnsignedInteger.fromIntBits(Byte.toUnsignedInt(buffer.get())))
+      .build();
+  }
+
+  private static void checkHeaderLength(final UnsignedByteArray ledgerHeaderBytes) {
+    if (ledgerHeaderBytes.length() != HEADER_LENGTH) {
+      throw new IllegalArgumentException(
+        "A binary ledger header must be " + HEADER_LENGTH + " bytes long, but was " + ledgerHeaderBytes.length()
+      );
+    }
+  }
+
+  private static Hash256 readHash(final ByteBuffer buffer) {
+    byte[] bytes = new byte[32];
+    buffer.get(bytes);
+    return hash(bytes);
+  }
+
+  private static Hash256 hash(final byte[] bytes) {
+    return Hash256.of(Hex.encode(bytes));
+  }
+
+  private static UnsignedByteArray hashBytes(final Optional<Hash256> hash, final String fieldName) {
+    return UnsignedByteArray.fromHex(required(hash, fieldName).value());
+  }
+
+  private static <T> T required(final Optional<T> value, final String fieldName) {
+    return value.orElseThrow(() -> new IllegalArgumentException("LedgerHeader is missing " + fieldName));
+  }
+
+}
@@ -0,0 +1,90 @@
+package org.xrpl.xrpl4j.codec.binary.shamap;
+
+import com.google.common.primitives.UnsignedInteger;
+import org.immutables.value.Value;
+import org.immutables.value.Value.Immutable;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+
+import java.util.Optional;
+
+/**
+ * The result of checking a ledger with {@link LedgerVerifier}: the hashes that the ledger header claims, and the ones
+ * computed from the ledger's contents.
+ */
+@Immutable
+public interface LedgerVerification {
+
+  static ImmutableLedgerVerification.Builder builder() {
+    return ImmutableLedgerVerification.builder();
+  }
+
+  /**
+   * The index of the ledger, from its header.
+   *
+   * @return An {@link UnsignedInteger}.
+   */
+  UnsignedInteger ledgerIndex();
+
+  /**
+   * The hash of the ledger, computed from its header.
+   *
+   * @return A {@link Hash256}.
+   */
+  Hash256 ledgerHash();
+
+  /**
+   * The hash of the ledger that the server reported alongside it, if any.
+   *
+   * @return An optionally-present {@link Hash256}.
+   */
+  Optional<Hash256> reportedLedgerHash();
+
+  /**
+   * The hash of the parent ledger, from the header. Once this ledger is verified, it can be used to verify the parent
+   * ledger in turn.
+   *
+   * @return A {@link Hash256}.
+   */
+  Hash256 parentHash();
+
+  /**
+   * The hash of the state tree, from the header.
+   *
+   * @return A {@link Hash256}.
+   */
+  Hash256 accountHash();
+
+  /**
+   * The hash of the transaction tree, from the header.
+   *
+   * @return A {@link Hash256}.
+   */
+  Hash256 transactionHash();
+
+  /**
+   * The hash of the transaction tree, computed from the ledger's transactions and their metadata.
+   *
+   * @return A {@link Hash256}.
+   */
+  Hash256 computedTransactionHash();
+
+  /**
+   * The number of transactions in the ledger.
+   *
+   * @return An int.
+   */
+  int transactionCount();
+
+  /**
+   * Whether the ledger's transactions match its header, and the header matches the ledger hash that the server
+   * reported, if it reported one.
+   *
+   * @return {@code true} if the ledger is consistent, otherwise {@code false}.
+   */
+  @Value.Derived
+  default boolean isValid() {
+    return transactionHash().equals(computedTransactionHash()) &&
+      reportedLedgerHash().map(ledgerHash()::equals).orElse(true);
+  }
+
+}
@@ -0,0 +1,116 @@
+package org.xrpl.xrpl4j.codec.binary.shamap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.UnsignedInteger;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.hash.Sha512Half;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Checks a ledger returned by an untrusted rippled server by recomputing its hashes locally.
+ *
+ * <p>The ledger must be requested with the {@code ledger} method and {@code transactions=true}, {@code expand=true}
+ * and {@code binary=true}, so that the response holds the binary ledger header as {@code ledger_data} and each
+ * transaction as a {@code tx_blob} and {@code meta} pair. The transaction tree is rebuilt from those transactions and
+ * its root hash is compared to the transaction hash in the header. The ledger hash is computed from the header and
+ * compared to the {@code ledger_hash} reported by the server, if any. A ledger hash that is known from elsewhere, such
+ * as the parent hash of a verified later ledger, can be compared to {@link LedgerVerification#ledgerHash()} to
+ * establish that the server's ledger is genuine.</p>
+ *
+ * <p>The state tree is not rebuilt, since a ledger response rarely contains all of it. Callers that do have every
+ * ledger entry can check {@link LedgerVerification#accountHash()} with a {@link ShaMap} of their own.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+public class LedgerVerifier {
+
+  private final ForkJoinPool pool;
+
+  /**
+   * Construct a {@link LedgerVerifier} that hashes on {@link ForkJoinPool#commonPool()}.
+   */
+  public LedgerVerifier() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Construct a {@link LedgerVerifier} that hashes on {@code pool}.
+   *
+   * @param pool The {@link ForkJoinPool} to hash the transaction tree on.
+   */
+  public LedgerVerifier(final ForkJoinPool pool) {
+    this.pool = Objects.requireNonNull(pool);
+  }
+
+  /**
+   * Verify a ledger.
+   *
+   * @param ledgerResult The {@code result} of a binary {@code ledger} response, or the {@code ledger} object within
+   *                     it.
+   *
+   * @return A {@link LedgerVerification}, whose {@link LedgerVerification#isValid()} tells whether the ledger is
+   *   consistent.
+   *
+   * @throws IllegalArgumentException if {@code ledgerResult} is not a binary ledger with expanded transactions.
+   */
+  public LedgerVerification verify(final JsonNode ledgerResult) {
+    Objects.requireNonNull(ledgerResult);
+    final JsonNode ledger = ledgerResult.has("ledger") ? ledgerResult.get("ledger") : ledgerResult;
+
+    final UnsignedByteArray header = UnsignedByteArray.fromHex(
+      requiredText(ledger, "ledger_data", "Request the ledger with binary=true.")
+    );
+    final UnsignedByteArray ledgerHash = LedgerHashes.ledgerHash(header);
+
+    final JsonNode transactions = ledger.get("transactions");
+    if (transactions == null || !transactions.isArray()) {
+      throw new IllegalArgumentException("Ledger has no transactions. Request the ledger with transactions=true.");
+    }
+    final ShaMap transactionTree = new ShaMap();
+    for (JsonNode transaction : transactions) {
+      String metadataField = transaction.has("meta_blob") ? "meta_blob" : "meta";
+      transactionTree.addTransaction(
+        UnsignedByteArray.fromHex(requiredText(transaction, "tx_blob", "Request the ledger with expand=true.")),
+        UnsignedByteArray.fromHex(requiredText(transaction, metadataField, "Request the ledger with expand=true."))
+      );
+    }
+
+    return LedgerVerification.builder()
+      .ledgerIndex(UnsignedInteger.fromIntBits(Ints.fromByteArray(header.slice(0, Integer.BYTES).toByteArray())))
+      .ledgerHash(hash256(ledgerHash))
+      .reportedLedgerHash(reportedLedgerHash(ledgerResult, ledger))
+      .parentHash(hash256(headerHash(header, LedgerHashes.PARENT_HASH_OFFSET)))
+      .transactionHash(hash256(headerHash(header, LedgerHashes.TRANSACTION_HASH_OFFSET)))
+      .accountHash(hash256(headerHash(header, LedgerHashes.ACCOUNT_HASH_OFFSET)))
+      .computedTransactionHash(hash256(transactionTree.hash(pool)))
+      .transactionCount(transactionTree.size())
+      .build();
+  }
+
+  private Optional<Hash256> reportedLedgerHash(final JsonNode ledgerResult, final JsonNode ledger) {
+    JsonNode reported = ledgerResult.has("ledger_hash") ? ledgerResult.get("ledger_hash") : ledger.get("ledger_hash");
+    return Optional.ofNullable(reported).map(JsonNode::asText).map(Hash256::of);
+  }
+
+  private UnsignedByteArray headerHash(final UnsignedByteArray header, final int offset) {
+    return header.slice(offset, offset + Sha512Half.LENGTH);
+  }
+
+  private Hash256 hash256(final UnsignedByteArray hash) {
+    return Hash256.of(hash.hexValue());
+  }
+
+  private String requiredText(final JsonNode node, final String fieldName, final String hint) {
+    JsonNode value = node.get(fieldName);
+    if (value == null || !value.isTextual()) {
+      throw new IllegalArgumentException("Ledger is missing " + fieldName + ". " + hint);
+    }
+    return value.asText();
+  }
+
+}
@@ -0,0 +1,154 @@
+package org.xrpl.xrpl4j.codec.binary.shamap;
+
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.hash.HashPrefix;
+import org.xrpl.xrpl4j.codec.binary.hash.Sha512Half;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinarySerializer;
+import org.xrpl.xrpl4j.codec.binary.serdes.BytesSink;
+import org.xrpl.xrpl4j.codec.binary.types.BlobType;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * A SHAMap, the hash tree that the XRP Ledger uses to hash the transactions and the state of a ledger.
+ *
+ * <p>Items are stored under 32 byte keys in a tree of inner nodes with 16 branches each, where the branch taken at
+ * depth {@code d} is the {@code d}th nibble of the key. An item sits at the shallowest depth where no other item shares
+ * its path. Each node is hashed with SHA-512Half after one of the {@link HashPrefix}es that rippled uses:</p>
+ *
+ * <ul>
+ *   <li>An inner node is hashed as {@link HashPrefix#INNER_NODE} followed by the hashes of its 16 branches, where an
+ *   empty branch has a hash of 32 zero bytes.</li>
+ *   <li>A transaction leaf is hashed as {@link HashPrefix#TRANSACTION_NODE} followed by the length-prefixed
+ *   transaction, the length-prefixed metadata and the transaction ID, which is also its key.</li>
+ *   <li>A ledger entry leaf is hashed as {@link HashPrefix#LEAF_NODE} followed by the ledger entry and its index, which
+ *   is also its key.</li>
+ * </ul>
+ *
+ * <p>The hash of an empty map is 32 zero bytes. Items are only hashed when the map is, so the bytes passed to this
+ * class must not be modified afterwards. This class is not thread-safe while items are being added, but
+ * {@link #hash(ForkJoinPool)} hashes the subtrees below the root in parallel.</p>
+ */
+public class ShaMap {
+
+  // Inner nodes above this depth fork a task per branch, which gives up to 256 tasks for the subtrees below.
+  private static final int PARALLEL_DEPTH = 2;
+
+  private static final int KEY_LENGTH = Sha512Half.LENGTH;
+
+  private final ShaMapInnerNode root = new ShaMapInnerNode(0);
+
+  private int size;
+
+  /**
+   * Add a transaction and its metadata to this map, as in the transaction tree of a ledger. The item's key is the
+   * transaction ID.
+   *
+   * @param transactionBytes The canonical binary of the signed transaction.
+   * @param metadataBytes    The canonical binary of the transaction's metadata.
+   *
+   * @return The transaction ID, which is the key of the new item.
+   *
+   * @throws IllegalArgumentException if this map already has an item with the same transaction ID.
+   */
+  public UnsignedByteArray addTransaction(
+    final UnsignedByteArray transactionBytes,
+    final UnsignedByteArray metadataBytes
+  ) {
+    Objects.requireNonNull(transactionBytes);
+    Objects.requireNonNull(metadataBytes);
+    final UnsignedByteArray transactionId = Sha512Half.transactionId(transactionBytes);
+    add(transactionId, sink -> {
+      HashPrefix.TRANSACTION_NODE.writeTo(sink);
+      BinarySerializer serializer = new BinarySerializer(sink);
+      serializer.writeLengthEncoded(new BlobType(transactionBytes));
+      serializer.writeLengthEncoded(new BlobType(metadataBytes));
+      sink.put(transactionId);
+    });
+    return transactionId;
+  }
+
+  /**
+   * Add a ledger entry to this map, as in the state tree of a ledger.
+   *
+   * @param index            The 32 byte index of the ledger entry, which is the key of the new item.
+   * @param ledgerEntryBytes The canonical binary of the ledger entry.
+   *
+   * @throws IllegalArgumentException if {@code index} is not 32 bytes long, or this map already has an item with the
+   *                                  same index.
+   */
+  public void addLedgerEntry(final UnsignedByteArray index, final UnsignedByteArray ledgerEntryBytes) {
+    Objects.requireNonNull(index);
+    Objects.requireNonNull(ledgerEntryBytes);
+    add(index, sink -> {
+      HashPrefix.LEAF_NODE.writeTo(sink);
+      sink.put(ledgerEntryBytes);
+      sink.put(index);
+    });
+  }
+
+  /**
+   * The number of items in this map.
+   *
+   * @return An int.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Compute the hash of the root of this map on the calling thread.
+   *
+   * @return An {@link UnsignedByteArray} holding the 32 byte root hash.
+   */
+  public UnsignedByteArray hash() {
+    return root.hash();
+  }
+
+  /**
+   * Compute the hash of the root of this map, hashing the subtrees below the first levels of inner nodes in parallel on
+   * {@code pool}.
+   *
+   * @param pool The {@link ForkJoinPool} to hash on, for example {@link ForkJoinPool#commonPool()}.
+   *
+   * @return An {@link UnsignedByteArray} holding the 32 byte root hash.
+   */
+  public UnsignedByteArray hash(final ForkJoinPool pool) {
+    Objects.requireNonNull(pool);
+    return pool.invoke(root.hashTask(PARALLEL_DEPTH));
+  }
+
+  private void add(final UnsignedByteArray key, final Consumer<BytesSink> preimage) {
+    if (key.length() != KEY_LENGTH) {
+      throw new IllegalArgumentException("SHAMap keys must be " + KEY_LENGTH + " bytes long: " + key.hexValue());
+    }
+    final ShaMapLeafNode leaf = new ShaMapLeafNode(key.toByteArray(), preimage);
+    ShaMapInnerNode node = root;
+    while (true) {
+      int branch = leaf.branch(node.depth());
+      ShaMapNode child = node.branch(branch);
+      if (child == null) {
+        node.setBranch(branch, leaf);
+        size++;
+        return;
+      }
+      if (child instanceof ShaMapInnerNode) {
+        node = (ShaMapInnerNode) child;
+        continue;
+      }
+      ShaMapLeafNode existing = (ShaMapLeafNode) child;
+      if (Arrays.equals(existing.key(), leaf.key())) {
+        throw new IllegalArgumentException("SHAMap already has an item with key " + key.hexValue());
+      }
+      // Both leaves share the path so far, so push the existing one down a level and try again from there.
+      ShaMapInnerNode inner = new ShaMapInnerNode(node.depth() + 1);
+      inner.setBranch(existing.branch(inner.depth()), existing);
+      node.setBranch(branch, inner);
+      node = inner;
+    }
+  }
+
+}
@@ -0,0 +1,120 @@
+package org.xrpl.xrpl4j.codec.binary.shamap;
+
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.hash.HashPrefix;
+import org.xrpl.xrpl4j.codec.binary.hash.Sha512Half;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * An inner node of a {@link ShaMap}, with one branch for each value of the key nibble at its depth.
+ */
+class ShaMapInnerNode implements ShaMapNode {
+
+  static final int BRANCHES = 16;
+
+  private static final byte[] ZERO_HASH = new byte[Sha512Half.LENGTH];
+
+  private final int depth;
+
+  private final ShaMapNode[] branches = new ShaMapNode[BRANCHES];
+
+  ShaMapInnerNode(final int depth) {
+    this.depth = depth;
+  }
+
+  int depth() {
+    return depth;
+  }
+
+  ShaMapNode branch(final int index) {
+    return branches[index];
+  }
+
+  void setBranch(final int index, final ShaMapNode node) {
+    branches[index] = node;
+  }
+
+  @Override
+  public UnsignedByteArray hash() {
+    UnsignedByteArray[] branchHashes = new UnsignedByteArray[BRANCHES];
+    for (int i = 0; i < BRANCHES; i++) {
+      if (branches[i] != null) {
+        branchHashes[i] = branches[i].hash();
+      }
+    }
+    return hashBranches(branchHashes);
+  }
+
+  /**
+   * Compute the hash of this node, hashing the branches of inner nodes shallower than {@code parallelDepth} as separate
+   * fork/join tasks.
+   *
+   * @param parallelDepth The depth at which to stop forking.
+   *
+   * @return A {@link RecursiveTask} that computes the 32 byte hash.
+   */
+  RecursiveTask<UnsignedByteArray> hashTask(final int parallelDepth) {
+    return new RecursiveTask<UnsignedByteArray>() {
+      @Override
+      protected UnsignedByteArray compute() {
+        if (depth >= parallelDepth) {
+          return hash();
+        }
+        List<RecursiveTask<UnsignedByteArray>> tasks = new ArrayList<>(BRANCHES);
+        for (ShaMapNode branch : branches) {
+          RecursiveTask<UnsignedByteArray> task = null;
+          if (branch instanceof ShaMapInnerNode) {
+            task = ((ShaMapInnerNode) branch).hashTask(parallelDepth);
+          } else if (branch != null) {
+            task = leafTask(branch);
+          }
+          tasks.add(task);
+          if (task != null) {
+            task.fork();
+          }
+        }
+        UnsignedByteArray[] branchHashes = new UnsignedByteArray[BRANCHES];
+        for (int i = 0; i < BRANCHES; i++) {
+          if (tasks.get(i) != null) {
+            branchHashes[i] = tasks.get(i).join();
+          }
+        }
+        return hashBranches(branchHashes);
+      }
+    };
+  }
+
+  private UnsignedByteArray hashBranches(final UnsignedByteArray[] branchHashes) {
+    boolean empty = true;
+    for (UnsignedByteArray branchHash : branchHashes) {
+      empty &= branchHash == null;
+    }
+    if (empty) {
+      // Only the root of an empty map has no branches, and its hash is defined to be zero.
+      return UnsignedByteArray.of(ZERO_HASH);
+    }
+    return Sha512Half.hash(sink -> {
+      HashPrefix.INNER_NODE.writeTo(sink);
+      for (UnsignedByteArray branchHash : branchHashes) {
+        if (branchHash == null) {
+          sink.put(ZERO_HASH);
+        } else {
+          sink.put(branchHash);
+        }
+      }
+    });
+  }
+
+  private static RecursiveTask<UnsignedByteArray> leafTask(final ShaMapNode leaf) {
+    return new RecursiveTask<UnsignedByteArray>() {
+      @Override
+      protected UnsignedByteArray compute() {
+        return leaf.hash();
+      }
+    };
+  }
+
+}
@@ -0,0 +1,51 @@
+package org.xrpl.xrpl4j.codec.binary.shamap;
+
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.hash.Sha512Half;
+import org.xrpl.xrpl4j.codec.binary.serdes.BytesSink;
+
+import java.util.function.Consumer;
+
+/**
+ * A leaf of a {@link ShaMap}, holding one item under its 32 byte key.
+ */
+class ShaMapLeafNode implements ShaMapNode {
+
+  private final byte[] key;
+
+  private final Consumer<BytesSink> preimage;
+
+  /**
+   * Required-args constructor.
+   *
+   * @param key      The 32 byte key of the item.
+   * @param preimage Writes the bytes whose hash is the hash of this leaf, including the hash prefix.
+   */
+  ShaMapLeafNode(final byte[] key, final Consumer<BytesSink> preimage) {
+    this.key = key;
+    this.preimage = preimage;
+  }
+
+  byte[] key() {
+    return key;
+  }
+
+  /**
+   * The branch of an inner node at {@code depth} that this leaf belongs under, which is the nibble of the key at
+   * {@code depth}.
+   *
+   * @param depth The depth of the inner node, where the root is at depth 0.
+   *
+   * @return An int from 0 to 15.
+   */
+  int branch(final int depth) {
+    int keyByte = key[depth / 2] & 0xFF;
+    return depth % 2 == 0 ? keyByte >>> 4 : keyByte & 0x0F;
+  }
+
+  @Override
+  public UnsignedByteArray hash() {
+    return Sha512Half.hash(preimage);
+  }
+
+}
@@ -0,0 +1,17 @@
+package org.xrpl.xrpl4j.codec.binary.shamap;
+
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+
+/**
+ * A node of a {@link ShaMap}, which is either a {@link ShaMapInnerNode} or a {@link ShaMapLeafNode}.
+ */
+interface ShaMapNode {
+
+  /**
+   * Compute the hash of this node, hashing any children first.
+   *
+   * @return An {@link UnsignedByteArray} holding the 32 byte hash.
+   */
+  UnsignedByteArray hash();
+
+}
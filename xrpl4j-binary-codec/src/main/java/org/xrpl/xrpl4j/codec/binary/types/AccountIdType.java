@@ -1,5 +1,6 @@
 package org.xrpl.xrpl4j.codec.binary.types;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
@@ -7,6 +8,8 @@ import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
 import org.xrpl.xrpl4j.model.transactions.Address;
 
+import java.io.IOException;
+
 /**
  * Codec for XRPL AccountID type.
  */
@@ -43,4 +46,9 @@ public class AccountIdType extends Hash160Type {
     return new TextNode(addressCodec.encodeAccountId(value()).value());
   }
 
+  @Override
+  public void toJson(JsonGenerator generator) throws IOException {
+    generator.writeString(addressCodec.encodeAccountId(value()).value());
+  }
+
 }
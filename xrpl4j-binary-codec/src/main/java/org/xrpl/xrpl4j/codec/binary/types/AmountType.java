@@ -1,18 +1,18 @@
 package org.xrpl.xrpl4j.codec.binary.types;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.TextNode;
-import org.xrpl.xrpl4j.codec.addresses.ByteUtils;
-import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
+import com.google.common.primitives.Longs;
+import com.google.common.primitives.UnsignedLong;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
-import org.xrpl.xrpl4j.codec.binary.math.MathUtils;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
 
+import java.io.IOException;
 import java.math.BigDecimal;
-import java.math.BigInteger;
 
 /**
  * Codec for XRPL Amount type.
@@ -26,9 +26,6 @@ class AmountType extends SerializedType<AmountType> {
   public static final String ZERO_CURRENCY_AMOUNT_HEX = "8000000000000000";
   public static final int NATIVE_AMOUNT_BYTE_LENGTH = 8;
   public static final int CURRENCY_AMOUNT_BYTE_LENGTH = 48;
-  private static final int MAX_IOU_PRECISION = 16;
-  private static final int MIN_IOU_EXPONENT = -96;
-  private static final int MAX_IOU_EXPONENT = 80;
 
   private static final ObjectMapper objectMapper = BinaryCodecObjectMapperFactory.getObjectMapper();
 
@@ -59,42 +56,6 @@ class AmountType extends SerializedType<AmountType> {
     }
   }
 
-  /**
-   * Validate IOU.value amount
-   *
-   * @param decimal Decimal.js object representing IOU.value
-   *
-   * @throws IllegalArgumentException if invalid amount
-   */
-  private static void assertIouIsValid(BigDecimal decimal) {
-    if (!decimal.equals(BigDecimal.ZERO)) {
-      int precision = decimal.precision();
-      int exponent = MathUtils.getExponent(decimal);
-      if (precision > MAX_IOU_PRECISION ||
-        exponent > MAX_IOU_EXPONENT ||
-        exponent < MIN_IOU_EXPONENT
-      ) {
-        throw new Error("Decimal precision out of range");
-      }
-      verifyNoDecimal(decimal);
-    }
-  }
-
-  /**
-   * Ensure that the value after being multiplied by the exponent does not contain a decimal.
-   *
-   * @param decimal a Decimal object
-   *
-   * @throws IllegalArgumentException if invalid amount
-   */
-  private static void verifyNoDecimal(BigDecimal decimal) {
-    BigDecimal exponent = new BigDecimal("1e" + -(MathUtils.getExponent(decimal) - 15));
-    String integerNumberString = decimal.multiply(exponent).toPlainString();
-    if (integerNumberString.indexOf(".") > 0) {
-      throw new Error("Decimal place found in integerNumberString");
-    }
-  }
-
   @Override
   public AmountType fromParser(BinaryParser parser) {
     boolean isXrp = !parser.peek().isNthBitSet(1);
@@ -106,18 +67,14 @@ class AmountType extends SerializedType<AmountType> {
   public AmountType fromJson(JsonNode value) throws JsonProcessingException {
     if (value.isValueNode()) {
       assertXrpIsValid(value.asText());
-      UInt64Type number = new UInt64Type().fromJson(value.asText());
+      UInt64Type number = new UInt64Type(UnsignedLong.valueOf(value.asText()));
       byte[] rawBytes = number.toBytes();
       rawBytes[0] |= 0x40;
       return new AmountType(UnsignedByteArray.of(rawBytes));
     }
 
     Amount amount = objectMapper.treeToValue(value, Amount.class);
-    BigDecimal number = new BigDecimal(amount.value());
-
-    UnsignedByteArray result = number.unscaledValue().equals(BigInteger.ZERO) ?
-      UnsignedByteArray.fromHex(ZERO_CURRENCY_AMOUNT_HEX) :
-      getAmountBytes(number);
+    UnsignedByteArray result = UnsignedByteArray.of(Longs.toByteArray(IouAmountCodec.encode(amount.value())));
 
     UnsignedByteArray currency = new CurrencyType().fromJson(value.get("currency")).value();
     UnsignedByteArray issuer = new AccountIdType().fromJson(value.get("issuer")).value();
@@ -128,67 +85,54 @@ class AmountType extends SerializedType<AmountType> {
     return new AmountType(result);
   }
 
-  private UnsignedByteArray getAmountBytes(BigDecimal number) {
-    BigInteger paddedNumber = MathUtils.toPaddedBigInteger(number, 16);
-    byte[] amountBytes = ByteUtils.toByteArray(paddedNumber, 8);
-    amountBytes[0] |= 0x80;
-    if (number.compareTo(BigDecimal.ZERO) > 0) {
-      amountBytes[0] |= 0x40;
-    }
-
-    int exponent = MathUtils.getExponent(number);
-    if (exponent > 80 || exponent < -96) {
-      throw new IllegalArgumentException("exponent out of range");
-    }
-    UnsignedByte exponentByte = UnsignedByte.of(97 + exponent - 15);
-    amountBytes[0] |= exponentByte.asInt() >>> 2;
-    amountBytes[1] |= (exponentByte.asInt() & 0x03) << 6;
-
-    return UnsignedByteArray.of(amountBytes);
-  }
-
   @Override
   public JsonNode toJson() {
     if (this.isNative()) {
-      byte[] rawBytes = toBytes();
-      rawBytes[0] &= 0x3f;
-      BigInteger value = new BigInteger(rawBytes);
-      if (!this.isPositive()) {
-        value = value.negate();
-      }
-      return new TextNode(value.toString());
+      return new TextNode(xrpValue());
     } else {
-      BinaryParser parser = new BinaryParser(this.toHex());
-      UnsignedByteArray mantissa = parser.read(8);
+      BinaryParser parser = new BinaryParser(this.toBytes());
+      final String value = IouAmountCodec.decode(parser.readUInt64AsLong());
       final SerializedType<?> currency = new CurrencyType().fromParser(parser);
       final SerializedType<?> issuer = new AccountIdType().fromParser(parser);
 
-      UnsignedByte b1 = mantissa.get(0);
-      UnsignedByte b2 = mantissa.get(1);
-
-      boolean isPositive = b1.isNthBitSet(2);
-      String sign = isPositive ? "" : "-";
-
-      int exponent = ((b1.asInt() & 0x3f) << 2) + ((b2.asInt() & 0xff) >> 6) - 97;
-      mantissa.set(0, UnsignedByte.of(0));
-      mantissa.set(1, UnsignedByte.of(b2.asInt() & 0x3f));
-
-      BigDecimal value = new BigDecimal(new BigInteger(sign + mantissa.hexValue(), 16))
-        .multiply(new BigDecimal("1e" + exponent))
-        .stripTrailingZeros();
-
-      assertIouIsValid(value);
-
       Amount amount = Amount.builder()
         .currency(currency.toJson().asText())
         .issuer(issuer.toJson().asText())
-        .value(value.toPlainString())
+        .value(value)
         .build();
 
       return objectMapper.valueToTree(amount);
     }
   }
 
+  @Override
+  public void toJson(JsonGenerator generator) throws IOException {
+    if (this.isNative()) {
+      generator.writeString(xrpValue());
+    } else {
+      UnsignedByteArray bytes = value();
+      int issuerOffset = NATIVE_AMOUNT_BYTE_LENGTH + CurrencyType.WIDTH;
+
+      generator.writeStartObject();
+      generator.writeFieldName("currency");
+      new CurrencyType(bytes.slice(NATIVE_AMOUNT_BYTE_LENGTH, issuerOffset)).toJson(generator);
+      generator.writeStringField("value", IouAmountCodec.decode(bytes.asByteBuffer().getLong()));
+      generator.writeFieldName("issuer");
+      new AccountIdType(bytes.slice(issuerOffset, CURRENCY_AMOUNT_BYTE_LENGTH)).toJson(generator);
+      generator.writeEndObject();
+    }
+  }
+
+  /**
+   * Get the number of drops in this native XRP amount.
+   *
+   * @return A {@link String} containing the signed number of drops.
+   */
+  private String xrpValue() {
+    long drops = value().asByteBuffer().getLong() & 0x3fffffffffffffffL;
+    return Long.toString(this.isPositive() ? drops : -drops);
+  }
+
   /**
    * Returns true if this amount is a "native" XRP amount.
    *
@@ -196,7 +140,7 @@ class AmountType extends SerializedType<AmountType> {
    */
   private boolean isNative() {
     // 1st bit in 1st byte is set to 0 for native XRP
-    return (toBytes()[0] & 0x80) == 0;
+    return (value().get(0).asInt() & 0x80) == 0;
   }
 
   /**
@@ -206,7 +150,7 @@ class AmountType extends SerializedType<AmountType> {
    */
   private boolean isPositive() {
     // 2nd bit in 1st byte is set to 1 for positive amounts
-    return (toBytes()[0] & 0x40) > 0;
+    return (value().get(0).asInt() & 0x40) > 0;
   }
 
 }
@@ -1,8 +1,12 @@
 package org.xrpl.xrpl4j.codec.binary.types;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
+import org.xrpl.xrpl4j.codec.binary.serdes.BytesSink;
+
+import java.io.IOException;
 
 /**
  * Codec for XRPL Blob type.
@@ -27,4 +31,20 @@ public class BlobType extends SerializedType<BlobType> {
     return new BlobType(UnsignedByteArray.fromHex(node.asText()));
   }
 
+  @Override
+  public void encode(JsonNode node, BytesSink sink) {
+    String hex = node.asText();
+    if (hex.length() % 2 == 0) {
+      sink.putHex(hex);
+    } else {
+      // An odd number of digits is read with a leading zero, which only fromJson handles.
+      fromJson(node).toBytesSink(sink);
+    }
+  }
+
+  @Override
+  public void toJson(JsonGenerator generator) throws IOException {
+    generator.writeString(toHex());
+  }
+
 }
@@ -1,11 +1,13 @@
 package org.xrpl.xrpl4j.codec.binary.types;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
 
+import java.io.IOException;
 import java.util.Optional;
 import java.util.regex.Pattern;
 
@@ -56,6 +58,11 @@ public class CurrencyType extends Hash160Type {
     return iso.map(TextNode::new).orElseGet(() -> new TextNode(toHex()));
   }
 
+  @Override
+  public void toJson(JsonGenerator generator) throws IOException {
+    generator.writeString(iso.orElseGet(this::toHex));
+  }
+
   private boolean isNative(UnsignedByteArray byteList) {
     String iso = byteList.slice(12, 15).hexValue();
     return onlyIso(byteList) && iso.equals("000000");
@@ -3,6 +3,7 @@ package org.xrpl.xrpl4j.codec.binary.types;
 import com.fasterxml.jackson.databind.JsonNode;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
+import org.xrpl.xrpl4j.codec.binary.serdes.BytesSink;
 
 /**
  * Codec for XRPL Hash256 type.
@@ -28,4 +29,15 @@ public class Hash256Type extends HashType<Hash256Type> {
   public Hash256Type fromJson(JsonNode node) {
     return new Hash256Type(UnsignedByteArray.fromHex(node.asText()));
   }
+
+  @Override
+  public void encode(JsonNode node, BytesSink sink) {
+    String hex = node.asText();
+    if (hex.length() == WIDTH * 2) {
+      sink.putHex(hex);
+    } else {
+      // Let fromJson read or reject anything that is not exactly WIDTH bytes of hex.
+      fromJson(node).toBytesSink(sink);
+    }
+  }
 }
@@ -1,10 +1,17 @@
 package org.xrpl.xrpl4j.codec.binary.types;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.google.common.base.Preconditions;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 
+import java.io.IOException;
+
 /**
  * Base class for XRPL Hash types.
+ *
+ * <p>A hash read from a {@link org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser} over a byte array is a view over
+ * that array rather than a copy, and is only copied by methods such as {@link #toBytes()}. Two hashes of the same type
+ * are equal if they hold the same bytes.</p>
  */
 public abstract class HashType<T extends HashType<T>> extends SerializedType<T> {
 
@@ -18,15 +25,36 @@ public abstract class HashType<T extends HashType<T>> extends SerializedType<T>
    */
   public HashType(final UnsignedByteArray bytes, final int width) {
     super(bytes);
-    Preconditions.checkArgument(bytes.length() == width, "Invalid hash length " + bytes.length());
+    Preconditions.checkArgument(bytes.length() == width, "Invalid hash length %s", bytes.length());
     this.width = width;
   }
 
+  @Override
+  public boolean equals(Object object) {
+    if (this == object) {
+      return true;
+    }
+    if (object == null || getClass() != object.getClass()) {
+      return false;
+    }
+    return value().equals(((HashType<?>) object).value());
+  }
+
+  @Override
+  public int hashCode() {
+    return value().hashCode();
+  }
+
   @Override
   public String toString() {
     return this.toHex();
   }
 
+  @Override
+  public void toJson(JsonGenerator generator) throws IOException {
+    generator.writeString(toHex());
+  }
+
   @Override
   public T fromHex(String hex) {
     return super.fromHex(hex, width);
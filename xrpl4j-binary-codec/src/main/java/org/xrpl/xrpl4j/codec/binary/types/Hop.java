@@ -19,10 +19,10 @@ public interface Hop {
     return ImmutableHop.builder();
   }
 
-  Optional<JsonNode> issuer();
-
   Optional<JsonNode> account();
 
   Optional<JsonNode> currency();
 
+  Optional<JsonNode> issuer();
+
 }
@@ -1,5 +1,6 @@
 package org.xrpl.xrpl4j.codec.binary.types;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -8,6 +9,8 @@ import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
 
+import java.io.IOException;
+
 /**
  * Codec for XRPL Hop object inside a Path object.
  */
@@ -32,22 +35,7 @@ public class HopType extends SerializedType<HopType> {
 
   @Override
   public HopType fromParser(BinaryParser parser) {
-    int type = parser.readUInt8().intValue();
-    UnsignedByteArray byteArray = UnsignedByteArray.of(UnsignedByte.of(type));
-
-    if ((type & TYPE_ACCOUNT) > 0) {
-      byteArray.append(parser.read(AccountIdType.WIDTH));
-    }
-
-    if ((type & TYPE_CURRENCY) > 0) {
-      byteArray.append(parser.read(CurrencyType.WIDTH));
-    }
-
-    if ((type & TYPE_ISSUER) > 0) {
-      byteArray.append(parser.read(AccountIdType.WIDTH));
-    }
-
-    return new HopType(byteArray);
+    return new HopType(parser.read(length(parser.peek().asInt())));
   }
 
   @Override
@@ -80,8 +68,8 @@ public class HopType extends SerializedType<HopType> {
 
   @Override
   public JsonNode toJson() {
-    BinaryParser parser = new BinaryParser(this.toHex());
-    int type = parser.readUInt8().intValue();
+    BinaryParser parser = new BinaryParser(this.toBytes());
+    int type = parser.readUInt8AsInt();
 
     ImmutableHop.Builder builder = Hop.builder();
 
@@ -94,9 +82,58 @@ public class HopType extends SerializedType<HopType> {
     }
 
     if ((type & TYPE_ISSUER) > 0) {
-      builder.account(new AccountIdType().fromParser(parser).toJson());
+      builder.issuer(new AccountIdType().fromParser(parser).toJson());
     }
 
     return objectMapper.valueToTree(builder.build());
   }
+
+  @Override
+  public void toJson(JsonGenerator generator) throws IOException {
+    UnsignedByteArray bytes = value();
+    int type = bytes.get(0).asInt();
+    int offset = 1;
+
+    generator.writeStartObject();
+
+    if ((type & TYPE_ACCOUNT) > 0) {
+      generator.writeFieldName("account");
+      new AccountIdType(bytes.slice(offset, offset + AccountIdType.WIDTH)).toJson(generator);
+      offset += AccountIdType.WIDTH;
+    }
+
+    if ((type & TYPE_CURRENCY) > 0) {
+      generator.writeFieldName("currency");
+      new CurrencyType(bytes.slice(offset, offset + CurrencyType.WIDTH)).toJson(generator);
+      offset += CurrencyType.WIDTH;
+    }
+
+    if ((type & TYPE_ISSUER) > 0) {
+      generator.writeFieldName("issuer");
+      new AccountIdType(bytes.slice(offset, offset + AccountIdType.WIDTH)).toJson(generator);
+    }
+
+    generator.writeEndObject();
+  }
+
+  /**
+   * Get the number of bytes in the binary form of a hop whose first byte is {@code type}.
+   *
+   * @param type The first byte of the hop, which says which of account, currency and issuer it has.
+   *
+   * @return The length of the hop in bytes, including {@code type}.
+   */
+  static int length(int type) {
+    int length = 1;
+    if ((type & TYPE_ACCOUNT) > 0) {
+      length += AccountIdType.WIDTH;
+    }
+    if ((type & TYPE_CURRENCY) > 0) {
+      length += CurrencyType.WIDTH;
+    }
+    if ((type & TYPE_ISSUER) > 0) {
+      length += AccountIdType.WIDTH;
+    }
+    return length;
+  }
 }
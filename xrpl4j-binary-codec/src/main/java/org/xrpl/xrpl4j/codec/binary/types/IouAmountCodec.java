@@ -0,0 +1,202 @@
+package org.xrpl.xrpl4j.codec.binary.types;
+
+import java.util.Objects;
+
+/**
+ * Converts the decimal {@code value} of an issued currency amount to and from the first 8 bytes of its binary form,
+ * using only {@code long} and {@code int} arithmetic.
+ *
+ * <p>The 8 bytes hold, from the most significant bit down, a "not XRP" bit (always 1), a sign bit (1 for positive
+ * amounts), an 8 bit exponent biased by 97 and a 54 bit mantissa. Non-zero mantissas are normalized to exactly 16
+ * decimal digits, so a value is {@code mantissa * 10^exponent} with {@code 10^15 <= mantissa < 10^16}. Zero is
+ * encoded as {@link #ZERO}.</p>
+ */
+final class IouAmountCodec {
+
+  /**
+   * The bits of an issued currency amount of zero.
+   */
+  static final long ZERO = 0x8000000000000000L;
+
+  private static final long NOT_NATIVE_BIT = 0x8000000000000000L;
+  private static final long POSITIVE_BIT = 0x4000000000000000L;
+  private static final int EXPONENT_SHIFT = 54;
+  private static final long MANTISSA_MASK = (1L << EXPONENT_SHIFT) - 1;
+  private static final int EXPONENT_BIAS = 97;
+
+  private static final int MAX_IOU_PRECISION = 16;
+
+  // Bounds on the exponent of the most significant digit of a value, so 1 has an exponent of 0 and 0.01 one of -2.
+  private static final int MIN_IOU_EXPONENT = -96;
+  private static final int MAX_IOU_EXPONENT = 80;
+
+  private static final long[] POWERS_OF_TEN = new long[MAX_IOU_PRECISION + 1];
+
+  static {
+    POWERS_OF_TEN[0] = 1;
+    for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+  }
+
+  private IouAmountCodec() {
+  }
+
+  /**
+   * Encode a decimal value, written in any form accepted by {@link java.math.BigDecimal#BigDecimal(String)}, as the
+   * mantissa, exponent and sign bits of an issued currency amount.
+   *
+   * @param value A decimal {@link String}, such as {@code "1.5"}, {@code "-0.001"} or {@code "1e20"}.
+   *
+   * @return The 8 bytes of the encoded amount, as a {@code long}.
+   *
+   * @throws NumberFormatException    if {@code value} is not a decimal number.
+   * @throws IllegalArgumentException if {@code value} has more than 16 significant digits or is too large or too small
+   *                                  to be represented.
+   */
+  static long encode(final String value) {
+    Objects.requireNonNull(value);
+
+    final int length = value.length();
+    int index = 0;
+    boolean negative = false;
+    if (index < length && (value.charAt(index) == '-' || value.charAt(index) == '+')) {
+      negative = value.charAt(index) == '-';
+      index++;
+    }
+
+    // The value read so far is (mantissa * 10^pendingZeros) / 10^fractionDigits, where mantissa has no trailing zeros.
+    long mantissa = 0;
+    int significantDigits = 0;
+    int pendingZeros = 0;
+    int fractionDigits = 0;
+    boolean seenDigit = false;
+    boolean seenPoint = false;
+    for (; index < length; index++) {
+      char character = value.charAt(index);
+      if (character == '.' && !seenPoint) {
+        seenPoint = true;
+        continue;
+      }
+      if (character < '0' || character > '9') {
+        break;
+      }
+      seenDigit = true;
+      if (seenPoint) {
+        fractionDigits++;
+      }
+      if (character == '0') {
+        if (mantissa != 0) {
+          pendingZeros++;
+        }
+        continue;
+      }
+      significantDigits += pendingZeros + 1;
+      if (significantDigits > MAX_IOU_PRECISION) {
+        throw new IllegalArgumentException(value + " has more than " + MAX_IOU_PRECISION + " digits");
+      }
+      mantissa = mantissa * POWERS_OF_TEN[pendingZeros + 1] + (character - '0');
+      pendingZeros = 0;
+    }
+    if (!seenDigit) {
+      throw new NumberFormatException(value + " is not a decimal number");
+    }
+
+    long exponent = 0;
+    if (index < length && (value.charAt(index) == 'e' || value.charAt(index) == 'E')) {
+      exponent = parseExponent(value, index + 1);
+    } else if (index < length) {
+      throw new NumberFormatException(value + " is not a decimal number");
+    }
+
+    if (mantissa == 0) {
+      return ZERO;
+    }
+
+    long leadingExponent = significantDigits - 1 + pendingZeros - fractionDigits + exponent;
+    long biasedExponent = leadingExponent - (MAX_IOU_PRECISION - 1) + EXPONENT_BIAS;
+    if (leadingExponent > MAX_IOU_EXPONENT || leadingExponent < MIN_IOU_EXPONENT || biasedExponent < 0) {
+      throw new IllegalArgumentException("exponent out of range");
+    }
+
+    long bits = NOT_NATIVE_BIT | (biasedExponent << EXPONENT_SHIFT) |
+      mantissa * POWERS_OF_TEN[MAX_IOU_PRECISION - significantDigits];
+    return negative ? bits : bits | POSITIVE_BIT;
+  }
+
+  private static long parseExponent(final String value, final int start) {
+    final int length = value.length();
+    int index = start;
+    boolean negative = false;
+    if (index < length && (value.charAt(index) == '-' || value.charAt(index) == '+')) {
+      negative = value.charAt(index) == '-';
+      index++;
+    }
+    if (index == length) {
+      throw new NumberFormatException(value + " is not a decimal number");
+    }
+    long exponent = 0;
+    for (; index < length; index++) {
+      char character = value.charAt(index);
+      if (character < '0' || character > '9') {
+        throw new NumberFormatException(value + " is not a decimal number");
+      }
+      exponent = exponent * 10 + (character - '0');
+      if (exponent > Integer.MAX_VALUE) {
+        throw new NumberFormatException(value + " has an exponent that is too large");
+      }
+    }
+    return negative ? -exponent : exponent;
+  }
+
+  /**
+   * Decode the mantissa, exponent and sign bits of an issued currency amount to a plain decimal value with no trailing
+   * zeros after the decimal point and no exponent, such as {@code "1.5"} or {@code "-1000"}.
+   *
+   * @param bits The first 8 bytes of an issued currency amount, as a {@code long}.
+   *
+   * @return The decimal value of {@code bits}.
+   *
+   * @throws Error if the value has more than 16 significant digits or is too large or too small to be valid.
+   */
+  static String decode(final long bits) {
+    long mantissa = bits & MANTISSA_MASK;
+    if (mantissa == 0) {
+      return "0";
+    }
+    int exponent = (int) ((bits >>> EXPONENT_SHIFT) & 0xFF) - EXPONENT_BIAS;
+    while (mantissa % 10 == 0) {
+      mantissa /= 10;
+      exponent++;
+    }
+
+    String digits = Long.toString(mantissa);
+    int leadingExponent = digits.length() - 1 + exponent;
+    if (digits.length() > MAX_IOU_PRECISION || leadingExponent > MAX_IOU_EXPONENT ||
+      leadingExponent < MIN_IOU_EXPONENT) {
+      throw new Error("Decimal precision out of range");
+    }
+
+    StringBuilder builder = new StringBuilder(digits.length() + Math.abs(exponent) + 3);
+    if ((bits & POSITIVE_BIT) == 0) {
+      builder.append('-');
+    }
+    if (exponent >= 0) {
+      builder.append(digits);
+      for (int i = 0; i < exponent; i++) {
+        builder.append('0');
+      }
+    } else if (-exponent < digits.length()) {
+      int point = digits.length() + exponent;
+      builder.append(digits, 0, point).append('.').append(digits, point, digits.length());
+    } else {
+      builder.append("0.");
+      for (int i = 0; i < -exponent - digits.length(); i++) {
+        builder.append('0');
+      }
+      builder.append(digits);
+    }
+    return builder.toString();
+  }
+
+}
@@ -1,5 +1,6 @@
 package org.xrpl.xrpl4j.codec.binary.types;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -8,6 +9,7 @@ import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -23,6 +25,9 @@ public class PathSetType extends SerializedType<PathSetType> {
   public static final String PATHSET_END_HEX = "00";
   public static final String PATH_SEPARATOR_HEX = "FF";
 
+  private static final UnsignedByte PATHSET_END = UnsignedByte.of(PATHSET_END_HEX);
+  private static final UnsignedByte PATH_SEPARATOR = UnsignedByte.of(PATH_SEPARATOR_HEX);
+
   public PathSetType() {
     this(UnsignedByteArray.empty());
   }
@@ -66,7 +71,7 @@ public class PathSetType extends SerializedType<PathSetType> {
 
   @Override
   public JsonNode toJson() {
-    BinaryParser parser = new BinaryParser(this.toString());
+    BinaryParser parser = new BinaryParser(this.toBytes());
     List<JsonNode> values = new ArrayList<>();
 
     while (parser.hasMore()) {
@@ -75,4 +80,28 @@ public class PathSetType extends SerializedType<PathSetType> {
     }
     return new ArrayNode(BinaryCodecObjectMapperFactory.getObjectMapper().getNodeFactory(), values);
   }
+
+  @Override
+  public void toJson(JsonGenerator generator) throws IOException {
+    UnsignedByteArray bytes = value();
+    int offset = 0;
+
+    generator.writeStartArray();
+    while (offset < bytes.length()) {
+      generator.writeStartArray();
+      while (offset < bytes.length() && !isPathBoundary(bytes.get(offset))) {
+        HopType hop = new HopType(bytes.slice(offset, offset + HopType.length(bytes.get(offset).asInt())));
+        hop.toJson(generator);
+        offset += hop.length();
+      }
+      generator.writeEndArray();
+      // Skip the separator or end marker that follows the path.
+      offset++;
+    }
+    generator.writeEndArray();
+  }
+
+  private boolean isPathBoundary(UnsignedByte value) {
+    return value.equals(PATH_SEPARATOR) || value.equals(PATHSET_END);
+  }
 }
@@ -9,9 +9,10 @@ import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
 import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinarySerializer;
+import org.xrpl.xrpl4j.codec.binary.serdes.BytesSink;
+import org.xrpl.xrpl4j.codec.binary.serdes.EncodingContext;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -24,6 +25,11 @@ public class STArrayType extends SerializedType<STArrayType> {
 
   public static final String ARRAY_END_MARKER_NAME = "ArrayEndMarker";
 
+  private static final byte ARRAY_END_MARKER_BYTE = (byte) 0xF1;
+
+  // Encodes the objects of an array, each of which is a JSON object with a single STObject field.
+  private static final STObjectType OBJECT = new STObjectType();
+
   public STArrayType() {
     this(UnsignedByteArray.empty());
   }
@@ -53,19 +59,27 @@ public class STArrayType extends SerializedType<STArrayType> {
 
   @Override
   public STArrayType fromJson(JsonNode node) {
+    try (EncodingContext context = EncodingContext.acquire()) {
+      encode(node, context);
+      return new STArrayType(context.toUnsignedByteArray());
+    }
+  }
+
+  /**
+   * Encode {@code node} as an STArray, writing each of its objects straight to {@code sink}.
+   *
+   * @param node A {@link JsonNode} containing a JSON array of objects.
+   * @param sink The {@link BytesSink} to write to.
+   */
+  @Override
+  public void encode(JsonNode node, BytesSink sink) {
     if (!node.isArray()) {
       throw new IllegalArgumentException("node is not an array");
     }
-    UnsignedByteArray byteList = UnsignedByteArray.empty();
-    BinarySerializer serializer = new BinarySerializer(byteList);
-
-    Iterator<JsonNode> nodeIterator = node.elements();
-    while (nodeIterator.hasNext()) {
-      JsonNode child = nodeIterator.next();
-      serializer.put(new STObjectType().fromJson(child).value().hexValue());
+    for (JsonNode child : node) {
+      OBJECT.encode(child, sink);
     }
-    serializer.put(ARRAY_END_MARKER_HEX);
-    return new STArrayType(byteList);
+    sink.put(ARRAY_END_MARKER_BYTE);
   }
 
   @Override
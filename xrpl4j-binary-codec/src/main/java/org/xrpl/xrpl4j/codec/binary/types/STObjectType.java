@@ -4,18 +4,20 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
-import com.google.common.collect.Lists;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
 import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
 import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinarySerializer;
+import org.xrpl.xrpl4j.codec.binary.serdes.BytesSink;
+import org.xrpl.xrpl4j.codec.binary.serdes.EncodingContext;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Codec for XRPL STObject type.
@@ -24,7 +26,8 @@ import java.util.Map;
 public class STObjectType extends SerializedType<STObjectType> {
 
   public static final String OBJECT_END_MARKER_HEX = "E1";
-  private static final String OBJECT_END_MARKER = "ObjectEndMarker";
+  public static final String OBJECT_END_MARKER = "ObjectEndMarker";
+  private static final byte OBJECT_END_MARKER_BYTE = (byte) 0xE1;
   private static final String ST_OBJECT = "STObject";
   private static final DefinitionsService definitionsService = DefinitionsService.getInstance();
 
@@ -50,7 +53,7 @@ public class STObjectType extends SerializedType<STObjectType> {
       SerializedType<?> associatedValue = parser.readFieldValue(field);
       serializer.writeFieldAndValue(field, associatedValue);
       if (field.type().equals(ST_OBJECT)) {
-        serializer.put(OBJECT_END_MARKER_HEX);
+        serializer.put(OBJECT_END_MARKER_BYTE);
       }
     }
     return new STObjectType(byteArray);
@@ -58,8 +61,22 @@ public class STObjectType extends SerializedType<STObjectType> {
 
   @Override
   public STObjectType fromJson(JsonNode node) {
-    UnsignedByteArray byteList = UnsignedByteArray.empty();
-    BinarySerializer serializer = new BinarySerializer(byteList);
+    try (EncodingContext context = EncodingContext.acquire()) {
+      encode(node, context);
+      return new STObjectType(context.toUnsignedByteArray());
+    }
+  }
+
+  /**
+   * Encode {@code node} as an STObject, writing the canonical binary straight to {@code sink} rather than collecting it
+   * in an {@link STObjectType} first.
+   *
+   * @param node A {@link JsonNode} containing a JSON object.
+   * @param sink The {@link BytesSink} to write to.
+   */
+  @Override
+  public void encode(JsonNode node, BytesSink sink) {
+    BinarySerializer serializer = new BinarySerializer(sink);
     boolean isUNLModify;
     try {
       isUNLModify = "UNLModify".equals(node.get("TransactionType").asText());
@@ -67,39 +84,40 @@ public class STObjectType extends SerializedType<STObjectType> {
       isUNLModify = false;
     }
 
-
-    List<FieldWithValue<JsonNode>> fields = new ArrayList<>();
-    for (String fieldName : Lists.newArrayList(node.fieldNames())) {
-
-      /**
-       * The Account field must not be a part of the UNLModify pseudotransaction encoding, due to a bug in rippled.
-       */
+    // Sort on (ordinal, index) packed into a long so that canonical ordering is a primitive sort.
+    FieldInstance[] fields = new FieldInstance[node.size()];
+    long[] sortKeys = new long[node.size()];
+    int count = 0;
+    Iterator<String> fieldNames = node.fieldNames();
+    while (fieldNames.hasNext()) {
+      String fieldName = fieldNames.next();
+      // The Account field must not be a part of the UNLModify pseudotransaction encoding, due to a bug in rippled.
       if (isUNLModify && fieldName.equals("Account")) {
         continue;
       }
+      Optional<FieldInstance> field = definitionsService.getFieldInstance(fieldName)
+        .filter(FieldInstance::isSerialized);
+      if (field.isPresent()) {
+        sortKeys[count] = ((long) field.get().ordinal() << 32) | count;
+        fields[count++] = field.get();
+      }
+    }
+    Arrays.sort(sortKeys, 0, count);
+    for (int i = 0; i < count; i++) {
+      FieldInstance field = fields[(int) sortKeys[i]];
+      writeField(serializer, field, mapSpecializedValues(field.name(), node.get(field.name())));
+    }
+  }
 
-      JsonNode fieldNode = node.get(fieldName);
-      definitionsService.getFieldInstance(fieldName)
-        .filter(FieldInstance::isSerialized)
-        .ifPresent(fieldInstance -> fields.add(FieldWithValue.<JsonNode>builder()
-          .field(fieldInstance)
-          .value(mapSpecializedValues(fieldName, fieldNode))
-          .build()));
+  private void writeField(BinarySerializer serializer, FieldInstance field, JsonNode value) {
+    try {
+      serializer.writeFieldAndValue(field, value);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("invalid json", e);
+    }
+    if (field.type().equals(ST_OBJECT)) {
+      serializer.put(OBJECT_END_MARKER_BYTE);
     }
-    fields.stream()
-      .sorted()
-      .forEach(value -> {
-        try {
-          serializer.writeFieldAndValue(value.field(), value.value());
-        } catch (JsonProcessingException e) {
-          throw new IllegalArgumentException("invalid json", e);
-        }
-        if (value.field().type().equals(ST_OBJECT)) {
-          serializer.put(OBJECT_END_MARKER_HEX);
-        }
-      });
-
-    return new STObjectType(byteList);
   }
 
   /**
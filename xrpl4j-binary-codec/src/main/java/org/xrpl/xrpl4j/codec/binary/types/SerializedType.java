@@ -1,5 +1,6 @@
 package org.xrpl.xrpl4j.codec.binary.types;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.TextNode;
@@ -7,7 +8,9 @@ import com.google.common.collect.ImmutableMap;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
+import org.xrpl.xrpl4j.codec.binary.serdes.BytesSink;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -15,6 +18,11 @@ import java.util.function.Supplier;
 /**
  * Defines an abstract type serialization parent-class for all XRPL serialized type definitions.
  *
+ * <p>The static state shared by all types, such as the type registry and the field definitions, is either
+ * immutable or safe for concurrent use, so any number of threads may encode and decode at the same time. Individual
+ * instances are not synchronized, however: each wraps its own {@link UnsignedByteArray}, and should not be shared
+ * between threads while its bytes may still be changed.</p>
+ *
  * @param <T> The actual type of this {@link SerializedType}.
  */
 public abstract class SerializedType<T extends SerializedType<T>> {
@@ -35,6 +43,7 @@ public abstract class SerializedType<T extends SerializedType<T>> {
       .put("UInt8", () -> new UInt8Type())
       .put("UInt16", () -> new UInt16Type())
       .put("UInt32", () -> new UInt32Type())
+      .put("UInt64", () -> new UInt64Type())
       .put("Vector256", () -> new Vector256Type())
       .build();
   private final UnsignedByteArray bytes;
@@ -122,6 +131,20 @@ public abstract class SerializedType<T extends SerializedType<T>> {
     }
   }
 
+  /**
+   * Encode {@code node} as this type, writing the bytes straight to {@code sink}. This is the same as writing the bytes
+   * of {@link #fromJson(JsonNode)}, but types that can write their bytes directly override it so that no intermediate
+   * value is allocated.
+   *
+   * @param node A {@link JsonNode} to encode.
+   * @param sink The {@link BytesSink} to write to.
+   *
+   * @throws JsonProcessingException if {@code node} is not well-formed JSON.
+   */
+  public void encode(JsonNode node, BytesSink sink) throws JsonProcessingException {
+    fromJson(node).toBytesSink(sink);
+  }
+
   /**
    * Construct a concrete instance of {@link SerializedType} from the supplied {@code hex}.
    *
@@ -156,6 +179,25 @@ public abstract class SerializedType<T extends SerializedType<T>> {
     list.append(this.bytes);
   }
 
+  /**
+   * Write this type's bytes to {@code sink}.
+   *
+   * @param sink A {@link BytesSink}.
+   */
+  public void toBytesSink(final BytesSink sink) {
+    Objects.requireNonNull(sink);
+    sink.put(this.bytes);
+  }
+
+  /**
+   * Get the number of bytes in this type's binary form.
+   *
+   * @return The length of this type in bytes.
+   */
+  public int length() {
+    return bytes.length();
+  }
+
   /**
    * Convert this {@link SerializedType} to a byte array.
    *
@@ -174,6 +216,19 @@ public abstract class SerializedType<T extends SerializedType<T>> {
     return new TextNode(toHex());
   }
 
+  /**
+   * Write this {@link SerializedType} to {@code generator} as a single JSON value. The value written is the same as
+   * {@link #toJson()}; sub-classes override this to write their value directly instead of building a {@link JsonNode}
+   * first.
+   *
+   * @param generator The {@link JsonGenerator} to write to.
+   *
+   * @throws IOException if the value cannot be written.
+   */
+  public void toJson(JsonGenerator generator) throws IOException {
+    BinaryCodecObjectMapperFactory.getObjectMapper().writeTree(generator, toJson());
+  }
+
   /**
    * Convert this {@link SerializedType} to a hex-encoded {@link String}.
    *
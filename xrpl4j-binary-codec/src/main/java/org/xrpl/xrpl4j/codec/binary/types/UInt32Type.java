@@ -1,10 +1,13 @@
 package org.xrpl.xrpl4j.codec.binary.types;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.LongNode;
 import com.google.common.primitives.UnsignedLong;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
 
+import java.io.IOException;
+
 /**
  * Codec for XRPL UInt32 type.
  */
@@ -30,6 +33,11 @@ public class UInt32Type extends UIntType<UInt32Type> {
 
   @Override
   public JsonNode toJson() {
-    return new LongNode(UnsignedLong.valueOf(toHex(), 16).longValue());
+    return new LongNode(valueOf().longValue());
+  }
+
+  @Override
+  public void toJson(JsonGenerator generator) throws IOException {
+    generator.writeNumber(valueOf().longValue());
   }
 }
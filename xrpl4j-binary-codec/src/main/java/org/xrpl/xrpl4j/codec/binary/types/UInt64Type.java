@@ -1,11 +1,20 @@
 package org.xrpl.xrpl4j.codec.binary.types;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.TextNode;
 import com.google.common.primitives.UnsignedLong;
+import com.google.common.primitives.UnsignedLongs;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
+import org.xrpl.xrpl4j.codec.binary.serdes.BytesSink;
+
+import java.io.IOException;
 
 /**
  * Codec for XRPL UInt64 type.
+ *
+ * <p>Unlike the smaller UInt types, UInt64 values such as {@code OwnerNode} and {@code ExchangeRate} are represented
+ * in JSON as hex-encoded {@link String}s, which are written as 16 upper-case hex digits.</p>
  */
 public class UInt64Type extends UIntType<UInt64Type> {
 
@@ -24,7 +33,36 @@ public class UInt64Type extends UIntType<UInt64Type> {
 
   @Override
   public UInt64Type fromJson(JsonNode value) {
-    return new UInt64Type(UnsignedLong.valueOf(value.asText()));
+    return new UInt64Type(UnsignedLong.fromLongBits(parseHex(value)));
+  }
+
+  /**
+   * Write the bytes of a hex-encoded JSON string without constructing an instance of this type.
+   */
+  @Override
+  public void encode(JsonNode node, BytesSink sink) {
+    long longValue = parseHex(node);
+    for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+      sink.put((byte) (longValue >>> shift));
+    }
+  }
+
+  private static long parseHex(JsonNode node) {
+    String hex = node.asText();
+    if (hex.isEmpty() || hex.length() > 16) {
+      throw new IllegalArgumentException(hex + " is not a hex-encoded unsigned 64 bit integer");
+    }
+    return UnsignedLongs.parseUnsignedLong(hex, 16);
+  }
+
+  @Override
+  public JsonNode toJson() {
+    return new TextNode(toHex());
+  }
+
+  @Override
+  public void toJson(JsonGenerator generator) throws IOException {
+    generator.writeString(toHex());
   }
 
 }
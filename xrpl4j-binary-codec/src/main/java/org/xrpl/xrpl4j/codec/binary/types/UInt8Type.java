@@ -1,10 +1,13 @@
 package org.xrpl.xrpl4j.codec.binary.types;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.IntNode;
 import com.google.common.primitives.UnsignedLong;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
 
+import java.io.IOException;
+
 /**
  * Codec for XRPL UInt8 type.
  */
@@ -30,7 +33,12 @@ public class UInt8Type extends UIntType<UInt8Type> {
 
   @Override
   public JsonNode toJson() {
-    return new IntNode(UnsignedLong.valueOf(toHex(), 16).intValue());
+    return new IntNode(valueOf().intValue());
+  }
+
+  @Override
+  public void toJson(JsonGenerator generator) throws IOException {
+    generator.writeNumber(valueOf().intValue());
   }
 
 }
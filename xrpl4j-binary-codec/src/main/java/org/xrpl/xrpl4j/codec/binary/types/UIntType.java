@@ -1,10 +1,14 @@
 package org.xrpl.xrpl4j.codec.binary.types;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.google.common.primitives.UnsignedLong;
-import org.xrpl.xrpl4j.codec.addresses.ByteUtils;
+import com.google.common.primitives.UnsignedLongs;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.serdes.BytesSink;
+
+import java.io.IOException;
 
 /**
  * Base codec for XRPL UInt types.
@@ -13,13 +17,44 @@ abstract class UIntType<T extends UIntType<T>> extends SerializedType<T> {
 
   private final UnsignedLong value;
 
+  private final int bitSize;
+
   public UIntType(UnsignedLong value, int bitSize) {
-    super(UnsignedByteArray.fromHex(ByteUtils.padded(value.toString(16), bitSizeToHexLength(bitSize))));
+    super(toBytes(value.longValue(), bitSize));
     this.value = value;
+    this.bitSize = bitSize;
+  }
+
+  private static UnsignedByteArray toBytes(long value, int bitSize) {
+    checkFits(value, bitSize);
+    byte[] bytes = new byte[bitSize / Byte.SIZE];
+    for (int i = bytes.length - 1; i >= 0; i--) {
+      bytes[i] = (byte) value;
+      value >>>= Byte.SIZE;
+    }
+    return UnsignedByteArray.wrap(bytes, 0, bytes.length);
+  }
+
+  private static void checkFits(long value, int bitSize) {
+    if (bitSize < Long.SIZE && value >>> bitSize != 0) {
+      throw new IllegalArgumentException(
+        UnsignedLongs.toString(value) + " does not fit in an unsigned " + bitSize + " bit integer"
+      );
+    }
   }
 
-  private static int bitSizeToHexLength(int bitSize) {
-    return bitSize / 4;
+  /**
+   * Write the bytes of a decimal JSON number or string without constructing an instance of this type.
+   */
+  @Override
+  public void encode(JsonNode node, BytesSink sink) {
+    long longValue = node.isIntegralNumber() && node.canConvertToLong() && node.longValue() >= 0 ?
+      node.longValue() :
+      UnsignedLongs.parseUnsignedLong(node.asText());
+    checkFits(longValue, bitSize);
+    for (int shift = bitSize - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+      sink.put((byte) (longValue >>> shift));
+    }
   }
 
   UnsignedLong valueOf() {
@@ -28,6 +63,11 @@ abstract class UIntType<T extends UIntType<T>> extends SerializedType<T> {
 
   @Override
   public JsonNode toJson() {
-    return new TextNode(UnsignedLong.valueOf(toHex(), 16).toString());
+    return new TextNode(value.toString());
+  }
+
+  @Override
+  public void toJson(JsonGenerator generator) throws IOException {
+    generator.writeString(value.toString());
   }
 }
@@ -1,5 +1,6 @@
 package org.xrpl.xrpl4j.codec.binary.types;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.TextNode;
@@ -7,12 +8,16 @@ import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
 /**
  * Codec for XRPL Vector256 type.
+ *
+ * <p>A vector read from a {@link BinaryParser} over a byte array is a single view over that array, and its elements
+ * are only sliced out of it when they are asked for. Two vectors are equal if they hold the same bytes.</p>
  */
 public class Vector256Type extends SerializedType<Vector256Type> {
 
@@ -28,13 +33,10 @@ public class Vector256Type extends SerializedType<Vector256Type> {
 
   @Override
   public Vector256Type fromParser(BinaryParser parser, int lengthHint) {
-    UnsignedByteArray byteArray = UnsignedByteArray.empty();
-    int bytes = lengthHint;
-    int hashes = bytes / WIDTH;
-    for (int i = 0; i < hashes; i++) {
-      new Hash256Type().fromParser(parser).toBytesSink(byteArray);
+    if (lengthHint % WIDTH != 0) {
+      throw new IllegalArgumentException("Vector256 length must be a multiple of " + WIDTH + ", but was " + lengthHint);
     }
-    return new Vector256Type(byteArray);
+    return new Vector256Type(parser.read(lengthHint));
   }
 
   @Override
@@ -54,14 +56,65 @@ public class Vector256Type extends SerializedType<Vector256Type> {
     return new Vector256Type(byteList);
   }
 
+  /**
+   * The number of hashes in this vector.
+   *
+   * @return An int.
+   */
+  public int size() {
+    return length() / WIDTH;
+  }
+
+  /**
+   * Get a hash in this vector, without copying it.
+   *
+   * @param index The index of the hash.
+   *
+   * @return A {@link Hash256Type} that is a view over this vector's bytes.
+   *
+   * @throws IndexOutOfBoundsException if {@code index} is negative or not less than {@link #size()}.
+   */
+  public Hash256Type get(int index) {
+    if (index < 0 || index >= size()) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+    }
+    return new Hash256Type(value().slice(index * WIDTH, (index + 1) * WIDTH));
+  }
+
   @Override
   public JsonNode toJson() {
-    BinaryParser parser = new BinaryParser(this.toString());
-    List<JsonNode> values = new ArrayList<>();
-    while (parser.hasMore()) {
-      UnsignedByteArray bytes = parser.read(32);
-      values.add(new TextNode(bytes.hexValue()));
+    UnsignedByteArray bytes = value();
+    List<JsonNode> values = new ArrayList<>(size());
+    for (int i = 0; i + WIDTH <= bytes.length(); i += WIDTH) {
+      values.add(new TextNode(bytes.slice(i, i + WIDTH).hexValue()));
     }
     return new ArrayNode(BinaryCodecObjectMapperFactory.getObjectMapper().getNodeFactory(), values);
   }
+
+  @Override
+  public void toJson(JsonGenerator generator) throws IOException {
+    UnsignedByteArray bytes = value();
+    generator.writeStartArray();
+    for (int i = 0; i + WIDTH <= bytes.length(); i += WIDTH) {
+      generator.writeString(bytes.slice(i, i + WIDTH).hexValue());
+    }
+    generator.writeEndArray();
+  }
+
+  @Override
+  public boolean equals(Object object) {
+    if (this == object) {
+      return true;
+    }
+    if (!(object instanceof Vector256Type)) {
+      return false;
+    }
+    return value().equals(((Vector256Type) object).value());
+  }
+
+  @Override
+  public int hashCode() {
+    return value().hashCode();
+  }
+
 }
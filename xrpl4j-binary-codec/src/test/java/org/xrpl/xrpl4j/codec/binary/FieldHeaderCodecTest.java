@@ -3,9 +3,11 @@ package org.xrpl.xrpl4j.codec.binary;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.io.BaseEncoding;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.xrpl.xrpl4j.codec.binary.definitions.DefaultDefinitionsProvider;
+import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
 import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
 import org.xrpl.xrpl4j.codec.fixtures.data.FieldTest;
 
@@ -21,7 +23,7 @@ class FieldHeaderCodecTest {
   @BeforeEach
   public void loadFixtures() throws IOException {
     ObjectMapper objectMapper = BinaryCodecObjectMapperFactory.getObjectMapper();
-    fieldHeaderCodec = new FieldHeaderCodec(new DefaultDefinitionsProvider(objectMapper).get(), objectMapper);
+    fieldHeaderCodec = new FieldHeaderCodec(new DefaultDefinitionsProvider(objectMapper).get());
     fieldTests = FixtureUtils.getDataDrivenFixtures().fieldTests();
     assertThat(fieldTests).hasSize(125);
   }
@@ -40,6 +42,15 @@ class FieldHeaderCodecTest {
       assertThat(fieldHeaderCodec.encode(fieldTest.name())).isEqualTo(fieldTest.expectedHex()));
   }
 
+  @Test
+  void headerBytesMatchEncode() {
+    DefinitionsService definitionsService = DefinitionsService.getInstance();
+    fieldTests.forEach(fieldTest -> {
+      byte[] headerBytes = definitionsService.getFieldInstance(fieldTest.name()).get().headerBytes();
+      assertThat(BaseEncoding.base16().encode(headerBytes)).isEqualTo(fieldTest.expectedHex());
+    });
+  }
+
   @Test
   void decode() {
     fieldTests.forEach(fieldTest ->
@@ -0,0 +1,93 @@
+package org.xrpl.xrpl4j.codec.binary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
+import org.xrpl.xrpl4j.codec.fixtures.codec.CodecFixture;
+import org.xrpl.xrpl4j.codec.fixtures.codec.CodecFixtures;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for {@link XrplBinaryBatchDecoder}.
+ */
+class XrplBinaryBatchDecoderTest {
+
+  private static final int COPIES = 20;
+
+  private final XrplBinaryCodec codec = new XrplBinaryCodec();
+
+  private ForkJoinPool pool;
+
+  private XrplBinaryBatchDecoder decoder;
+
+  @BeforeEach
+  void setUp() {
+    pool = new ForkJoinPool(8);
+    decoder = new XrplBinaryBatchDecoder(codec, pool);
+  }
+
+  @AfterEach
+  void tearDown() {
+    pool.shutdownNow();
+  }
+
+  @Test
+  void decodesInInputOrderAndMatchesSequentialDecoding() throws IOException {
+    // Shuffled copies of every fixture, so that threads decode different kinds of objects at the same time.
+    List<String> blobs = new ArrayList<>();
+    for (int i = 0; i < COPIES; i++) {
+      blobs.addAll(fixtureBlobs());
+    }
+    Collections.shuffle(blobs, new Random(42));
+
+    List<BatchDecodeResult> results = decoder.decode(blobs);
+
+    assertThat(results).hasSize(blobs.size());
+    for (int i = 0; i < blobs.size(); i++) {
+      BatchDecodeResult result = results.get(i);
+      assertThat(result.index()).isEqualTo(i);
+      assertMatchesSequentialDecoding(blobs.get(i), result);
+    }
+  }
+
+  @Test
+  void reportsFailuresWithoutStoppingTheBatch() throws IOException {
+    String good = fixtureBlobs().get(0);
+    List<BatchDecodeResult> results = decoder.decode(Stream.of(good, "ZZ", null, "", good));
+
+    assertThat(results).extracting(BatchDecodeResult::isSuccess).containsExactly(true, false, false, true, true);
+    assertThat(results.get(0).json()).isEqualTo(results.get(4).json());
+    assertThat(results.get(1).error()).isPresent();
+    assertThat(results.get(2).error()).containsInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void decodesEmptyBatch() {
+    assertThat(decoder.decode(ImmutableList.of())).isEmpty();
+    assertThat(new XrplBinaryBatchDecoder(codec).decode(Stream.empty())).isEmpty();
+  }
+
+  private void assertMatchesSequentialDecoding(String blob, BatchDecodeResult result) {
+    assertThat(result.json()).contains(codec.decode(blob));
+  }
+
+  private List<String> fixtureBlobs() throws IOException {
+    CodecFixtures fixtures = FixtureUtils.getCodecFixtures();
+    return Stream.concat(fixtures.accountState().stream(), fixtures.transactions().stream())
+      .map(CodecFixture::binary)
+      .collect(Collectors.toList());
+  }
+
+}
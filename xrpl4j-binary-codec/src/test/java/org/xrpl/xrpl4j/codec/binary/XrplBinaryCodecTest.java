@@ -6,16 +6,25 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.base.Strings;
 import com.google.common.collect.Lists;
+import com.google.common.io.BaseEncoding;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
+import org.xrpl.xrpl4j.codec.binary.serdes.BytesSink;
 import org.xrpl.xrpl4j.codec.binary.types.STObjectType;
 import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
+import org.xrpl.xrpl4j.codec.fixtures.codec.CodecFixture;
 import org.xrpl.xrpl4j.codec.fixtures.data.WholeObject;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
 import java.util.stream.Stream;
 
 class XrplBinaryCodecTest {
@@ -36,6 +45,11 @@ class XrplBinaryCodecTest {
       .map(Arguments::of);
   }
 
+  private static Stream<Arguments> ledgerEntryFixtures() throws IOException {
+    return FixtureUtils.getCodecFixtures().accountState().stream()
+      .map(Arguments::of);
+  }
+
   @Test
   void encodeDecodeSimple() throws JsonProcessingException {
     assertThat(encoder.encode(SIMPLE_JSON)).isEqualTo(SIMPLE_HEX);
@@ -78,6 +92,16 @@ class XrplBinaryCodecTest {
     assertThat(encoder.decode(hex)).isEqualTo(json);
   }
 
+  @Test
+  void encodeDecodeUInt64() throws JsonProcessingException {
+    String json = "{\"OwnerNode\":\"0000000000000001\",\"ExchangeRate\":\"4F0415EB4EA0C727\"}";
+    String hex = "340000000000000001364F0415EB4EA0C727";
+    assertThat(encoder.encode(json)).isEqualTo(hex);
+    assertThat(encoder.decode(hex)).isEqualTo(json);
+    assertThat(encoder.encode("{\"OwnerNode\":\"1\"}")).isEqualTo("340000000000000001");
+    assertThat(encoder.decode("340000000000000001")).isEqualTo("{\"OwnerNode\":\"0000000000000001\"}");
+  }
+
   @Test
   void encodeDecodeHash256() throws JsonProcessingException {
     String json = "{\"LedgerHash\":\"11223344556677889900AABBCCDDEEFF11223344556677889900AABBCCDDEEFF\"}";
@@ -211,10 +235,112 @@ class XrplBinaryCodecTest {
     assertThat(encoder.encodeForMultiSigning(json, signerAccountId)).isEqualTo(expected);
   }
 
+  @Test
+  void encodeToBytesAndSinks() throws IOException {
+    assertThat(encoder.encodeToBytes(MULTI_LEVEL_OBJECT_JSON).hexValue()).isEqualTo(MULTI_LEVEL_OBJECT_HEX);
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    encoder.encode(MULTI_LEVEL_OBJECT_JSON, outputStream);
+    assertThat(BaseEncoding.base16().encode(outputStream.toByteArray())).isEqualTo(MULTI_LEVEL_OBJECT_HEX);
+
+    ByteArrayOutputStream channelStream = new ByteArrayOutputStream();
+    encoder.encode(MULTI_LEVEL_OBJECT_JSON, Channels.newChannel(channelStream));
+    assertThat(BaseEncoding.base16().encode(channelStream.toByteArray())).isEqualTo(MULTI_LEVEL_OBJECT_HEX);
+  }
+
+  @Test
+  void encodeIgnoresFieldsThatAreNotInTheDefinitions() throws JsonProcessingException {
+    String json = "{\"Account\":\"r45dBj4S3VvMMYXxr9vHX4Z4Ma6ifPMCkK\",\"TransactionType\":\"Payment\"," +
+      "\"Fee\":\"789\",\"Sequence\":1,\"Amount\":\"1000\",\"Destination\":\"rrrrrrrrrrrrrrrrrrrrBZbvji\"}";
+    String jsonWithExtraFields = "{\"hash\":\"ABCD\",\"Account\":\"r45dBj4S3VvMMYXxr9vHX4Z4Ma6ifPMCkK\"," +
+      "\"TransactionType\":\"Payment\",\"NotAField\":1,\"Fee\":\"789\",\"Sequence\":1,\"Amount\":\"1000\"," +
+      "\"Destination\":\"rrrrrrrrrrrrrrrrrrrrBZbvji\"}";
+
+    assertThat(encoder.encode(jsonWithExtraFields)).isEqualTo(encoder.encode(json));
+  }
+
+  @Test
+  void encodeStreamsToSink() throws IOException {
+    String json = "{\"Account\":\"r45dBj4S3VvMMYXxr9vHX4Z4Ma6ifPMCkK\",\"TransactionType\":\"Payment\"," +
+      "\"Fee\":\"789\",\"Sequence\":1,\"Amount\":\"1000\",\"Destination\":\"rrrrrrrrrrrrrrrrrrrrBZbvji\"," +
+      "\"SigningPubKey\":\"ED5F5AC8B98974A3CA843326D9B88CEBD0560177B973EE0B149F782CFAA06DC66A\"}";
+    ByteArrayOutputStream written = new ByteArrayOutputStream();
+    int[] largestWrite = new int[1];
+    BytesSink sink = new BytesSink() {
+      @Override
+      public void put(byte value) {
+        put(new byte[] {value}, 0, 1);
+      }
+
+      @Override
+      public void put(byte[] bytes, int offset, int length) {
+        largestWrite[0] = Math.max(largestWrite[0], length);
+        written.write(bytes, offset, length);
+      }
+
+      @Override
+      public void put(UnsignedByteArray bytes) {
+        put(bytes.toByteArray());
+      }
+    };
+
+    encoder.encode(BinaryCodecObjectMapperFactory.getObjectMapper().readTree(json), sink);
+
+    assertThat(BaseEncoding.base16().encode(written.toByteArray())).isEqualTo(encoder.encode(json));
+    // The largest single write is the public key, not the whole encoding.
+    assertThat(largestWrite[0]).isEqualTo(33);
+  }
+
+  @Test
+  void encodeForSigningToBytesMatchesHex() throws JsonProcessingException {
+    String json = "{\"Account\":\"r45dBj4S3VvMMYXxr9vHX4Z4Ma6ifPMCkK\",\"TransactionType\":\"Payment\"," +
+      "\"Fee\":\"789\",\"Sequence\":1,\"Amount\":\"1000\",\"Destination\":\"rrrrrrrrrrrrrrrrrrrrBZbvji\"," +
+      "\"SigningPubKey\":\"ED5F5AC8B98974A3CA843326D9B88CEBD0560177B973EE0B149F782CFAA06DC66A\"," +
+      "\"TxnSignature\": \"12345678\"}";
+    String signerAccountId = "rJZdUusLDtY9NEsGea7ijqhVrXv98rYBYN";
+
+    assertThat(encoder.encodeForSigningToBytes(json).hexValue()).isEqualTo(encoder.encodeForSigning(json));
+    assertThat(encoder.encodeForMultiSigningToBytes(json, signerAccountId).hexValue())
+      .isEqualTo(encoder.encodeForMultiSigning(json, signerAccountId));
+  }
+
+  @Test
+  void decodeBytesAndByteBuffer() {
+    byte[] bytes = BaseEncoding.base16().decode(MULTI_LEVEL_OBJECT_HEX);
+    assertThat(encoder.decode(bytes)).isEqualTo(MULTI_LEVEL_OBJECT_JSON);
+    assertThat(encoder.decode(ByteBuffer.wrap(bytes))).isEqualTo(MULTI_LEVEL_OBJECT_JSON);
+
+    ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+    direct.put(bytes);
+    direct.flip();
+    assertThat(encoder.decode(direct)).isEqualTo(MULTI_LEVEL_OBJECT_JSON);
+  }
+
+  @Test
+  void decodeToWriterAndOutputStream() throws IOException {
+    byte[] bytes = BaseEncoding.base16().decode(MULTI_LEVEL_OBJECT_HEX);
+
+    StringWriter writer = new StringWriter();
+    encoder.decode(bytes, writer);
+    assertThat(writer.toString()).isEqualTo(MULTI_LEVEL_OBJECT_JSON);
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    encoder.decode(bytes, outputStream);
+    assertThat(new String(outputStream.toByteArray(), StandardCharsets.UTF_8)).isEqualTo(MULTI_LEVEL_OBJECT_JSON);
+  }
+
   @ParameterizedTest
   @MethodSource("dataDrivenFixtures")
   void dataDriven(WholeObject wholeObject) throws IOException {
     assertThat(encoder.encode(wholeObject.txJson().toString())).isEqualTo(wholeObject.expectedHex());
   }
 
+  @ParameterizedTest
+  @MethodSource("ledgerEntryFixtures")
+  void encodeDecodeLedgerEntries(CodecFixture fixture) throws IOException {
+    assertThat(encoder.encode(fixture.json().toString())).isEqualTo(fixture.binary());
+    assertThat(BinaryCodecObjectMapperFactory.getObjectMapper().readTree(encoder.decode(fixture.binary())))
+      .isEqualTo(fixture.json());
+  }
+
 }
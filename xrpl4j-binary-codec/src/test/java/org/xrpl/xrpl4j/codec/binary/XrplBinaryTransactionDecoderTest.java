@@ -0,0 +1,355 @@
+package org.xrpl.xrpl4j.codec.binary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.primitives.UnsignedInteger;
+import com.google.common.primitives.UnsignedLong;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.hash.Sha512Half;
+import org.xrpl.xrpl4j.codec.binary.keylet.Keylets;
+import org.xrpl.xrpl4j.codec.binary.shamap.LedgerHashes;
+import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
+import org.xrpl.xrpl4j.codec.fixtures.codec.CodecFixture;
+import org.xrpl.xrpl4j.codec.fixtures.data.WholeObject;
+import org.xrpl.xrpl4j.model.client.accounts.AccountTransactionsBinaryResult;
+import org.xrpl.xrpl4j.model.client.accounts.AccountTransactionsResult;
+import org.xrpl.xrpl4j.model.client.accounts.AccountTransactionsTransactionResult;
+import org.xrpl.xrpl4j.model.client.common.LedgerIndex;
+import org.xrpl.xrpl4j.model.client.common.LedgerIndexBound;
+import org.xrpl.xrpl4j.model.client.ledger.BinaryLedger;
+import org.xrpl.xrpl4j.model.client.ledger.LedgerBinaryResult;
+import org.xrpl.xrpl4j.model.client.ledger.LedgerResult;
+import org.xrpl.xrpl4j.model.client.transactions.BinaryTransactionResult;
+import org.xrpl.xrpl4j.model.client.transactions.TransactionResult;
+import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
+import org.xrpl.xrpl4j.model.ledger.LedgerHeader;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.AffectedNode;
+import org.xrpl.xrpl4j.model.transactions.CreatedNode;
+import org.xrpl.xrpl4j.model.transactions.DeletedNode;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+import org.xrpl.xrpl4j.model.transactions.ModifiedNode;
+import org.xrpl.xrpl4j.model.transactions.OfferCreate;
+import org.xrpl.xrpl4j.model.transactions.Payment;
+import org.xrpl.xrpl4j.model.transactions.Transaction;
+import org.xrpl.xrpl4j.model.transactions.TransactionMetadata;
+import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for {@link XrplBinaryTransactionDecoder}.
+ */
+class XrplBinaryTransactionDecoderTest {
+
+  private final ObjectMapper objectMapper = ObjectMapperFactory.create();
+
+  private final XrplBinaryCodec codec = new XrplBinaryCodec();
+
+  private final XrplBinaryTransactionDecoder decoder = new XrplBinaryTransactionDecoder(codec, objectMapper);
+
+  private final Payment payment = Payment.builder()
+    .account(Address.of("rU6K7V3Po4snVhBBaU29sesqs2qTQJWDw1"))
+    .fee(XrpCurrencyAmount.ofDrops(10))
+    .sequence(UnsignedInteger.valueOf(4))
+    .destination(Address.of("rEqrVunkmDhWNGHELTzQmn4mX7LKvdomfq"))
+    .amount(XrpCurrencyAmount.ofDrops(12345))
+    .signingPublicKey("030D58EB48B4420B1F7B9DF55087E0E29FEF0E8468F9A6825B01CA2C361042D435")
+    .build();
+
+  private static Stream<String> transactionBlobs() throws IOException {
+    return Stream.concat(
+      FixtureUtils.getCodecFixtures().transactions().stream().map(CodecFixture::binary),
+      FixtureUtils.getDataDrivenFixtures().wholeObjectTests().stream().map(WholeObject::expectedHex)
+    );
+  }
+
+  /**
+   * Decoding a transaction directly must give the same {@link Transaction} as decoding it to a JSON {@link String} and
+   * reading that, or fail the same way.
+   */
+  @ParameterizedTest
+  @MethodSource("transactionBlobs")
+  void decodeTransactionMatchesJson(String hex) throws IOException {
+    Transaction expected;
+    try {
+      expected = objectMapper.readValue(codec.decode(hex), Transaction.class);
+    } catch (Exception e) {
+      assertThatThrownBy(() -> decoder.decodeTransaction(hex)).isInstanceOf(e.getClass());
+      return;
+    }
+    assertThat(decoder.decodeTransaction(hex)).isEqualTo(expected);
+  }
+
+  @Test
+  void decodePayment() throws IOException {
+    String hex = codec.encode(objectMapper.writeValueAsString(payment));
+
+    assertThat(decoder.decodeTransaction(hex)).isEqualTo(payment);
+  }
+
+  @Test
+  void decodeTransactionWithoutTransactionType() throws IOException {
+    String hex = codec.encode("{\"Account\":\"rU6K7V3Po4snVhBBaU29sesqs2qTQJWDw1\"}");
+    assertThatThrownBy(() -> decoder.decodeTransaction(hex))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("TransactionType");
+  }
+
+  @Test
+  void decodeMetadata() throws IOException {
+    ObjectNode meta = metadataJson();
+    String hex = codec.encode(objectMapper.writeValueAsString(meta));
+    TransactionMetadata metadata = decoder.decodeMetadata(hex);
+
+    ObjectNode expectedJson = meta.deepCopy();
+    expectedJson.set("delivered_amount", expectedJson.remove("DeliveredAmount"));
+    assertThat(metadata).isEqualTo(objectMapper.treeToValue(expectedJson, TransactionMetadata.class));
+    assertThat(metadata.deliveredAmount()).hasValue(XrpCurrencyAmount.ofDrops(12345));
+    assertThat(metadata.affectedNodes()).hasSize(1);
+  }
+
+  @Test
+  void decodeMetadataWithLedgerEntries() throws IOException {
+    ObjectNode meta = ledgerEntryMetadataJson();
+    String hex = codec.encode(objectMapper.writeValueAsString(meta));
+
+    TransactionMetadata metadata = decoder.decodeMetadata(hex);
+
+    assertThat(objectMapper.readTree(codec.decode(hex))).isEqualTo(meta);
+    assertThat(metadata).isEqualTo(objectMapper.treeToValue(meta, TransactionMetadata.class));
+    assertThat(metadata.affectedNodes()).extracting(AffectedNode::ledgerEntryType)
+      .containsExactly("RippleState", "Offer", "DirectoryNode", "Offer");
+    assertThat(((ModifiedNode) metadata.affectedNodes().get(0)).finalFields().get())
+      .containsEntry("LowNode", "0000000000000003")
+      .containsEntry("HighNode", "0000000000000000");
+    assertThat(((DeletedNode) metadata.affectedNodes().get(1)).finalFields().get())
+      .containsEntry("OwnerNode", "0000000000000001")
+      .containsEntry("BookNode", "0000000000000000");
+    assertThat(((ModifiedNode) metadata.affectedNodes().get(2)).finalFields().get())
+      .containsEntry("ExchangeRate", "531AA535D3D0C000")
+      .containsEntry("IndexNext", "0000000000000002")
+      .containsEntry("IndexPrevious", "0000000000000001");
+    assertThat(((CreatedNode) metadata.affectedNodes().get(3)).newFields().get())
+      .containsEntry("BookDirectory", "2FB4904ACFB96228FC002335B1B5A4C5584D9D727BBE82145003BAF82D03A000");
+  }
+
+  @Test
+  void decodeTransactionResult() throws IOException {
+    String transactionHex = codec.encode(objectMapper.writeValueAsString(payment));
+    String metadataHex = codec.encode(objectMapper.writeValueAsString(metadataJson()));
+    BinaryTransactionResult result = BinaryTransactionResult.builder()
+      .transactionBlob(transactionHex)
+      .metadataBlob(metadataHex)
+      .ledgerIndex(LedgerIndex.of(UnsignedInteger.valueOf(57123)))
+      .validated(true)
+      .closeDate(UnsignedLong.valueOf(666212460))
+      .status("success")
+      .build();
+
+    TransactionResult<Payment> decoded = decoder.decodeTransactionResult(result, Payment.class);
+
+    assertThat(decoded.transaction()).isEqualTo(payment);
+    assertThat(decoded.hash()).isEqualTo(transactionHash(transactionHex));
+    assertThat(decoded.ledgerIndex()).isEqualTo(result.ledgerIndex());
+    assertThat(decoded.validated()).isTrue();
+    assertThat(decoded.metadata()).hasValue(decoder.decodeMetadata(metadataHex));
+    assertThat(decoded.closeDate()).isEqualTo(result.closeDate());
+    assertThat(decoded.status()).hasValue("success");
+
+    Hash256 hash = Hash256.of("E08D6E9754025BA2534A78707605E0601F03ACE063687A0CA1BDDACFCD1698C7");
+    BinaryTransactionResult withHash = BinaryTransactionResult.builder().from(result).hash(hash).build();
+    assertThat(decoder.decodeTransactionResult(withHash, Transaction.class).hash()).isEqualTo(hash);
+    assertThatThrownBy(() -> decoder.decodeTransactionResult(result, OfferCreate.class))
+      .isInstanceOf(ClassCastException.class);
+  }
+
+  @Test
+  void decodeAccountTransactions() throws IOException {
+    String transactionHex = codec.encode(objectMapper.writeValueAsString(payment));
+    AccountTransactionsBinaryResult result = AccountTransactionsBinaryResult.builder()
+      .account(payment.account())
+      .ledgerIndexMinimum(LedgerIndexBound.of(56248229))
+      .ledgerIndexMaximum(LedgerIndexBound.of(57112019))
+      .limit(UnsignedInteger.valueOf(10))
+      .addTransactions(BinaryTransactionResult.builder()
+        .transactionBlob(transactionHex)
+        .metadataBlob(codec.encode(objectMapper.writeValueAsString(metadataJson())))
+        .ledgerIndex(LedgerIndex.of(UnsignedInteger.valueOf(57123)))
+        .validated(true)
+        .build())
+      .validated(true)
+      .build();
+
+    AccountTransactionsResult decoded = decoder.decodeAccountTransactions(result);
+
+    assertThat(decoded.account()).isEqualTo(result.account());
+    assertThat(decoded.ledgerIndexMinimum()).isEqualTo(result.ledgerIndexMinimum());
+    assertThat(decoded.ledgerIndexMaximum()).isEqualTo(result.ledgerIndexMaximum());
+    assertThat(decoded.limit()).isEqualTo(result.limit());
+    assertThat(decoded.validated()).isTrue();
+    assertThat(decoded.transactions()).hasSize(1);
+    AccountTransactionsTransactionResult<? extends Transaction> transaction = decoded.transactions().get(0);
+    assertThat(transaction.resultTransaction().transaction()).isEqualTo(payment);
+    assertThat(transaction.resultTransaction().hash()).isEqualTo(transactionHash(transactionHex));
+    assertThat(transaction.resultTransaction().ledgerIndex()).isEqualTo(LedgerIndex.of(UnsignedInteger.valueOf(57123)));
+    assertThat(transaction.metadata()).isPresent();
+    assertThat(transaction.validated()).isTrue();
+  }
+
+  @Test
+  void decodeAccountTransactionsWithLedgerEntries() throws IOException {
+    String transactionHex = codec.encode(objectMapper.writeValueAsString(payment));
+    String metadataHex = codec.encode(objectMapper.writeValueAsString(ledgerEntryMetadataJson()));
+    AccountTransactionsBinaryResult result = AccountTransactionsBinaryResult.builder()
+      .account(payment.account())
+      .ledgerIndexMinimum(LedgerIndexBound.of(56248229))
+      .ledgerIndexMaximum(LedgerIndexBound.of(57112019))
+      .limit(UnsignedInteger.valueOf(10))
+      .addTransactions(BinaryTransactionResult.builder()
+        .transactionBlob(transactionHex)
+        .metadataBlob(metadataHex)
+        .ledgerIndex(LedgerIndex.of(UnsignedInteger.valueOf(57123)))
+        .validated(true)
+        .build())
+      .validated(true)
+      .build();
+
+    AccountTransactionsResult decoded = decoder.decodeAccountTransactions(result);
+
+    assertThat(decoded.transactions()).hasSize(1);
+    assertThat(decoded.transactions().get(0).metadata()).hasValue(decoder.decodeMetadata(metadataHex));
+    assertThat(decoded.transactions().get(0).metadata().get().affectedNodes()).hasSize(4);
+  }
+
+  @Test
+  void decodeLedger() throws IOException {
+    String transactionHex = codec.encode(objectMapper.writeValueAsString(payment));
+    CodecFixture ledgerData = FixtureUtils.getCodecFixtures().ledgerData().get(0);
+    LedgerBinaryResult result = LedgerBinaryResult.builder()
+      .ledger(BinaryLedger.builder()
+        .ledgerData(ledgerData.binary())
+        .closed(true)
+        .addTransactions(BinaryTransactionResult.builder()
+          .transactionBlob(transactionHex)
+          .metadataBlob(codec.encode(objectMapper.writeValueAsString(metadataJson())))
+          .build())
+        .build())
+      .ledgerIndex(LedgerIndex.of(UnsignedInteger.valueOf(32052277)))
+      .validated(true)
+      .status("success")
+      .build();
+
+    LedgerResult decoded = decoder.decodeLedger(result);
+
+    LedgerHeader expectedHeader = LedgerHashes.ledgerHeader(UnsignedByteArray.fromHex(ledgerData.binary()));
+    assertThat(decoded.ledger().ledgerIndex()).isEqualTo(expectedHeader.ledgerIndex());
+    assertThat(decoded.ledger().ledgerHash()).isEqualTo(expectedHeader.ledgerHash());
+    assertThat(decoded.ledger().closed()).isTrue();
+    assertThat(decoded.ledger().transactions()).hasSize(1);
+    assertThat(decoded.ledger().transactions().get(0).transaction()).isEqualTo(payment);
+    assertThat(decoded.ledger().transactions().get(0).hash()).isEqualTo(transactionHash(transactionHex));
+    assertThat(decoded.ledgerIndex()).isEqualTo(result.ledgerIndex());
+    assertThat(decoded.validated()).isTrue();
+    assertThat(decoded.status()).hasValue("success");
+  }
+
+  private Hash256 transactionHash(String transactionHex) {
+    return Hash256.of(Sha512Half.transactionId(UnsignedByteArray.fromHex(transactionHex)).hexValue());
+  }
+
+  private ObjectNode metadataJson() {
+    ObjectNode meta = objectMapper.createObjectNode();
+    meta.put("TransactionIndex", 3);
+    meta.put("TransactionResult", "tesSUCCESS");
+    meta.put("DeliveredAmount", "12345");
+    ObjectNode modifiedNode = meta.putArray("AffectedNodes").addObject().putObject("ModifiedNode");
+    modifiedNode.put("LedgerEntryType", "AccountRoot");
+    modifiedNode.put("LedgerIndex", "13F1A95D7AAB7108D5CE7EEAF504B2894B8C674E6D68499076441C4837282BF8");
+    modifiedNode.put("PreviousTxnID", "A1A5C0A0F4A9E0B1D4C2B5C1F3B0E9A8D7C6B5A4F3E2D1C0B9A8F7E6D5C4B3A2");
+    modifiedNode.put("PreviousTxnLgrSeq", 57123);
+    ObjectNode finalFields = modifiedNode.putObject("FinalFields");
+    finalFields.put("Account", "rU6K7V3Po4snVhBBaU29sesqs2qTQJWDw1");
+    finalFields.put("Balance", "99987645");
+    finalFields.put("Flags", 0);
+    finalFields.put("OwnerCount", 0);
+    finalFields.put("Sequence", 5);
+    ObjectNode previousFields = modifiedNode.putObject("PreviousFields");
+    previousFields.put("Balance", "100000000");
+    previousFields.put("Sequence", 4);
+    return meta;
+  }
+
+  /**
+   * Metadata that touches a trust line, two offers and an order book directory, built from the mainnet ledger objects
+   * in the codec fixtures. Between them, these have every UInt64 field that commonly appears in metadata.
+   */
+  private ObjectNode ledgerEntryMetadataJson() throws IOException {
+    ObjectNode meta = objectMapper.createObjectNode();
+    meta.put("TransactionIndex", 7);
+    meta.put("TransactionResult", "tesSUCCESS");
+    ArrayNode affectedNodes = meta.putArray("AffectedNodes");
+
+    ObjectNode trustLine = ledgerEntry("RippleState", "LowNode", "0000000000000003");
+    ObjectNode modifiedTrustLine = affectedNode(affectedNodes, "ModifiedNode", trustLine, Keylets.trustLine(
+      Address.of(trustLine.get("LowLimit").get("issuer").asText()),
+      Address.of(trustLine.get("HighLimit").get("issuer").asText()),
+      "USD"
+    ));
+    moveToNode(trustLine, modifiedTrustLine, "PreviousTxnID", "PreviousTxnLgrSeq");
+    modifiedTrustLine.set("FinalFields", trustLine);
+    modifiedTrustLine.putObject("PreviousFields").putObject("Balance")
+      .put("currency", "USD")
+      .put("value", "0")
+      .put("issuer", "rrrrrrrrrrrrrrrrrrrrBZbvji");
+
+    ObjectNode offer = ledgerEntry("Offer", "OwnerNode", "0000000000000001");
+    affectedNode(affectedNodes, "DeletedNode", offer, Keylets.offer(
+      Address.of(offer.get("Account").asText()), UnsignedInteger.valueOf(offer.get("Sequence").asLong())
+    )).set("FinalFields", offer);
+
+    ObjectNode directory = ledgerEntry("DirectoryNode", "ExchangeRate", "531AA535D3D0C000");
+    ObjectNode modifiedDirectory = affectedNode(affectedNodes, "ModifiedNode", directory,
+      Keylets.directoryPage(Hash256.of(directory.get("RootIndex").asText()), UnsignedLong.ONE));
+    modifiedDirectory.set("FinalFields", directory);
+
+    ObjectNode newOffer = ledgerEntry("Offer", "TakerGets", "3000000");
+    newOffer.remove(Arrays.asList("PreviousTxnID", "PreviousTxnLgrSeq", "Flags", "OwnerNode", "BookNode"));
+    affectedNode(affectedNodes, "CreatedNode", newOffer, Keylets.offer(
+      Address.of(newOffer.get("Account").asText()), UnsignedInteger.valueOf(newOffer.get("Sequence").asLong())
+    )).set("NewFields", newOffer);
+    return meta;
+  }
+
+  private ObjectNode ledgerEntry(String ledgerEntryType, String fieldName, String value) throws IOException {
+    return FixtureUtils.getCodecFixtures().accountState().stream()
+      .map(fixture -> (ObjectNode) fixture.json().deepCopy())
+      .filter(json -> json.get("LedgerEntryType").asText().equals(ledgerEntryType))
+      .filter(json -> json.has(fieldName) && json.get(fieldName).asText().equals(value))
+      .findFirst()
+      .orElseThrow(() -> new IllegalStateException("No " + ledgerEntryType + " fixture with " + fieldName));
+  }
+
+  private ObjectNode affectedNode(ArrayNode affectedNodes, String nodeType, ObjectNode ledgerEntry, Hash256 index) {
+    ObjectNode node = affectedNodes.addObject().putObject(nodeType);
+    node.set("LedgerEntryType", ledgerEntry.remove("LedgerEntryType"));
+    node.put("LedgerIndex", index.value());
+    return node;
+  }
+
+  private void moveToNode(ObjectNode ledgerEntry, ObjectNode node, String... fieldNames) {
+    for (String fieldName : fieldNames) {
+      node.set(fieldName, ledgerEntry.remove(fieldName));
+    }
+  }
+
+}
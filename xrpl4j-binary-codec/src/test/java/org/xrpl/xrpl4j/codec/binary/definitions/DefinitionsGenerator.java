@@ -0,0 +1,132 @@
+package org.xrpl.xrpl4j.codec.binary.definitions;
+
+import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+/**
+ * Generates {@code GeneratedDefinitions} from the definitions.json bundled with the codec. Run it after changing
+ * definitions.json with {@code mvn -P generate-definitions process-test-classes} in xrpl4j-binary-codec, which writes
+ * the class to {@link #SOURCE_PATH}.
+ */
+public class DefinitionsGenerator {
+
+  /**
+   * The path of the generated source file, relative to the xrpl4j-binary-codec directory.
+   */
+  static final Path SOURCE_PATH =
+    Paths.get("src/main/java/org/xrpl/xrpl4j/codec/binary/definitions/GeneratedDefinitions.java");
+
+  /**
+   * Write {@code GeneratedDefinitions} to the path given as the only argument, or to {@link #SOURCE_PATH}.
+   *
+   * @param args An optional output path.
+   *
+   * @throws IOException if the file cannot be written.
+   */
+  public static void main(String[] args) throws IOException {
+    Path output = args.length > 0 ? Paths.get(args[0]) : SOURCE_PATH;
+    Definitions definitions = new DefaultDefinitionsProvider(BinaryCodecObjectMapperFactory.getObjectMapper()).get();
+    Files.write(output, generate(definitions).getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Generate the source of {@code GeneratedDefinitions}.
+   *
+   * @param definitions The {@link Definitions} to compile.
+   *
+   * @return The Java source, as a {@link String}.
+   */
+  static String generate(Definitions definitions) {
+    StringBuilder source = new StringBuilder()
+      .append("package org.xrpl.xrpl4j.codec.binary.definitions;\n")
+      .append("\n")
+      .append("import com.google.common.collect.ImmutableMap;\n")
+      .append("\n")
+      .append("import java.util.Map;\n")
+      .append("\n")
+      .append("/**\n")
+      .append(" * The XRPL definitions compiled from definitions.json, so that the codec can start without ")
+      .append("reading and parsing\n")
+      .append(" * that file.\n")
+      .append(" *\n")
+      .append(" * <p>This class is generated by {@code DefinitionsGenerator} and must not be edited by hand. After ")
+      .append("changing\n")
+      .append(" * definitions.json, regenerate it with {@code mvn -P generate-definitions process-test-classes} in\n")
+      .append(" * xrpl4j-binary-codec.</p>\n")
+      .append(" */\n")
+      .append("final class GeneratedDefinitions {\n")
+      .append("\n")
+      .append("  private static final Definitions DEFINITIONS = ImmutableDefinitions.builder()\n")
+      .append("    .types(types())\n")
+      .append("    .fieldInfos(fieldInfos())\n")
+      .append("    .ledgerEntryTypes(ledgerEntryTypes())\n")
+      .append("    .transactionTypes(transactionTypes())\n")
+      .append("    .transactionResults(transactionResults())\n")
+      .append("    .build();\n")
+      .append("\n")
+      .append("  private GeneratedDefinitions() {\n")
+      .append("  }\n")
+      .append("\n")
+      .append("  static Definitions definitions() {\n")
+      .append("    return DEFINITIONS;\n")
+      .append("  }\n");
+
+    appendCodes(source, "types", definitions.types());
+    source.append("\n")
+      .append("  private static Map<String, FieldInfo> fieldInfos() {\n")
+      .append("    ImmutableMap.Builder<String, FieldInfo> fields = ImmutableMap.builder();\n");
+    definitions.fieldInfos().forEach((name, info) -> source.append("    fields.put(").append(quote(name))
+      .append(", field(").append(info.nth())
+      .append(", ").append(quote(info.type()))
+      .append(", ").append(info.isVariableLengthEncoded())
+      .append(", ").append(info.isSerialized())
+      .append(", ").append(info.isSigningField())
+      .append("));\n"));
+    source.append("    return fields.build();\n")
+      .append("  }\n");
+    appendCodes(source, "ledgerEntryTypes", definitions.ledgerEntryTypes());
+    appendCodes(source, "transactionTypes", definitions.transactionTypes());
+    appendCodes(source, "transactionResults", definitions.transactionResults());
+
+    return source.append("\n")
+      .append("  private static FieldInfo field(\n")
+      .append("    int nth,\n")
+      .append("    String type,\n")
+      .append("    boolean isVariableLengthEncoded,\n")
+      .append("    boolean isSerialized,\n")
+      .append("    boolean isSigningField\n")
+      .append("  ) {\n")
+      .append("    return ImmutableFieldInfo.builder()\n")
+      .append("      .nth(nth)\n")
+      .append("      .type(type)\n")
+      .append("      .isVariableLengthEncoded(isVariableLengthEncoded)\n")
+      .append("      .isSerialized(isSerialized)\n")
+      .append("      .isSigningField(isSigningField)\n")
+      .append("      .build();\n")
+      .append("  }\n")
+      .append("\n")
+      .append("}\n")
+      .toString();
+  }
+
+  private static void appendCodes(StringBuilder source, String methodName, Map<String, Integer> codes) {
+    source.append("\n")
+      .append("  private static Map<String, Integer> ").append(methodName).append("() {\n")
+      .append("    ImmutableMap.Builder<String, Integer> codes = ImmutableMap.builder();\n");
+    codes.forEach((name, code) -> source.append("    codes.put(").append(quote(name)).append(", ").append(code)
+      .append(");\n"));
+    source.append("    return codes.build();\n")
+      .append("  }\n");
+  }
+
+  private static String quote(String value) {
+    return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+  }
+
+}
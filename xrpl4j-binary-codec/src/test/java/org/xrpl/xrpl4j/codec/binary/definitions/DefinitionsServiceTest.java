@@ -0,0 +1,45 @@
+package org.xrpl.xrpl4j.codec.binary.definitions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link DefinitionsService}.
+ */
+class DefinitionsServiceTest {
+
+  private final DefinitionsService definitionsService = DefinitionsService.getInstance();
+
+  @Test
+  void getFieldInstanceByName() {
+    FieldInstance fee = definitionsService.getFieldInstance("Fee").get();
+    assertThat(fee.name()).isEqualTo("Fee");
+    assertThat(fee.type()).isEqualTo("Amount");
+    assertThat(fee.nth()).isEqualTo(8);
+    assertThat(fee.header().typeCode()).isEqualTo(6);
+    assertThat(fee.isSigningField()).isTrue();
+
+    assertThat(definitionsService.getFieldInstance("TxnSignature").get().isSigningField()).isFalse();
+    assertThat(definitionsService.getFieldInstance("NotAField")).isEmpty();
+  }
+
+  @Test
+  void getFieldInstanceByCodesMatchesByName() {
+    FieldInstance fee = definitionsService.getFieldInstance("Fee").get();
+    assertThat(definitionsService.getFieldInstance(6, 8)).containsSame(fee);
+
+    FieldInstance memos = definitionsService.getFieldInstance("Memos").get();
+    assertThat(definitionsService.getFieldInstance(memos.header().typeCode(), memos.nth())).containsSame(memos);
+  }
+
+  @Test
+  void getFieldInstanceByCodesOutOfRange() {
+    assertThat(definitionsService.getFieldInstance(-1, 1)).isEmpty();
+    assertThat(definitionsService.getFieldInstance(1, -1)).isEmpty();
+    assertThat(definitionsService.getFieldInstance(256, 1)).isEmpty();
+    assertThat(definitionsService.getFieldInstance(1, 256)).isEmpty();
+    assertThat(definitionsService.getFieldInstance(6, 200)).isEmpty();
+  }
+
+}
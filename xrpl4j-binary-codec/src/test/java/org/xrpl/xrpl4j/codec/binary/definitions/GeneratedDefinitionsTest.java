@@ -0,0 +1,56 @@
+package org.xrpl.xrpl4j.codec.binary.definitions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.io.Resources;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Unit tests for {@link GeneratedDefinitions}, which check that it is in step with definitions.json.
+ */
+class GeneratedDefinitionsTest {
+
+  private final ObjectMapper objectMapper = BinaryCodecObjectMapperFactory.getObjectMapper();
+
+  private final Definitions parsedDefinitions = new DefaultDefinitionsProvider(objectMapper).get();
+
+  @Test
+  void generatedDefinitionsMatchDefinitionsJson() {
+    assertThat(DefinitionsProvider.getInstance().get()).isEqualTo(parsedDefinitions);
+    assertThat(DefinitionsProvider.getInstance().get().fieldInfos().keySet())
+      .containsExactlyElementsOf(parsedDefinitions.fieldInfos().keySet());
+  }
+
+  @Test
+  void generatedSourceIsUpToDate() throws IOException {
+    String source = new String(Files.readAllBytes(DefinitionsGenerator.SOURCE_PATH), StandardCharsets.UTF_8);
+    assertThat(source)
+      .as("GeneratedDefinitions is out of date; run mvn -P generate-definitions process-test-classes")
+      .isEqualTo(DefinitionsGenerator.generate(parsedDefinitions));
+  }
+
+  @Test
+  void fieldsRoundTripThroughJson() throws IOException {
+    JsonNode json = objectMapper.readTree(Resources.getResource(GeneratedDefinitionsTest.class, "/definitions.json"));
+    JsonNode serialized = objectMapper.valueToTree(parsedDefinitions);
+
+    assertThat(serialized.get("FIELDS")).isEqualTo(json.get("FIELDS"));
+  }
+
+  @Test
+  @SuppressWarnings("deprecation")
+  void deprecatedFieldsMatchDefinitionsJson() throws IOException {
+    JsonNode json = objectMapper.readTree(Resources.getResource(GeneratedDefinitionsTest.class, "/definitions.json"));
+
+    assertThat((JsonNode) objectMapper.valueToTree(DefinitionsProvider.getInstance().get().fields()))
+      .isEqualTo(json.get("FIELDS"));
+  }
+
+}
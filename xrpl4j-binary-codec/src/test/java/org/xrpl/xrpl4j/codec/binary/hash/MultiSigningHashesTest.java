@@ -0,0 +1,89 @@
+package org.xrpl.xrpl4j.codec.binary.hash;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
+import org.xrpl.xrpl4j.codec.fixtures.codec.CodecFixture;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for {@link MultiSigningHashes}.
+ */
+class MultiSigningHashesTest {
+
+  private static final String[] SIGNERS = {
+    "rGWrZyQqhTp9Xu7G5Pkayo7bXjH4k4QYpf",
+    "rDgZZ3wyprx4ZqrGQUkquE9Fs2Xs8XBcdw",
+    "rHb9CJAWyB4rj91VRWn96DkukG4bwdtyTh"
+  };
+
+  private final XrplBinaryCodec codec = new XrplBinaryCodec();
+
+  private static Stream<Arguments> transactionFixtures() throws IOException {
+    return FixtureUtils.getCodecFixtures().transactions().stream().map(Arguments::of);
+  }
+
+  @ParameterizedTest
+  @MethodSource("transactionFixtures")
+  void matchesEncodingForEachSigner(CodecFixture fixture) {
+    MultiSigningHashes hashes = MultiSigningHashes.of(fixture.json());
+    for (String signer : SIGNERS) {
+      assertThat(hashes.signingBytes(signer)).isEqualTo(codec.encodeForMultiSigningToBytes(fixture.json(), signer));
+      assertThat(hashes.signingHash(signer)).isEqualTo(Sha512Half.multiSigningHash(fixture.json(), signer));
+    }
+  }
+
+  @Test
+  void signingBytesAreIndependentCopies() throws IOException {
+    CodecFixture fixture = FixtureUtils.getCodecFixtures().transactions().get(0);
+    MultiSigningHashes hashes = MultiSigningHashes.of(fixture.json());
+
+    UnsignedByteArray first = hashes.signingBytes(SIGNERS[0]);
+    first.append(UnsignedByteArray.fromHex("FF"));
+
+    assertThat(hashes.signingBytes(SIGNERS[0]))
+      .isEqualTo(codec.encodeForMultiSigningToBytes(fixture.json(), SIGNERS[0]));
+  }
+
+  @Test
+  void rejectsNonObjects() {
+    assertThatThrownBy(() -> MultiSigningHashes.of(JsonNodeFactory.instance.textNode("12")))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void hashesOnManyThreads() throws IOException, InterruptedException, ExecutionException {
+    CodecFixture fixture = FixtureUtils.getCodecFixtures().transactions().get(0);
+    MultiSigningHashes hashes = MultiSigningHashes.of(fixture.json());
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<UnsignedByteArray>> futures = IntStream.range(0, 1000)
+        .mapToObj(i -> executor.submit(() -> hashes.signingHash(SIGNERS[i % SIGNERS.length])))
+        .collect(Collectors.toList());
+      for (int i = 0; i < futures.size(); i++) {
+        assertThat(futures.get(i).get())
+          .isEqualTo(Sha512Half.multiSigningHash(fixture.json(), SIGNERS[i % SIGNERS.length]));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+}
@@ -0,0 +1,125 @@
+package org.xrpl.xrpl4j.codec.binary.hash;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.hash.Hashing;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
+import org.xrpl.xrpl4j.codec.fixtures.codec.CodecFixture;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for {@link Sha512Half} and {@link HashPrefix}.
+ */
+class Sha512HalfTest {
+
+  private static final String SIGNED_TRANSACTION_BLOB = "1200002280000000240000000461400000000000303968400000000" +
+    "000000A7321030D58EB48B4420B1F7B9DF55087E0E29FEF0E8468F9A6825B01CA2C361042D4357446304402207B82800C3289427D6F604" +
+    "21CDF88545BEFC6A7C9CED15A2C53E39994E52BCED40220443865800626F7FD02B369A875FA449E6204A46C5910E406018776CC08C948CA" +
+    "81148049717CC948789F32F267ADC2582484E3DFA698831495FD80922EDD581C663FF9F8E948D0E13CBBE41C";
+
+  private static final String SIGNER = "rGWrZyQqhTp9Xu7G5Pkayo7bXjH4k4QYpf";
+
+  private final XrplBinaryCodec codec = new XrplBinaryCodec();
+
+  private static Stream<Arguments> transactionFixtures() throws IOException {
+    return FixtureUtils.getCodecFixtures().transactions().stream().map(Arguments::of);
+  }
+
+  @ParameterizedTest
+  @EnumSource(HashPrefix.class)
+  void prefixIsThreeLettersAndZero(HashPrefix prefix) {
+    byte[] bytes = prefix.bytes().toByteArray();
+    assertThat(bytes).hasSize(4);
+    assertThat(bytes[3]).isZero();
+    assertThat(new String(bytes, 0, 3, StandardCharsets.US_ASCII)).matches("[A-Z]{3}");
+    assertThat(Integer.toHexString(prefix.value()).toUpperCase()).isEqualTo(prefix.bytes().hexValue());
+  }
+
+  @Test
+  void prefixesMatchRippled() {
+    assertThat(ascii(HashPrefix.TRANSACTION_ID)).isEqualTo("TXN");
+    assertThat(ascii(HashPrefix.TRANSACTION_NODE)).isEqualTo("SND");
+    assertThat(ascii(HashPrefix.LEAF_NODE)).isEqualTo("MLN");
+    assertThat(ascii(HashPrefix.INNER_NODE)).isEqualTo("MIN");
+    assertThat(ascii(HashPrefix.LEDGER_MASTER)).isEqualTo("LWR");
+    assertThat(ascii(HashPrefix.TRANSACTION_SIGN)).isEqualTo("STX");
+    assertThat(ascii(HashPrefix.TRANSACTION_MULTI_SIGN)).isEqualTo("SMT");
+    assertThat(ascii(HashPrefix.PAYMENT_CHANNEL_CLAIM)).isEqualTo("CLM");
+    assertThat(HashPrefix.TRANSACTION_SIGN.bytes().hexValue()).isEqualTo(XrplBinaryCodec.TRX_SIGNATURE_PREFIX);
+    assertThat(HashPrefix.TRANSACTION_MULTI_SIGN.bytes().hexValue())
+      .isEqualTo(XrplBinaryCodec.TRX_MULTI_SIGNATURE_PREFIX);
+  }
+
+  @Test
+  void transactionId() {
+    assertThat(Sha512Half.transactionId(UnsignedByteArray.fromHex(SIGNED_TRANSACTION_BLOB)).hexValue())
+      .isEqualTo("AD616E7F93DC9E5749222FCC644A95F19FB1893446A0FF47CA9B550F4D5DAB5D");
+  }
+
+  @Test
+  void hashIsFirstHalfOfSha512() {
+    UnsignedByteArray bytes = UnsignedByteArray.fromHex(SIGNED_TRANSACTION_BLOB);
+    byte[] expected = Arrays.copyOf(Hashing.sha512().hashBytes(bytes.toByteArray()).asBytes(), Sha512Half.LENGTH);
+    assertThat(Sha512Half.hash(bytes).toByteArray()).isEqualTo(expected);
+  }
+
+  @ParameterizedTest
+  @MethodSource("transactionFixtures")
+  void signingHashesMatchHashOfSigningBytes(CodecFixture fixture) {
+    assertThat(Sha512Half.signingHash(fixture.json()))
+      .isEqualTo(Sha512Half.hash(codec.encodeForSigningToBytes(fixture.json())));
+    assertThat(Sha512Half.multiSigningHash(fixture.json(), SIGNER))
+      .isEqualTo(Sha512Half.hash(codec.encodeForMultiSigningToBytes(fixture.json(), SIGNER)));
+  }
+
+  @Test
+  void nestedHashesDoNotShareDigest() {
+    UnsignedByteArray child = UnsignedByteArray.fromHex("0102");
+    UnsignedByteArray nested = Sha512Half.hash(sink -> {
+      sink.put((byte) 0xFF);
+      sink.put(Sha512Half.hash(child));
+    });
+    UnsignedByteArray expected = Sha512Half.hash(UnsignedByteArray.fromHex("FF").append(Sha512Half.hash(child)));
+    assertThat(nested).isEqualTo(expected);
+  }
+
+  @Test
+  void hashesOnManyThreads() throws InterruptedException, ExecutionException {
+    UnsignedByteArray bytes = UnsignedByteArray.fromHex(SIGNED_TRANSACTION_BLOB);
+    UnsignedByteArray expected = Sha512Half.transactionId(bytes);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<UnsignedByteArray>> futures = IntStream.range(0, 1000)
+        .mapToObj(i -> executor.submit(() -> Sha512Half.transactionId(bytes)))
+        .collect(Collectors.toList());
+      for (Future<UnsignedByteArray> future : futures) {
+        assertThat(future.get()).isEqualTo(expected);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private String ascii(HashPrefix prefix) {
+    return new String(prefix.bytes().toByteArray(), 0, 3, StandardCharsets.US_ASCII);
+  }
+
+}
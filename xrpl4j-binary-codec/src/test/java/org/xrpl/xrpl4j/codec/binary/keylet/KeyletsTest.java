@@ -0,0 +1,169 @@
+package org.xrpl.xrpl4j.codec.binary.keylet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.hash.Hashing;
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.UnsignedInteger;
+import com.google.common.primitives.UnsignedLong;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
+import org.xrpl.xrpl4j.codec.fixtures.codec.CodecFixture;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Unit tests for {@link Keylets}, checked against the ledger objects in the codec fixtures where they allow it.
+ */
+class KeyletsTest {
+
+  private static final Address ALICE = Address.of("rHb9CJAWyB4rj91VRWn96DkukG4bwdtyTh");
+
+  private static final Address BOB = Address.of("rGWrZyQqhTp9Xu7G5Pkayo7bXjH4k4QYpf");
+
+  private static final UnsignedInteger SEQUENCE = UnsignedInteger.valueOf(0x01020304);
+
+  @Test
+  void singletonsMatchRippled() {
+    assertThat(Keylets.ledgerHashes())
+      .isEqualTo(Hash256.of("B4979A36CDC7F3D3D5C31A4EAE2AC7D7209DDA877588B9AFC66799692AB0D66B"));
+    assertThat(Keylets.amendments())
+      .isEqualTo(Hash256.of("7DB0788C020F02780A673DC74757F23823FA3014C1866E72CC4CD8B226CD6EF4"));
+    assertThat(Keylets.feeSettings())
+      .isEqualTo(Hash256.of("4BC50C9B0D8515D3EAAE1E74B29A95804346C491EE1A95BF25E4AAB854A6A651"));
+    assertThat(Keylets.negativeUnl())
+      .isEqualTo(Hash256.of("2E8A59AA9D3B5B186B0B9E0F62E6C02587CA74A4D778938E957B6357D364B244"));
+  }
+
+  @Test
+  void accountRootOfGenesisAccount() {
+    assertThat(Keylets.accountRoot(ALICE))
+      .isEqualTo(Hash256.of("2B6AC232AA4C4BE41BF49D2459FA4A0347E1B543A4C92FCEE0821C0201E2E9A8"));
+  }
+
+  @Test
+  void ownerDirectoriesMatchFixtures() throws IOException {
+    List<JsonNode> ownerDirectories = ledgerObjects("DirectoryNode").stream()
+      .filter(directory -> directory.has("Owner"))
+      .collect(Collectors.toList());
+
+    assertThat(ownerDirectories).isNotEmpty();
+    ownerDirectories.forEach(directory -> {
+      Address owner = Address.of(directory.get("Owner").asText());
+      assertThat(Keylets.ownerDirectory(owner)).isEqualTo(Hash256.of(directory.get("RootIndex").asText()));
+    });
+  }
+
+  @Test
+  void trustLinesAndOffersAreListedInFixtureDirectories() throws IOException {
+    Set<Hash256> directoryEntries = ledgerObjects("DirectoryNode").stream()
+      .flatMap(directory -> StreamSupport.stream(directory.get("Indexes").spliterator(), false))
+      .map(index -> Hash256.of(index.asText()))
+      .collect(Collectors.toSet());
+    List<JsonNode> trustLines = ledgerObjects("RippleState");
+    List<JsonNode> offers = ledgerObjects("Offer");
+
+    assertThat(trustLines).isNotEmpty();
+    trustLines.forEach(trustLine -> {
+      Address low = Address.of(trustLine.get("LowLimit").get("issuer").asText());
+      Address high = Address.of(trustLine.get("HighLimit").get("issuer").asText());
+      String currency = trustLine.get("Balance").get("currency").asText();
+      assertThat(directoryEntries).contains(Keylets.trustLine(low, high, currency));
+      assertThat(Keylets.trustLine(high, low, currency)).isEqualTo(Keylets.trustLine(low, high, currency));
+    });
+    assertThat(offers).isNotEmpty();
+    offers.forEach(offer -> assertThat(directoryEntries).contains(Keylets.offer(
+      Address.of(offer.get("Account").asText()),
+      UnsignedInteger.valueOf(offer.get("Sequence").asLong())
+    )));
+  }
+
+  @Test
+  void trustLineAcceptsHexCurrencyCodes() {
+    assertThat(Keylets.trustLine(ALICE, BOB, "0000000000000000000000005553440000000000"))
+      .isEqualTo(Keylets.trustLine(ALICE, BOB, "USD"));
+  }
+
+  @Test
+  void rejectsInvalidTrustLines() {
+    assertThatThrownBy(() -> Keylets.trustLine(ALICE, ALICE, "USD")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> Keylets.trustLine(ALICE, BOB, "XRP")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> Keylets.trustLine(ALICE, BOB, "US")).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void sequencedObjectsHashAccountAndSequence() {
+    byte[] sequence = Ints.toByteArray(SEQUENCE.intValue());
+
+    assertThat(Keylets.offer(ALICE, SEQUENCE)).isEqualTo(expected('o', accountId(ALICE), sequence));
+    assertThat(Keylets.check(ALICE, SEQUENCE)).isEqualTo(expected('C', accountId(ALICE), sequence));
+    assertThat(Keylets.escrow(ALICE, SEQUENCE)).isEqualTo(expected('u', accountId(ALICE), sequence));
+    assertThat(Keylets.ticket(ALICE, SEQUENCE)).isEqualTo(expected('T', accountId(ALICE), sequence));
+    assertThat(Keylets.paymentChannel(ALICE, BOB, SEQUENCE))
+      .isEqualTo(expected('x', accountId(ALICE), accountId(BOB), sequence));
+  }
+
+  @Test
+  void accountObjectsHashTheirAccounts() {
+    assertThat(Keylets.ownerDirectory(ALICE)).isEqualTo(expected('O', accountId(ALICE)));
+    assertThat(Keylets.signerList(ALICE)).isEqualTo(expected('S', accountId(ALICE), new byte[4]));
+    assertThat(Keylets.depositPreauth(ALICE, BOB)).isEqualTo(expected('p', accountId(ALICE), accountId(BOB)));
+    assertThat(Keylets.depositPreauth(BOB, ALICE)).isNotEqualTo(Keylets.depositPreauth(ALICE, BOB));
+  }
+
+  @Test
+  void directoryPages() {
+    Hash256 root = Keylets.ownerDirectory(ALICE);
+    byte[] rootBytes = UnsignedByteArray.fromHex(root.value()).toByteArray();
+
+    assertThat(Keylets.directoryPage(root, UnsignedLong.ZERO)).isEqualTo(root);
+    assertThat(Keylets.directoryPage(root, UnsignedLong.valueOf(2)))
+      .isEqualTo(expected('d', rootBytes, new byte[] {0, 0, 0, 0, 0, 0, 0, 2}));
+  }
+
+  @Test
+  void ledgerHashesOfFlagLedgerGroups() {
+    assertThat(Keylets.ledgerHashes(UnsignedInteger.valueOf(3 * 65536 + 256)))
+      .isEqualTo(expected('s', Ints.toByteArray(3)))
+      .isEqualTo(Keylets.ledgerHashes(UnsignedInteger.valueOf(3 * 65536 + 65280)))
+      .isNotEqualTo(Keylets.ledgerHashes(UnsignedInteger.valueOf(4 * 65536)));
+  }
+
+  @Test
+  void spaceKeysAreDistinct() {
+    assertThat(Arrays.stream(LedgerSpace.values()).map(LedgerSpace::key).distinct().count())
+      .isEqualTo(LedgerSpace.values().length);
+  }
+
+  private List<JsonNode> ledgerObjects(final String ledgerEntryType) throws IOException {
+    return FixtureUtils.getCodecFixtures().accountState().stream()
+      .map(CodecFixture::json)
+      .filter(json -> json.get("LedgerEntryType").asText().equals(ledgerEntryType))
+      .collect(Collectors.toList());
+  }
+
+  private byte[] accountId(final Address address) {
+    return AddressCodec.getInstance().decodeAccountId(address).toByteArray();
+  }
+
+  private Hash256 expected(final char space, final byte[]... fields) {
+    UnsignedByteArray preimage = UnsignedByteArray.of(new byte[] {0, (byte) space});
+    for (byte[] field : fields) {
+      preimage.append(field);
+    }
+    byte[] hash = Arrays.copyOf(Hashing.sha512().hashBytes(preimage.toByteArray()).asBytes(), 32);
+    return Hash256.of(UnsignedByteArray.of(hash).hexValue());
+  }
+
+}
@@ -0,0 +1,87 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.ImmutableSet;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
+import org.xrpl.xrpl4j.codec.binary.types.STObjectType;
+import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
+import org.xrpl.xrpl4j.codec.fixtures.codec.CodecFixture;
+import org.xrpl.xrpl4j.codec.fixtures.codec.CodecFixtures;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for {@link BinaryJsonDecoder}.
+ */
+class BinaryJsonDecoderTest {
+
+  private static final Set<String> PROJECTED_FIELDS = ImmutableSet.of(
+    "TransactionType", "LedgerEntryType", "Account", "Fee", "Sequence", "Balance", "Memos", "AffectedNodes",
+    "TransactionResult"
+  );
+
+  private final BinaryJsonDecoder decoder = new BinaryJsonDecoder();
+
+  private static Stream<Arguments> codecFixtures() throws IOException {
+    CodecFixtures fixtures = FixtureUtils.getCodecFixtures();
+    return Stream.concat(fixtures.accountState().stream(), fixtures.transactions().stream())
+      .map(Arguments::of);
+  }
+
+  @ParameterizedTest
+  @MethodSource("codecFixtures")
+  void decodeMatchesTreeDecoding(CodecFixture fixture) throws IOException {
+    String expected = new BinaryParser(fixture.binary()).readType(STObjectType.class).toJson().toString();
+    assertThat(decode(fixture.binary())).isEqualTo(expected);
+  }
+
+  @ParameterizedTest
+  @MethodSource("codecFixtures")
+  void projectionMatchesFilteredTreeDecoding(CodecFixture fixture) throws IOException {
+    ObjectNode expected = (ObjectNode) new BinaryParser(fixture.binary()).readType(STObjectType.class).toJson();
+    expected.retain(PROJECTED_FIELDS);
+    assertThat(decode(fixture.binary(), PROJECTED_FIELDS)).isEqualTo(expected.toString());
+  }
+
+  @ParameterizedTest
+  @MethodSource("codecFixtures")
+  void projectionStopsAfterLastRequestedField(CodecFixture fixture) throws IOException {
+    // Every fixture has more than one field, so asking for only the first must leave bytes unread.
+    String firstField = new BinaryParser(fixture.binary()).readField().get().name();
+    BinaryParser parser = new BinaryParser(fixture.binary());
+    decode(parser, ImmutableSet.of(firstField));
+    assertThat(parser.hasMore()).isTrue();
+  }
+
+  private String decode(String hex) throws IOException {
+    StringWriter writer = new StringWriter();
+    try (JsonGenerator generator = BinaryCodecObjectMapperFactory.getObjectMapper().getFactory()
+      .createGenerator(writer)) {
+      decoder.decodeObject(new BinaryParser(hex), generator);
+    }
+    return writer.toString();
+  }
+
+  private String decode(String hex, Set<String> fieldNames) throws IOException {
+    return decode(new BinaryParser(hex), fieldNames);
+  }
+
+  private String decode(BinaryParser parser, Set<String> fieldNames) throws IOException {
+    StringWriter writer = new StringWriter();
+    try (JsonGenerator generator = BinaryCodecObjectMapperFactory.getObjectMapper().getFactory()
+      .createGenerator(writer)) {
+      decoder.decodeObject(parser, generator, fieldNames);
+    }
+    return writer.toString();
+  }
+
+}
@@ -0,0 +1,133 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.base.Strings;
+import com.google.common.io.BaseEncoding;
+import com.google.common.primitives.UnsignedLong;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
+import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
+import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
+import org.xrpl.xrpl4j.codec.fixtures.codec.CodecFixture;
+import org.xrpl.xrpl4j.codec.fixtures.codec.CodecFixtures;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for {@link BinaryParser}.
+ */
+class BinaryParserTest {
+
+  private static final String HEX = "FF0102AABBCCDDFFFFFFFFFFFFFFFE0A0B";
+
+  private static Stream<Arguments> codecFixtures() throws IOException {
+    CodecFixtures fixtures = FixtureUtils.getCodecFixtures();
+    return Stream.concat(fixtures.accountState().stream(), fixtures.transactions().stream())
+      .map(Arguments::of);
+  }
+
+  @Test
+  void readPrimitivesFromHex() {
+    assertPrimitives(new BinaryParser(HEX));
+  }
+
+  @Test
+  void readPrimitivesFromByteArray() {
+    assertPrimitives(new BinaryParser(BaseEncoding.base16().decode(HEX)));
+  }
+
+  @Test
+  void readPrimitivesFromByteArrayRange() {
+    byte[] padded = BaseEncoding.base16().decode("0000" + HEX + "0000");
+    assertPrimitives(new BinaryParser(padded, 2, padded.length - 4));
+  }
+
+  @Test
+  void readPrimitivesFromDirectByteBuffer() {
+    byte[] bytes = BaseEncoding.base16().decode("00" + HEX);
+    ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+    buffer.put(bytes);
+    buffer.flip();
+    buffer.get();
+    assertPrimitives(new BinaryParser(buffer));
+    assertThat(buffer.position()).isEqualTo(1);
+  }
+
+  @Test
+  void readUnsignedLongs() {
+    BinaryParser parser = new BinaryParser(HEX);
+    assertThat(parser.readUInt8()).isEqualTo(UnsignedLong.valueOf(255));
+    assertThat(parser.readUInt16()).isEqualTo(UnsignedLong.valueOf(0x0102));
+    assertThat(parser.readUInt32()).isEqualTo(UnsignedLong.valueOf(0xAABBCCDDL));
+    assertThat(parser.readUInt64()).isEqualTo(UnsignedLong.valueOf("FFFFFFFFFFFFFFFE", 16));
+  }
+
+  @Test
+  void readReturnsViewOverByteArray() {
+    byte[] bytes = BaseEncoding.base16().decode(HEX);
+    BinaryParser parser = new BinaryParser(bytes);
+    parser.skip(3);
+    assertThat(parser.read(4).hexValue()).isEqualTo("AABBCCDD");
+    assertThat(parser.peek().asInt()).isEqualTo(0xFF);
+    assertThat(parser.size()).isEqualTo(bytes.length);
+  }
+
+  @Test
+  void readPastEndThrows() {
+    BinaryParser parser = new BinaryParser("0102");
+    assertThrows(IndexOutOfBoundsException.class, () -> parser.read(3));
+    parser.skip(2);
+    assertThat(parser.hasMore()).isFalse();
+    assertThrows(IndexOutOfBoundsException.class, parser::readUInt8AsInt);
+    assertThrows(IndexOutOfBoundsException.class, parser::peek);
+  }
+
+  @Test
+  void readVariableLengthLength() {
+    assertThat(new BinaryParser("C0").readVariableLengthLength()).isEqualTo(192);
+    assertThat(new BinaryParser("C100").readVariableLengthLength()).isEqualTo(193);
+    assertThat(new BinaryParser("C11F").readVariableLengthLength()).isEqualTo(224);
+    assertThat(new BinaryParser("F0FF").readVariableLengthLength()).isEqualTo(12480);
+    assertThat(new BinaryParser("F10000").readVariableLengthLength()).isEqualTo(12481);
+    assertThat(new BinaryParser("FED417").readVariableLengthLength()).isEqualTo(918744);
+  }
+
+  @ParameterizedTest
+  @MethodSource("codecFixtures")
+  void skipFieldValueConsumesWholeFields(CodecFixture fixture) {
+    BinaryParser parser = new BinaryParser(fixture.binary());
+    while (parser.hasMore()) {
+      parser.skipFieldValue(parser.readField().get());
+    }
+    assertThat(parser.hasMore()).isFalse();
+  }
+
+  @Test
+  void skipFieldValueSkipsAmountsByWidth() {
+    FieldInstance amount = DefinitionsService.getInstance().getFieldInstance("Amount").get();
+    BinaryParser nativeAmount = new BinaryParser("4000000000000064FF");
+    nativeAmount.skipFieldValue(amount);
+    assertThat(nativeAmount.readUInt8AsInt()).isEqualTo(0xFF);
+
+    BinaryParser issuedAmount = new BinaryParser("D4" + Strings.repeat("00", 47) + "FF");
+    issuedAmount.skipFieldValue(amount);
+    assertThat(issuedAmount.readUInt8AsInt()).isEqualTo(0xFF);
+  }
+
+  private void assertPrimitives(BinaryParser parser) {
+    assertThat(parser.size()).isEqualTo(HEX.length() / 2);
+    assertThat(parser.readUInt8AsInt()).isEqualTo(255);
+    assertThat(parser.readUInt16AsInt()).isEqualTo(0x0102);
+    assertThat(parser.readUInt32AsLong()).isEqualTo(0xAABBCCDDL);
+    assertThat(parser.readUInt64AsLong()).isEqualTo(-2L);
+    assertThat(parser.read(2).hexValue()).isEqualTo("0A0B");
+    assertThat(parser.hasMore()).isFalse();
+  }
+}
@@ -0,0 +1,83 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.hash.Hashing;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
+import org.xrpl.xrpl4j.codec.fixtures.codec.CodecFixture;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for {@link BytesSink}.
+ */
+class BytesSinkTest {
+
+  private static final String SIGNER = "rGWrZyQqhTp9Xu7G5Pkayo7bXjH4k4QYpf";
+
+  private final XrplBinaryCodec codec = new XrplBinaryCodec();
+
+  private static Stream<Arguments> transactionFixtures() throws IOException {
+    return FixtureUtils.getCodecFixtures().transactions().stream().map(Arguments::of);
+  }
+
+  @Test
+  void unsignedByteArraySinkAppends() {
+    UnsignedByteArray array = UnsignedByteArray.fromHex("01");
+    BytesSink sink = BytesSink.of(array);
+    sink.put((byte) 0x02);
+    sink.put(new byte[] {0x03, 0x04});
+    sink.put(new byte[] {0x00, 0x05, 0x06, 0x00}, 1, 2);
+    sink.put(UnsignedByteArray.fromHex("0708"));
+    assertThat(array.hexValue()).isEqualTo("0102030405060708");
+  }
+
+  @Test
+  void messageDigestSinkHashesEverythingPut() throws NoSuchAlgorithmException {
+    MessageDigest digest = MessageDigest.getInstance("SHA-512");
+    BytesSink sink = BytesSink.of(digest);
+    sink.put((byte) 0x01);
+    sink.put(new byte[] {0x02, 0x03});
+    sink.put(new byte[] {0x00, 0x04, 0x00}, 1, 1);
+    sink.put(UnsignedByteArray.fromHex("FF0506FF").slice(1, 3));
+    assertThat(digest.digest()).isEqualTo(Hashing.sha512().hashBytes(new byte[] {1, 2, 3, 4, 5, 6}).asBytes());
+  }
+
+  @ParameterizedTest
+  @MethodSource("transactionFixtures")
+  void teeCollectsAndHashesInOnePass(CodecFixture fixture) throws NoSuchAlgorithmException {
+    JsonNode json = fixture.json();
+    UnsignedByteArray collected = UnsignedByteArray.empty();
+    MessageDigest digest = MessageDigest.getInstance("SHA-512");
+
+    codec.encode(json, BytesSink.tee(BytesSink.of(collected), BytesSink.of(digest)));
+
+    assertThat(collected.hexValue()).isEqualTo(fixture.binary());
+    assertThat(digest.digest()).isEqualTo(Hashing.sha512().hashBytes(collected.toByteArray()).asBytes());
+  }
+
+  @ParameterizedTest
+  @MethodSource("transactionFixtures")
+  void signingEncodingsMatchByteArrayEncodings(CodecFixture fixture) {
+    JsonNode json = fixture.json();
+
+    UnsignedByteArray forSigning = UnsignedByteArray.empty();
+    codec.encodeForSigning(json, BytesSink.of(forSigning));
+    assertThat(forSigning).isEqualTo(codec.encodeForSigningToBytes(json));
+
+    UnsignedByteArray forMultiSigning = UnsignedByteArray.empty();
+    codec.encodeForMultiSigning(json, SIGNER, BytesSink.of(forMultiSigning));
+    assertThat(forMultiSigning).isEqualTo(codec.encodeForMultiSigningToBytes(json, SIGNER));
+  }
+
+}
@@ -0,0 +1,153 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.xrpl.xrpl4j.codec.addresses.Hex;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.types.BlobType;
+
+import java.util.Arrays;
+
+/**
+ * Unit tests for {@link EncodingContext}.
+ */
+class EncodingContextTest {
+
+  @Test
+  void putAppends() {
+    try (EncodingContext context = new EncodingContext()) {
+      context.put((byte) 0x01);
+      context.put(new byte[] {0x00, 0x02, 0x03, 0x00}, 1, 2);
+      context.put(UnsignedByteArray.fromHex("04"));
+      context.putHex("05ff");
+      assertThat(context.size()).isEqualTo(6);
+      assertThat(context.toUnsignedByteArray().hexValue()).isEqualTo("0102030405FF");
+    }
+  }
+
+  @Test
+  void putGrowsBuffer() {
+    byte[] bytes = new byte[2000];
+    Arrays.fill(bytes, (byte) 0x7A);
+    try (EncodingContext context = new EncodingContext()) {
+      context.put((byte) 0x01);
+      context.put(bytes, 0, bytes.length);
+      assertThat(context.size()).isEqualTo(2001);
+      assertThat(context.toUnsignedByteArray().toByteArray()).startsWith(0x01, 0x7A).endsWith(0x7A);
+    }
+  }
+
+  @Test
+  void putHexRejectsOddLength() {
+    try (EncodingContext context = new EncodingContext()) {
+      assertThatThrownBy(() -> context.putHex("ABC")).isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource( {
+    "0, 00",
+    "1, 01",
+    "192, C0",
+    "193, C100",
+    "12480, F0FF",
+    "12481, F10000",
+    "918744, FED417"
+  })
+  void endLengthPrefixedInsertsPrefix(int length, String expectedPrefix) {
+    byte[] value = new byte[length];
+    Arrays.fill(value, (byte) 0x5C);
+    try (EncodingContext context = new EncodingContext()) {
+      context.put((byte) 0x71);
+      int start = context.beginLengthPrefixed();
+      context.put(value, 0, value.length);
+      context.endLengthPrefixed(start);
+      context.put((byte) 0xE1);
+
+      byte[] expected = new byte[1 + expectedPrefix.length() / 2 + length + 1];
+      expected[0] = 0x71;
+      Hex.decode(expectedPrefix, 0, expectedPrefix.length(), expected, 1);
+      System.arraycopy(value, 0, expected, 1 + expectedPrefix.length() / 2, length);
+      expected[expected.length - 1] = (byte) 0xE1;
+      assertThat(context.toUnsignedByteArray().toByteArray()).isEqualTo(expected);
+
+      UnsignedByteArray serialized = UnsignedByteArray.empty();
+      new BinarySerializer(serialized).writeLengthEncoded(new BlobType(UnsignedByteArray.of(value)));
+      assertThat(Arrays.copyOfRange(expected, 1, expected.length - 1)).isEqualTo(serialized.toByteArray());
+    }
+  }
+
+  @Test
+  void endLengthPrefixedRejectsOverflow() {
+    byte[] value = new byte[918745];
+    try (EncodingContext context = new EncodingContext()) {
+      int start = context.beginLengthPrefixed();
+      context.put(value, 0, value.length);
+      assertThatThrownBy(() -> context.endLengthPrefixed(start)).isInstanceOf(Error.class);
+    }
+  }
+
+  @Test
+  void endLengthPrefixedRejectsInvalidStart() {
+    try (EncodingContext context = new EncodingContext()) {
+      context.put((byte) 0x01);
+      assertThatThrownBy(() -> context.endLengthPrefixed(2)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+  }
+
+  @Test
+  void writeToCopiesBytes() {
+    UnsignedByteArray array = UnsignedByteArray.empty();
+    try (EncodingContext context = new EncodingContext()) {
+      context.putHex("0102");
+      context.writeTo(BytesSink.of(array));
+      context.reset();
+      assertThat(context.size()).isZero();
+    }
+    assertThat(array.hexValue()).isEqualTo("0102");
+  }
+
+  @Test
+  void acquireReusesContextOfThread() {
+    EncodingContext first;
+    try (EncodingContext context = EncodingContext.acquire()) {
+      first = context;
+      context.putHex("0102");
+    }
+    try (EncodingContext context = EncodingContext.acquire()) {
+      assertThat(context).isSameAs(first);
+      assertThat(context.size()).isZero();
+    }
+  }
+
+  @Test
+  void nestedAcquireGetsNewContext() {
+    try (EncodingContext outer = EncodingContext.acquire()) {
+      outer.putHex("01");
+      try (EncodingContext inner = EncodingContext.acquire()) {
+        assertThat(inner).isNotSameAs(outer);
+        inner.putHex("02");
+      }
+      assertThat(outer.toUnsignedByteArray().hexValue()).isEqualTo("01");
+    }
+    try (EncodingContext outer = EncodingContext.acquire()) {
+      try (EncodingContext again = EncodingContext.acquire()) {
+        assertThat(again).isNotSameAs(outer);
+      }
+    }
+  }
+
+  @Test
+  void closeDoesNotPoolOwnedContext() {
+    EncodingContext owned = new EncodingContext();
+    owned.close();
+    try (EncodingContext context = EncodingContext.acquire()) {
+      assertThat(context).isNotSameAs(owned);
+    }
+  }
+
+}
@@ -0,0 +1,78 @@
+package org.xrpl.xrpl4j.codec.binary.shamap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.hash.HashPrefix;
+import org.xrpl.xrpl4j.codec.binary.hash.Sha512Half;
+import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
+import org.xrpl.xrpl4j.codec.fixtures.codec.CodecFixture;
+import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
+import org.xrpl.xrpl4j.model.ledger.LedgerHeader;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Unit tests for {@link LedgerHashes}.
+ */
+class LedgerHashesTest {
+
+  private final ObjectMapper objectMapper = ObjectMapperFactory.create();
+
+  @Test
+  void encodesLedgerHeaderLikeRippled() throws IOException {
+    CodecFixture fixture = FixtureUtils.getCodecFixtures().ledgerData().get(0);
+    LedgerHeader header = objectMapper.treeToValue(fixture.json(), LedgerHeader.class);
+
+    UnsignedByteArray headerBytes = LedgerHashes.ledgerHeaderBytes(header);
+
+    assertThat(headerBytes.hexValue()).isEqualTo(fixture.binary());
+    assertThat(headerBytes.length()).isEqualTo(LedgerHashes.HEADER_LENGTH);
+    assertThat(LedgerHashes.ledgerHash(header))
+      .isEqualTo(Sha512Half.hash(HashPrefix.LEDGER_MASTER, UnsignedByteArray.fromHex(fixture.binary())));
+  }
+
+  @Test
+  void decodesLedgerHeader() throws IOException {
+    CodecFixture fixture = FixtureUtils.getCodecFixtures().ledgerData().get(0);
+    LedgerHeader header = objectMapper.treeToValue(fixture.json(), LedgerHeader.class);
+    UnsignedByteArray headerBytes = UnsignedByteArray.fromHex(fixture.binary());
+
+    LedgerHeader decoded = LedgerHashes.ledgerHeader(headerBytes);
+
+    assertThat(LedgerHashes.ledgerHeaderBytes(decoded)).isEqualTo(headerBytes);
+    assertThat(decoded.ledgerIndex()).isEqualTo(header.ledgerIndex());
+    assertThat(decoded.totalCoins()).isEqualTo(header.totalCoins());
+    assertThat(decoded.parentHash()).isEqualTo(header.parentHash());
+    assertThat(decoded.transactionHash()).isEqualTo(header.transactionHash());
+    assertThat(decoded.accountHash()).isEqualTo(header.accountHash());
+    assertThat(decoded.parentCloseTime()).isEqualTo(header.parentCloseTime());
+    assertThat(decoded.closeTime()).isEqualTo(header.closeTime());
+    assertThat(decoded.closeTimeResolution()).isEqualTo(header.closeTimeResolution());
+    assertThat(decoded.closeFlags()).isEqualTo(header.closeFlags());
+    assertThat(decoded.ledgerHash().get().value()).isEqualTo(LedgerHashes.ledgerHash(headerBytes).hexValue());
+    assertThat(decoded.closeTimeHuman()).isPresent();
+    assertThat(decoded.closeTimeHuman().get().toEpochSecond() - 946684800)
+      .isEqualTo(header.closeTime().get().longValue());
+    assertThatThrownBy(() -> LedgerHashes.ledgerHeader(headerBytes.slice(0, 100)))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void rejectsIncompleteHeaders() throws IOException {
+    CodecFixture fixture = FixtureUtils.getCodecFixtures().ledgerData().get(0);
+    LedgerHeader header = objectMapper.treeToValue(fixture.json(), LedgerHeader.class);
+
+    LedgerHeader withoutCloseFlags = LedgerHeader.builder().from(header).closeFlags(Optional.empty()).build();
+    assertThatThrownBy(() -> LedgerHashes.ledgerHash(withoutCloseFlags))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("close_flags");
+    assertThatThrownBy(() -> LedgerHashes.ledgerHash(UnsignedByteArray.fromHex(fixture.binary()).slice(0, 100)))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+}
@@ -0,0 +1,138 @@
+package org.xrpl.xrpl4j.codec.binary.shamap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.primitives.UnsignedInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
+import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
+import org.xrpl.xrpl4j.model.ledger.LedgerHeader;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * Unit tests for {@link LedgerVerifier}.
+ */
+class LedgerVerifierTest {
+
+  private static final int TRANSACTIONS = 500;
+
+  private final ObjectMapper objectMapper = ObjectMapperFactory.create();
+
+  private final LedgerVerifier verifier = new LedgerVerifier();
+
+  private ObjectNode result;
+
+  private LedgerHeader header;
+
+  /**
+   * Builds a binary ledger response whose header commits to a transaction tree of random transactions, the way rippled
+   * returns it for {@code transactions=true, expand=true, binary=true}.
+   */
+  @BeforeEach
+  void setUp() throws IOException {
+    Random random = new Random(11);
+    ShaMap transactionTree = new ShaMap();
+    ArrayNode transactions = objectMapper.createArrayNode();
+    for (int i = 0; i < TRANSACTIONS; i++) {
+      UnsignedByteArray transaction = randomBytes(random, 100 + random.nextInt(300));
+      UnsignedByteArray metadata = randomBytes(random, 50 + random.nextInt(500));
+      transactionTree.addTransaction(transaction, metadata);
+      transactions.addObject()
+        .put("tx_blob", transaction.hexValue())
+        .put("meta", metadata.hexValue());
+    }
+
+    LedgerHeader fixtureHeader = objectMapper.treeToValue(
+      FixtureUtils.getCodecFixtures().ledgerData().get(0).json(), LedgerHeader.class
+    );
+    header = LedgerHeader.builder().from(fixtureHeader)
+      .transactionHash(Hash256.of(transactionTree.hash().hexValue()))
+      .build();
+
+    result = objectMapper.createObjectNode();
+    result.put("ledger_hash", LedgerHashes.ledgerHash(header).hexValue());
+    result.put("validated", true);
+    ObjectNode ledger = result.putObject("ledger");
+    ledger.put("closed", true);
+    ledger.put("ledger_data", LedgerHashes.ledgerHeaderBytes(header).hexValue());
+    ledger.set("transactions", transactions);
+  }
+
+  @Test
+  void verifiesConsistentLedger() {
+    LedgerVerification verification = verifier.verify(result);
+
+    assertThat(verification.isValid()).isTrue();
+    assertThat(verification.transactionCount()).isEqualTo(TRANSACTIONS);
+    assertThat(verification.ledgerIndex()).isEqualTo(UnsignedInteger.valueOf(32052277));
+    assertThat(verification.computedTransactionHash()).isEqualTo(header.transactionHash().get());
+    assertThat(verification.transactionHash()).isEqualTo(header.transactionHash().get());
+    assertThat(verification.accountHash()).isEqualTo(header.accountHash().get());
+    assertThat(verification.parentHash()).isEqualTo(header.parentHash());
+    assertThat(verification.reportedLedgerHash()).contains(verification.ledgerHash());
+
+    assertThat(verifier.verify(result.get("ledger")))
+      .isEqualTo(ImmutableLedgerVerification.copyOf(verification).withReportedLedgerHash(Optional.empty()));
+  }
+
+  @Test
+  void detectsTamperedMetadata() {
+    ObjectNode transaction = (ObjectNode) result.get("ledger").get("transactions").get(TRANSACTIONS / 2);
+    String metadata = transaction.get("meta").asText();
+    transaction.put("meta", metadata.substring(0, metadata.length() - 2) + "00");
+
+    LedgerVerification verification = verifier.verify(result);
+
+    assertThat(verification.isValid()).isFalse();
+    assertThat(verification.computedTransactionHash()).isNotEqualTo(verification.transactionHash());
+  }
+
+  @Test
+  void detectsMissingTransaction() {
+    ((ArrayNode) result.get("ledger").get("transactions")).remove(0);
+
+    assertThat(verifier.verify(result).isValid()).isFalse();
+  }
+
+  @Test
+  void detectsHeaderThatDoesNotMatchReportedLedgerHash() {
+    result.put("ledger_hash", "0000000000000000000000000000000000000000000000000000000000000000");
+
+    LedgerVerification verification = verifier.verify(result);
+
+    assertThat(verification.isValid()).isFalse();
+    assertThat(verification.computedTransactionHash()).isEqualTo(verification.transactionHash());
+  }
+
+  @Test
+  void rejectsLedgersThatAreNotBinaryAndExpanded() {
+    ObjectNode ledger = (ObjectNode) result.get("ledger");
+    ledger.set("transactions", objectMapper.createArrayNode()
+      .add("E22068A818EA853DD3B7B574FF58C3A84D1F664495FF6ECD11D3B03B1D2FC2F7"));
+    assertThatThrownBy(() -> verifier.verify(result))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("expand=true");
+
+    ledger.remove("ledger_data");
+    assertThatThrownBy(() -> verifier.verify(result))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("binary=true");
+  }
+
+  private UnsignedByteArray randomBytes(final Random random, final int length) {
+    byte[] bytes = new byte[length];
+    random.nextBytes(bytes);
+    return UnsignedByteArray.of(bytes);
+  }
+
+}
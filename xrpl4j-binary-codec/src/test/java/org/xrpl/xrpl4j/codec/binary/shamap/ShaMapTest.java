@@ -0,0 +1,206 @@
+package org.xrpl.xrpl4j.codec.binary.shamap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.hash.Hashing;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.hash.HashPrefix;
+import org.xrpl.xrpl4j.codec.binary.hash.Sha512Half;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * Unit tests for {@link ShaMap}.
+ */
+class ShaMapTest {
+
+  private static final byte[] ZERO_HASH = new byte[Sha512Half.LENGTH];
+
+  private final Random random = new Random(7);
+
+  private ForkJoinPool pool;
+
+  @BeforeEach
+  void setUp() {
+    pool = new ForkJoinPool(4);
+  }
+
+  @AfterEach
+  void tearDown() {
+    pool.shutdownNow();
+  }
+
+  @Test
+  void emptyMapHashesToZero() {
+    ShaMap map = new ShaMap();
+    assertThat(map.size()).isZero();
+    assertThat(map.hash().toByteArray()).isEqualTo(ZERO_HASH);
+    assertThat(map.hash(pool).toByteArray()).isEqualTo(ZERO_HASH);
+  }
+
+  @Test
+  void singleLedgerEntryHangsOffTheRoot() {
+    UnsignedByteArray index = UnsignedByteArray.fromHex(
+      "A0000000000000000000000000000000000000000000000000000000000000FF"
+    );
+    UnsignedByteArray entry = UnsignedByteArray.fromHex("1100612200000000");
+    ShaMap map = new ShaMap();
+    map.addLedgerEntry(index, entry);
+
+    byte[] leafHash = sha512Half(HashPrefix.LEAF_NODE.bytes().append(entry).append(index));
+    UnsignedByteArray root = HashPrefix.INNER_NODE.bytes();
+    for (int branch = 0; branch < 16; branch++) {
+      root.append(branch == 0xA ? leafHash : ZERO_HASH);
+    }
+    assertThat(map.hash().toByteArray()).isEqualTo(sha512Half(root));
+  }
+
+  @Test
+  void transactionLeafHashesLengthPrefixedTransactionAndMetadata() {
+    // Long enough to need a two byte length prefix.
+    UnsignedByteArray transaction = randomBytes(300);
+    UnsignedByteArray metadata = randomBytes(20);
+    ShaMap map = new ShaMap();
+    UnsignedByteArray transactionId = map.addTransaction(transaction, metadata);
+
+    assertThat(transactionId).isEqualTo(Sha512Half.transactionId(transaction));
+    byte[] leafHash = sha512Half(HashPrefix.TRANSACTION_NODE.bytes()
+      .append(UnsignedByteArray.fromHex("C16B"))
+      .append(transaction)
+      .append(UnsignedByteArray.fromHex("14"))
+      .append(metadata)
+      .append(transactionId));
+    UnsignedByteArray root = HashPrefix.INNER_NODE.bytes();
+    int firstNibble = transactionId.get(0).asInt() >>> 4;
+    for (int branch = 0; branch < 16; branch++) {
+      root.append(branch == firstNibble ? leafHash : ZERO_HASH);
+    }
+    assertThat(map.hash().toByteArray()).isEqualTo(sha512Half(root));
+  }
+
+  @Test
+  void keysSharingAPrefixAreSplitAtTheFirstDifferentNibble() {
+    UnsignedByteArray first = UnsignedByteArray.fromHex(
+      "1230000000000000000000000000000000000000000000000000000000000000"
+    );
+    UnsignedByteArray second = UnsignedByteArray.fromHex(
+      "1240000000000000000000000000000000000000000000000000000000000000"
+    );
+    UnsignedByteArray entry = UnsignedByteArray.fromHex("00");
+    ShaMap map = new ShaMap();
+    map.addLedgerEntry(first, entry);
+    map.addLedgerEntry(second, entry);
+
+    assertThat(map.hash()).isEqualTo(referenceHash(Arrays.asList(
+      new Item(first.toByteArray(), sha512Half(HashPrefix.LEAF_NODE.bytes().append(entry).append(first))),
+      new Item(second.toByteArray(), sha512Half(HashPrefix.LEAF_NODE.bytes().append(entry).append(second)))
+    )));
+  }
+
+  @Test
+  void matchesReferenceInAnyOrderAndInParallel() {
+    List<Item> items = new ArrayList<>();
+    List<UnsignedByteArray[]> entries = new ArrayList<>();
+    for (int i = 0; i < 5000; i++) {
+      UnsignedByteArray index = randomBytes(Sha512Half.LENGTH);
+      // Some indexes share long prefixes, so that the tree gets a few deep paths.
+      if (i % 100 == 1) {
+        index = entries.get(i - 1)[0].slice(0, 20).append(randomBytes(12));
+      }
+      UnsignedByteArray entry = randomBytes(1 + random.nextInt(100));
+      entries.add(new UnsignedByteArray[] {index, entry});
+      items.add(new Item(index.toByteArray(), sha512Half(HashPrefix.LEAF_NODE.bytes().append(entry).append(index))));
+    }
+    final UnsignedByteArray expected = referenceHash(items);
+
+    ShaMap inOrder = new ShaMap();
+    entries.forEach(entry -> inOrder.addLedgerEntry(entry[0], entry[1]));
+    Collections.shuffle(entries, random);
+    ShaMap shuffled = new ShaMap();
+    entries.forEach(entry -> shuffled.addLedgerEntry(entry[0], entry[1]));
+
+    assertThat(inOrder.size()).isEqualTo(5000);
+    assertThat(inOrder.hash()).isEqualTo(expected);
+    assertThat(shuffled.hash()).isEqualTo(expected);
+    assertThat(shuffled.hash(pool)).isEqualTo(expected);
+  }
+
+  @Test
+  void rejectsDuplicateAndMalformedKeys() {
+    ShaMap map = new ShaMap();
+    UnsignedByteArray transaction = randomBytes(100);
+    map.addTransaction(transaction, randomBytes(10));
+
+    assertThatThrownBy(() -> map.addTransaction(transaction, randomBytes(10)))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> map.addLedgerEntry(randomBytes(20), randomBytes(10)))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThat(map.size()).isEqualTo(1);
+  }
+
+  /**
+   * Computes the root hash of a SHAMap straight from the definition, by grouping items on each nibble of their keys.
+   */
+  private UnsignedByteArray referenceHash(final List<Item> items) {
+    return UnsignedByteArray.of(referenceInnerHash(items, 0));
+  }
+
+  private byte[] referenceInnerHash(final List<Item> items, final int depth) {
+    if (items.isEmpty()) {
+      return ZERO_HASH;
+    }
+    UnsignedByteArray preimage = HashPrefix.INNER_NODE.bytes();
+    for (int branch = 0; branch < 16; branch++) {
+      final int nibble = branch;
+      List<Item> children = items.stream()
+        .filter(item -> nibble(item.key, depth) == nibble)
+        .collect(Collectors.toList());
+      if (children.isEmpty()) {
+        preimage.append(ZERO_HASH);
+      } else if (children.size() == 1) {
+        preimage.append(children.get(0).leafHash);
+      } else {
+        preimage.append(referenceInnerHash(children, depth + 1));
+      }
+    }
+    return sha512Half(preimage);
+  }
+
+  private int nibble(final byte[] key, final int depth) {
+    int value = key[depth / 2] & 0xFF;
+    return depth % 2 == 0 ? value >> 4 : value & 0xF;
+  }
+
+  private byte[] sha512Half(final UnsignedByteArray bytes) {
+    return Arrays.copyOf(Hashing.sha512().hashBytes(bytes.toByteArray()).asBytes(), Sha512Half.LENGTH);
+  }
+
+  private UnsignedByteArray randomBytes(final int length) {
+    byte[] bytes = new byte[length];
+    random.nextBytes(bytes);
+    return UnsignedByteArray.of(bytes);
+  }
+
+  private static class Item {
+
+    private final byte[] key;
+
+    private final byte[] leafHash;
+
+    Item(final byte[] key, final byte[] leafHash) {
+      this.key = key;
+      this.leafHash = leafHash;
+    }
+  }
+
+}
@@ -2,11 +2,16 @@ package org.xrpl.xrpl4j.codec.binary.types;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.util.stream.Stream;
 
 class AmountTypeTest extends BaseSerializerTypeTest {
@@ -97,4 +102,25 @@ class AmountTypeTest extends BaseSerializerTypeTest {
     assertThat(codec.fromJson(json).toHex()).isEqualTo(hex);
   }
 
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "4000000000000064",
+    "0000000000000064",
+    "4000000000000000",
+    "416345785D8A0000",
+    "D4838D7EA4C6800000000000000000000000000055534400000000008B1CE810C13D6F337DAC85863B3D70265A24DF44",
+    "94838D7EA4C6800000000000000000000000000055534400000000000000000000000000000000000000000000000001",
+    "800000000000000000000000000000000000000055534400000000000000000000000000000000000000000000000001",
+    "D48775F05A07400000000000000000000000000000000000000000000000000000000000000000000000000000000000"
+  })
+  void toJsonWithGeneratorMatchesToJson(String hex) throws IOException {
+    AmountType amount = codec.fromHex(hex);
+    StringWriter writer = new StringWriter();
+    try (JsonGenerator generator = BinaryCodecObjectMapperFactory.getObjectMapper().getFactory()
+      .createGenerator(writer)) {
+      amount.toJson(generator);
+    }
+    assertThat(writer.toString()).isEqualTo(amount.toJson().toString());
+  }
+
 }
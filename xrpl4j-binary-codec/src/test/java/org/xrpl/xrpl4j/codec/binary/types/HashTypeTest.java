@@ -27,6 +27,14 @@ class HashTypeTest {
     assertThat(codec256.fromJson(DOUBLE_QUOTE + bytes(32) + DOUBLE_QUOTE).toHex()).isEqualTo(bytes(32));
   }
 
+  @Test
+  void equalsComparesTypeAndBytes() {
+    Hash256Type hash = codec256.fromHex(bytes(32));
+    assertThat(hash).isEqualTo(codec256.fromHex(bytes(32))).hasSameHashCodeAs(codec256.fromHex(bytes(32)));
+    assertThat(hash).isNotEqualTo(codec256.fromHex(Strings.repeat("0E", 32)));
+    assertThat(codec160.fromHex(bytes(20))).isNotEqualTo(new AccountIdType().fromHex(bytes(20)));
+  }
+
   @Test
   void encodeOutOfBounds() {
     Assertions.assertThrows(IllegalArgumentException.class,
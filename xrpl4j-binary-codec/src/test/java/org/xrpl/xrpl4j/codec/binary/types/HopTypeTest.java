@@ -0,0 +1,63 @@
+package org.xrpl.xrpl4j.codec.binary.types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+class HopTypeTest {
+
+  private static final String ACCOUNT_HOP = "{\"account\":\"razqQKzJRdB4UxFPWf5NEpEG3WMkmwgcXA\"}";
+  private static final String ACCOUNT_HOP_HEX = "0141C8BE2C0A6AA17471B9F6D0AF92AAB1C94D5A25";
+  private static final String ISSUED_CURRENCY_HOP =
+    "{\"currency\":\"USD\",\"issuer\":\"rHXUjUtk5eiPFYpg27izxHeZ1t4x835Ecn\"}";
+  private static final String ISSUED_CURRENCY_HOP_HEX =
+    "300000000000000000000000005553440000000000B53847FA45E828BF9A52E38F7FB39E363493CE8B";
+
+  private final HopType codec = new HopType();
+
+  @Test
+  void encode() {
+    assertThat(codec.fromJson(ACCOUNT_HOP).toHex()).isEqualTo(ACCOUNT_HOP_HEX);
+    assertThat(codec.fromJson(ISSUED_CURRENCY_HOP).toHex()).isEqualTo(ISSUED_CURRENCY_HOP_HEX);
+  }
+
+  @Test
+  void decode() {
+    assertThat(codec.fromHex(ACCOUNT_HOP_HEX).toJson().toString()).isEqualTo(ACCOUNT_HOP);
+    assertThat(codec.fromHex(ISSUED_CURRENCY_HOP_HEX).toJson().toString()).isEqualTo(ISSUED_CURRENCY_HOP);
+  }
+
+  @Test
+  void fromParserReadsOnlyOneHop() {
+    BinaryParser parser = new BinaryParser(ISSUED_CURRENCY_HOP_HEX + ACCOUNT_HOP_HEX);
+    assertThat(codec.fromParser(parser).toHex()).isEqualTo(ISSUED_CURRENCY_HOP_HEX);
+    assertThat(codec.fromParser(parser).toHex()).isEqualTo(ACCOUNT_HOP_HEX);
+    assertThat(parser.hasMore()).isFalse();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    ACCOUNT_HOP_HEX,
+    ISSUED_CURRENCY_HOP_HEX,
+    "1141C8BE2C0A6AA17471B9F6D0AF92AAB1C94D5A250000000000000000000000005553440000000000",
+    "100000000000000000000000005553440000000000"
+  })
+  void toJsonWithGeneratorMatchesToJson(String hex) throws IOException {
+    HopType hop = codec.fromHex(hex);
+    StringWriter writer = new StringWriter();
+    try (JsonGenerator generator = BinaryCodecObjectMapperFactory.getObjectMapper().getFactory()
+      .createGenerator(writer)) {
+      hop.toJson(generator);
+    }
+    assertThat(writer.toString()).isEqualTo(hop.toJson().toString());
+  }
+
+}
@@ -0,0 +1,181 @@
+package org.xrpl.xrpl4j.codec.binary.types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.primitives.Longs;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.xrpl.xrpl4j.codec.addresses.ByteUtils;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.math.MathUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+
+/**
+ * Unit tests for {@link IouAmountCodec}, which check it against the {@link BigDecimal} implementation it replaced.
+ */
+class IouAmountCodecTest {
+
+  private static final int RANDOM_CASES = 20_000;
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "0", "-0", "0.000", "0e10", "1", "-1", "+1", "2.1", "-2", "10", "100", "1000", "1.000", "0.1", "0.001",
+    "0.00100", "100.5", ".5", "5.", "1e5", "1E5", "1e+5", "1e-5", "1.5e-3", "-1.5E3", "1234567890123456",
+    "1234567890123456000", "0.1234567890123456", "9999999999999999e64", "9999999999999999e65", "1e80", "1e81",
+    "1e-82", "1e-83", "1e-96", "1e-97", "12345678901234567", "1.2345678901234567", "", "-", ".", "e5", "1e",
+    "1e+", "1.2.3", "1a", "abc", "1 ", "1e99999999999", "0e99999999999"
+  })
+  void encodeMatchesReference(String value) {
+    assertEncodeMatchesReference(value);
+  }
+
+  @Test
+  void encodeMatchesReferenceForRandomValues() {
+    Random random = new Random(42);
+    for (int i = 0; i < RANDOM_CASES; i++) {
+      assertEncodeMatchesReference(randomDecimal(random));
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "8000000000000000", "C000000000000000", "D4838D7EA4C68000", "94871AFD498D0000", "D48775F05A074000",
+    "803FFFFFFFFFFFFF", "BFFFFFFFFFFFFFFF", "FFFFFFFFFFFFFFFF", "C038D7EA4C68000F", "EC38D7EA4C680000",
+    "ED38D7EA4C680000", "8038D7EA4C680000"
+  })
+  void decodeMatchesReference(String hex) {
+    assertDecodeMatchesReference(Long.parseUnsignedLong(hex, 16));
+  }
+
+  @Test
+  void decodeMatchesReferenceForRandomValues() {
+    Random random = new Random(42);
+    for (int i = 0; i < RANDOM_CASES; i++) {
+      long bits = random.nextLong() | IouAmountCodec.ZERO;
+      if (random.nextBoolean()) {
+        // Most random mantissas have 17 digits, so also try normalized ones.
+        long mantissa = 1_000_000_000_000_000L + (long) (random.nextDouble() * 9_000_000_000_000_000L);
+        bits = (bits & ~((1L << 54) - 1)) | mantissa;
+      }
+      assertDecodeMatchesReference(bits);
+    }
+  }
+
+  @Test
+  void roundTrip() {
+    Random random = new Random(7);
+    for (int i = 0; i < RANDOM_CASES; i++) {
+      BigDecimal value = new BigDecimal(
+        BigInteger.valueOf(random.nextLong() % 10_000_000_000_000_000L), random.nextInt(80) - 40
+      );
+      String decoded = IouAmountCodec.decode(IouAmountCodec.encode(value.toString()));
+      assertThat(new BigDecimal(decoded)).isEqualByComparingTo(value);
+    }
+  }
+
+  private void assertEncodeMatchesReference(String value) {
+    long expected;
+    try {
+      expected = referenceEncode(value);
+    } catch (IllegalArgumentException e) {
+      assertThatThrownBy(() -> IouAmountCodec.encode(value)).as(value).isInstanceOf(IllegalArgumentException.class);
+      return;
+    }
+    assertThat(Long.toHexString(IouAmountCodec.encode(value))).as(value).isEqualTo(Long.toHexString(expected));
+  }
+
+  private void assertDecodeMatchesReference(long bits) {
+    String expected;
+    try {
+      expected = referenceDecode(bits);
+    } catch (Error e) {
+      assertThatThrownBy(() -> IouAmountCodec.decode(bits)).as(Long.toHexString(bits)).isInstanceOf(Error.class);
+      return;
+    }
+    assertThat(IouAmountCodec.decode(bits)).as(Long.toHexString(bits)).isEqualTo(expected);
+  }
+
+  private String randomDecimal(Random random) {
+    StringBuilder builder = new StringBuilder();
+    if (random.nextInt(4) == 0) {
+      builder.append('-');
+    }
+    int integerDigits = random.nextInt(12);
+    int fractionDigits = random.nextInt(12);
+    for (int i = 0; i < integerDigits; i++) {
+      builder.append(random.nextInt(4) == 0 ? '0' : (char) ('0' + random.nextInt(10)));
+    }
+    if (fractionDigits > 0 || integerDigits == 0) {
+      builder.append('.');
+      for (int i = 0; i < Math.max(1, fractionDigits); i++) {
+        builder.append(random.nextInt(4) == 0 ? '0' : (char) ('0' + random.nextInt(10)));
+      }
+    }
+    if (random.nextBoolean()) {
+      builder.append('e').append(random.nextInt(220) - 110);
+    }
+    return builder.toString();
+  }
+
+  /**
+   * The {@link BigDecimal} encoding that {@link AmountType} used before {@link IouAmountCodec}.
+   */
+  private static long referenceEncode(String value) {
+    BigDecimal number = new BigDecimal(value);
+    if (number.unscaledValue().equals(BigInteger.ZERO)) {
+      return IouAmountCodec.ZERO;
+    }
+
+    BigInteger paddedNumber = MathUtils.toPaddedBigInteger(number, 16);
+    byte[] amountBytes = ByteUtils.toByteArray(paddedNumber, 8);
+    amountBytes[0] |= 0x80;
+    if (number.compareTo(BigDecimal.ZERO) > 0) {
+      amountBytes[0] |= 0x40;
+    }
+
+    int exponent = MathUtils.getExponent(number);
+    if (exponent > 80 || exponent < -96) {
+      throw new IllegalArgumentException("exponent out of range");
+    }
+    UnsignedByte exponentByte = UnsignedByte.of(97 + exponent - 15);
+    amountBytes[0] |= exponentByte.asInt() >>> 2;
+    amountBytes[1] |= (exponentByte.asInt() & 0x03) << 6;
+
+    return Longs.fromByteArray(amountBytes);
+  }
+
+  /**
+   * The {@link BigDecimal} decoding that {@link AmountType} used before {@link IouAmountCodec}.
+   */
+  private static String referenceDecode(long bits) {
+    UnsignedByteArray mantissa = UnsignedByteArray.of(Longs.toByteArray(bits));
+    UnsignedByte b1 = mantissa.get(0);
+    UnsignedByte b2 = mantissa.get(1);
+
+    boolean isPositive = b1.isNthBitSet(2);
+    String sign = isPositive ? "" : "-";
+
+    int exponent = ((b1.asInt() & 0x3f) << 2) + ((b2.asInt() & 0xff) >> 6) - 97;
+    mantissa.set(0, UnsignedByte.of(0));
+    mantissa.set(1, UnsignedByte.of(b2.asInt() & 0x3f));
+
+    BigDecimal value = new BigDecimal(new BigInteger(sign + mantissa.hexValue(), 16))
+      .multiply(new BigDecimal("1e" + exponent))
+      .stripTrailingZeros();
+
+    if (!value.equals(BigDecimal.ZERO)) {
+      int exponentOfValue = MathUtils.getExponent(value);
+      if (value.precision() > 16 || exponentOfValue > 80 || exponentOfValue < -96) {
+        throw new Error("Decimal precision out of range");
+      }
+    }
+    return value.toPlainString();
+  }
+
+}
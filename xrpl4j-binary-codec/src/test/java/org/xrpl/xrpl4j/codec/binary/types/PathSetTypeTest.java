@@ -0,0 +1,61 @@
+package org.xrpl.xrpl4j.codec.binary.types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+class PathSetTypeTest {
+
+  private static final String JSON = "[[{\"account\":\"razqQKzJRdB4UxFPWf5NEpEG3WMkmwgcXA\"}," +
+    "{\"currency\":\"USD\",\"issuer\":\"rHXUjUtk5eiPFYpg27izxHeZ1t4x835Ecn\"}]," +
+    "[{\"account\":\"razqQKzJRdB4UxFPWf5NEpEG3WMkmwgcXA\",\"currency\":\"USD\"}]]";
+  private static final String HEX = "0141C8BE2C0A6AA17471B9F6D0AF92AAB1C94D5A25" +
+    "300000000000000000000000005553440000000000B53847FA45E828BF9A52E38F7FB39E363493CE8B" +
+    "FF" +
+    "1141C8BE2C0A6AA17471B9F6D0AF92AAB1C94D5A250000000000000000000000005553440000000000" +
+    "00";
+
+  private final PathSetType codec = new PathSetType();
+
+  @Test
+  void encode() {
+    assertThat(codec.fromJson(JSON).toHex()).isEqualTo(HEX);
+  }
+
+  @Test
+  void decode() {
+    assertThat(codec.fromHex(HEX).toJson().toString()).isEqualTo(JSON);
+  }
+
+  @Test
+  void fromParserStopsAtEndOfPathSet() {
+    BinaryParser parser = new BinaryParser(HEX + "FF");
+    assertThat(codec.fromParser(parser).toHex()).isEqualTo(HEX);
+    assertThat(parser.peek().hexValue()).isEqualTo("FF");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    HEX,
+    "0141C8BE2C0A6AA17471B9F6D0AF92AAB1C94D5A2500",
+    "0141C8BE2C0A6AA17471B9F6D0AF92AAB1C94D5A25FF0141C8BE2C0A6AA17471B9F6D0AF92AAB1C94D5A2500"
+  })
+  void toJsonWithGeneratorMatchesToJson(String hex) throws IOException {
+    PathSetType pathSet = codec.fromHex(hex);
+    StringWriter writer = new StringWriter();
+    try (JsonGenerator generator = BinaryCodecObjectMapperFactory.getObjectMapper().getFactory()
+      .createGenerator(writer)) {
+      pathSet.toJson(generator);
+    }
+    assertThat(writer.toString()).isEqualTo(pathSet.toJson().toString());
+  }
+
+}
@@ -0,0 +1,52 @@
+package org.xrpl.xrpl4j.codec.binary.types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.google.common.primitives.UnsignedLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.serdes.BytesSink;
+
+class UInt64TypeTest {
+
+  private final UInt64Type codec = new UInt64Type();
+
+  @Test
+  void decode() {
+    assertThat(codec.fromHex("0000000000000000").valueOf()).isEqualTo(UnsignedLong.ZERO);
+    assertThat(codec.fromHex("0000000000000003").valueOf()).isEqualTo(UnsignedLong.valueOf(3));
+    assertThat(codec.fromHex("FFFFFFFFFFFFFFFF").valueOf()).isEqualTo(UnsignedLong.MAX_VALUE);
+  }
+
+  @Test
+  void encode() {
+    assertThat(codec.fromJson(new TextNode("0")).toHex()).isEqualTo("0000000000000000");
+    assertThat(codec.fromJson(new TextNode("1")).toHex()).isEqualTo("0000000000000001");
+    assertThat(codec.fromJson(new TextNode("4f0415eb4ea0c727")).toHex()).isEqualTo("4F0415EB4EA0C727");
+    assertThat(codec.fromJson(new TextNode("FFFFFFFFFFFFFFFF")).toHex()).isEqualTo("FFFFFFFFFFFFFFFF");
+  }
+
+  @Test
+  void encodeToSink() {
+    UnsignedByteArray bytes = UnsignedByteArray.empty();
+    codec.encode(new TextNode("531AA535D3D0C000"), BytesSink.of(bytes));
+    assertThat(bytes.hexValue()).isEqualTo("531AA535D3D0C000");
+  }
+
+  @Test
+  void toJsonIsHex() {
+    assertThat(codec.fromHex("0000000000000003").toJson()).isEqualTo(new TextNode("0000000000000003"));
+    assertThat(codec.fromJson(new TextNode("531AA535D3D0C000")).toJson())
+      .isEqualTo(new TextNode("531AA535D3D0C000"));
+  }
+
+  @Test
+  void encodeOutOfBounds() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> codec.fromJson(new TextNode("10000000000000000")));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> codec.fromJson(new TextNode("")));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> codec.fromJson(new TextNode("XYZ")));
+  }
+
+}
@@ -1,7 +1,9 @@
 package org.xrpl.xrpl4j.codec.binary.types;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.google.common.io.BaseEncoding;
 import org.junit.jupiter.api.Test;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
 
@@ -26,4 +28,27 @@ class Vector256TypeTest {
     assertThat(codec.fromJson(JSON).toHex()).isEqualTo(HEX);
   }
 
+  @Test
+  void decodedVectorIsAViewOverTheParserBytes() {
+    byte[] bytes = BaseEncoding.base16().decode(HEX);
+    Vector256Type vector = codec.fromParser(new BinaryParser(bytes), bytes.length);
+
+    assertThat(vector.size()).isEqualTo(2);
+    assertThat(vector.get(0).toHex()).isEqualTo(VALUE1);
+    assertThat(vector.get(1)).isEqualTo(new Hash256Type().fromHex(VALUE2));
+    assertThat(vector).isEqualTo(codec.fromJson(JSON)).hasSameHashCodeAs(codec.fromJson(JSON));
+    assertThat(vector.toJson().toString()).isEqualTo(JSON);
+
+    bytes[0] = 0;
+    assertThat(vector.get(0).toHex()).startsWith("00");
+    assertThat(vector).isNotEqualTo(codec.fromJson(JSON));
+  }
+
+  @Test
+  void rejectsPartialHashes() {
+    assertThatThrownBy(() -> codec.fromParser(new BinaryParser(HEX), 40))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> codec.fromJson(JSON).get(2)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
 }
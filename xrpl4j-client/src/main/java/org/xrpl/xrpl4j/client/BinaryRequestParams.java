@@ -0,0 +1,42 @@
+package org.xrpl.xrpl4j.client;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.xrpl.xrpl4j.model.client.XrplRequestParams;
+
+import java.util.Objects;
+
+/**
+ * Wraps the {@link XrplRequestParams} of an account_tx, tx or ledger request so that rippled returns transactions,
+ * metadata and ledger headers as binary blobs. The wrapped params always send {@code "binary": false}, because their
+ * results are modelled on the JSON response, so this overrides that field.
+ */
+class BinaryRequestParams implements XrplRequestParams {
+
+  private final ObjectNode params;
+
+  /**
+   * Required-args constructor.
+   *
+   * @param objectMapper The {@link ObjectMapper} used to serialize {@code params}.
+   * @param params       The {@link XrplRequestParams} to request binary results for.
+   */
+  BinaryRequestParams(final ObjectMapper objectMapper, final XrplRequestParams params) {
+    Objects.requireNonNull(objectMapper);
+    Objects.requireNonNull(params);
+    this.params = objectMapper.valueToTree(params);
+    this.params.put("binary", true);
+  }
+
+  /**
+   * The JSON params to send, with {@code binary} set to true.
+   *
+   * @return An {@link ObjectNode}.
+   */
+  @JsonValue
+  public ObjectNode params() {
+    return params;
+  }
+
+}
@@ -11,6 +11,7 @@ import org.immutables.value.Value;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryTransactionDecoder;
 import org.xrpl.xrpl4j.keypairs.DefaultKeyPairService;
 import org.xrpl.xrpl4j.keypairs.KeyPairService;
 import org.xrpl.xrpl4j.model.client.XrplMethods;
@@ -26,6 +27,7 @@ import org.xrpl.xrpl4j.model.client.accounts.AccountObjectsRequestParams;
 import org.xrpl.xrpl4j.model.client.accounts.AccountObjectsResult;
 import org.xrpl.xrpl4j.model.client.accounts.AccountOffersRequestParams;
 import org.xrpl.xrpl4j.model.client.accounts.AccountOffersResult;
+import org.xrpl.xrpl4j.model.client.accounts.AccountTransactionsBinaryResult;
 import org.xrpl.xrpl4j.model.client.accounts.AccountTransactionsRequestParams;
 import org.xrpl.xrpl4j.model.client.accounts.AccountTransactionsResult;
 import org.xrpl.xrpl4j.model.client.accounts.GatewayBalancesRequestParams;
@@ -33,6 +35,7 @@ import org.xrpl.xrpl4j.model.client.accounts.GatewayBalancesResult;
 import org.xrpl.xrpl4j.model.client.channels.ChannelVerifyRequestParams;
 import org.xrpl.xrpl4j.model.client.channels.ChannelVerifyResult;
 import org.xrpl.xrpl4j.model.client.fees.FeeResult;
+import org.xrpl.xrpl4j.model.client.ledger.LedgerBinaryResult;
 import org.xrpl.xrpl4j.model.client.ledger.LedgerRequestParams;
 import org.xrpl.xrpl4j.model.client.ledger.LedgerResult;
 import org.xrpl.xrpl4j.model.client.path.DepositAuthorizedRequestParams;
@@ -41,6 +44,7 @@ import org.xrpl.xrpl4j.model.client.path.RipplePathFindRequestParams;
 import org.xrpl.xrpl4j.model.client.path.RipplePathFindResult;
 import org.xrpl.xrpl4j.model.client.server.ServerInfo;
 import org.xrpl.xrpl4j.model.client.server.ServerInfoResult;
+import org.xrpl.xrpl4j.model.client.transactions.BinaryTransactionResult;
 import org.xrpl.xrpl4j.model.client.transactions.SignedTransaction;
 import org.xrpl.xrpl4j.model.client.transactions.SubmitMultiSignedRequestParams;
 import org.xrpl.xrpl4j.model.client.transactions.SubmitMultiSignedResult;
@@ -90,6 +94,7 @@ public class XrplClient {
 
   private final ObjectMapper objectMapper;
   private final XrplBinaryCodec binaryCodec;
+  private final XrplBinaryTransactionDecoder transactionDecoder;
   private final JsonRpcClient jsonRpcClient;
   private final KeyPairService keyPairService;
 
@@ -112,6 +117,7 @@ public class XrplClient {
     this.jsonRpcClient = Objects.requireNonNull(jsonRpcClient);
     this.objectMapper = ObjectMapperFactory.create();
     this.binaryCodec = new XrplBinaryCodec();
+    this.transactionDecoder = new XrplBinaryTransactionDecoder(binaryCodec, objectMapper);
     this.keyPairService = DefaultKeyPairService.getInstance();
   }
 
@@ -390,6 +396,31 @@ public class XrplClient {
     return jsonRpcClient.send(request, AccountTransactionsResult.class);
   }
 
+  /**
+   * Get the {@link AccountTransactionsResult} for the account specified in {@code params} by making an account_tx
+   * method call with {@code binary} set to true, and decoding the returned transactions and metadata locally. This
+   * makes for a much smaller response than {@link #accountTransactions(AccountTransactionsRequestParams)}.
+   *
+   * @param params The {@link AccountTransactionsRequestParams} to send in the request.
+   *
+   * @return The {@link AccountTransactionsResult} returned by the account_tx method call.
+   * @throws JsonRpcClientErrorException If {@code jsonRpcClient} throws an error, or the result cannot be decoded.
+   */
+  public AccountTransactionsResult accountTransactionsBinary(AccountTransactionsRequestParams params)
+    throws JsonRpcClientErrorException {
+    JsonRpcRequest request = JsonRpcRequest.builder()
+      .method(XrplMethods.ACCOUNT_TX)
+      .addParams(new BinaryRequestParams(objectMapper, params))
+      .build();
+
+    AccountTransactionsBinaryResult result = jsonRpcClient.send(request, AccountTransactionsBinaryResult.class);
+    try {
+      return transactionDecoder.decodeAccountTransactions(result);
+    } catch (JsonProcessingException | RuntimeException e) {
+      throw new JsonRpcClientErrorException(e);
+    }
+  }
+
   /**
    * Get a transaction from the ledger by sending a tx method request.
    *
@@ -414,6 +445,34 @@ public class XrplClient {
     return jsonRpcClient.send(request, resultType);
   }
 
+  /**
+   * Get a transaction from the ledger by sending a tx method request with {@code binary} set to true, and decoding
+   * the returned transaction and metadata locally.
+   *
+   * @param params          The {@link TransactionRequestParams} to send in the request.
+   * @param transactionType The {@link Transaction} type of the transaction with the hash {@code params.transaction()}.
+   * @param <T>             Type parameter for the type of {@link Transaction} that the {@link TransactionResult} will
+   *
+   * @return A {@link TransactionResult} containing the requested transaction and other metadata.
+   * @throws JsonRpcClientErrorException If {@code jsonRpcClient} throws an error, or the result cannot be decoded.
+   */
+  public <T extends Transaction> TransactionResult<T> transactionBinary(
+    TransactionRequestParams params,
+    Class<T> transactionType
+  ) throws JsonRpcClientErrorException {
+    JsonRpcRequest request = JsonRpcRequest.builder()
+      .method(XrplMethods.TX)
+      .addParams(new BinaryRequestParams(objectMapper, params))
+      .build();
+
+    BinaryTransactionResult result = jsonRpcClient.send(request, BinaryTransactionResult.class);
+    try {
+      return transactionDecoder.decodeTransactionResult(result, transactionType);
+    } catch (JsonProcessingException | RuntimeException e) {
+      throw new JsonRpcClientErrorException(e);
+    }
+  }
+
   /**
    * Get the contents of a ledger by sending a ledger method request.
    *
@@ -431,6 +490,29 @@ public class XrplClient {
     return jsonRpcClient.send(request, LedgerResult.class);
   }
 
+  /**
+   * Get the contents of a ledger by sending a ledger method request with {@code binary} set to true, and decoding the
+   * returned ledger header and any transactions locally.
+   *
+   * @param params The {@link LedgerRequestParams} to send in the request.
+   *
+   * @return A {@link LedgerResult} containing the ledger details.
+   * @throws JsonRpcClientErrorException if {@code jsonRpcClient} throws an error, or the result cannot be decoded.
+   */
+  public LedgerResult ledgerBinary(LedgerRequestParams params) throws JsonRpcClientErrorException {
+    JsonRpcRequest request = JsonRpcRequest.builder()
+      .method(XrplMethods.LEDGER)
+      .addParams(new BinaryRequestParams(objectMapper, params))
+      .build();
+
+    LedgerBinaryResult result = jsonRpcClient.send(request, LedgerBinaryResult.class);
+    try {
+      return transactionDecoder.decodeLedger(result);
+    } catch (JsonProcessingException | RuntimeException e) {
+      throw new JsonRpcClientErrorException(e);
+    }
+  }
+
   /**
    * Try to find a payment path for a rippling payment by sending a ripple_path_find method request.
    *
@@ -8,6 +8,7 @@ import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.hash.Hashing;
 import org.xrpl.xrpl4j.codec.addresses.VersionType;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
 import org.xrpl.xrpl4j.crypto.KeyMetadata;
 import org.xrpl.xrpl4j.crypto.KeyStoreType;
 import org.xrpl.xrpl4j.crypto.PrivateKey;
@@ -17,6 +18,7 @@ import org.xrpl.xrpl4j.crypto.ServerSecretSupplier;
 import org.xrpl.xrpl4j.keypairs.DefaultKeyPairService;
 import org.xrpl.xrpl4j.keypairs.KeyPair;
 import org.xrpl.xrpl4j.keypairs.KeyPairService;
+import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
 
 import java.util.Arrays;
@@ -42,6 +44,8 @@ public class DerivedKeysSignatureService implements SignatureService {
 
   private final ServerSecretSupplier serverSecretSupplier;
 
+  private final SignatureUtils signatureUtils;
+
   /**
    * Required-args Constructor for use in development mode.
    *
@@ -94,6 +98,7 @@ public class DerivedKeysSignatureService implements SignatureService {
     this.serverSecretSupplier = Objects.requireNonNull(serverSecretSupplier);
     this.versionType = Objects.requireNonNull(versionType);
     this.keyPairService = Objects.requireNonNull(keyPairService);
+    this.signatureUtils = new SignatureUtils(ObjectMapperFactory.create(), new XrplBinaryCodec());
     this.keyMetadataLoadingCache = Caffeine
       .from(Objects.requireNonNull(caffeineSpec))
       .build(this::constructSignatureService);
@@ -165,7 +170,8 @@ public class DerivedKeysSignatureService implements SignatureService {
     final String privateKeyHex = keyPair.privateKey();
     final PrivateKey privateKey = PrivateKey.fromBase16EncodedPrivateKey(privateKeyHex);
 
-    return new SingleKeySignatureService(privateKey);
+    // Every key shares one SignatureUtils, so that a transaction multi-signed by several derived keys is encoded once.
+    return new SingleKeySignatureService(signatureUtils, privateKey);
   }
 
   /**
@@ -1,6 +1,5 @@
 package org.xrpl.xrpl4j.crypto.signing;
 
-import com.google.common.io.BaseEncoding;
 import org.bouncycastle.crypto.digests.SHA256Digest;
 import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
 import org.bouncycastle.crypto.params.ECPublicKeyParameters;
@@ -9,8 +8,10 @@ import org.bouncycastle.crypto.params.Ed25519PublicKeyParameters;
 import org.bouncycastle.crypto.signers.ECDSASigner;
 import org.bouncycastle.crypto.signers.Ed25519Signer;
 import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
+import org.xrpl.xrpl4j.codec.addresses.Hex;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.binary.hash.MultiSigningHashes;
 import org.xrpl.xrpl4j.crypto.BcKeyUtils;
 import org.xrpl.xrpl4j.crypto.KeyMetadata;
 import org.xrpl.xrpl4j.crypto.KeyStoreType;
@@ -48,8 +49,19 @@ public class SingleKeySignatureService extends AbstractSignatureService implemen
    * @param privateKey A {@link KeyStore} to load all private keys from.
    */
   public SingleKeySignatureService(final PrivateKey privateKey) {
+    this(new SignatureUtils(ObjectMapperFactory.create(), new XrplBinaryCodec()), privateKey);
+  }
+
+  /**
+   * Required-args Constructor for use in development mode, with a {@link SignatureUtils} that may be shared with other
+   * signature services.
+   *
+   * @param signatureUtils An {@link SignatureUtils}.
+   * @param privateKey     A {@link PrivateKey} to sign with.
+   */
+  public SingleKeySignatureService(final SignatureUtils signatureUtils, final PrivateKey privateKey) {
     this(
-      new SignatureUtils(ObjectMapperFactory.create(), new XrplBinaryCodec()),
+      signatureUtils,
       new Ed25519Signer(),
       new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest())),
       DefaultKeyPairService.getInstance(),
@@ -93,13 +105,13 @@ public class SingleKeySignatureService extends AbstractSignatureService implemen
     Objects.requireNonNull(signableTransactionBytes);
 
     Ed25519PrivateKeyParameters privateKeyParameters = new Ed25519PrivateKeyParameters(
-      BaseEncoding.base16().decode(privateKey.base16Encoded().substring(2)), // Remove ED prefix byte
+      Hex.decode(privateKey.base16Encoded().substring(2)), // Remove ED prefix byte
       0
     );
 
     ed25519Signer.reset();
     ed25519Signer.init(true, privateKeyParameters);
-    ed25519Signer.update(signableTransactionBytes.toByteArray(), 0, signableTransactionBytes.getUnsignedBytes().size());
+    ed25519Signer.update(signableTransactionBytes.toByteArray(), 0, signableTransactionBytes.length());
 
     final UnsignedByteArray sigBytes = UnsignedByteArray.of(ed25519Signer.generateSignature());
     return Signature.builder()
@@ -122,14 +134,13 @@ public class SingleKeySignatureService extends AbstractSignatureService implemen
 
     ed25519Signer.reset();
     ed25519Signer.init(false, bcPublicKey);
-    ed25519Signer.update(signableTransactionBytes.toByteArray(), 0, signableTransactionBytes.getUnsignedBytes().size());
+    ed25519Signer.update(signableTransactionBytes.toByteArray(), 0, signableTransactionBytes.length());
 
     return ed25519Signer.verifySignature(
       transactionWithSignature.signature().value().toByteArray()
     );
   }
 
-  @SuppressWarnings("checkstyle:LocalVariableName")
   @Override
   protected synchronized Signature ecDsaSign(
     final KeyMetadata keyMetadata, final UnsignedByteArray signableTransactionBytes
@@ -137,8 +148,22 @@ public class SingleKeySignatureService extends AbstractSignatureService implemen
     Objects.requireNonNull(keyMetadata);
     Objects.requireNonNull(signableTransactionBytes);
 
-    final UnsignedByteArray messageHash = HashUtils.sha512Half(signableTransactionBytes);
+    return ecDsaSignHash(HashUtils.sha512Half(signableTransactionBytes));
+  }
 
+  @Override
+  protected synchronized Signature ecDsaMultiSign(
+    final KeyMetadata keyMetadata, final MultiSigningHashes multiSigningHashes, final String signerAddress
+  ) {
+    Objects.requireNonNull(keyMetadata);
+    Objects.requireNonNull(multiSigningHashes);
+    Objects.requireNonNull(signerAddress);
+
+    return ecDsaSignHash(multiSigningHashes.signingHash(signerAddress));
+  }
+
+  @SuppressWarnings("checkstyle:LocalVariableName")
+  private Signature ecDsaSignHash(final UnsignedByteArray messageHash) {
     final BigInteger privateKeyInt = new BigInteger(privateKey.base16Encoded(), 16);
     final ECPrivateKeyParameters parameters = new ECPrivateKeyParameters(privateKeyInt, Secp256k1.ecDomainParameters);
 
@@ -28,6 +28,7 @@ import org.xrpl.xrpl4j.model.transactions.Payment;
 import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.Callable;
@@ -273,6 +274,30 @@ class DerivedKeysSignatureServiceTest {
       .forEach(validSig -> assertThat(validSig).isTrue());
   }
 
+  @Test
+  void multiSignSeveralTransactionsWithSeveralKeys() {
+    final ServerSecretSupplier serverSecretSupplier = "happy"::getBytes;
+    for (DerivedKeysSignatureService signatureService : Arrays.asList(edSignatureService, ecSignatureService)) {
+      for (long sequence = 1; sequence <= 2; sequence++) {
+        final Payment payment = Payment.builder()
+          .account(Address.of(sourceClassicAddressEd))
+          .amount(XrpCurrencyAmount.ofDrops(12345))
+          .destination(Address.of(destinationClassicAddress))
+          .fee(XrpCurrencyAmount.ofDrops(10))
+          .sequence(UnsignedInteger.valueOf(sequence))
+          .signingPublicKey("")
+          .build();
+        for (String keyIdentifier : Arrays.asList("foo", "bar", "baz")) {
+          // A new service has not prepared any transaction, so it encodes the payment from scratch.
+          final DerivedKeysSignatureService freshService =
+            new DerivedKeysSignatureService(serverSecretSupplier, signatureService.getVersionType());
+          assertThat(signatureService.signWithBehavior(keyMetadata(keyIdentifier), payment, SigningBehavior.MULTI))
+            .isEqualTo(freshService.signWithBehavior(keyMetadata(keyIdentifier), payment, SigningBehavior.MULTI));
+        }
+      }
+    }
+  }
+
   @Test
   void signAndVerifyEc() {
     final KeyMetadata keyMetadata = keyMetadata("foo");
@@ -12,9 +12,11 @@ import org.bouncycastle.crypto.params.Ed25519PrivateKeyParameters;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.xrpl.xrpl4j.codec.addresses.VersionType;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
 import org.xrpl.xrpl4j.crypto.BcKeyUtils;
 import org.xrpl.xrpl4j.crypto.KeyMetadata;
 import org.xrpl.xrpl4j.crypto.PublicKey;
+import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
 import org.xrpl.xrpl4j.model.transactions.Address;
 import org.xrpl.xrpl4j.model.transactions.Payment;
 import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
@@ -107,6 +109,31 @@ class SingleKeySignatureServiceTest {
     assertThat(signatureResult).isTrue();
   }
 
+  @Test
+  void edDsaSignWithSharedSignatureUtils() {
+    final SingleKeySignatureService sharedUtilsSignatureService = new SingleKeySignatureService(
+      new SignatureUtils(ObjectMapperFactory.create(), new XrplBinaryCodec()),
+      BcKeyUtils.toPrivateKey(knownEd25519PrivateKeyParameters)
+    );
+    final KeyMetadata keyMetadata = keyMetadata("foo");
+    final PublicKey publicKey = sharedUtilsSignatureService.getPublicKey(keyMetadata);
+
+    final Payment paymentTransaction = Payment.builder()
+      .account(Address.of(sourceClassicAddressED))
+      .fee(XrpCurrencyAmount.ofDrops(10L))
+      .sequence(UnsignedInteger.ONE)
+      .destination(Address.of(destinationClassicAddress))
+      .amount(XrpCurrencyAmount.ofDrops(12345))
+      .signingPublicKey(publicKey.base16Encoded())
+      .build();
+
+    SignedTransaction<Payment> transactionWithSignature =
+      sharedUtilsSignatureService.sign(keyMetadata, paymentTransaction);
+    assertThat(transactionWithSignature.signature())
+      .isEqualTo(this.edSignatureService.sign(keyMetadata, paymentTransaction).signature());
+    assertThat(sharedUtilsSignatureService.verify(keyMetadata, transactionWithSignature)).isTrue();
+  }
+
   @Test
   void ecDsaSignAndVerify() {
     final KeyMetadata keyMetadata = keyMetadata("foo");
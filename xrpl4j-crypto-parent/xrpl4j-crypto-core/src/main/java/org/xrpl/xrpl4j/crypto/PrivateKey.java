@@ -1,9 +1,9 @@
 package org.xrpl.xrpl4j.crypto;
 
-import com.google.common.io.BaseEncoding;
 import org.immutables.value.Value;
 import org.immutables.value.Value.Derived;
 import org.xrpl.xrpl4j.codec.addresses.Base58;
+import org.xrpl.xrpl4j.codec.addresses.Hex;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.addresses.VersionType;
@@ -54,7 +54,7 @@ public interface PrivateKey {
     Objects.requireNonNull(base16EncodedPrivateKey);
 
     return PrivateKey.builder()
-      .value(UnsignedByteArray.of(BaseEncoding.base16().decode(base16EncodedPrivateKey)))
+      .value(UnsignedByteArray.of(Hex.decode(base16EncodedPrivateKey)))
       .build();
   }
 
@@ -1,13 +1,13 @@
 package org.xrpl.xrpl4j.crypto;
 
 import com.google.common.collect.Lists;
-import com.google.common.io.BaseEncoding;
 import com.google.common.primitives.UnsignedInteger;
 import org.immutables.value.Value;
 import org.immutables.value.Value.Derived;
 import org.xrpl.xrpl4j.codec.addresses.AddressBase58;
 import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
 import org.xrpl.xrpl4j.codec.addresses.Decoded;
+import org.xrpl.xrpl4j.codec.addresses.Hex;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.addresses.Version;
 import org.xrpl.xrpl4j.codec.addresses.VersionType;
@@ -52,7 +52,7 @@ public interface PublicKey {
   static PublicKey fromBase16EncodedPublicKey(final String base16EncodedPublicKey) {
     Objects.requireNonNull(base16EncodedPublicKey);
     return PublicKey.builder()
-      .value(UnsignedByteArray.of(BaseEncoding.base16().decode(base16EncodedPublicKey)))
+      .value(UnsignedByteArray.of(Hex.decode(base16EncodedPublicKey)))
       .build();
   }
 
@@ -3,6 +3,7 @@ package org.xrpl.xrpl4j.crypto.signing;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.hash.MultiSigningHashes;
 import org.xrpl.xrpl4j.crypto.KeyMetadata;
 import org.xrpl.xrpl4j.crypto.KeyStoreType;
 import org.xrpl.xrpl4j.crypto.PublicKey;
@@ -55,6 +56,13 @@ public abstract class AbstractSignatureService implements SignatureService {
     return this.signatureUtils.addSignatureToTransaction(transaction, signature);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>For {@link SigningBehavior#MULTI}, the signable bytes or hash of the signer are computed from the
+   * {@link MultiSigningHashes} returned by {@link SignatureUtils#toMultiSigningHashes(Transaction)}, so signing the
+   * same transaction with the key of each signer in turn does not re-encode it.</p>
+   */
   @Override
   public Signature signWithBehavior(
     final KeyMetadata keyMetadata,
@@ -65,9 +73,14 @@ public abstract class AbstractSignatureService implements SignatureService {
     Objects.requireNonNull(transaction);
 
     final PublicKey publicKey = this.getPublicKey(keyMetadata);
-    final UnsignedByteArray signableTransactionBytes = behavior == SigningBehavior.SINGLE ?
-      this.signatureUtils.toSignableBytes(transaction) :
-      this.signatureUtils.toMultiSignableBytes(transaction, keyPairService.deriveAddress(publicKey.value()).value());
+    if (behavior == SigningBehavior.MULTI) {
+      final String signerAddress = keyPairService.deriveAddress(publicKey.value()).value();
+      return this.multiSign(
+        keyMetadata, publicKey, this.signatureUtils.toMultiSigningHashes(transaction), signerAddress
+      );
+    }
+
+    final UnsignedByteArray signableTransactionBytes = this.signatureUtils.toSignableBytes(transaction);
 
     final Signature signature;
     switch (publicKey.versionType()) {
@@ -87,6 +100,25 @@ public abstract class AbstractSignatureService implements SignatureService {
     return signature;
   }
 
+  private Signature multiSign(
+    final KeyMetadata keyMetadata,
+    final PublicKey publicKey,
+    final MultiSigningHashes multiSigningHashes,
+    final String signerAddress
+  ) {
+    switch (publicKey.versionType()) {
+      case ED25519: {
+        return this.edDsaSign(keyMetadata, multiSigningHashes.signingBytes(signerAddress));
+      }
+      case SECP256K1: {
+        return this.ecDsaMultiSign(keyMetadata, multiSigningHashes, signerAddress);
+      }
+      default: {
+        throw new IllegalArgumentException("Unhandled PrivateKey VersionType: {}" + keyMetadata);
+      }
+    }
+  }
+
   @Override
   public boolean verify(
     final KeyMetadata keyMetadata,
@@ -139,6 +171,27 @@ public abstract class AbstractSignatureService implements SignatureService {
     KeyMetadata privateKeyMetadata, UnsignedByteArray signableTransactionBytes
   );
 
+  /**
+   * Computes the signature of a multi-signer using a secp256k1 private-key, as locatable using {@code
+   * privateKeyMetadata}. By default, this signs {@link MultiSigningHashes#signingBytes(String)} with
+   * {@link #ecDsaSign(KeyMetadata, UnsignedByteArray)}. Implementations that can sign a precomputed hash should
+   * override this method to sign {@link MultiSigningHashes#signingHash(String)} instead, which does not hash the whole
+   * transaction again.
+   *
+   * @param privateKeyMetadata A {@link KeyMetadata} to describe the private-key to use for signing.
+   * @param multiSigningHashes The {@link MultiSigningHashes} of the transaction being signed.
+   * @param signerAddress      The classic address of the signer.
+   *
+   * @return A {@link Signature} with data that can be used to submit a transaction to the XRP Ledger.
+   */
+  protected Signature ecDsaMultiSign(
+    final KeyMetadata privateKeyMetadata,
+    final MultiSigningHashes multiSigningHashes,
+    final String signerAddress
+  ) {
+    return this.ecDsaSign(privateKeyMetadata, multiSigningHashes.signingBytes(signerAddress));
+  }
+
   /**
    * Verify a signature.
    *
@@ -0,0 +1,41 @@
+package org.xrpl.xrpl4j.crypto.signing;
+
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.regex.Pattern;
+
+/**
+ * A {@link TokenBuffer} that keeps integers written as number text, such as {@link
+ * com.google.common.primitives.UnsignedInteger}s and {@link com.google.common.primitives.UnsignedLong}s, as integers.
+ * A plain {@link TokenBuffer} reads number text back as a floating point number, which the binary codec rejects.
+ */
+class IntegralNumberTokenBuffer extends TokenBuffer {
+
+  private static final Pattern INTEGER = Pattern.compile("-?[0-9]+");
+
+  // Any integer with this many digits or fewer fits in a long.
+  private static final int MAX_LONG_DIGITS = 18;
+
+  /**
+   * Required-args constructor.
+   *
+   * @param codec The {@link ObjectCodec} that writes to, and reads from, this buffer.
+   */
+  IntegralNumberTokenBuffer(final ObjectCodec codec) {
+    super(codec, false);
+  }
+
+  @Override
+  public void writeNumber(final String encodedValue) throws IOException {
+    if (encodedValue == null || !INTEGER.matcher(encodedValue).matches()) {
+      super.writeNumber(encodedValue);
+    } else if (encodedValue.length() <= MAX_LONG_DIGITS) {
+      writeNumber(Long.parseLong(encodedValue));
+    } else {
+      writeNumber(new BigInteger(encodedValue));
+    }
+  }
+}
@@ -1,8 +1,8 @@
 package org.xrpl.xrpl4j.crypto.signing;
 
-import com.google.common.io.BaseEncoding;
 import org.immutables.value.Value;
 import org.immutables.value.Value.Derived;
+import org.xrpl.xrpl4j.codec.addresses.Hex;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 
 /**
@@ -34,6 +34,6 @@ public interface Signature {
    */
   @Derived
   default String base16Value() {
-    return BaseEncoding.base16().encode(value().toByteArray());
+    return Hex.encode(value().toByteArray());
   }
 }
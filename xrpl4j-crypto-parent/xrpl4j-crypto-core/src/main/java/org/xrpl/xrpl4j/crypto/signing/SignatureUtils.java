@@ -1,11 +1,12 @@
 package org.xrpl.xrpl4j.crypto.signing;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.google.common.base.Preconditions;
-import com.google.common.io.BaseEncoding;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.binary.hash.MultiSigningHashes;
 import org.xrpl.xrpl4j.model.transactions.AccountDelete;
 import org.xrpl.xrpl4j.model.transactions.AccountSet;
 import org.xrpl.xrpl4j.model.transactions.CheckCancel;
@@ -27,7 +28,9 @@ import org.xrpl.xrpl4j.model.transactions.TicketCreate;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
 import org.xrpl.xrpl4j.model.transactions.TrustSet;
 
+import java.io.IOException;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Utility methods to help with generating, validating, and manipulating digital signatures.
@@ -37,6 +40,9 @@ public class SignatureUtils {
   private final ObjectMapper objectMapper;
   private final XrplBinaryCodec binaryCodec;
 
+  // The transaction most recently prepared for multi-signing, which is usually signed by several signers in a row.
+  private final AtomicReference<PreparedMultiSigning> lastMultiSigning = new AtomicReference<>();
+
   /**
    * Required-args constructor.
    *
@@ -51,19 +57,17 @@ public class SignatureUtils {
   /**
    * Helper method to convert a {@link Transaction} into bytes that can be used directly for signing.
    *
+   * <p>The transaction is serialized by the {@link ObjectMapper} into a {@link JsonNode}, which is encoded from there.
+   * No JSON text is written or parsed along the way, but the tree is still built for every call.</p>
+   *
    * @param transaction A {@link Transaction} to be signed.
    *
    * @return An {@link UnsignedByteArray}.
    */
   public UnsignedByteArray toSignableBytes(final Transaction transaction) {
     Objects.requireNonNull(transaction);
-    try {
-      final String unsignedJson = objectMapper.writeValueAsString(transaction);
-      final String unsignedBinaryHex = binaryCodec.encodeForSigning(unsignedJson);
-      return UnsignedByteArray.fromHex(unsignedBinaryHex);
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException(e.getMessage(), e);
-    }
+    final JsonNode unsignedJson = toJsonNode(transaction);
+    return binaryCodec.encodeForSigningToBytes(unsignedJson);
   }
 
   /**
@@ -79,13 +83,33 @@ public class SignatureUtils {
     Objects.requireNonNull(transaction);
     Objects.requireNonNull(signerAddress);
 
-    try {
-      final String unsignedJson = objectMapper.writeValueAsString(transaction);
-      final String unsignedBinaryHex = binaryCodec.encodeForMultiSigning(unsignedJson, signerAddress);
-      return UnsignedByteArray.fromHex(unsignedBinaryHex);
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException(e.getMessage(), e);
+    final JsonNode unsignedJson = toJsonNode(transaction);
+    return binaryCodec.encodeForMultiSigningToBytes(unsignedJson, signerAddress);
+  }
+
+  /**
+   * Helper method to encode a {@link Transaction} once for all of the signers of a multi-signed transaction, as is the
+   * case when the source account has set a SignerList. The signable bytes and signing hash of each signer are then
+   * computed from the returned {@link MultiSigningHashes} without encoding the transaction again.
+   *
+   * <p>The most recently prepared transaction is remembered, so calling this method for each signer of the same
+   * transaction only encodes it the first time.</p>
+   *
+   * @param transaction A {@link Transaction} to be signed.
+   *
+   * @return A {@link MultiSigningHashes}.
+   */
+  public MultiSigningHashes toMultiSigningHashes(final Transaction transaction) {
+    Objects.requireNonNull(transaction);
+
+    final PreparedMultiSigning prepared = lastMultiSigning.get();
+    if (prepared != null && prepared.transaction.equals(transaction)) {
+      return prepared.hashes;
     }
+    final JsonNode unsignedJson = toJsonNode(transaction);
+    final MultiSigningHashes hashes = MultiSigningHashes.of(unsignedJson);
+    lastMultiSigning.set(new PreparedMultiSigning(transaction, hashes));
+    return hashes;
   }
 
   /**
@@ -197,17 +221,43 @@ public class SignatureUtils {
       // Should never happen, but will in a unit test if we miss one.
       throw new IllegalArgumentException("Signing fields could not be added to the unsignedTransaction.");
     }
+    JsonNode signedJson = toJsonNode(signedTransaction);
+    UnsignedByteArray signedBlob = binaryCodec.encodeToBytes(signedJson); // <-- txBlob must be binary-encoded.
+    return SignedTransaction.builder()
+      .unsignedTransaction(unsignedTransaction)
+      .signature(signature)
+      .signedTransaction(signedTransaction)
+      .signedTransactionBytes(signedBlob)
+      .build();
+  }
+
+  /**
+   * Serialize {@code transaction} into a {@link JsonNode} for the binary codec, without writing or parsing JSON text.
+   *
+   * @param transaction A {@link Transaction}.
+   *
+   * @return A {@link JsonNode}.
+   */
+  private JsonNode toJsonNode(final Transaction transaction) {
     try {
-      String signedJson = objectMapper.writeValueAsString(signedTransaction);
-      String signedBlob = binaryCodec.encode(signedJson); // <-- txBlob must be binary-encoded.
-      return SignedTransaction.builder()
-        .unsignedTransaction(unsignedTransaction)
-        .signature(signature)
-        .signedTransaction(signedTransaction)
-        .signedTransactionBytes(UnsignedByteArray.of(BaseEncoding.base16().decode(signedBlob)))
-        .build();
-    } catch (JsonProcessingException e) {
+      TokenBuffer buffer = new IntegralNumberTokenBuffer(objectMapper);
+      objectMapper.writeValue(buffer, transaction);
+      return objectMapper.readTree(buffer.asParser());
+    } catch (IOException e) {
       throw new RuntimeException(e.getMessage(), e);
     }
   }
+
+  private static final class PreparedMultiSigning {
+
+    private final Transaction transaction;
+
+    private final MultiSigningHashes hashes;
+
+    private PreparedMultiSigning(final Transaction transaction, final MultiSigningHashes hashes) {
+      this.transaction = transaction;
+      this.hashes = hashes;
+    }
+  }
+
 }
@@ -0,0 +1,132 @@
+package org.xrpl.xrpl4j.crypto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.primitives.UnsignedInteger;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.crypto.signing.SignatureUtils;
+import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.Payment;
+import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+/**
+ * Checks that the encoding and signing paths that run for every transaction stay within a budget of bytes allocated
+ * per operation, as counted by the JVM for the current thread.
+ *
+ * <p>Each budget is roughly twice what the operation allocates today, so that JVM and JIT differences do not make
+ * these tests flaky, while a change that makes one of these paths allocate much more fails. When a change legitimately
+ * needs more, raise the budget in the same change and say why.</p>
+ */
+public class AllocationBudgetTest {
+
+  private static final int WARMUP_OPERATIONS = 20_000;
+
+  private static final int MEASURED_OPERATIONS = 2_000;
+
+  private static final int MEASUREMENTS = 5;
+
+  private static final String UNSUPPORTED = "This JVM cannot count the bytes allocated by a thread";
+
+  private static com.sun.management.ThreadMXBean threadMxBean;
+
+  private final ObjectMapper objectMapper = ObjectMapperFactory.create();
+
+  private final XrplBinaryCodec binaryCodec = new XrplBinaryCodec();
+
+  private final SignatureUtils signatureUtils = new SignatureUtils(objectMapper, binaryCodec);
+
+  private final AddressCodec addressCodec = AddressCodec.getInstance();
+
+  private Payment payment;
+
+  private String paymentJson;
+
+  private byte[] paymentBytes;
+
+  @BeforeAll
+  static void checkSupport() {
+    assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean, UNSUPPORTED);
+    threadMxBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    assumeTrue(threadMxBean.isThreadAllocatedMemorySupported(), UNSUPPORTED);
+    threadMxBean.setThreadAllocatedMemoryEnabled(true);
+  }
+
+  @BeforeEach
+  void setUp() throws JsonProcessingException {
+    payment = Payment.builder()
+      .account(Address.of("rU6K7V3Po4snVhBBaU29sesqs2qTQJWDw1"))
+      .fee(XrpCurrencyAmount.ofDrops(10))
+      .sequence(UnsignedInteger.valueOf(4))
+      .destination(Address.of("rEqrVunkmDhWNGHELTzQmn4mX7LKvdomfq"))
+      .amount(XrpCurrencyAmount.ofDrops(12345))
+      .signingPublicKey("030D58EB48B4420B1F7B9DF55087E0E29FEF0E8468F9A6825B01CA2C361042D435")
+      .build();
+    paymentJson = objectMapper.writeValueAsString(payment);
+    paymentBytes = binaryCodec.encodeToBytes(paymentJson).toByteArray();
+  }
+
+  @Test
+  void encodeForSigning() {
+    assertAllocatesAtMost(24_000, () -> {
+      try {
+        return binaryCodec.encodeForSigning(paymentJson);
+      } catch (JsonProcessingException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+  }
+
+  @Test
+  void toSignableBytes() {
+    assertAllocatesAtMost(24_000, () -> signatureUtils.toSignableBytes(payment));
+  }
+
+  @Test
+  void decodeAccountId() {
+    assertAllocatesAtMost(1_600, () -> addressCodec.decodeAccountId(payment.account()));
+  }
+
+  /**
+   * Decode a standard Payment, which reads it with a {@code BinaryParser}.
+   */
+  @Test
+  void decode() {
+    assertAllocatesAtMost(14_000, () -> binaryCodec.decode(paymentBytes));
+  }
+
+  /**
+   * Assert that {@code operation} allocates no more than {@code budget} bytes per call, once warmed up. The smallest
+   * of several measurements is compared, because other activity in the JVM can only add to a measurement.
+   */
+  private void assertAllocatesAtMost(final long budget, final Supplier<?> operation) {
+    Object result = null;
+    for (int i = 0; i < WARMUP_OPERATIONS; i++) {
+      result = operation.get();
+    }
+    long bytesPerOperation = Long.MAX_VALUE;
+    for (int measurement = 0; measurement < MEASUREMENTS; measurement++) {
+      long before = threadMxBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+      for (int i = 0; i < MEASURED_OPERATIONS; i++) {
+        result = operation.get();
+      }
+      long after = threadMxBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+      bytesPerOperation = Math.min(bytesPerOperation, (after - before) / MEASURED_OPERATIONS);
+    }
+    assertThat(result).isNotNull();
+    assertThat(bytesPerOperation)
+      .as("bytes allocated per operation")
+      .isLessThanOrEqualTo(budget);
+  }
+
+}
@@ -7,6 +7,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +15,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.addresses.VersionType;
+import org.xrpl.xrpl4j.codec.binary.hash.MultiSigningHashes;
 import org.xrpl.xrpl4j.crypto.KeyMetadata;
 import org.xrpl.xrpl4j.crypto.KeyStoreType;
 import org.xrpl.xrpl4j.crypto.PrivateKey;
@@ -65,7 +67,8 @@ public class AbstractSignatureServiceTest {
 
     when(transactionWithSignatureMock.unsignedTransaction()).thenReturn(transactionMock);
     when(signatureUtilsMock.toSignableBytes(any())).thenReturn(UnsignedByteArray.empty());
-    when(signatureUtilsMock.toMultiSignableBytes(any(), any())).thenReturn(UnsignedByteArray.empty());
+    when(signatureUtilsMock.toMultiSigningHashes(any()))
+      .thenReturn(MultiSigningHashes.of(JsonNodeFactory.instance.objectNode()));
 
     when(publicKeyMock.value()).thenReturn(UnsignedByteArray.empty());
     signerAddress = Address.of("rDgZZ3wyprx4ZqrGQUkquE9Fs2Xs8XBcdw");
@@ -168,7 +171,7 @@ public class AbstractSignatureServiceTest {
     );
     assertThat(signature).isEqualTo(ed25519SignatureMock);
 
-    verify(signatureUtilsMock, times(0)).toMultiSignableBytes(transactionMock, signerAddress.value());
+    verify(signatureUtilsMock, times(0)).toMultiSigningHashes(transactionMock);
     verify(signatureUtilsMock).toSignableBytes(transactionMock);
     verifyNoMoreInteractions(signatureUtilsMock);
   }
@@ -184,7 +187,7 @@ public class AbstractSignatureServiceTest {
     );
     assertThat(signature).isEqualTo(secp256k1SignatureMock);
 
-    verify(signatureUtilsMock, times(0)).toMultiSignableBytes(transactionMock, signerAddress.value());
+    verify(signatureUtilsMock, times(0)).toMultiSigningHashes(transactionMock);
     verify(signatureUtilsMock).toSignableBytes(transactionMock);
     verifyNoMoreInteractions(signatureUtilsMock);
   }
@@ -200,7 +203,7 @@ public class AbstractSignatureServiceTest {
     );
     assertThat(signature).isEqualTo(ed25519SignatureMock);
 
-    verify(signatureUtilsMock).toMultiSignableBytes(transactionMock, signerAddress.value());
+    verify(signatureUtilsMock).toMultiSigningHashes(transactionMock);
     verify(signatureUtilsMock, times(0)).toSignableBytes(transactionMock);
     verifyNoMoreInteractions(signatureUtilsMock);
   }
@@ -216,7 +219,7 @@ public class AbstractSignatureServiceTest {
     );
     assertThat(signature).isEqualTo(secp256k1SignatureMock);
 
-    verify(signatureUtilsMock).toMultiSignableBytes(transactionMock, signerAddress.value());
+    verify(signatureUtilsMock).toMultiSigningHashes(transactionMock);
     verify(signatureUtilsMock, times(0)).toSignableBytes(transactionMock);
     verifyNoMoreInteractions(signatureUtilsMock);
   }
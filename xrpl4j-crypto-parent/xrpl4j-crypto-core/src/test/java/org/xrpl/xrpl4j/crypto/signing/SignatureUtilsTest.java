@@ -3,16 +3,20 @@ package org.xrpl.xrpl4j.crypto.signing;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
-import com.fasterxml.jackson.core.JsonLocation;
-import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.google.common.primitives.UnsignedInteger;
 import com.google.common.primitives.UnsignedLong;
 import org.junit.jupiter.api.Assertions;
@@ -23,8 +27,11 @@ import org.mockito.MockitoAnnotations;
 import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.binary.hash.MultiSigningHashes;
 import org.xrpl.xrpl4j.crypto.PublicKey;
 import org.xrpl.xrpl4j.keypairs.DefaultKeyPairService;
+import org.xrpl.xrpl4j.keypairs.HashUtils;
+import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
 import org.xrpl.xrpl4j.model.transactions.AccountDelete;
 import org.xrpl.xrpl4j.model.transactions.AccountSet;
 import org.xrpl.xrpl4j.model.transactions.Address;
@@ -51,6 +58,7 @@ import org.xrpl.xrpl4j.model.transactions.TrustSet;
 import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
 import org.xrpl.xrpl4j.wallet.Wallet;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -76,13 +84,16 @@ public class SignatureUtilsTest {
   private SignatureUtils signatureUtils;
 
   @BeforeEach
-  public void setUp() throws JsonProcessingException {
+  public void setUp() throws IOException {
     MockitoAnnotations.openMocks(this);
     sourceWallet = this.getSourceWallet();
-    when(objectMapperMock.writeValueAsString(any())).thenReturn("{foo}"); // <-- Unused JSON value.
-    when(xrplBinaryCodecMock.encodeForSigning(anyString())).thenReturn("ED");
-    when(xrplBinaryCodecMock.encodeForMultiSigning(any(), anyString())).thenReturn("ED");
-    when(xrplBinaryCodecMock.encode(anyString())).thenReturn("0123456789"); // <-- Unused HEX value.
+    when(objectMapperMock.<JsonNode>readTree(any(JsonParser.class)))
+      .thenReturn(JsonNodeFactory.instance.objectNode()); // <-- Unused JSON.
+    when(xrplBinaryCodecMock.encodeForSigningToBytes(any(JsonNode.class))).thenReturn(UnsignedByteArray.fromHex("ED"));
+    when(xrplBinaryCodecMock.encodeForMultiSigningToBytes(any(JsonNode.class), anyString()))
+      .thenReturn(UnsignedByteArray.fromHex("ED"));
+    when(xrplBinaryCodecMock.encodeToBytes(any(JsonNode.class)))
+      .thenReturn(UnsignedByteArray.fromHex("0123456789")); // <-- Unused HEX value.
     this.signatureUtils = new SignatureUtils(objectMapperMock, xrplBinaryCodecMock);
   }
 
@@ -109,39 +120,59 @@ public class SignatureUtilsTest {
   }
 
   @Test
-  public void toSignableBytesWithJsonException() throws JsonProcessingException {
-    doThrow(new JsonParseException("", mock(JsonLocation.class))).when(objectMapperMock).writeValueAsString(any());
+  public void toSignableBytesWithJsonException() throws IOException {
+    doThrow(new IOException("")).when(objectMapperMock).writeValue(any(JsonGenerator.class), any());
     Assertions.assertThrows(RuntimeException.class, () -> signatureUtils.toSignableBytes(transactionMock));
   }
 
   @Test
-  public void toMutliSignableBytesWithJsonException() throws JsonProcessingException {
-    doThrow(new JsonParseException("", mock(JsonLocation.class))).when(objectMapperMock).writeValueAsString(any());
+  public void toMutliSignableBytesWithJsonException() throws IOException {
+    doThrow(new IOException("")).when(objectMapperMock).writeValue(any(JsonGenerator.class), any());
     Assertions.assertThrows(RuntimeException.class, () -> signatureUtils.toMultiSignableBytes(transactionMock, ""));
   }
 
   @Test
-  public void toSignableBytes() throws JsonProcessingException {
+  public void toSignableBytes() throws IOException {
     UnsignedByteArray actual = signatureUtils.toSignableBytes(transactionMock);
     assertThat(actual.length()).isEqualTo(1);
 
-    verify(objectMapperMock).writeValueAsString(transactionMock);
+    verify(objectMapperMock).writeValue(any(JsonGenerator.class), eq(transactionMock));
+    verify(objectMapperMock).readTree(any(JsonParser.class));
     verifyNoMoreInteractions(objectMapperMock);
-    verify(xrplBinaryCodecMock).encodeForSigning(anyString());
+    verify(xrplBinaryCodecMock).encodeForSigningToBytes(any(JsonNode.class));
     verifyNoMoreInteractions(xrplBinaryCodecMock);
   }
 
   @Test
-  public void toMultiSignableBytes() throws JsonProcessingException {
+  public void toMultiSignableBytes() throws IOException {
     UnsignedByteArray actual = signatureUtils.toMultiSignableBytes(transactionMock, "");
     assertThat(actual.length()).isEqualTo(1);
 
-    verify(objectMapperMock).writeValueAsString(transactionMock);
+    verify(objectMapperMock).writeValue(any(JsonGenerator.class), eq(transactionMock));
+    verify(objectMapperMock).readTree(any(JsonParser.class));
     verifyNoMoreInteractions(objectMapperMock);
-    verify(xrplBinaryCodecMock).encodeForMultiSigning(anyString(), anyString());
+    verify(xrplBinaryCodecMock).encodeForMultiSigningToBytes(any(JsonNode.class), anyString());
     verifyNoMoreInteractions(xrplBinaryCodecMock);
   }
 
+  @Test
+  public void toMultiSigningHashesWithNullTransaction() {
+    Assertions.assertThrows(NullPointerException.class, () -> signatureUtils.toMultiSigningHashes(null));
+  }
+
+  @Test
+  public void toMultiSigningHashesEncodesEachTransactionOnce() throws IOException {
+    MultiSigningHashes first = signatureUtils.toMultiSigningHashes(transactionMock);
+    assertThat(signatureUtils.toMultiSigningHashes(transactionMock)).isSameAs(first);
+    verify(objectMapperMock, times(1)).writeValue(any(JsonGenerator.class), eq(transactionMock));
+
+    Transaction otherTransaction = mock(Transaction.class);
+    assertThat(signatureUtils.toMultiSigningHashes(otherTransaction)).isNotSameAs(first);
+    verify(objectMapperMock).writeValue(any(JsonGenerator.class), eq(otherTransaction));
+    verify(objectMapperMock, times(2)).readTree(any(JsonParser.class));
+    verifyNoMoreInteractions(objectMapperMock);
+  }
+
   ////////////////////////////
   // addSignatureToTransaction
   ////////////////////////////
@@ -421,6 +452,62 @@ public class SignatureUtilsTest {
     Assertions.assertThrows(IllegalArgumentException.class, () -> addSignatureToTransactionHelper(transactionMock));
   }
 
+  @Test
+  public void encodingWorksWithObjectMapperSubclasses() {
+    // This subclass does not override copy(), so it cannot be copied.
+    ObjectMapper objectMapper = new ObjectMapper(ObjectMapperFactory.create()) {
+    };
+    XrplBinaryCodec binaryCodec = new XrplBinaryCodec();
+    OfferCreate offerCreate = OfferCreate.builder()
+      .account(sourceWallet.classicAddress())
+      .fee(XrpCurrencyAmount.ofDrops(UnsignedLong.ONE))
+      .sequence(UnsignedInteger.ONE)
+      .takerGets(XrpCurrencyAmount.ofDrops(12345))
+      .takerPays(XrpCurrencyAmount.ofDrops(67890))
+      .signingPublicKey(sourceWallet.publicKey())
+      .build();
+
+    assertThat(new SignatureUtils(objectMapper, binaryCodec).toSignableBytes(offerCreate))
+      .isEqualTo(new SignatureUtils(ObjectMapperFactory.create(), binaryCodec).toSignableBytes(offerCreate));
+  }
+
+  @Test
+  public void encodingMatchesJsonStringEncoding() throws JsonProcessingException {
+    ObjectMapper objectMapper = ObjectMapperFactory.create();
+    XrplBinaryCodec binaryCodec = new XrplBinaryCodec();
+    SignatureUtils realSignatureUtils = new SignatureUtils(objectMapper, binaryCodec);
+    OfferCreate offerCreate = OfferCreate.builder()
+      .account(sourceWallet.classicAddress())
+      .fee(XrpCurrencyAmount.ofDrops(UnsignedLong.ONE))
+      .sequence(UnsignedInteger.ONE)
+      .takerGets(XrpCurrencyAmount.ofDrops(12345))
+      .takerPays(IssuedCurrencyAmount.builder()
+        .currency("USD")
+        .issuer(sourceWallet.classicAddress())
+        .value("1.5")
+        .build())
+      .signingPublicKey(sourceWallet.publicKey())
+      .build();
+    String json = objectMapper.writeValueAsString(offerCreate);
+
+    assertThat(realSignatureUtils.toSignableBytes(offerCreate))
+      .isEqualTo(binaryCodec.encodeForSigningToBytes(json));
+    assertThat(realSignatureUtils.toMultiSignableBytes(offerCreate, sourceWallet.classicAddress().value()))
+      .isEqualTo(binaryCodec.encodeForMultiSigningToBytes(json, sourceWallet.classicAddress().value()));
+    MultiSigningHashes multiSigningHashes = realSignatureUtils.toMultiSigningHashes(offerCreate);
+    assertThat(multiSigningHashes.signingBytes(sourceWallet.classicAddress().value()))
+      .isEqualTo(binaryCodec.encodeForMultiSigningToBytes(json, sourceWallet.classicAddress().value()));
+    assertThat(multiSigningHashes.signingHash(sourceWallet.classicAddress().value()))
+      .isEqualTo(HashUtils.sha512Half(
+        binaryCodec.encodeForMultiSigningToBytes(json, sourceWallet.classicAddress().value())
+      ));
+
+    Signature signature = Signature.builder().value(UnsignedByteArray.fromHex("ED")).build();
+    SignedTransaction signedTransaction = realSignatureUtils.addSignatureToTransaction(offerCreate, signature);
+    assertThat(signedTransaction.signedTransactionBytes())
+      .isEqualTo(binaryCodec.encodeToBytes(objectMapper.writeValueAsString(signedTransaction.signedTransaction())));
+  }
+
   private void addSignatureToTransactionHelper(final Transaction transaction) {
     Objects.requireNonNull(transaction);
     when(signatureMock.base16Value()).thenReturn("ED");
@@ -1,25 +1,111 @@
 package org.xrpl.xrpl4j.client;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.primitives.UnsignedInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
 import org.xrpl.xrpl4j.model.client.XrplMethods;
+import org.xrpl.xrpl4j.model.client.XrplResult;
+import org.xrpl.xrpl4j.model.client.accounts.AccountTransactionsBinaryResult;
+import org.xrpl.xrpl4j.model.client.accounts.AccountTransactionsRequestParams;
+import org.xrpl.xrpl4j.model.client.accounts.AccountTransactionsResult;
+import org.xrpl.xrpl4j.model.client.common.LedgerIndex;
+import org.xrpl.xrpl4j.model.client.common.LedgerIndexBound;
 import org.xrpl.xrpl4j.model.client.common.LedgerSpecifier;
+import org.xrpl.xrpl4j.model.client.ledger.BinaryLedger;
+import org.xrpl.xrpl4j.model.client.ledger.LedgerBinaryResult;
+import org.xrpl.xrpl4j.model.client.ledger.LedgerRequestParams;
+import org.xrpl.xrpl4j.model.client.ledger.LedgerResult;
 import org.xrpl.xrpl4j.model.client.path.DepositAuthorizedRequestParams;
 import org.xrpl.xrpl4j.model.client.path.DepositAuthorizedResult;
+import org.xrpl.xrpl4j.model.client.transactions.BinaryTransactionResult;
+import org.xrpl.xrpl4j.model.client.transactions.TransactionRequestParams;
+import org.xrpl.xrpl4j.model.client.transactions.TransactionResult;
+import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
 import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.AffectedNode;
+import org.xrpl.xrpl4j.model.transactions.DeletedNode;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+import org.xrpl.xrpl4j.model.transactions.IssuedCurrencyAmount;
+import org.xrpl.xrpl4j.model.transactions.ModifiedNode;
+import org.xrpl.xrpl4j.model.transactions.OfferCancel;
+import org.xrpl.xrpl4j.model.transactions.Payment;
+import org.xrpl.xrpl4j.model.transactions.TransactionMetadata;
+import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
 
 /**
  * Unit test for {@link XrplClient}.
  */
 public class XrplClientTest {
 
+  private static final String LEDGER_DATA = "01E91435016340767BF1C4A3EACEB081770D8ADE216C85445DD6FB002C6B5A29" +
+    "30F2DECE006DA18150CB18F6DD33F6F0990754C962A7CCE62F332FF9C13939B03B864117F0BDA86B6E9B4F873B5C3E520634D343EF5D9D9A" +
+    "4246643D64DAD278BA95DC0EAC6EB5350CF970D521276CDE21276CE60A00";
+
+  private static final Address ISSUER = Address.of("r9aRw8p1jHtR9XhDAE22TjtM7PdupNXhkx");
+
+  // A payment that pays USD back to ISSUER over a trust line, and ISSUER cancelling a USD/BTC offer. The metadata of
+  // the two touches RippleState, Offer and DirectoryNode ledger entries.
+  private static final String PAYMENT_BLOB = "1200002280000000240000000561D4838D7EA4C68000000000000000000000000000555" +
+    "344000000000058C742CF55C456DE367686CB9CED83750BD2497968400000000000000C732102356E89059A75438887F9FEE2056A2890D" +
+    "B82A68353BE9C0C0C8F89C0018B37FC8114A3E4374D5570FDC25AA9F856E2A6635C66E9CFA5831458C742CF55C456DE367686CB9CED837" +
+    "50BD24979";
+
+  private static final String PAYMENT_META_BLOB = "201C000000006012D4838D7EA4C680000000000000000000000000005553440000" +
+    "00000058C742CF55C456DE367686CB9CED83750BD24979F8E51100612500007E6755A4152496C7C090B531A5DAD9F1FF8D6D842ECEDFC7" +
+    "53D63B77434F35EA43797C5698301566DDDB7E612507A1E4C2EA47CDC76F4272F5C27C6E6293485951C67FC9E624000000056240000000" +
+    "0BEBC200E1E7220000000024000000062D0000000162400000000BEBC1F48114A3E4374D5570FDC25AA9F856E2A6635C66E9CFA5E1E1E5" +
+    "1100722500007E6755A4152496C7C090B531A5DAD9F1FF8D6D842ECEDFC753D63B77434F35EA43797C567D4325BE338A40BBCBCC1F351B" +
+    "3272EB3E76305A878E76603DE206A795871619E66294838D7EA4C680000000000000000000000000005553440000000000000000000000" +
+    "0000000000000000000000000001E1E7220002000037000000000000000338000000000000000062800000000000000000000000000000" +
+    "00000000005553440000000000000000000000000000000000000000000000000166800000000000000000000000000000000000000055" +
+    "5344000000000058C742CF55C456DE367686CB9CED83750BD2497967800000000000000000000000000000000000000055534400000000" +
+    "00A3E4374D5570FDC25AA9F856E2A6635C66E9CFA5E1E1F1031000";
+
+  private static final String OFFER_CANCEL_BLOB = "1200082280000000240000000720190000000668400000000000000C73210330E7" +
+    "FC9D56BB25D6893BA3F317AE5BCF33B3291BD63DB32654A313222F7FD020811458C742CF55C456DE367686CB9CED83750BD24979";
+
+  private static final String OFFER_CANCEL_META_BLOB = "201C00000001F8E511006125000027645558BF1AC5F8ADDB088913149E044" +
+    "0EF41430F2E62A0BE200674F6F5F28979F1F85655973F9F8482F1D15EF0F5F124379EF40E3B0E5FA220A187759239D1C2E03A6AE624000" +
+    "000072D00000005624000000005F5E0E8E1E7220000000024000000082D00000004624000000005F5E0DC811458C742CF55C456DE36768" +
+    "6CB9CED83750BD24979E1E1E411006456F774E0321809251174AC85531606FB46B75EEF9F842F9697531AA535D3D0C000E722000000003" +
+    "6531AA535D3D0C00058F774E0321809251174AC85531606FB46B75EEF9F842F9697531AA535D3D0C000011100000000000000000000000" +
+    "042544300000000000211E8ACFC6B5EF4EA0601241525375162F43C2FF2850311000000000000000000000000555344000000000004115" +
+    "8C742CF55C456DE367686CB9CED83750BD24979E1E1E41100645699CB152A0161D86EBA32B99F2E51024D1B4BCD9BD0CF95D3F13D90D99" +
+    "49135DBE72200000000588E92E688A132410427806A734DF6154B7535E439B72DECA5E4BC7CE17135C5A4821458C742CF55C456DE36768" +
+    "6CB9CED83750BD24979E1E1E5110064568E92E688A132410427806A734DF6154B7535E439B72DECA5E4BC7CE17135C5A4E631000000000" +
+    "0000001320000000000000001E1E72200000000588E92E688A132410427806A734DF6154B7535E439B72DECA5E4BC7CE17135C5A482145" +
+    "8C742CF55C456DE367686CB9CED83750BD249790113207D4325BE338A40BBCBCC1F351B3272EB3E76305A878E76603DE206A795871619E" +
+    "1E1E411006F56D1CB738BD08AC36DCB77191DB87C6E40FA478B86503371ED497F30931D7F4F52E72200000000240000000625000027643" +
+    "300000000000000003400000000000000015558BF1AC5F8ADDB088913149E0440EF41430F2E62A0BE200674F6F5F28979F1F85010F774E" +
+    "0321809251174AC85531606FB46B75EEF9F842F9697531AA535D3D0C00064D49AA535D3D0C000000000000000000000000000425443000" +
+    "0000000E8ACFC6B5EF4EA0601241525375162F43C2FF28565D5038D7EA4C68000000000000000000000000000555344000000000058C74" +
+    "2CF55C456DE367686CB9CED83750BD24979811458C742CF55C456DE367686CB9CED83750BD24979E1E1F1031000";
+
+  private final ObjectMapper objectMapper = ObjectMapperFactory.create();
+
+  private final Payment payment = Payment.builder()
+    .account(Address.of("rU6K7V3Po4snVhBBaU29sesqs2qTQJWDw1"))
+    .fee(XrpCurrencyAmount.ofDrops(10))
+    .sequence(UnsignedInteger.valueOf(4))
+    .destination(Address.of("rEqrVunkmDhWNGHELTzQmn4mX7LKvdomfq"))
+    .amount(XrpCurrencyAmount.ofDrops(12345))
+    .signingPublicKey("030D58EB48B4420B1F7B9DF55087E0E29FEF0E8468F9A6825B01CA2C361042D435")
+    .build();
+
   @Mock
   private JsonRpcClient jsonRpcClientMock;
 
@@ -46,4 +132,198 @@ public class XrplClientTest {
     assertThat(jsonRpcRequestArgumentCaptor.getValue().params().size()).isEqualTo(1);
     assertThat(jsonRpcRequestArgumentCaptor.getValue().params().get(0)).isEqualTo(depositAuthorized);
   }
-}
\ No newline at end of file
+
+  @Test
+  public void accountTransactionsBinary() throws JsonRpcClientErrorException, JsonProcessingException {
+    AccountTransactionsRequestParams params = AccountTransactionsRequestParams.builder()
+      .account(payment.account())
+      .build();
+    Mockito.when(jsonRpcClientMock.send(any(), eq(AccountTransactionsBinaryResult.class)))
+      .thenReturn(AccountTransactionsBinaryResult.builder()
+        .account(payment.account())
+        .ledgerIndexMinimum(LedgerIndexBound.of(56248229))
+        .ledgerIndexMaximum(LedgerIndexBound.of(57112019))
+        .limit(UnsignedInteger.valueOf(10))
+        .addTransactions(BinaryTransactionResult.builder()
+          .transactionBlob(transactionBlob())
+          .ledgerIndex(LedgerIndex.of(UnsignedInteger.valueOf(57123)))
+          .validated(true)
+          .build())
+        .validated(true)
+        .build());
+
+    AccountTransactionsResult result = xrplClient.accountTransactionsBinary(params);
+
+    assertThat(result.account()).isEqualTo(payment.account());
+    assertThat(result.transactions()).hasSize(1);
+    assertThat(result.transactions().get(0).transaction()).isEqualTo(payment);
+    assertBinaryRequest(XrplMethods.ACCOUNT_TX, AccountTransactionsBinaryResult.class, params);
+  }
+
+  @Test
+  public void transactionBinary() throws JsonRpcClientErrorException, JsonProcessingException {
+    Hash256 hash = Hash256.of("E08D6E9754025BA2534A78707605E0601F03ACE063687A0CA1BDDACFCD1698C7");
+    TransactionRequestParams params = TransactionRequestParams.of(hash);
+    Mockito.when(jsonRpcClientMock.send(any(), eq(BinaryTransactionResult.class)))
+      .thenReturn(BinaryTransactionResult.builder()
+        .transactionBlob(transactionBlob())
+        .hash(hash)
+        .ledgerIndex(LedgerIndex.of(UnsignedInteger.valueOf(57123)))
+        .validated(true)
+        .status("success")
+        .build());
+
+    TransactionResult<Payment> result = xrplClient.transactionBinary(params, Payment.class);
+
+    assertThat(result.transaction()).isEqualTo(payment);
+    assertThat(result.hash()).isEqualTo(hash);
+    assertThat(result.validated()).isTrue();
+    assertBinaryRequest(XrplMethods.TX, BinaryTransactionResult.class, params);
+  }
+
+  @Test
+  public void ledgerBinary() throws JsonRpcClientErrorException, JsonProcessingException {
+    LedgerRequestParams params = LedgerRequestParams.builder()
+      .ledgerSpecifier(LedgerSpecifier.of(LedgerIndex.of(UnsignedInteger.valueOf(32052277))))
+      .transactions(true)
+      .build();
+    Mockito.when(jsonRpcClientMock.send(any(), eq(LedgerBinaryResult.class)))
+      .thenReturn(LedgerBinaryResult.builder()
+        .ledger(BinaryLedger.builder()
+          .ledgerData(LEDGER_DATA)
+          .closed(true)
+          .addTransactions(BinaryTransactionResult.builder().transactionBlob(transactionBlob()).build())
+          .build())
+        .ledgerIndex(LedgerIndex.of(UnsignedInteger.valueOf(32052277)))
+        .validated(true)
+        .build());
+
+    LedgerResult result = xrplClient.ledgerBinary(params);
+
+    assertThat(result.ledger().ledgerIndex()).isEqualTo(LedgerIndex.of(UnsignedInteger.valueOf(32052277)));
+    assertThat(result.ledger().closed()).isTrue();
+    assertThat(result.ledger().transactions()).hasSize(1);
+    assertThat(result.ledger().transactions().get(0).transaction()).isEqualTo(payment);
+    assertBinaryRequest(XrplMethods.LEDGER, LedgerBinaryResult.class, params);
+  }
+
+  @Test
+  public void accountTransactionsBinaryWithTrustLineAndOfferMetadata() throws Exception {
+    AccountTransactionsRequestParams params = AccountTransactionsRequestParams.builder()
+      .account(ISSUER)
+      .build();
+    String response = "{\"account\":\"" + ISSUER + "\",\"ledger_index_min\":32000,\"ledger_index_max\":32570," +
+      "\"limit\":2,\"transactions\":[" + binaryTransaction(PAYMENT_BLOB, PAYMENT_META_BLOB) + "," +
+      binaryTransaction(OFFER_CANCEL_BLOB, OFFER_CANCEL_META_BLOB) + "],\"validated\":true}";
+    Mockito.when(jsonRpcClientMock.send(any(), eq(AccountTransactionsBinaryResult.class)))
+      .thenReturn(objectMapper.readValue(response, AccountTransactionsBinaryResult.class));
+
+    AccountTransactionsResult result = xrplClient.accountTransactionsBinary(params);
+
+    assertThat(result.transactions()).hasSize(2);
+    assertThat(result.transactions().get(0).transaction()).isInstanceOf(Payment.class);
+    assertThat(result.transactions().get(0).resultTransaction().ledgerIndex())
+      .isEqualTo(LedgerIndex.of(UnsignedInteger.valueOf(32570)));
+    assertTrustLineMetadata(result.transactions().get(0).metadata().get());
+    assertThat(result.transactions().get(1).transaction()).isInstanceOf(OfferCancel.class);
+    assertOfferMetadata(result.transactions().get(1).metadata().get());
+  }
+
+  @Test
+  public void ledgerBinaryWithTrustLineAndOfferMetadata() throws Exception {
+    LedgerRequestParams params = LedgerRequestParams.builder()
+      .ledgerSpecifier(LedgerSpecifier.of(LedgerIndex.of(UnsignedInteger.valueOf(32052277))))
+      .transactions(true)
+      .build();
+    String response = "{\"ledger\":{\"closed\":true,\"ledger_data\":\"" + LEDGER_DATA + "\",\"transactions\":[" +
+      binaryTransaction(PAYMENT_BLOB, PAYMENT_META_BLOB) + "," +
+      binaryTransaction(OFFER_CANCEL_BLOB, OFFER_CANCEL_META_BLOB) + "]},\"ledger_index\":32052277,\"validated\":true}";
+    Mockito.when(jsonRpcClientMock.send(any(), eq(LedgerBinaryResult.class)))
+      .thenReturn(objectMapper.readValue(response, LedgerBinaryResult.class));
+
+    LedgerResult result = xrplClient.ledgerBinary(params);
+
+    assertThat(result.ledger().transactions()).hasSize(2);
+    assertThat(result.ledger().transactions().get(0).transaction()).isInstanceOf(Payment.class);
+    assertTrustLineMetadata(result.ledger().transactions().get(0).metadata().get());
+    assertThat(result.ledger().transactions().get(1).transaction()).isInstanceOf(OfferCancel.class);
+    assertOfferMetadata(result.ledger().transactions().get(1).metadata().get());
+  }
+
+  @Test
+  public void binaryResultsThatCannotBeDecodedAreClientErrors() throws JsonRpcClientErrorException {
+    BinaryTransactionResult truncated = BinaryTransactionResult.builder()
+      .transactionBlob(PAYMENT_BLOB)
+      .metadataBlob(PAYMENT_META_BLOB.substring(0, 100))
+      .ledgerIndex(LedgerIndex.of(UnsignedInteger.valueOf(32570)))
+      .validated(true)
+      .build();
+    Mockito.when(jsonRpcClientMock.send(any(), eq(AccountTransactionsBinaryResult.class)))
+      .thenReturn(AccountTransactionsBinaryResult.builder()
+        .account(ISSUER)
+        .ledgerIndexMinimum(LedgerIndexBound.of(32000))
+        .ledgerIndexMaximum(LedgerIndexBound.of(32570))
+        .limit(UnsignedInteger.ONE)
+        .addTransactions(truncated)
+        .build());
+    Mockito.when(jsonRpcClientMock.send(any(), eq(BinaryTransactionResult.class)))
+      .thenReturn(BinaryTransactionResult.builder().from(truncated).metadataBlob(PAYMENT_META_BLOB).build());
+
+    assertThatThrownBy(() -> xrplClient.accountTransactionsBinary(
+      AccountTransactionsRequestParams.builder().account(ISSUER).build()
+    )).isInstanceOf(JsonRpcClientErrorException.class).hasCauseInstanceOf(RuntimeException.class);
+    assertThatThrownBy(() -> xrplClient.transactionBinary(
+      TransactionRequestParams.of(Hash256.of("E08D6E9754025BA2534A78707605E0601F03ACE063687A0CA1BDDACFCD1698C7")),
+      OfferCancel.class
+    )).isInstanceOf(JsonRpcClientErrorException.class).hasCauseInstanceOf(ClassCastException.class);
+  }
+
+  private void assertTrustLineMetadata(TransactionMetadata metadata) {
+    assertThat(metadata.deliveredAmount()).hasValue(IssuedCurrencyAmount.builder()
+      .currency("USD")
+      .issuer(ISSUER)
+      .value("1")
+      .build());
+    assertThat(metadata.affectedNodes()).extracting(AffectedNode::ledgerEntryType)
+      .containsExactly("AccountRoot", "RippleState");
+    ModifiedNode trustLine = (ModifiedNode) metadata.affectedNodes().get(1);
+    assertThat(trustLine.finalFields().get())
+      .containsEntry("LowNode", "0000000000000003")
+      .containsEntry("HighNode", "0000000000000000");
+  }
+
+  private void assertOfferMetadata(TransactionMetadata metadata) {
+    assertThat(metadata.affectedNodes()).extracting(AffectedNode::ledgerEntryType)
+      .containsExactly("AccountRoot", "DirectoryNode", "DirectoryNode", "DirectoryNode", "Offer");
+    assertThat(((DeletedNode) metadata.affectedNodes().get(1)).finalFields().get())
+      .containsEntry("ExchangeRate", "531AA535D3D0C000");
+    assertThat(((ModifiedNode) metadata.affectedNodes().get(3)).previousFields().get())
+      .containsEntry("IndexNext", "0000000000000001")
+      .containsEntry("IndexPrevious", "0000000000000001");
+    assertThat(((DeletedNode) metadata.affectedNodes().get(4)).finalFields().get())
+      .containsEntry("OwnerNode", "0000000000000001")
+      .containsEntry("BookNode", "0000000000000000");
+  }
+
+  private String binaryTransaction(String transactionBlob, String metadataBlob) {
+    return "{\"ledger_index\":32570,\"meta\":\"" + metadataBlob + "\",\"tx_blob\":\"" + transactionBlob +
+      "\",\"validated\":true}";
+  }
+
+  private String transactionBlob() throws JsonProcessingException {
+    return new XrplBinaryCodec().encode(objectMapper.writeValueAsString(payment));
+  }
+
+  private <T extends XrplResult> void assertBinaryRequest(String method, Class<T> resultType, Object params)
+    throws JsonRpcClientErrorException {
+    ArgumentCaptor<JsonRpcRequest> jsonRpcRequestArgumentCaptor = ArgumentCaptor.forClass(JsonRpcRequest.class);
+    Mockito.verify(jsonRpcClientMock).send(jsonRpcRequestArgumentCaptor.capture(), eq(resultType));
+    assertThat(jsonRpcRequestArgumentCaptor.getValue().method()).isEqualTo(method);
+    assertThat(jsonRpcRequestArgumentCaptor.getValue().params().size()).isEqualTo(1);
+
+    JsonNode sent = objectMapper.valueToTree(jsonRpcRequestArgumentCaptor.getValue().params().get(0));
+    ObjectNode expected = objectMapper.valueToTree(params);
+    expected.put("binary", true);
+    assertThat(sent).isEqualTo(expected);
+  }
+}
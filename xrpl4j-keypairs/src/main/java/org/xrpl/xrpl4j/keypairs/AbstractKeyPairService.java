@@ -1,10 +1,10 @@
 package org.xrpl.xrpl4j.keypairs;
 
 import com.google.common.hash.Hashing;
-import com.google.common.io.BaseEncoding;
 import org.bouncycastle.crypto.Signer;
 import org.bouncycastle.crypto.digests.RIPEMD160Digest;
 import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
+import org.xrpl.xrpl4j.codec.addresses.Hex;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.model.transactions.Address;
 
@@ -37,7 +37,7 @@ public abstract class AbstractKeyPairService implements KeyPairService {
 
   @Override
   public Address deriveAddress(String publicKey) {
-    UnsignedByteArray publicKeyBytes = UnsignedByteArray.of(BaseEncoding.base16().decode(publicKey));
+    UnsignedByteArray publicKeyBytes = UnsignedByteArray.of(Hex.decode(publicKey));
     return this.deriveAddress(publicKeyBytes);
   }
 
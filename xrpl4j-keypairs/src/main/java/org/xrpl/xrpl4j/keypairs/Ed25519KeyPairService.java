@@ -1,12 +1,12 @@
 package org.xrpl.xrpl4j.keypairs;
 
-import com.google.common.io.BaseEncoding;
 import org.bouncycastle.crypto.CryptoException;
 import org.bouncycastle.crypto.params.Ed25519PrivateKeyParameters;
 import org.bouncycastle.crypto.params.Ed25519PublicKeyParameters;
 import org.bouncycastle.crypto.signers.Ed25519Signer;
 import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
 import org.xrpl.xrpl4j.codec.addresses.Decoded;
+import org.xrpl.xrpl4j.codec.addresses.Hex;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.addresses.Version;
@@ -73,17 +73,17 @@ public class Ed25519KeyPairService extends AbstractKeyPairService {
   @Override
   public String sign(UnsignedByteArray message, String privateKey) {
     Ed25519PrivateKeyParameters privateKeyParameters = new Ed25519PrivateKeyParameters(
-      BaseEncoding.base16().decode(privateKey.substring(2)), // Remove ED prefix byte
+      Hex.decode(privateKey.substring(2)), // Remove ED prefix byte
       0
     );
 
     signer.reset();
     signer.init(true, privateKeyParameters);
-    signer.update(message.toByteArray(), 0, message.getUnsignedBytes().size());
+    signer.update(message.toByteArray(), 0, message.length());
 
     try {
       byte[] signature = signer.generateSignature();
-      return BaseEncoding.base16().encode(signature);
+      return Hex.encode(signature);
     } catch (CryptoException e) {
       throw new SigningException(e);
     }
@@ -92,13 +92,13 @@ public class Ed25519KeyPairService extends AbstractKeyPairService {
   @Override
   public boolean verify(UnsignedByteArray message, String signature, String publicKey) {
     Ed25519PublicKeyParameters publicKeyParameters = new Ed25519PublicKeyParameters(
-      BaseEncoding.base16().decode(publicKey.substring(2)), // Remove ED prefix byte
+      Hex.decode(publicKey.substring(2)), // Remove ED prefix byte
       0
     );
 
     signer.reset();
     signer.init(false, publicKeyParameters);
-    signer.update(message.toByteArray(), 0, message.getUnsignedBytes().size());
-    return signer.verifySignature(BaseEncoding.base16().decode(signature));
+    signer.update(message.toByteArray(), 0, message.length());
+    return signer.verifySignature(Hex.decode(signature));
   }
 }
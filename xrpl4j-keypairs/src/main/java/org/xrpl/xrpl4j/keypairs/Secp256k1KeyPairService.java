@@ -2,13 +2,13 @@ package org.xrpl.xrpl4j.keypairs;
 
 import static org.xrpl.xrpl4j.keypairs.Secp256k1.ecDomainParameters;
 
-import com.google.common.io.BaseEncoding;
 import org.bouncycastle.crypto.digests.SHA256Digest;
 import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
 import org.bouncycastle.crypto.params.ECPublicKeyParameters;
 import org.bouncycastle.crypto.signers.ECDSASigner;
 import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
 import org.bouncycastle.math.ec.ECPoint;
+import org.xrpl.xrpl4j.codec.addresses.Hex;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.addresses.VersionType;
 
@@ -134,13 +134,13 @@ public class Secp256k1KeyPairService extends AbstractKeyPairService {
   @Override
   public boolean verify(UnsignedByteArray message, String signature, String publicKey) {
     UnsignedByteArray messageHash = HashUtils.sha512Half(message);
-    EcDsaSignature sig = EcDsaSignature.fromDer(BaseEncoding.base16().decode(signature));
+    EcDsaSignature sig = EcDsaSignature.fromDer(Hex.decode(signature));
     if (sig == null) {
       return false;
     }
 
     ECDSASigner signer = new ECDSASigner();
-    ECPoint publicKeyPoint = ecDomainParameters.getCurve().decodePoint(BaseEncoding.base16().decode(publicKey));
+    ECPoint publicKeyPoint = ecDomainParameters.getCurve().decodePoint(Hex.decode(publicKey));
     ECPublicKeyParameters params = new ECPublicKeyParameters(publicKeyPoint, ecDomainParameters);
     signer.init(false, params);
     return signer.verifySignature(messageHash.toByteArray(), sig.r(), sig.s());
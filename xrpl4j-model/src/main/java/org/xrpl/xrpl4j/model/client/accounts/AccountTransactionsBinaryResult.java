@@ -0,0 +1,89 @@
+package org.xrpl.xrpl4j.model.client.accounts;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.google.common.primitives.UnsignedInteger;
+import org.immutables.value.Value;
+import org.xrpl.xrpl4j.model.client.XrplResult;
+import org.xrpl.xrpl4j.model.client.common.LedgerIndexBound;
+import org.xrpl.xrpl4j.model.client.transactions.BinaryTransactionResult;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.Marker;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The result of an account_tx rippled call made with {@code binary} set to {@code true}, in which each transaction
+ * and its metadata are hex encoded binary rather than JSON.
+ */
+@Value.Immutable
+@JsonSerialize(as = ImmutableAccountTransactionsBinaryResult.class)
+@JsonDeserialize(as = ImmutableAccountTransactionsBinaryResult.class)
+public interface AccountTransactionsBinaryResult extends XrplResult {
+
+  /**
+   * Construct a builder for this class.
+   *
+   * @return An {@link ImmutableAccountTransactionsBinaryResult.Builder}.
+   */
+  static ImmutableAccountTransactionsBinaryResult.Builder builder() {
+    return ImmutableAccountTransactionsBinaryResult.builder();
+  }
+
+  /**
+   * Unique Address identifying the related account.
+   *
+   * @return The {@link Address} of the account.
+   */
+  Address account();
+
+  /**
+   * The ledger index of the earliest ledger actually searched for transactions.
+   *
+   * @return A {@link LedgerIndexBound} containing the ledger index.
+   */
+  @JsonProperty("ledger_index_min")
+  LedgerIndexBound ledgerIndexMinimum();
+
+  /**
+   * The ledger index of the most recent ledger actually searched for transactions.
+   *
+   * @return A {@link LedgerIndexBound} containing the ledger index.
+   */
+  @JsonProperty("ledger_index_max")
+  LedgerIndexBound ledgerIndexMaximum();
+
+  /**
+   * The limit value used in the request. (This may differ from the actual limit value enforced by the server.)
+   *
+   * @return An {@link UnsignedInteger} representing the limit.
+   */
+  UnsignedInteger limit();
+
+  /**
+   * Server-defined value indicating the response is paginated. Pass this to the next call to resume where this
+   * call left off.
+   *
+   * @return An optionally-present {@link Marker}.
+   */
+  Optional<Marker> marker();
+
+  /**
+   * Array of binary transactions matching the request's criteria.
+   *
+   * @return A {@link List} of {@link BinaryTransactionResult}s.
+   */
+  List<BinaryTransactionResult> transactions();
+
+  /**
+   * Whether or not the information in this response comes from a validated ledger version.
+   *
+   * @return {@code true} if the information is from a validated ledger, otherwise {@code false}.
+   */
+  @Value.Default
+  default boolean validated() {
+    return false;
+  }
+}
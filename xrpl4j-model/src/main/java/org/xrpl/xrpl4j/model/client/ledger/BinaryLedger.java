@@ -0,0 +1,55 @@
+package org.xrpl.xrpl4j.model.client.ledger;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.immutables.value.Value;
+import org.xrpl.xrpl4j.model.client.transactions.BinaryTransactionResult;
+
+import java.util.List;
+
+/**
+ * The ledger in the result of a ledger rippled call made with {@code binary} set to {@code true}, in which the ledger
+ * header and each transaction are hex encoded binary rather than JSON.
+ */
+@Value.Immutable
+@JsonSerialize(as = ImmutableBinaryLedger.class)
+@JsonDeserialize(as = ImmutableBinaryLedger.class)
+public interface BinaryLedger {
+
+  /**
+   * Construct a builder for this class.
+   *
+   * @return An {@link ImmutableBinaryLedger.Builder}.
+   */
+  static ImmutableBinaryLedger.Builder builder() {
+    return ImmutableBinaryLedger.builder();
+  }
+
+  /**
+   * The binary ledger header, as a hexadecimal string.
+   *
+   * @return A {@link String} containing the hex encoded ledger header.
+   */
+  @JsonProperty("ledger_data")
+  String ledgerData();
+
+  /**
+   * If true, this ledger version is no longer accepting new transactions.
+   *
+   * @return {@code true} if this ledger version is no longer accepting new transactions, otherwise {@code false}.
+   */
+  @Value.Default
+  default boolean closed() {
+    return false;
+  }
+
+  /**
+   * The transactions in this ledger, if they were requested with {@code transactions} and {@code expand} set to
+   * {@code true}.
+   *
+   * @return A {@link List} of {@link BinaryTransactionResult}s.
+   */
+  List<BinaryTransactionResult> transactions();
+
+}
@@ -0,0 +1,71 @@
+package org.xrpl.xrpl4j.model.client.ledger;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.immutables.value.Value;
+import org.xrpl.xrpl4j.model.client.XrplResult;
+import org.xrpl.xrpl4j.model.client.common.LedgerIndex;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+
+import java.util.Optional;
+
+/**
+ * The result of a ledger rippled call made with {@code binary} set to {@code true}.
+ */
+@Value.Immutable
+@JsonSerialize(as = ImmutableLedgerBinaryResult.class)
+@JsonDeserialize(as = ImmutableLedgerBinaryResult.class)
+public interface LedgerBinaryResult extends XrplResult {
+
+  /**
+   * Construct a builder for this class.
+   *
+   * @return An {@link ImmutableLedgerBinaryResult.Builder}.
+   */
+  static ImmutableLedgerBinaryResult.Builder builder() {
+    return ImmutableLedgerBinaryResult.builder();
+  }
+
+  /**
+   * The binary ledger header and, if requested, the ledger's binary transactions.
+   *
+   * @return A {@link BinaryLedger}.
+   */
+  BinaryLedger ledger();
+
+  /**
+   * Unique identifying hash of the entire ledger.
+   *
+   * @return An optionally-present {@link Hash256} containing the ledger hash.
+   */
+  @JsonProperty("ledger_hash")
+  Optional<Hash256> ledgerHash();
+
+  /**
+   * The {@link LedgerIndex} of this ledger.
+   *
+   * @return An optionally-present {@link LedgerIndex}.
+   */
+  @JsonProperty("ledger_index")
+  Optional<LedgerIndex> ledgerIndex();
+
+  /**
+   * The {@link LedgerIndex} of this ledger, if the ledger is the current ledger.
+   *
+   * @return An optionally-present {@link LedgerIndex}.
+   */
+  @JsonProperty("ledger_current_index")
+  Optional<LedgerIndex> ledgerCurrentIndex();
+
+  /**
+   * True if this data is from a validated ledger version; if false, this data is not final.
+   *
+   * @return {@code true} if this data is from a validated ledger version, otherwise {@code false}.
+   */
+  @Value.Default
+  default boolean validated() {
+    return false;
+  }
+
+}
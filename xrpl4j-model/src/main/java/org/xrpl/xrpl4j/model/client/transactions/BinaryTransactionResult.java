@@ -0,0 +1,86 @@
+package org.xrpl.xrpl4j.model.client.transactions;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.google.common.primitives.UnsignedLong;
+import org.immutables.value.Value;
+import org.xrpl.xrpl4j.model.client.XrplResult;
+import org.xrpl.xrpl4j.model.client.common.LedgerIndex;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+
+import java.util.Optional;
+
+/**
+ * A transaction returned by rippled in binary form, either as the result of a tx call or as one of the transactions
+ * in the result of an account_tx or ledger call made with {@code binary} set to {@code true}.
+ */
+@Value.Immutable
+@JsonSerialize(as = ImmutableBinaryTransactionResult.class)
+@JsonDeserialize(as = ImmutableBinaryTransactionResult.class)
+public interface BinaryTransactionResult extends XrplResult {
+
+  /**
+   * Construct a builder for this class.
+   *
+   * @return An {@link ImmutableBinaryTransactionResult.Builder}.
+   */
+  static ImmutableBinaryTransactionResult.Builder builder() {
+    return ImmutableBinaryTransactionResult.builder();
+  }
+
+  /**
+   * The canonical binary transaction, as a hexadecimal string. The tx method returns this as {@code tx}, while
+   * account_tx and ledger return it as {@code tx_blob}.
+   *
+   * @return A {@link String} containing the hex encoded transaction.
+   */
+  @JsonProperty("tx_blob")
+  @JsonAlias("tx")
+  String transactionBlob();
+
+  /**
+   * The binary transaction metadata, as a hexadecimal string. Only present once the transaction is in a closed ledger.
+   *
+   * @return An optionally-present {@link String} containing the hex encoded metadata.
+   */
+  @JsonProperty("meta")
+  @JsonAlias("metaData")
+  Optional<String> metadataBlob();
+
+  /**
+   * The identifying hash of the transaction. Only returned by the tx method.
+   *
+   * @return An optionally-present {@link Hash256} containing the transaction hash.
+   */
+  Optional<Hash256> hash();
+
+  /**
+   * The ledger index of the ledger that includes this transaction.
+   *
+   * @return An optionally-present {@link LedgerIndex}.
+   */
+  @JsonProperty("ledger_index")
+  Optional<LedgerIndex> ledgerIndex();
+
+  /**
+   * {@code true} if this data is from a validated ledger version; if omitted or set to {@code false}, this data is
+   * not final.
+   *
+   * @return {@code true} if this data is from a validated ledger version, otherwise {@code false}.
+   */
+  @Value.Default
+  default boolean validated() {
+    return false;
+  }
+
+  /**
+   * The approximate close time of the ledger that includes this transaction, in seconds since the Ripple Epoch.
+   *
+   * @return An optionally-present {@link UnsignedLong}.
+   */
+  @JsonProperty("date")
+  Optional<UnsignedLong> closeDate();
+
+}
@@ -1,11 +1,7 @@
 package org.xrpl.xrpl4j.model.client.transactions;
 
-import static java.util.Arrays.copyOfRange;
-
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
-import com.google.common.hash.Hashing;
-import com.google.common.io.BaseEncoding;
 import org.immutables.value.Value;
 import org.xrpl.xrpl4j.model.transactions.Hash256;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
@@ -59,16 +55,8 @@ public interface SignedTransaction<T extends Transaction> {
    *
    * @return A {@link Hash256} containing the transaction hash.
    */
-  @SuppressWarnings("UnstableApiUsage")
   @Value.Derived
   default Hash256 hash() {
-    byte[] hashBytes = copyOfRange(
-      Hashing.sha512().hashBytes(
-        BaseEncoding.base16().decode(SIGNED_TRANSACTION_HASH_PREFIX.concat(signedTransactionBlob().toUpperCase()))
-      ).asBytes(),
-      0,
-      32
-    );
-    return Hash256.of(BaseEncoding.base16().encode(hashBytes));
+    return TransactionIds.of(signedTransactionBlob());
   }
 }
@@ -0,0 +1,65 @@
+package org.xrpl.xrpl4j.model.client.transactions;
+
+import com.google.common.io.BaseEncoding;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Computes the IDs of signed transactions for {@link SignedTransaction}.
+ *
+ * <p>The binary codec's {@code Sha512Half} computes transaction IDs from raw bytes, but this module cannot depend on
+ * the binary codec, so this class does the same directly from a hex blob: the blob is decoded into a reusable
+ * per-thread SHA-512 digest behind the {@code TXN} hash prefix.</p>
+ */
+final class TransactionIds {
+
+  private static final byte[] TRANSACTION_ID_PREFIX = {0x54, 0x58, 0x4E, 0x00};
+
+  private static final int HASH_LENGTH = 32;
+
+  private static final ThreadLocal<MessageDigest> digests = ThreadLocal.withInitial(() -> {
+    try {
+      return MessageDigest.getInstance("SHA-512");
+    } catch (NoSuchAlgorithmException e) {
+      // Every Java platform is required to support SHA-512.
+      throw new IllegalStateException(e.getMessage(), e);
+    }
+  });
+
+  private TransactionIds() {
+  }
+
+  /**
+   * Compute the ID of the transaction in {@code signedTransactionBlob}.
+   *
+   * @param signedTransactionBlob The hex encoded canonical binary of a signed transaction, in either case.
+   *
+   * @return The {@link Hash256} transaction ID.
+   */
+  static Hash256 of(final String signedTransactionBlob) {
+    MessageDigest digest = digests.get();
+    digest.reset();
+    digest.update(TRANSACTION_ID_PREFIX);
+    digest.update(decodeHex(signedTransactionBlob));
+    return Hash256.of(BaseEncoding.base16().encode(digest.digest(), 0, HASH_LENGTH));
+  }
+
+  private static byte[] decodeHex(final String hex) {
+    if (hex.length() % 2 != 0) {
+      throw new IllegalArgumentException("Invalid input length " + hex.length());
+    }
+    byte[] bytes = new byte[hex.length() / 2];
+    for (int i = 0; i < bytes.length; i++) {
+      int high = Character.digit(hex.charAt(2 * i), 16);
+      int low = Character.digit(hex.charAt(2 * i + 1), 16);
+      if (high < 0 || low < 0) {
+        throw new IllegalArgumentException("Unrecognized character at index " + (2 * i));
+      }
+      bytes[i] = (byte) (high << 4 | low);
+    }
+    return bytes;
+  }
+
+}
@@ -0,0 +1,40 @@
+package org.xrpl.xrpl4j.model.jackson.modules;
+
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.google.common.primitives.UnsignedInteger;
+import com.google.common.primitives.UnsignedLong;
+
+/**
+ * Jackson module for {@link com.fasterxml.jackson.databind.ObjectMapper}s whose trees are handed to the XRPL binary
+ * codec, such as the ones used to sign transactions.
+ *
+ * <p>Without it, {@link com.fasterxml.jackson.databind.ObjectMapper#valueToTree(Object)} turns {@link UnsignedInteger}
+ * and {@link UnsignedLong} values into floating point nodes, which the binary codec rejects. This module is not part
+ * of {@link Xrpl4jModule}, so mappers built by {@link org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory} are not
+ * affected by it.</p>
+ */
+public class BinaryEncodingModule extends SimpleModule {
+
+  private static final String NAME = "BinaryEncodingModule";
+
+  /**
+   * No-arg constructor.
+   */
+  public BinaryEncodingModule() {
+    super(
+      NAME,
+      new Version(
+        1,
+        0,
+        0,
+        null,
+        "org.xrpl.xrpl4j",
+        "xrpl4j"
+      )
+    );
+
+    addSerializer(UnsignedInteger.class, new UnsignedIntegerSerializer());
+    addSerializer(UnsignedLong.class, new UnsignedLongSerializer());
+  }
+}
@@ -0,0 +1,29 @@
+package org.xrpl.xrpl4j.model.jackson.modules;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import com.google.common.primitives.UnsignedInteger;
+
+import java.io.IOException;
+
+/**
+ * Custom Jackson serializer for {@link UnsignedInteger}s. Writes the value as a typed integer rather than as a raw
+ * number {@link String}, so that trees built with
+ * {@link com.fasterxml.jackson.databind.ObjectMapper#valueToTree(Object)} hold an integral node instead of a
+ * floating point one.
+ */
+public class UnsignedIntegerSerializer extends StdScalarSerializer<UnsignedInteger> {
+
+  /**
+   * No-args constructor.
+   */
+  public UnsignedIntegerSerializer() {
+    super(UnsignedInteger.class, false);
+  }
+
+  @Override
+  public void serialize(UnsignedInteger value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeNumber(value.longValue());
+  }
+}
@@ -0,0 +1,29 @@
+package org.xrpl.xrpl4j.model.jackson.modules;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import com.google.common.primitives.UnsignedLong;
+
+import java.io.IOException;
+
+/**
+ * Custom Jackson serializer for {@link UnsignedLong}s. Writes the value as a typed integer rather than as a raw
+ * number {@link String}, so that trees built with
+ * {@link com.fasterxml.jackson.databind.ObjectMapper#valueToTree(Object)} hold an integral node instead of a
+ * floating point one.
+ */
+public class UnsignedLongSerializer extends StdScalarSerializer<UnsignedLong> {
+
+  /**
+   * No-args constructor.
+   */
+  public UnsignedLongSerializer() {
+    super(UnsignedLong.class, false);
+  }
+
+  @Override
+  public void serialize(UnsignedLong value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeNumber(value.bigIntegerValue());
+  }
+}
@@ -141,4 +141,14 @@ public interface LedgerHeader {
   @JsonProperty("close_time_resolution")
   Optional<UnsignedInteger> closeTimeResolution();
 
+  /**
+   * A bit-map of flags relating to the closing of this ledger. The only flag currently defined is {@code 0x01}, which
+   * is set when validators could not agree on a close time and {@link #closeTime()} is one second after
+   * {@link #parentCloseTime()} instead.
+   *
+   * @return An {@link Optional} of type {@link UnsignedInteger} containing the close flags.
+   */
+  @JsonProperty("close_flags")
+  Optional<UnsignedInteger> closeFlags();
+
 }
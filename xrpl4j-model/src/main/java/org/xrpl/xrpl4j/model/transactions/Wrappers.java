@@ -14,7 +14,6 @@ import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.text.DecimalFormat;
-import java.util.Locale;
 
 /**
  * Wrapped immutable classes for providing type-safe objects.
@@ -86,12 +85,13 @@ public class Wrappers {
       Preconditions.checkArgument(this.value().length() == 64, "Hash256 Strings must be 64 characters long.");
     }
 
+    // Hashes are compared ignoring case, without upper-casing copies of either value.
     @Override
     public boolean equals(Object obj) {
       if (obj != null && obj instanceof Hash256) {
         String otherValue = ((Hash256) obj).value();
         if (otherValue != null) {
-          return otherValue.toUpperCase(Locale.ENGLISH).equals(value().toUpperCase(Locale.ENGLISH));
+          return otherValue.equalsIgnoreCase(value());
         }
       }
       return false;
@@ -99,7 +99,12 @@ public class Wrappers {
 
     @Override
     public int hashCode() {
-      return value().toUpperCase(Locale.ENGLISH).hashCode();
+      String value = value();
+      int hashCode = 0;
+      for (int i = 0; i < value.length(); i++) {
+        hashCode = 31 * hashCode + Character.toUpperCase(value.charAt(i));
+      }
+      return hashCode;
     }
   }
 
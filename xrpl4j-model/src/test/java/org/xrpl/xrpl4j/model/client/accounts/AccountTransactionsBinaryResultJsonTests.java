@@ -0,0 +1,54 @@
+package org.xrpl.xrpl4j.model.client.accounts;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.primitives.UnsignedInteger;
+import org.json.JSONException;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.model.AbstractJsonTest;
+import org.xrpl.xrpl4j.model.client.common.LedgerIndex;
+import org.xrpl.xrpl4j.model.client.common.LedgerIndexBound;
+import org.xrpl.xrpl4j.model.client.transactions.BinaryTransactionResult;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.Marker;
+
+public class AccountTransactionsBinaryResultJsonTests extends AbstractJsonTest {
+
+  @Test
+  public void testJson() throws JsonProcessingException, JSONException {
+    AccountTransactionsBinaryResult result = AccountTransactionsBinaryResult.builder()
+      .account(Address.of("rLNaPoKeeBjZe2qs6x52yVPZpZ8td4dc6w"))
+      .ledgerIndexMinimum(LedgerIndexBound.of(-1))
+      .ledgerIndexMaximum(LedgerIndexBound.of(56865245))
+      .limit(UnsignedInteger.valueOf(1))
+      .marker(Marker.of("{\"ledger\":56865244,\"seq\":12}"))
+      .addTransactions(BinaryTransactionResult.builder()
+        .transactionBlob("12000022800000002400000004")
+        .metadataBlob("201C00000000F8E51100612500000000")
+        .ledgerIndex(LedgerIndex.of(UnsignedInteger.valueOf(56865245)))
+        .validated(true)
+        .build())
+      .validated(true)
+      .status("success")
+      .build();
+
+    String json = "{\n" +
+      "  \"account\": \"rLNaPoKeeBjZe2qs6x52yVPZpZ8td4dc6w\",\n" +
+      "  \"ledger_index_min\": -1,\n" +
+      "  \"ledger_index_max\": 56865245,\n" +
+      "  \"limit\": 1,\n" +
+      "  \"marker\": {\"ledger\":56865244,\"seq\":12},\n" +
+      "  \"transactions\": [\n" +
+      "    {\n" +
+      "      \"tx_blob\": \"12000022800000002400000004\",\n" +
+      "      \"meta\": \"201C00000000F8E51100612500000000\",\n" +
+      "      \"ledger_index\": 56865245,\n" +
+      "      \"validated\": true\n" +
+      "    }\n" +
+      "  ],\n" +
+      "  \"validated\": true,\n" +
+      "  \"status\": \"success\"\n" +
+      "}";
+
+    assertCanSerializeAndDeserialize(result, json);
+  }
+}
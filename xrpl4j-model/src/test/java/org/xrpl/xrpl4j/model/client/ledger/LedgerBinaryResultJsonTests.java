@@ -0,0 +1,56 @@
+package org.xrpl.xrpl4j.model.client.ledger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.primitives.UnsignedInteger;
+import org.json.JSONException;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.model.AbstractJsonTest;
+import org.xrpl.xrpl4j.model.client.common.LedgerIndex;
+import org.xrpl.xrpl4j.model.client.transactions.BinaryTransactionResult;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+
+public class LedgerBinaryResultJsonTests extends AbstractJsonTest {
+
+  private static final String LEDGER_DATA =
+    "033C9A0C01634C0B9C7C21DCAE996778246BC81F85D5AF051241DAA577C23BCA04C034A7074F93700194520DFC6FFCB7" +
+    "1B2527DDD630EE5409D38913B4D4C026AA6C3B14A3E9D4ED45CFE30DB258A8BB4743FB74CBBD6E9F67E4A56C4432EA09" +
+    "E5805E4CC2DA26F2DBE8F3D1260BEEB6260BEEB70A00";
+
+  @Test
+  public void testJson() throws JsonProcessingException, JSONException {
+    LedgerBinaryResult result = LedgerBinaryResult.builder()
+      .ledger(BinaryLedger.builder()
+        .ledgerData(LEDGER_DATA)
+        .closed(true)
+        .addTransactions(BinaryTransactionResult.builder()
+          .transactionBlob("1200002280000000")
+          .metadataBlob("201C00000000")
+          .build())
+        .build())
+      .ledgerHash(Hash256.of("3652D7FD0576BC452C0D2E9B747BDD733075971D1A9A1D98125055DEF428721A"))
+      .ledgerIndex(LedgerIndex.of(UnsignedInteger.valueOf(54300940)))
+      .validated(true)
+      .status("success")
+      .build();
+
+    String json = "{\n" +
+      "  \"ledger\": {\n" +
+      "    \"ledger_data\": \"" + LEDGER_DATA + "\",\n" +
+      "    \"closed\": true,\n" +
+      "    \"transactions\": [\n" +
+      "      {\n" +
+      "        \"tx_blob\": \"1200002280000000\",\n" +
+      "        \"meta\": \"201C00000000\",\n" +
+      "        \"validated\": false\n" +
+      "      }\n" +
+      "    ]\n" +
+      "  },\n" +
+      "  \"ledger_hash\": \"3652D7FD0576BC452C0D2E9B747BDD733075971D1A9A1D98125055DEF428721A\",\n" +
+      "  \"ledger_index\": 54300940,\n" +
+      "  \"validated\": true,\n" +
+      "  \"status\": \"success\"\n" +
+      "}";
+
+    assertCanSerializeAndDeserialize(result, json);
+  }
+}
@@ -0,0 +1,59 @@
+package org.xrpl.xrpl4j.model.client.transactions;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.primitives.UnsignedInteger;
+import com.google.common.primitives.UnsignedLong;
+import org.json.JSONException;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.model.AbstractJsonTest;
+import org.xrpl.xrpl4j.model.client.common.LedgerIndex;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+
+public class BinaryTransactionResultJsonTests extends AbstractJsonTest {
+
+  private static final String TX_BLOB = "12000022800000002400000004";
+
+  private static final String META = "201C00000000F8E51100612500000000";
+
+  @Test
+  public void testJson() throws JsonProcessingException, JSONException {
+    BinaryTransactionResult result = BinaryTransactionResult.builder()
+      .transactionBlob(TX_BLOB)
+      .metadataBlob(META)
+      .hash(Hash256.of("E08D6E9754025BA2534A78707605E0601F03ACE063687A0CA1BDDACFCD1698C7"))
+      .ledgerIndex(LedgerIndex.of(UnsignedInteger.valueOf(56865245)))
+      .validated(true)
+      .closeDate(UnsignedLong.valueOf(666212460))
+      .status("success")
+      .build();
+
+    String json = "{\n" +
+      "  \"tx_blob\": \"" + TX_BLOB + "\",\n" +
+      "  \"meta\": \"" + META + "\",\n" +
+      "  \"hash\": \"E08D6E9754025BA2534A78707605E0601F03ACE063687A0CA1BDDACFCD1698C7\",\n" +
+      "  \"ledger_index\": 56865245,\n" +
+      "  \"validated\": true,\n" +
+      "  \"date\": 666212460,\n" +
+      "  \"status\": \"success\"\n" +
+      "}";
+
+    assertCanSerializeAndDeserialize(result, json);
+  }
+
+  @Test
+  public void testTxMethodJson() throws JsonProcessingException {
+    BinaryTransactionResult result = BinaryTransactionResult.builder()
+      .transactionBlob(TX_BLOB)
+      .hash(Hash256.of("E08D6E9754025BA2534A78707605E0601F03ACE063687A0CA1BDDACFCD1698C7"))
+      .status("success")
+      .build();
+
+    String json = "{\n" +
+      "  \"tx\": \"" + TX_BLOB + "\",\n" +
+      "  \"hash\": \"E08D6E9754025BA2534A78707605E0601F03ACE063687A0CA1BDDACFCD1698C7\",\n" +
+      "  \"status\": \"success\"\n" +
+      "}";
+
+    assertCanDeserialize(json, result);
+  }
+}
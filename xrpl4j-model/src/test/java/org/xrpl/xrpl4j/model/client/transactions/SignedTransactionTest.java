@@ -34,4 +34,29 @@ public class SignedTransactionTest {
     String expectedHash = "AD616E7F93DC9E5749222FCC644A95F19FB1893446A0FF47CA9B550F4D5DAB5D";
     assertThat(signedTransaction.hash().value()).isEqualTo(expectedHash);
   }
+
+  @Test
+  public void computesCorrectTransactionHashForLowerCaseBlob() {
+    SignedTransaction<Payment> signedTransaction = SignedTransaction.<Payment>builder()
+      .signedTransaction(
+        Payment.builder()
+          .account(Address.of("rU6K7V3Po4snVhBBaU29sesqs2qTQJWDw1"))
+          .fee(XrpCurrencyAmount.ofDrops(10))
+          .sequence(UnsignedInteger.valueOf(4))
+          .destination(Address.of("rEqrVunkmDhWNGHELTzQmn4mX7LKvdomfq"))
+          .amount(XrpCurrencyAmount.ofDrops(12345))
+          .signingPublicKey("030D58EB48B4420B1F7B9DF55087E0E29FEF0E8468F9A6825B01CA2C361042D435")
+          .transactionSignature("304402207B82800C3289427D6F60421CDF88545BEFC6A7C9CED15A2C53E39994E52BCED402204" +
+            "43865800626F7FD02B369A875FA449E6204A46C5910E406018776CC08C948CA")
+          .build()
+      )
+      .signedTransactionBlob("1200002280000000240000000461400000000000303968400000000000000a7321030d58eb48b4420b1f" +
+        "7b9df55087e0e29fef0e8468f9a6825b01ca2c361042d4357446304402207b82800c3289427d6f60421cdf88545befc6a7c9ced15" +
+        "a2c53e39994e52bced40220443865800626f7fd02b369a875fa449e6204a46c5910e406018776cc08c948ca81148049717cc94878" +
+        "9f32f267adc2582484e3dfa698831495fd80922edd581c663ff9f8e948d0e13cbbe41c")
+      .build();
+
+    String expectedHash = "AD616E7F93DC9E5749222FCC644A95F19FB1893446A0FF47CA9B550F4D5DAB5D";
+    assertThat(signedTransaction.hash().value()).isEqualTo(expectedHash);
+  }
 }